@@ -0,0 +1,23 @@
+package benchmarks;
+
+/**
+ * System properties shared by the benchmarks, set before the framework classes are first loaded.
+ * The benchmarks never send a request, so by default they run against the stub environment with a
+ * placeholder base URL instead of starting the stub server. Logging goes through logback-jmh.xml (warnings
+ * only), so the per-call INFO lines of the assertions do not turn the numbers into a disk benchmark.
+ * Properties passed to the forks with {@code -jvmArgsAppend} take precedence.
+ */
+class BenchmarkEnvironment {
+
+    static void init() {
+        setDefault("logback.configurationFile", "logback-jmh.xml");
+        setDefault("environment", "stub");
+        setDefault("stub.baseUrl", "http://localhost:8080");
+    }
+
+    private static void setDefault(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package benchmarks;
+
+import models.response.*;
+import org.openjdk.jmh.annotations.*;
+import utils.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * {@link JsonUtils#toJson(Object)} and {@link JsonUtils#fromJson(String, Class)} for the response models
+ * the tests map most often.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonUtilsBenchmark {
+    private ProblemDetail problemDetail;
+    private GenericMessage genericMessage;
+    private PreferredJourney preferredJourney;
+    private String problemDetailJson;
+    private String genericMessageJson;
+    private String preferredJourneyJson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkEnvironment.init();
+        problemDetail = new ProblemDetail("about:blank", "Bad Request", 400, "Validation failed for argument [0]");
+        problemDetail.setInstance("/api/v1/journey");
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("timestamp", "2024-05-14T09:21:45.123Z");
+        properties.put("errors", Arrays.asList(
+                Map.of("field", "title", "message", "must not be blank"),
+                Map.of("field", "language", "message", "must be one of [en, de]")));
+        problemDetail.setProperties(properties);
+        genericMessage = new GenericMessage("Journey deleted successfully");
+        preferredJourney = new PreferredJourney("5f1c2a9e-7b1d-4c55-9a43-0d6f3e8b21c4", "en");
+
+        problemDetailJson = JsonUtils.toJson(problemDetail);
+        genericMessageJson = JsonUtils.toJson(genericMessage);
+        preferredJourneyJson = JsonUtils.toJson(preferredJourney);
+    }
+
+    @Benchmark
+    public String problemDetailToJson() {
+        return JsonUtils.toJson(problemDetail);
+    }
+
+    @Benchmark
+    public ProblemDetail problemDetailFromJson() {
+        return JsonUtils.fromJson(problemDetailJson, ProblemDetail.class);
+    }
+
+    @Benchmark
+    public String genericMessageToJson() {
+        return JsonUtils.toJson(genericMessage);
+    }
+
+    @Benchmark
+    public GenericMessage genericMessageFromJson() {
+        return JsonUtils.fromJson(genericMessageJson, GenericMessage.class);
+    }
+
+    @Benchmark
+    public String preferredJourneyToJson() {
+        return JsonUtils.toJson(preferredJourney);
+    }
+
+    @Benchmark
+    public PreferredJourney preferredJourneyFromJson() {
+        return JsonUtils.fromJson(preferredJourneyJson, PreferredJourney.class);
+    }
+}
@@ -0,0 +1,52 @@
+package benchmarks;
+
+import config.*;
+import io.restassured.specification.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Cost of {@link RequestSpecFactory#getUserRequestSpec(UserType)}: the cached lookup every client call
+ * pays, the same lookup from several threads, and a full rebuild of the specification and its filter
+ * chain after the cache was invalidated (e.g. by a token change).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestSpecBenchmark {
+
+    @Param({"ADMIN", "VIEWER"})
+    public UserType userType;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkEnvironment.init();
+        RequestSpecFactory.getUserRequestSpec(userType);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RequestSpecCache.invalidate();
+    }
+
+    @Benchmark
+    public RequestSpecification cached() {
+        return RequestSpecFactory.getUserRequestSpec(userType);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public RequestSpecification cachedConcurrent() {
+        return RequestSpecFactory.getUserRequestSpec(userType);
+    }
+
+    @Benchmark
+    public RequestSpecification rebuilt() {
+        RequestSpecCache.invalidate(userType);
+        return RequestSpecFactory.getUserRequestSpec(userType);
+    }
+}
@@ -0,0 +1,116 @@
+package benchmarks;
+
+import assertions.*;
+import io.restassured.builder.*;
+import io.restassured.response.*;
+import org.openjdk.jmh.annotations.*;
+import utils.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * The {@link ResponseAssertions} JSON-path methods on page listings of about 1 KB, 100 KB and 5 MB.
+ * The "first" benchmarks use a new response each time, so they include reading and parsing the body;
+ * the others reuse one response, whose parsed document {@link ParsedResponse} has already cached.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseAssertionsBenchmark {
+
+    @Param({"1KB", "100KB", "5MB"})
+    public String bodySize;
+
+    private String body;
+    private int pageCount;
+    private String firstTitle;
+    private Response parsed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkEnvironment.init();
+        int targetBytes = Integer.parseInt(bodySize.replace("KB", "").replace("MB", "000")) * 1000;
+        body = pageListing(targetBytes);
+        parsed = response();
+        ResponseAssertions.assertJsonPathExists(parsed, "$.content");
+    }
+
+    @Benchmark
+    public Object extractJsonPathFirst() {
+        return ResponseAssertions.extractJsonPath(response(), "$.content[0].id");
+    }
+
+    @Benchmark
+    public void assertArraySizeFirst() {
+        ResponseAssertions.assertArraySize(response(), "$.content", pageCount);
+    }
+
+    @Benchmark
+    public Object extractJsonPath() {
+        return ResponseAssertions.extractJsonPath(parsed, "$.content[0].id");
+    }
+
+    @Benchmark
+    public void assertJsonPathExists() {
+        ResponseAssertions.assertJsonPathExists(parsed, "$.totalElements");
+    }
+
+    @Benchmark
+    public void assertJsonPathEquals() {
+        ResponseAssertions.assertJsonPathEquals(parsed, "$.content[0].title", firstTitle);
+    }
+
+    @Benchmark
+    public void assertArraySize() {
+        ResponseAssertions.assertArraySize(parsed, "$.content", pageCount);
+    }
+
+    @Benchmark
+    public void assertArrayNotEmpty() {
+        ResponseAssertions.assertArrayNotEmpty(parsed, "$.content");
+    }
+
+    private Response response() {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+    }
+
+    /**
+     * Build a paged page listing like GET /api/v1/page returns, growing the page array until the body
+     * reaches the target size. Fixed seed, so every fork measures the same document.
+     */
+    private String pageListing(int targetBytes) {
+        Random random = new Random(42);
+        String[] types = {"TEXT", "VIDEO", "QUIZ", "IMAGE"};
+        StringBuilder content = new StringBuilder();
+        while (content.length() < targetBytes - 120) {
+            if (pageCount > 0) {
+                content.append(',');
+            }
+            String title = "Page " + pageCount + " " + Long.toHexString(random.nextLong());
+            if (pageCount == 0) {
+                firstTitle = title;
+            }
+            content.append("{\"id\":\"").append(new UUID(random.nextLong(), random.nextLong())).append('"')
+                    .append(",\"title\":\"").append(title).append('"')
+                    .append(",\"chapterSlug\":\"chapter-").append(random.nextInt(500)).append('"')
+                    .append(",\"type\":\"").append(types[random.nextInt(types.length)]).append('"')
+                    .append(",\"language\":\"").append(random.nextBoolean() ? "en" : "de").append('"')
+                    .append(",\"status\":\"LIVE\"")
+                    .append(",\"imageId\":").append(random.nextInt(100_000))
+                    .append(",\"position\":").append(pageCount)
+                    .append(",\"createdAt\":\"2024-05-14T09:21:45.123Z\"")
+                    .append(",\"tags\":[\"onboarding\",\"day-").append(1 + random.nextInt(30)).append("\"]}");
+            pageCount++;
+        }
+        return "{\"content\":[" + content + "],\"totalElements\":" + pageCount
+                + ",\"totalPages\":1,\"number\":0,\"size\":" + pageCount + "}";
+    }
+}
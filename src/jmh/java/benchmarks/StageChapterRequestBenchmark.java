@@ -0,0 +1,50 @@
+package benchmarks;
+
+import models.request.*;
+import org.openjdk.jmh.annotations.*;
+import utils.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Building a {@link StageChapterRequest} with its builder and serializing it, as the stage and chapter
+ * clients do for every create and update, next to serializing an already built request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StageChapterRequestBenchmark {
+    private String title;
+    private StageChapterRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkEnvironment.init();
+        title = "Stage Chapter " + System.nanoTime();
+        request = build();
+    }
+
+    @Benchmark
+    public String buildAndSerialize() {
+        return JsonUtils.toJson(build());
+    }
+
+    @Benchmark
+    public String serialize() {
+        return JsonUtils.toJson(request);
+    }
+
+    private StageChapterRequest build() {
+        return StageChapterRequest.builder()
+                .title(title)
+                .assetId("asset-7f3e2b10")
+                .assetDescription("Welcome video for the first onboarding day")
+                .status("DRAFT")
+                .language("en")
+                .isInternal(false)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package assertions;
 
-import com.jayway.jsonpath.*;
+import contract.*;
+import filters.*;
 import io.restassured.response.*;
 import models.response.*;
 import org.slf4j.*;
@@ -13,6 +14,7 @@ import java.util.*;
  * Enterprise-grade assertion utility for Rest Assured API testing.
  * Provides comprehensive validation for status codes, headers, response times,
  * JSON paths, and domain-specific response models.
+ * JSON assertions share one parsed view of each response (see {@link ParsedResponse}).
  */
 public class ResponseAssertions {
     private static final Logger logger = LoggerFactory.getLogger(ResponseAssertions.class);
@@ -32,7 +34,7 @@ public class ResponseAssertions {
                     expectedStatus, actualStatus, response.getBody().asString()
             );
             logger.error(errorMsg);
-            Assert.fail(errorMsg);
+            fail(errorMsg);
         }
     }
 
@@ -42,8 +44,8 @@ public class ResponseAssertions {
     public static void assertSuccessStatusCode(Response response) {
         int actualStatus = response.getStatusCode();
         logger.info("Asserting success status code (2xx) - Actual: {}", actualStatus);
-        Assert.assertTrue(actualStatus >= 200 && actualStatus < 300,
-                "Expected success status code (2xx), but got: " + actualStatus);
+        verify(() -> Assert.assertTrue(actualStatus >= 200 && actualStatus < 300,
+                "Expected success status code (2xx), but got: " + actualStatus));
     }
 
     /**
@@ -64,7 +66,7 @@ public class ResponseAssertions {
                 java.util.Arrays.toString(expectedStatuses), actualStatus, response.getBody().asString()
         );
         logger.error(errorMsg);
-        Assert.fail(errorMsg);
+        fail(errorMsg);
     }
 
     // ==================== HEADER ASSERTIONS ====================
@@ -74,8 +76,8 @@ public class ResponseAssertions {
      */
     public static void assertHeaderExists(Response response, String headerName) {
         logger.info("Asserting header exists: {}", headerName);
-        Assert.assertNotNull(response.getHeader(headerName),
-                "Expected header '" + headerName + "' not found in response");
+        verify(() -> Assert.assertNotNull(response.getHeader(headerName),
+                "Expected header '" + headerName + "' not found in response"));
     }
 
     /**
@@ -84,9 +86,9 @@ public class ResponseAssertions {
     public static void assertHeaderEquals(Response response, String headerName, String expectedValue) {
         logger.info("Asserting header {} equals {}", headerName, expectedValue);
         String actualValue = response.getHeader(headerName);
-        Assert.assertEquals(actualValue, expectedValue,
+        verify(() -> Assert.assertEquals(actualValue, expectedValue,
                 String.format("Header '%s' value mismatch. Expected: %s, Actual: %s",
-                        headerName, expectedValue, actualValue));
+                        headerName, expectedValue, actualValue)));
     }
 
     /**
@@ -95,8 +97,8 @@ public class ResponseAssertions {
     public static void assertContentTypeJson(Response response) {
         logger.info("Asserting Content-Type is JSON");
         String contentType = response.getContentType();
-        Assert.assertTrue(contentType != null && contentType.contains("application/json"),
-                "Expected Content-Type to contain 'application/json', but got: " + contentType);
+        verify(() -> Assert.assertTrue(contentType != null && contentType.contains("application/json"),
+                "Expected Content-Type to contain 'application/json', but got: " + contentType));
     }
 
     // ==================== RESPONSE TIME ASSERTIONS ====================
@@ -107,9 +109,9 @@ public class ResponseAssertions {
     public static void assertResponseTimeBelow(Response response, long thresholdMs) {
         long actualTime = response.getTime();
         logger.info("Asserting response time below {}ms - Actual: {}ms", thresholdMs, actualTime);
-        Assert.assertTrue(actualTime < thresholdMs,
+        verify(() -> Assert.assertTrue(actualTime < thresholdMs,
                 String.format("Response time exceeded threshold. Expected: <%d ms, Actual: %d ms",
-                        thresholdMs, actualTime));
+                        thresholdMs, actualTime)));
     }
 
     // ==================== JSON PATH ASSERTIONS ====================
@@ -120,10 +122,10 @@ public class ResponseAssertions {
     public static void assertJsonPathExists(Response response, String jsonPath) {
         logger.info("Asserting JSON path exists: {}", jsonPath);
         try {
-            Object value = JsonPath.read(response.getBody().asString(), jsonPath);
-            Assert.assertNotNull(value, "JSON path '" + jsonPath + "' returned null");
+            Object value = ParsedResponse.of(response).read(jsonPath);
+            verify(() -> Assert.assertNotNull(value, "JSON path '" + jsonPath + "' returned null"));
         } catch (Exception e) {
-            Assert.fail("JSON path '" + jsonPath + "' not found in response: " + e.getMessage());
+            fail("JSON path '" + jsonPath + "' not found in response: " + e.getMessage());
         }
     }
 
@@ -133,12 +135,12 @@ public class ResponseAssertions {
     public static void assertJsonPathEquals(Response response, String jsonPath, Object expectedValue) {
         logger.info("Asserting JSON path {} equals {}", jsonPath, expectedValue);
         try {
-            Object actualValue = JsonPath.read(response.getBody().asString(), jsonPath);
-            Assert.assertEquals(actualValue, expectedValue,
+            Object actualValue = ParsedResponse.of(response).read(jsonPath);
+            verify(() -> Assert.assertEquals(actualValue, expectedValue,
                     String.format("JSON path '%s' value mismatch. Expected: %s, Actual: %s",
-                            jsonPath, expectedValue, actualValue));
+                            jsonPath, expectedValue, actualValue)));
         } catch (Exception e) {
-            Assert.fail("Failed to extract JSON path '" + jsonPath + "': " + e.getMessage());
+            fail("Failed to extract JSON path '" + jsonPath + "': " + e.getMessage());
         }
     }
 
@@ -148,9 +150,11 @@ public class ResponseAssertions {
     public static <T> T extractJsonPath(Response response, String jsonPath) {
         logger.info("Extracting JSON path: {}", jsonPath);
         try {
-            return JsonPath.read(response.getBody().asString(), jsonPath);
+            return ParsedResponse.of(response).read(jsonPath);
         } catch (Exception e) {
-            throw new AssertionError("Failed to extract JSON path '" + jsonPath + "': " + e.getMessage(), e);
+            String errorMsg = "Failed to extract JSON path '" + jsonPath + "': " + e.getMessage();
+            ExchangeBuffer.dump(errorMsg);
+            throw new AssertionError(errorMsg, e);
         }
     }
 
@@ -162,12 +166,12 @@ public class ResponseAssertions {
     public static void assertArraySize(Response response, String jsonPath, int expectedSize) {
         logger.info("Asserting array at {} has size {}", jsonPath, expectedSize);
         try {
-            List<?> array = JsonPath.read(response.getBody().asString(), jsonPath);
-            Assert.assertEquals(array.size(), expectedSize,
+            List<?> array = ParsedResponse.of(response).read(jsonPath);
+            verify(() -> Assert.assertEquals(array.size(), expectedSize,
                     String.format("Array size mismatch at '%s'. Expected: %d, Actual: %d",
-                            jsonPath, expectedSize, array.size()));
+                            jsonPath, expectedSize, array.size())));
         } catch (Exception e) {
-            Assert.fail("Failed to extract array from JSON path '" + jsonPath + "': " + e.getMessage());
+            fail("Failed to extract array from JSON path '" + jsonPath + "': " + e.getMessage());
         }
     }
 
@@ -177,10 +181,10 @@ public class ResponseAssertions {
     public static void assertArrayNotEmpty(Response response, String jsonPath) {
         logger.info("Asserting array at {} is not empty", jsonPath);
         try {
-            List<?> array = JsonPath.read(response.getBody().asString(), jsonPath);
-            Assert.assertFalse(array.isEmpty(), "Array at '" + jsonPath + "' should not be empty");
+            List<?> array = ParsedResponse.of(response).read(jsonPath);
+            verify(() -> Assert.assertFalse(array.isEmpty(), "Array at '" + jsonPath + "' should not be empty"));
         } catch (Exception e) {
-            Assert.fail("Failed to extract array from JSON path '" + jsonPath + "': " + e.getMessage());
+            fail("Failed to extract array from JSON path '" + jsonPath + "': " + e.getMessage());
         }
     }
 
@@ -194,10 +198,10 @@ public class ResponseAssertions {
         assertContentTypeJson(response);
 
         try {
-            ProblemDetail problemDetail = JsonUtils.fromJson(response.getBody().asString(), ProblemDetail.class);
-            Assert.assertNotNull(problemDetail.getType(), "ProblemDetail 'type' field is null");
-            Assert.assertNotNull(problemDetail.getTitle(), "ProblemDetail 'title' field is null");
-            Assert.assertTrue(problemDetail.getStatus() > 0, "ProblemDetail 'status' is invalid");
+            ProblemDetail problemDetail = ParsedResponse.of(response).as(ProblemDetail.class);
+            verify(() -> Assert.assertNotNull(problemDetail.getType(), "ProblemDetail 'type' field is null"));
+            verify(() -> Assert.assertNotNull(problemDetail.getTitle(), "ProblemDetail 'title' field is null"));
+            verify(() -> Assert.assertTrue(problemDetail.getStatus() > 0, "ProblemDetail 'status' is invalid"));
 
             logger.info("ProblemDetail validated - Type: {}, Title: {}, Status: {}",
                     problemDetail.getType(), problemDetail.getTitle(), problemDetail.getStatus());
@@ -205,7 +209,7 @@ public class ResponseAssertions {
             return problemDetail;
         } catch (Exception e) {
             logger.error("Failed to parse ProblemDetail response: {}", e.getMessage());
-            Assert.fail("Response is not a valid ProblemDetail: " + e.getMessage());
+            fail("Response is not a valid ProblemDetail: " + e.getMessage());
             return null;
         }
     }
@@ -215,10 +219,10 @@ public class ResponseAssertions {
      */
     public static void assertProblemDetail(Response response, int expectedStatus, String expectedTitle) {
         ProblemDetail problemDetail = assertProblemDetail(response);
-        Assert.assertEquals(problemDetail.getStatus(), expectedStatus,
-                "ProblemDetail status mismatch");
-        Assert.assertEquals(problemDetail.getTitle(), expectedTitle,
-                "ProblemDetail title mismatch");
+        verify(() -> Assert.assertEquals(problemDetail.getStatus(), expectedStatus,
+                "ProblemDetail status mismatch"));
+        verify(() -> Assert.assertEquals(problemDetail.getTitle(), expectedTitle,
+                "ProblemDetail title mismatch"));
     }
 
     /**
@@ -229,15 +233,15 @@ public class ResponseAssertions {
         assertContentTypeJson(response);
 
         try {
-            GenericMessage genericMessage = JsonUtils.fromJson(response.getBody().asString(), GenericMessage.class);
-            Assert.assertNotNull(genericMessage.getMessage(), "GenericMessage 'message' field is null");
+            GenericMessage genericMessage = ParsedResponse.of(response).as(GenericMessage.class);
+            verify(() -> Assert.assertNotNull(genericMessage.getMessage(), "GenericMessage 'message' field is null"));
 
             logger.info("GenericMessage validated - Message: {}", genericMessage.getMessage());
 
             return genericMessage;
         } catch (Exception e) {
             logger.error("Failed to parse GenericMessage response: {}", e.getMessage());
-            Assert.fail("Response is not a valid GenericMessage: " + e.getMessage());
+            fail("Response is not a valid GenericMessage: " + e.getMessage());
             return null;
         }
     }
@@ -247,8 +251,8 @@ public class ResponseAssertions {
      */
     public static void assertGenericMessage(Response response, String expectedMessage) {
         GenericMessage genericMessage = assertGenericMessage(response);
-        Assert.assertEquals(genericMessage.getMessage(), expectedMessage,
-                "GenericMessage content mismatch");
+        verify(() -> Assert.assertEquals(genericMessage.getMessage(), expectedMessage,
+                "GenericMessage content mismatch"));
     }
 
     /**
@@ -256,13 +260,65 @@ public class ResponseAssertions {
      */
     public static void assertGenericMessageContains(Response response, String expectedSubstring) {
         GenericMessage genericMessage = assertGenericMessage(response);
-        Assert.assertTrue(genericMessage.getMessage().contains(expectedSubstring),
+        verify(() -> Assert.assertTrue(genericMessage.getMessage().contains(expectedSubstring),
                 String.format("GenericMessage does not contain '%s'. Actual: %s",
-                        expectedSubstring, genericMessage.getMessage()));
+                        expectedSubstring, genericMessage.getMessage())));
+    }
+
+    // ==================== CONTRACT ASSERTIONS ====================
+
+    /**
+     * Assert that the response body matches the schema the OpenAPI document declares for the operation and
+     * status. Passes without checking when the operation declares no JSON schema for the status.
+     * @param method HTTP method of the request
+     * @param path Request path or path template, e.g. {@code /api/v1/stages/{stageId}}
+     */
+    public static void assertMatchesContract(Response response, String method, String path) {
+        logger.info("Asserting response matches contract of {} {}", method, path);
+        ContractValidator validator = ContractValidator.get();
+        ParsedResponse parsed = ParsedResponse.of(response);
+        ContractResult result;
+        try {
+            result = validator.validate(method, path, response.getStatusCode(), parsed.tree());
+        } catch (RuntimeException e) {
+            result = validator.validate(method, path, response.getStatusCode(), parsed.getBody());
+        }
+
+        if (result.getOperation() == null) {
+            fail("No operation in the OpenAPI document matches " + method + " " + path);
+        } else if (!result.isChecked()) {
+            logger.info("No response schema declared for {} {}", result.getOperation(), response.getStatusCode());
+        } else if (!result.isValid()) {
+            fail(String.format("Response does not match the contract of %s %d (%s):\n%s\nResponse Body:\n%s",
+                    result.getOperation(), response.getStatusCode(), result.getSchemaPointer(),
+                    String.join("\n", result.getErrors()), parsed.getBody()));
+        }
     }
 
     // ==================== UTILITY METHODS ====================
 
+    /**
+     * Fail the current assertion, dumping recently captured exchanges first.
+     */
+    private static void fail(String errorMsg) {
+        ExchangeBuffer.dump(errorMsg);
+        Assert.fail(errorMsg);
+    }
+
+    /**
+     * Run a TestNG assertion, dumping recently captured exchanges first if it fails.
+     * The {@link AssertionError} is rethrown as is; it is not an {@link Exception}, so the
+     * {@code catch (Exception e)} blocks around these calls let it through.
+     */
+    private static void verify(Runnable assertion) {
+        try {
+            assertion.run();
+        } catch (AssertionError e) {
+            ExchangeBuffer.dump(e.getMessage());
+            throw e;
+        }
+    }
+
     /**
      * Log full response details (for debugging).
      */
@@ -279,8 +335,8 @@ public class ResponseAssertions {
     public static void assertBodyNotEmpty(Response response) {
         logger.info("Asserting response body is not empty");
         String body = response.getBody().asString();
-        Assert.assertNotNull(body, "Response body is null");
-        Assert.assertFalse(body.trim().isEmpty(), "Response body is empty");
+        verify(() -> Assert.assertNotNull(body, "Response body is null"));
+        verify(() -> Assert.assertFalse(body.trim().isEmpty(), "Response body is empty"));
     }
 
     /**
@@ -289,7 +345,7 @@ public class ResponseAssertions {
     public static void assertBodyContains(Response response, String expectedSubstring) {
         logger.info("Asserting response body contains: {}", expectedSubstring);
         String body = response.getBody().asString();
-        Assert.assertTrue(body.contains(expectedSubstring),
-                String.format("Response body does not contain '%s'", expectedSubstring));
+        verify(() -> Assert.assertTrue(body.contains(expectedSubstring),
+                String.format("Response body does not contain '%s'", expectedSubstring)));
     }
 }
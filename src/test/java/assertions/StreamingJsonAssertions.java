@@ -0,0 +1,189 @@
+package assertions;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.*;
+import filters.*;
+import io.restassured.response.*;
+import org.slf4j.*;
+import org.testng.*;
+import utils.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Streaming JSON assertions for very large list responses.
+ * Walks the body with Jackson's streaming parser and materializes at most one array element
+ * at a time, so multi-megabyte pages (getAllUsers, getAllJourneys, getAllAssets, searchContentMaps)
+ * can be validated without building a full document tree. Searches and predicate checks stop
+ * at the first decisive element.
+ *
+ * This saves the parsed representation, not the body itself: Rest Assured has already buffered the whole
+ * body when the response is returned, and the Allure, exchange capture, record/replay and contract filters
+ * read it as a string as well. Memory use is therefore the raw body (plus those copies) instead of body plus
+ * tree, not constant.
+ *
+ * Paths are dot-separated object keys leading to an array, e.g. "content", "$.content" or "$"
+ * for a top-level array.
+ */
+public class StreamingJsonAssertions {
+    private static final Logger logger = LoggerFactory.getLogger(StreamingJsonAssertions.class);
+
+    /**
+     * Count elements of the array at the given path without materializing them.
+     */
+    public static int countElements(Response response, String arrayPath) {
+        logger.info("Counting array elements at {} (streaming)", arrayPath);
+        try (JsonParser parser = openArray(response, arrayPath)) {
+            int count = 0;
+            while (nextElement(parser)) {
+                parser.skipChildren();
+                count++;
+            }
+            return count;
+        } catch (IOException e) {
+            throw streamFailure(arrayPath, e);
+        }
+    }
+
+    /**
+     * Assert that the array at the given path has the expected number of elements.
+     */
+    public static void assertElementCount(Response response, String arrayPath, int expectedCount) {
+        int actualCount = countElements(response, arrayPath);
+        if (actualCount != expectedCount) {
+            fail(String.format("Array size mismatch at '%s'. Expected: %d, Actual: %d",
+                    arrayPath, expectedCount, actualCount));
+        }
+    }
+
+    /**
+     * Assert that every element of the array at the given path satisfies the predicate.
+     * Stops at the first element that does not.
+     * @param description Human-readable description of the predicate for failure messages
+     */
+    public static void assertEachElement(Response response, String arrayPath,
+                                         Predicate<JsonNode> predicate, String description) {
+        logger.info("Asserting each element at {} matches: {} (streaming)", arrayPath, description);
+        try (JsonParser parser = openArray(response, arrayPath)) {
+            int index = 0;
+            while (nextElement(parser)) {
+                JsonNode element = parser.readValueAsTree();
+                if (!predicate.test(element)) {
+                    fail(String.format("Element %d at '%s' does not match '%s': %s",
+                            index, arrayPath, description, element));
+                }
+                index++;
+            }
+        } catch (IOException e) {
+            fail("Failed to stream array at '" + arrayPath + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * Find the first element of the array at the given path that satisfies the predicate.
+     * Stops reading the body as soon as a match is found.
+     */
+    public static Optional<JsonNode> findFirst(Response response, String arrayPath, Predicate<JsonNode> predicate) {
+        logger.info("Searching array at {} for first match (streaming)", arrayPath);
+        try (JsonParser parser = openArray(response, arrayPath)) {
+            while (nextElement(parser)) {
+                JsonNode element = parser.readValueAsTree();
+                if (predicate.test(element)) {
+                    return Optional.of(element);
+                }
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            throw streamFailure(arrayPath, e);
+        }
+    }
+
+    /**
+     * Assert that at least one element of the array at the given path satisfies the predicate.
+     * @return The first matching element
+     */
+    public static JsonNode assertAnyElement(Response response, String arrayPath,
+                                            Predicate<JsonNode> predicate, String description) {
+        Optional<JsonNode> match = findFirst(response, arrayPath, predicate);
+        if (!match.isPresent()) {
+            fail(String.format("No element at '%s' matches '%s'", arrayPath, description));
+        }
+        return match.orElse(null);
+    }
+
+    /**
+     * Open a parser positioned on the first token inside the array at the given path.
+     * The caller owns (and must close) the returned parser.
+     */
+    private static JsonParser openArray(Response response, String arrayPath) throws IOException {
+        JsonParser parser = JsonUtils.getMapper().createParser(response.getBody().asInputStream());
+        try {
+            JsonToken token = parser.nextToken();
+            for (String segment : splitPath(arrayPath)) {
+                token = moveToField(parser, token, segment);
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new IOException("Value at '" + arrayPath + "' is not an array");
+            }
+            return parser;
+        } catch (IOException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Advance to the next array element; false once the array is closed.
+     */
+    private static boolean nextElement(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new IOException("Unexpected end of JSON input inside array");
+        }
+        return token != JsonToken.END_ARRAY;
+    }
+
+    private static JsonToken moveToField(JsonParser parser, JsonToken token, String field) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException("Expected an object containing '" + field + "'");
+        }
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            token = parser.nextToken();
+            if (field.equals(name)) {
+                return token;
+            }
+            parser.skipChildren();
+        }
+        throw new IOException("Field '" + field + "' not found");
+    }
+
+    private static List<String> splitPath(String arrayPath) {
+        String path = arrayPath.trim();
+        if (path.startsWith("$")) {
+            path = path.substring(1);
+        }
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("\\.")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    private static AssertionError streamFailure(String arrayPath, IOException e) {
+        String errorMsg = "Failed to stream array at '" + arrayPath + "': " + e.getMessage();
+        logger.error(errorMsg);
+        ExchangeBuffer.dump(errorMsg);
+        return new AssertionError(errorMsg, e);
+    }
+
+    private static void fail(String errorMsg) {
+        logger.error(errorMsg);
+        ExchangeBuffer.dump(errorMsg);
+        Assert.fail(errorMsg);
+    }
+}
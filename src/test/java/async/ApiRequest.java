@@ -0,0 +1,268 @@
+package async;
+
+import config.*;
+import utils.*;
+
+import java.io.*;
+import java.net.*;
+import java.net.http.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Request for {@link AsyncHttp}, built the way {@link RequestSpecFactory} builds its specifications:
+ * the environment's base URL, JSON content type and accept headers, and the bearer token of the user type
+ * (admin unless stated otherwise). Path parameters are written as {@code {name}} in the path.
+ * <pre>
+ * ApiRequest.get("/api/v1/journey/{journeyId}")
+ *         .pathParam("journeyId", journeyId)
+ *         .send();
+ * </pre>
+ */
+public class ApiRequest {
+    private final String method;
+    private final String path;
+    private final Map<String, String> pathParams;
+    private final List<String[]> queryParams;
+    private final Map<String, String> headers;
+    private final String contentType;
+    private final Object body;
+    private final List<Part> parts;
+    private final UserType userType;
+
+    private ApiRequest(Builder builder) {
+        this.method = builder.method;
+        this.path = builder.path;
+        this.pathParams = new LinkedHashMap<>(builder.pathParams);
+        this.queryParams = new ArrayList<>(builder.queryParams);
+        this.headers = new LinkedHashMap<>(builder.headers);
+        this.contentType = builder.contentType;
+        this.body = builder.body;
+        this.parts = new ArrayList<>(builder.parts);
+        this.userType = builder.userType;
+    }
+
+    public static Builder builder(String method, String path) {
+        return new Builder(method, path);
+    }
+
+    public static Builder get(String path) {
+        return builder("GET", path);
+    }
+
+    public static Builder post(String path) {
+        return builder("POST", path);
+    }
+
+    public static Builder put(String path) {
+        return builder("PUT", path);
+    }
+
+    public static Builder patch(String path) {
+        return builder("PATCH", path);
+    }
+
+    public static Builder delete(String path) {
+        return builder("DELETE", path);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Resolve the full URI against the environment's base URL.
+     */
+    public URI toUri() {
+        String resolved = path;
+        for (Map.Entry<String, String> param : pathParams.entrySet()) {
+            resolved = resolved.replace("{" + param.getKey() + "}", encode(param.getValue()));
+        }
+        if (resolved.contains("{")) {
+            throw new IllegalArgumentException("Unresolved path parameter in " + resolved);
+        }
+
+        StringBuilder uri = new StringBuilder(EnvironmentConfig.getBaseUrl().replaceAll("/+$", "")).append(resolved);
+        char separator = '?';
+        for (String[] param : queryParams) {
+            uri.append(separator).append(encode(param[0]));
+            if (param[1] != null) {
+                uri.append('=').append(encode(param[1]));
+            }
+            separator = '&';
+        }
+        return URI.create(uri.toString());
+    }
+
+    /**
+     * Build the JDK request. The token is looked up here, so it is refreshed like a cached specification's.
+     */
+    HttpRequest toHttpRequest(Duration timeout) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(toUri())
+                .timeout(timeout)
+                .header("Accept", "application/json");
+
+        String type = contentType;
+        HttpRequest.BodyPublisher publisher;
+        if (!parts.isEmpty()) {
+            String boundary = "----" + UUID.randomUUID().toString().replace("-", "");
+            type = "multipart/form-data; boundary=" + boundary;
+            publisher = HttpRequest.BodyPublishers.ofByteArray(multipart(boundary));
+        } else if (body instanceof byte[]) {
+            publisher = HttpRequest.BodyPublishers.ofByteArray((byte[]) body);
+        } else if (body instanceof String) {
+            publisher = HttpRequest.BodyPublishers.ofString((String) body, StandardCharsets.UTF_8);
+        } else if (body != null) {
+            publisher = HttpRequest.BodyPublishers.ofString(JsonUtils.toJson(body), StandardCharsets.UTF_8);
+        } else {
+            publisher = HttpRequest.BodyPublishers.noBody();
+        }
+        request.header("Content-Type", type);
+
+        if (userType != null) {
+            String token = AuthManager.getBearerToken(userType);
+            if (token != null && !token.isEmpty()) {
+                request.header("Authorization", "Bearer " + token);
+            }
+        }
+        // Explicit headers last, so they can replace the defaults (e.g. another token)
+        headers.forEach(request::setHeader);
+        return request.method(method, publisher).build();
+    }
+
+    private byte[] multipart(String boundary) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            for (Part part : parts) {
+                StringBuilder head = new StringBuilder("--").append(boundary).append("\r\n")
+                        .append("Content-Disposition: form-data; name=\"").append(part.name).append('"');
+                if (part.file != null) {
+                    head.append("; filename=\"").append(part.file.getName()).append('"')
+                            .append("\r\nContent-Type: application/octet-stream");
+                } else {
+                    head.append("\r\nContent-Type: text/plain; charset=UTF-8");
+                }
+                out.write(head.append("\r\n\r\n").toString().getBytes(StandardCharsets.UTF_8));
+                out.write(part.file != null ? Files.readAllBytes(part.file.toPath()) : part.value.getBytes(StandardCharsets.UTF_8));
+                out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+            }
+            out.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read multipart content for " + method + " " + path, e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + path;
+    }
+
+    private static class Part {
+        private final String name;
+        private final String value;
+        private final File file;
+
+        Part(String name, String value, File file) {
+            this.name = name;
+            this.value = value;
+            this.file = file;
+        }
+    }
+
+    public static class Builder {
+        private final String method;
+        private final String path;
+        private final Map<String, String> pathParams = new LinkedHashMap<>();
+        private final List<String[]> queryParams = new ArrayList<>();
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private final List<Part> parts = new ArrayList<>();
+        private String contentType = "application/json";
+        private Object body;
+        private UserType userType = UserType.ADMIN;
+
+        private Builder(String method, String path) {
+            this.method = method.toUpperCase(Locale.ROOT);
+            this.path = path;
+        }
+
+        public Builder pathParam(String name, Object value) {
+            pathParams.put(name, String.valueOf(value));
+            return this;
+        }
+
+        /**
+         * Add a query parameter; a null value sends the name alone.
+         */
+        public Builder queryParam(String name, Object value) {
+            queryParams.add(new String[] {name, value != null ? String.valueOf(value) : null});
+            return this;
+        }
+
+        public Builder header(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        public Builder contentType(String contentType) {
+            this.contentType = contentType;
+            return this;
+        }
+
+        /**
+         * Set the body: a String or byte[] is sent as is, anything else is serialized to JSON.
+         */
+        public Builder body(Object body) {
+            this.body = body;
+            return this;
+        }
+
+        public Builder multiPart(String name, String value) {
+            parts.add(new Part(name, value, null));
+            return this;
+        }
+
+        public Builder multiPart(String name, File file) {
+            parts.add(new Part(name, null, file));
+            return this;
+        }
+
+        /**
+         * Send the token of another user type.
+         */
+        public Builder userType(UserType userType) {
+            this.userType = userType;
+            return this;
+        }
+
+        /**
+         * Send no Authorization header, like {@link RequestSpecFactory#getRequestSpecWithoutAuth()}.
+         */
+        public Builder withoutAuth() {
+            this.userType = null;
+            return this;
+        }
+
+        public ApiRequest build() {
+            return new ApiRequest(this);
+        }
+
+        /**
+         * Build the request and send it with {@link AsyncHttp#send(ApiRequest)}.
+         */
+        public CompletableFuture<ApiResponse> send() {
+            return AsyncHttp.send(build());
+        }
+    }
+}
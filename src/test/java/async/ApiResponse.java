@@ -0,0 +1,128 @@
+package async;
+
+import com.fasterxml.jackson.databind.*;
+import com.jayway.jsonpath.*;
+import utils.*;
+
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Response of an asynchronous request: status, headers and the fully read body.
+ * The body is parsed lazily, once, the first time it is read as JSON.
+ */
+public class ApiResponse {
+    private final String method;
+    private final String uri;
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+    private final long timeNanos;
+    private volatile JsonNode tree;
+    private volatile DocumentContext document;
+
+    ApiResponse(String method, String uri, int statusCode, Map<String, List<String>> headers, byte[] body, long timeNanos) {
+        this.method = method;
+        this.uri = uri;
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+        this.timeNanos = timeNanos;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Get the first value of a header (case-insensitive), or null.
+     */
+    public String getHeader(String name) {
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name) && !entry.getValue().isEmpty()) {
+                return entry.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    public String getContentType() {
+        return getHeader("Content-Type");
+    }
+
+    public byte[] asByteArray() {
+        return body;
+    }
+
+    public String asString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Get the time from sending the request until the body was read, excluding time queued for a slot.
+     */
+    public long getTime(TimeUnit unit) {
+        return unit.convert(timeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long getTimeMillis() {
+        return getTime(TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Get the body as a Jackson tree.
+     */
+    public JsonNode tree() {
+        JsonNode result = tree;
+        if (result == null) {
+            try {
+                result = JsonUtils.getMapper().readTree(body);
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to parse response body as JSON: " + e.getMessage(), e);
+            }
+            tree = result;
+        }
+        return result;
+    }
+
+    /**
+     * Read a JSON path from the body.
+     */
+    public <T> T read(String jsonPath) {
+        DocumentContext result = document;
+        if (result == null) {
+            result = JsonPath.parse(asString());
+            document = result;
+        }
+        return result.read(ParsedResponse.compile(jsonPath));
+    }
+
+    /**
+     * Map the body onto a model class.
+     */
+    public <T> T as(Class<T> clazz) {
+        try {
+            return JsonUtils.getMapper().treeToValue(tree(), clazz);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to deserialize JSON to " + clazz.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + uri + " -> " + statusCode;
+    }
+}
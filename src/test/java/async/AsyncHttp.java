@@ -0,0 +1,163 @@
+package async;
+
+import config.*;
+import org.slf4j.*;
+import utils.*;
+
+import java.net.http.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Non-blocking HTTP transport for the async clients, built on the JDK {@link HttpClient}.
+ * Requests are sent without holding a thread while they are in flight, and responses are completed on a
+ * small pool of async.threads threads, so a handful of threads can drive thousands of concurrent requests.
+ * At most async.maxInFlight requests are on the wire at once; further requests wait in a queue (without a
+ * thread) and are started as earlier ones complete.
+ *
+ * With transport=h2 the requests are multiplexed over the {@link Http2Transport} connections instead.
+ *
+ * Requests do not go through the Rest Assured filters: there is no Allure attachment, contract sampling,
+ * throttling, retry or record/replay for them.
+ *
+ * Configuration keys: async.threads, async.maxInFlight, async.connectTimeoutMillis, async.requestTimeoutMillis.
+ */
+public class AsyncHttp {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncHttp.class);
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+    private static final AtomicLong sent = new AtomicLong();
+    private static final AtomicLong failed = new AtomicLong();
+    private static final AtomicLong queued = new AtomicLong();
+    private static final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private static volatile HttpClient client;
+    private static volatile ExecutorService executor;
+    private static volatile int maxInFlight;
+    private static volatile Duration requestTimeout;
+
+    /**
+     * Send a request.
+     * @return Completes with the response once its body has been read, or exceptionally if the request failed
+     */
+    public static CompletableFuture<ApiResponse> send(ApiRequest request) {
+        HttpClient httpClient = client();
+        HttpRequest httpRequest = request.toHttpRequest(requestTimeout);
+        CompletableFuture<ApiResponse> result = new CompletableFuture<>();
+        Runnable start = () -> dispatch(httpClient, httpRequest, result);
+        if (tryAcquire()) {
+            start.run();
+        } else {
+            queued.incrementAndGet();
+            waiting.add(start);
+            // A slot may have been released between the failed attempt and the enqueue
+            if (tryAcquire()) {
+                startNextOrRelease();
+            }
+        }
+        return result;
+    }
+
+    private static void dispatch(HttpClient httpClient, HttpRequest httpRequest, CompletableFuture<ApiResponse> result) {
+        sent.incrementAndGet();
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<byte[]>> sending = Http2Transport.isEnabled()
+                ? Http2Transport.sendAsync(httpRequest)
+                : httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+        sending.whenComplete((response, error) -> {
+            startNextOrRelease();
+            if (error != null) {
+                failed.incrementAndGet();
+                result.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+            } else {
+                result.complete(new ApiResponse(httpRequest.method(), httpRequest.uri().toString(),
+                        response.statusCode(), response.headers().map(), response.body(),
+                        System.nanoTime() - start));
+            }
+        });
+    }
+
+    private static boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                peakInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Hand the caller's slot to the next waiting request, or give it back.
+     */
+    private static void startNextOrRelease() {
+        Runnable next = waiting.poll();
+        if (next != null) {
+            next.run();
+            return;
+        }
+        inFlight.decrementAndGet();
+        if (!waiting.isEmpty() && tryAcquire()) {
+            startNextOrRelease();
+        }
+    }
+
+    private static HttpClient client() {
+        if (client == null) {
+            synchronized (AsyncHttp.class) {
+                if (client == null) {
+                    init();
+                }
+            }
+        }
+        return client;
+    }
+
+    private static void init() {
+        int threads = EnvironmentConfig.getInt("async.threads", 4);
+        maxInFlight = EnvironmentConfig.getInt("async.maxInFlight", 1024);
+        requestTimeout = Duration.ofMillis(EnvironmentConfig.getInt("async.requestTimeoutMillis", 30_000));
+
+        executor = Executors.newFixedThreadPool(threads, DaemonThreads.factory("async-http"));
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(EnvironmentConfig.getInt("async.connectTimeoutMillis", 10_000)))
+                .executor(executor)
+                .build();
+        logger.info("Async HTTP client initialized - threads: {}, maxInFlight: {}", threads, maxInFlight);
+    }
+
+    /**
+     * Get number of requests currently on the wire.
+     */
+    public static int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Get number of requests waiting for an in-flight slot.
+     */
+    public static int getWaiting() {
+        return waiting.size();
+    }
+
+    /**
+     * Log request counts and stop the completion threads.
+     */
+    public static synchronized void shutdown() {
+        if (client == null) {
+            return;
+        }
+        logger.info("Async HTTP: {} requests, {} failed, {} queued for a slot, peak {} in flight",
+                sent.get(), failed.get(), queued.get(), peakInFlight.get());
+        executor.shutdownNow();
+        executor = null;
+        client = null;
+    }
+}
@@ -0,0 +1,88 @@
+package client;
+
+import async.*;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link AssetManagementClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class AssetManagementAsyncClient {
+    private static final String BASE_PATH = "/api/v1/upload";
+
+    /**
+     * Upload an asset.
+     * POST /api/v1/upload
+     * @param file File to upload
+     * @return Future of the response with asset details
+     */
+    public CompletableFuture<ApiResponse> uploadAsset(File file) {
+        return ApiRequest.post(BASE_PATH)
+                .contentType("multipart/form-data")
+                .multiPart("file", file)
+                .send();
+    }
+
+    /**
+     * Upload asset with additional metadata.
+     * POST /api/v1/upload
+     * @param file File to upload
+     * @param description Asset description
+     * @return Future of the response with asset details
+     */
+    public CompletableFuture<ApiResponse> uploadAssetWithMetadata(File file, String description) {
+        return ApiRequest.post(BASE_PATH)
+                .contentType("multipart/form-data")
+                .multiPart("file", file)
+                .multiPart("description", description)
+                .send();
+    }
+
+    /**
+     * Get asset by ID.
+     * GET /api/v1/upload/{assetId}
+     * @param assetId Unique identifier of the asset
+     * @return Future of the response with asset content
+     */
+    public CompletableFuture<ApiResponse> getAsset(String assetId) {
+        return ApiRequest.get(BASE_PATH + "/{assetId}")
+                .pathParam("assetId", assetId)
+                .send();
+    }
+
+    /**
+     * Delete asset.
+     * DELETE /api/v1/upload/{assetId}
+     * @param assetId Unique identifier of the asset
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> deleteAsset(String assetId) {
+        return ApiRequest.delete(BASE_PATH + "/{assetId}")
+                .pathParam("assetId", assetId)
+                .send();
+    }
+
+    /**
+     * Get all assets.
+     * GET /api/v1/upload
+     * @param page Page number
+     * @param size Page size
+     * @return Future of the response with assets list
+     */
+    public CompletableFuture<ApiResponse> getAllAssets(int page, int size) {
+        return ApiRequest.get(BASE_PATH)
+                .queryParam("page", page)
+                .queryParam("size", size)
+                .send();
+    }
+
+    /**
+     * Get all assets with default pagination.
+     * @return Future of the response with assets list
+     */
+    public CompletableFuture<ApiResponse> getAllAssets() {
+        return getAllAssets(0, 20);
+    }
+}
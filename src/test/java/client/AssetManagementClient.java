@@ -2,6 +2,7 @@ package client;
 
 import config.*;
 import io.restassured.response.*;
+import pagination.*;
 
 import java.io.*;
 
@@ -90,6 +91,15 @@ public class AssetManagementClient {
                 .get(BASE_PATH);
     }
 
+    /**
+     * Iterate all assets across pages.
+     * @param size Page size
+     * @return Lazy view over all elements
+     */
+    public PagedResults getAllAssetsPaged(int size) {
+        return PagedResults.builder(page -> getAllAssets(page, size)).build();
+    }
+
     /**
      * Get all assets with default pagination.
      * @return Response with assets list
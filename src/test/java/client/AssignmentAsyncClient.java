@@ -0,0 +1,97 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link AssignmentClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class AssignmentAsyncClient {
+    private static final String BASE_PATH = "/api/v1/assignments";
+
+    /**
+     * Get all assignments.
+     * GET /api/v1/assignments
+     * @param page Page number
+     * @param size Page size
+     * @return Future of the response with assignments list
+     */
+    public CompletableFuture<ApiResponse> getAllAssignments(int page, int size) {
+        return ApiRequest.get(BASE_PATH)
+                .queryParam("page", page)
+                .queryParam("size", size)
+                .send();
+    }
+
+    /**
+     * Get all assignments with default pagination.
+     * @return Future of the response with assignments list
+     */
+    public CompletableFuture<ApiResponse> getAllAssignments() {
+        return getAllAssignments(0, 20);
+    }
+
+    /**
+     * Get assignment by ID.
+     * GET /api/v1/assignments/{assignmentId}
+     * @param assignmentId Unique identifier of the assignment
+     * @return Future of the response with assignment details
+     */
+    public CompletableFuture<ApiResponse> getAssignmentById(String assignmentId) {
+        return ApiRequest.get(BASE_PATH + "/{assignmentId}")
+                .pathParam("assignmentId", assignmentId)
+                .send();
+    }
+
+    /**
+     * Create a new assignment.
+     * POST /api/v1/assignments
+     * @param requestBody Assignment creation request
+     * @return Future of the response with created assignment
+     */
+    public CompletableFuture<ApiResponse> createAssignment(Object requestBody) {
+        return ApiRequest.post(BASE_PATH)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Update assignment.
+     * PUT /api/v1/assignments/{assignmentId}
+     * @param assignmentId Unique identifier of the assignment
+     * @param requestBody Assignment update request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateAssignment(String assignmentId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{assignmentId}")
+                .pathParam("assignmentId", assignmentId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Delete assignment.
+     * DELETE /api/v1/assignments/{assignmentId}
+     * @param assignmentId Unique identifier of the assignment
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> deleteAssignment(String assignmentId) {
+        return ApiRequest.delete(BASE_PATH + "/{assignmentId}")
+                .pathParam("assignmentId", assignmentId)
+                .send();
+    }
+
+    /**
+     * Get assignments by user.
+     * GET /api/v1/assignments/user/{userId}
+     * @param userId Unique identifier of the user
+     * @return Future of the response with user's assignments
+     */
+    public CompletableFuture<ApiResponse> getAssignmentsByUser(String userId) {
+        return ApiRequest.get(BASE_PATH + "/user/{userId}")
+                .pathParam("userId", userId)
+                .send();
+    }
+}
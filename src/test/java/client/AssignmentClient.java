@@ -2,6 +2,7 @@ package client;
 
 import config.*;
 import io.restassured.response.*;
+import pagination.*;
 
 import static io.restassured.RestAssured.*;
 
@@ -28,6 +29,15 @@ public class AssignmentClient {
                 .get(BASE_PATH);
     }
 
+    /**
+     * Iterate all assignments across pages.
+     * @param size Page size
+     * @return Lazy view over all elements
+     */
+    public PagedResults getAllAssignmentsPaged(int size) {
+        return PagedResults.builder(page -> getAllAssignments(page, size)).build();
+    }
+
     /**
      * Get all assignments with default pagination.
      * @return Response with assignments list
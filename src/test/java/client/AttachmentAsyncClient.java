@@ -0,0 +1,63 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link AttachmentClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class AttachmentAsyncClient {
+    private static final String BASE_PATH = "/api/v1/attachments";
+
+    /**
+     * Upload an attachment.
+     * POST /api/v1/attachments
+     * @param file File to upload
+     * @param contentType Content type of the file
+     * @return Future of the response with attachment details
+     */
+    public CompletableFuture<ApiResponse> uploadAttachment(byte[] file, String contentType) {
+        return ApiRequest.post(BASE_PATH)
+                .contentType(contentType)
+                .body(file)
+                .send();
+    }
+
+    /**
+     * Get attachment by ID.
+     * GET /api/v1/attachments/{attachmentId}
+     * @param attachmentId Unique identifier of the attachment
+     * @return Future of the response with attachment content
+     */
+    public CompletableFuture<ApiResponse> getAttachment(String attachmentId) {
+        return ApiRequest.get(BASE_PATH + "/{attachmentId}")
+                .pathParam("attachmentId", attachmentId)
+                .send();
+    }
+
+    /**
+     * Delete attachment.
+     * DELETE /api/v1/attachments/{attachmentId}
+     * @param attachmentId Unique identifier of the attachment
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> deleteAttachment(String attachmentId) {
+        return ApiRequest.delete(BASE_PATH + "/{attachmentId}")
+                .pathParam("attachmentId", attachmentId)
+                .send();
+    }
+
+    /**
+     * Get attachments for a resource.
+     * GET /api/v1/attachments/resource/{resourceId}
+     * @param resourceId Unique identifier of the resource
+     * @return Future of the response with list of attachments
+     */
+    public CompletableFuture<ApiResponse> getAttachmentsForResource(String resourceId) {
+        return ApiRequest.get(BASE_PATH + "/resource/{resourceId}")
+                .pathParam("resourceId", resourceId)
+                .send();
+    }
+}
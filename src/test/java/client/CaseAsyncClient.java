@@ -0,0 +1,111 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link CaseClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class CaseAsyncClient {
+    private static final String BASE_PATH = "/api/v1/cases";
+
+    /**
+     * Get all cases.
+     * GET /api/v1/cases
+     * @param page Page number
+     * @param size Page size
+     * @return Future of the response with cases list
+     */
+    public CompletableFuture<ApiResponse> getAllCases(int page, int size) {
+        return ApiRequest.get(BASE_PATH)
+                .queryParam("page", page)
+                .queryParam("size", size)
+                .send();
+    }
+
+    /**
+     * Get all cases with default pagination.
+     * @return Future of the response with cases list
+     */
+    public CompletableFuture<ApiResponse> getAllCases() {
+        return getAllCases(0, 20);
+    }
+
+    /**
+     * Get case by ID.
+     * GET /api/v1/cases/{caseId}
+     * @param caseId Unique identifier of the case
+     * @return Future of the response with case details
+     */
+    public CompletableFuture<ApiResponse> getCaseById(String caseId) {
+        return ApiRequest.get(BASE_PATH + "/{caseId}")
+                .pathParam("caseId", caseId)
+                .send();
+    }
+
+    /**
+     * Create a new case.
+     * POST /api/v1/cases
+     * @param requestBody Case creation request
+     * @return Future of the response with created case
+     */
+    public CompletableFuture<ApiResponse> createCase(Object requestBody) {
+        return ApiRequest.post(BASE_PATH)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Update case.
+     * PUT /api/v1/cases/{caseId}
+     * @param caseId Unique identifier of the case
+     * @param requestBody Case update request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateCase(String caseId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{caseId}")
+                .pathParam("caseId", caseId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Delete case.
+     * DELETE /api/v1/cases/{caseId}
+     * @param caseId Unique identifier of the case
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> deleteCase(String caseId) {
+        return ApiRequest.delete(BASE_PATH + "/{caseId}")
+                .pathParam("caseId", caseId)
+                .send();
+    }
+
+    /**
+     * Add case action.
+     * POST /api/v1/cases/{caseId}/actions
+     * @param caseId Unique identifier of the case
+     * @param requestBody Case action request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> addCaseAction(String caseId, Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/{caseId}/actions")
+                .pathParam("caseId", caseId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Get case attachments.
+     * GET /api/v1/cases/{caseId}/attachments
+     * @param caseId Unique identifier of the case
+     * @return Future of the response with case attachments
+     */
+    public CompletableFuture<ApiResponse> getCaseAttachments(String caseId) {
+        return ApiRequest.get(BASE_PATH + "/{caseId}/attachments")
+                .pathParam("caseId", caseId)
+                .send();
+    }
+}
@@ -2,6 +2,7 @@ package client;
 
 import config.*;
 import io.restassured.response.*;
+import pagination.*;
 
 import static io.restassured.RestAssured.*;
 
@@ -28,6 +29,15 @@ public class CaseClient {
                 .get(BASE_PATH);
     }
 
+    /**
+     * Iterate all cases across pages.
+     * @param size Page size
+     * @return Lazy view over all elements
+     */
+    public PagedResults getAllCasesPaged(int size) {
+        return PagedResults.builder(page -> getAllCases(page, size)).build();
+    }
+
     /**
      * Get all cases with default pagination.
      * @return Response with cases list
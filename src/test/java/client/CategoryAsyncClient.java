@@ -0,0 +1,104 @@
+package client;
+
+import async.*;
+import registry.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link CategoryClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class CategoryAsyncClient {
+    private static final String BASE_PATH = "/api/v1/categories";
+
+    /**
+     * Create a new category.
+     * POST /api/v1/categories
+     * @param requestBody CategoryRequest object
+     * @return Future of the response with created category
+     */
+    public CompletableFuture<ApiResponse> createCategory(Object requestBody) {
+        return ApiRequest.post(BASE_PATH)
+                .body(requestBody)
+                .send()
+                .thenApply(response -> {
+                    EntityEvents.created(EntityType.CATEGORY, response, requestBody, null);
+                    return response;
+                });
+    }
+
+    /**
+     * Create a new category within a journey.
+     * POST /api/v1/categories/{journeySlug}
+     * @param journeySlug Slug identifier of the journey
+     * @param requestBody CategoryRequest object
+     * @return Future of the response with created category
+     */
+    public CompletableFuture<ApiResponse> createCategory(String journeySlug, Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/{journeySlug}")
+                .pathParam("journeySlug", journeySlug)
+                .body(requestBody)
+                .send()
+                .thenApply(response -> {
+                    EntityEvents.created(EntityType.CATEGORY, response, requestBody, journeySlug);
+                    return response;
+                });
+    }
+
+    /**
+     * Get category by ID.
+     * GET /api/v1/categories/{categoryId}
+     * @param categoryId Unique identifier of the category
+     * @return Future of the response with category details
+     */
+    public CompletableFuture<ApiResponse> getCategoryById(String categoryId) {
+        return ApiRequest.get(BASE_PATH + "/{categoryId}")
+                .pathParam("categoryId", categoryId)
+                .send();
+    }
+
+    /**
+     * Update category.
+     * PUT /api/v1/categories/{categoryId}
+     * @param categoryId Unique identifier of the category
+     * @param requestBody CategoryRequest object
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateCategory(String categoryId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{categoryId}")
+                .pathParam("categoryId", categoryId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Delete category.
+     * DELETE /api/v1/categories/{categoryId}
+     * @param categoryId Unique identifier of the category
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> deleteCategory(String categoryId) {
+        return ApiRequest.delete(BASE_PATH + "/{categoryId}")
+                .pathParam("categoryId", categoryId)
+                .send()
+                .thenApply(response -> {
+                    if (response.getStatusCode() == 200 || response.getStatusCode() == 204) {
+                        EntityEvents.deleted(categoryId);
+                    }
+                    return response;
+                });
+    }
+
+    /**
+     * Get all categories for a journey.
+     * GET /api/v1/categories/journey/{journeyId}
+     * @param journeyId Unique identifier of the journey
+     * @return Future of the response with list of categories
+     */
+    public CompletableFuture<ApiResponse> getCategoriesByJourney(String journeyId) {
+        return ApiRequest.get(BASE_PATH + "/journey/{journeyId}")
+                .pathParam("journeyId", journeyId)
+                .send();
+    }
+}
@@ -2,6 +2,7 @@ package client;
 
 import config.*;
 import io.restassured.response.*;
+import registry.*;
 
 import static io.restassured.RestAssured.*;
 
@@ -19,11 +20,13 @@ public class CategoryClient {
      * @return Response with created category
      */
     public Response createCategory(Object requestBody) {
-        return given()
+        Response response = given()
                 .spec(RequestSpecFactory.getAdminRequestSpec())
                 .body(requestBody)
                 .when()
                 .post(BASE_PATH);
+        EntityEvents.created(EntityType.CATEGORY, response, requestBody, null);
+        return response;
     }
 
     /**
@@ -34,12 +37,14 @@ public class CategoryClient {
      * @return Response with created category
      */
     public Response createCategory(String journeySlug, Object requestBody) {
-        return given()
+        Response response = given()
                 .spec(RequestSpecFactory.getAdminRequestSpec())
                 .pathParam("journeySlug", journeySlug)
                 .body(requestBody)
                 .when()
                 .post(BASE_PATH + "/{journeySlug}");
+        EntityEvents.created(EntityType.CATEGORY, response, requestBody, journeySlug);
+        return response;
     }
 
     /**
@@ -79,11 +84,15 @@ public class CategoryClient {
      * @return Response
      */
     public Response deleteCategory(String categoryId) {
-        return given()
+        Response response = given()
                 .spec(RequestSpecFactory.getAdminRequestSpec())
                 .pathParam("categoryId", categoryId)
                 .when()
                 .delete(BASE_PATH + "/{categoryId}");
+        if (response.getStatusCode() == 200 || response.getStatusCode() == 204) {
+            EntityEvents.deleted(categoryId);
+        }
+        return response;
     }
 
     /**
@@ -0,0 +1,159 @@
+package client;
+
+import async.*;
+import registry.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link ChapterClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class ChapterAsyncClient {
+    private static final String BASE_PATH = "/api/v1/chapters";
+
+    /**
+     * Get chapter by ID.
+     * GET /api/v1/chapters/{chapterId}
+     * @param chapterId Unique identifier of the chapter
+     * @return Future of the response with chapter details
+     */
+    public CompletableFuture<ApiResponse> getChapterById(String chapterId) {
+        return ApiRequest.get(BASE_PATH + "/{chapterId}")
+                .pathParam("chapterId", chapterId)
+                .send();
+    }
+
+    /**
+     * Create a new chapter.
+     * POST /api/v1/chapters
+     * @param requestBody Chapter creation request
+     * @return Future of the response with created chapter
+     */
+    public CompletableFuture<ApiResponse> createChapter(String stageSlug,Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/{stageSlug}")
+                .pathParam("stageSlug", stageSlug)
+                .body(requestBody)
+                .send()
+                .thenApply(response -> {
+                    EntityEvents.created(EntityType.CHAPTER, response, requestBody, stageSlug);
+                    return response;
+                });
+    }
+
+    /**
+     * Update chapter.
+     * PUT /api/v1/chapters/{chapterId}
+     * @param chapterId Unique identifier of the chapter
+     * @param requestBody Chapter update request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateChapter(String chapterId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{chapterId}")
+                .pathParam("chapterId", chapterId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Delete chapter.
+     * DELETE /api/v1/chapters/{chapterId}
+     * @param chapterId Unique identifier of the chapter
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> deleteChapter(String chapterId) {
+        return ApiRequest.delete(BASE_PATH + "/{chapterId}")
+                .pathParam("chapterId", chapterId)
+                .send()
+                .thenApply(response -> {
+                    if (response.getStatusCode() == 200 || response.getStatusCode() == 204) {
+                        EntityEvents.deleted(chapterId);
+                    }
+                    return response;
+                });
+    }
+
+    /**
+     * Delete chapter by ID (from delete endpoint).
+     * DELETE /api/v1/chapters/delete/{chapterId}
+     * @param chapterId Unique identifier of the chapter
+     * @return Future of the response (204 No Content on success)
+     */
+    public CompletableFuture<ApiResponse> deleteChapterById(String chapterId) {
+        return ApiRequest.delete(BASE_PATH + "/delete/{chapterId}")
+                .pathParam("chapterId", chapterId)
+                .send()
+                .thenApply(response -> {
+                    if (response.getStatusCode() == 200 || response.getStatusCode() == 204) {
+                        EntityEvents.deleted(chapterId);
+                    }
+                    return response;
+                });
+    }
+
+    /**
+     * Get chapters for a stage.
+     * GET /api/v1/chapters/stage/{stageId}
+     * @param stageId Unique identifier of the stage
+     * @return Future of the response with list of chapters
+     */
+    public CompletableFuture<ApiResponse> getChaptersByStage(String stageId) {
+        return ApiRequest.get(BASE_PATH + "/stage/{stageId}")
+                .pathParam("stageId", stageId)
+                .send();
+    }
+
+    /**
+     * Update chapter tags.
+     * PUT /api/v1/chapters/{chapterId}/tags
+     * @param chapterId Unique identifier of the chapter
+     * @param requestBody Tags request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateChapterTags(String chapterId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{chapterId}/tags")
+                .pathParam("chapterId", chapterId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Create/Add tags to a chapter.
+     * POST /api/v1/chapters/{chapterId}/tags
+     * @param chapterId Unique identifier of the chapter
+     * @param requestBody TagRequest with name and categoryId
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> createChapterTag(String chapterId, Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/{chapterId}/tags")
+                .pathParam("chapterId", chapterId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Get list of tags for a chapter.
+     * GET /api/v1/chapters/{chapterId}/tags-list
+     * @param chapterId Unique identifier of the chapter
+     * @return Future of the response with tag list
+     */
+    public CompletableFuture<ApiResponse> getChapterTags(String chapterId) {
+        return ApiRequest.get(BASE_PATH + "/{chapterId}/tags-list")
+                .pathParam("chapterId", chapterId)
+                .send();
+    }
+
+    /**
+     * Remove chapter tags.
+     * DELETE /api/v1/chapters/{chapterId}/tags
+     * @param chapterId Unique identifier of the chapter
+     * @param requestBody Tags request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> removeChapterTags(String chapterId, Object requestBody) {
+        return ApiRequest.delete(BASE_PATH + "/{chapterId}/tags")
+                .pathParam("chapterId", chapterId)
+                .body(requestBody)
+                .send();
+    }
+}
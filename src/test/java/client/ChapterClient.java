@@ -2,6 +2,7 @@ package client;
 
 import config.*;
 import io.restassured.response.*;
+import registry.*;
 
 import static io.restassured.RestAssured.*;
 
@@ -33,12 +34,14 @@ public class ChapterClient {
      * @return Response with created chapter
      */
     public Response createChapter(String stageSlug,Object requestBody) {
-        return given()
+        Response response = given()
                 .spec(RequestSpecFactory.getAdminRequestSpec())
                 .pathParam("stageSlug", stageSlug)
                 .body(requestBody)
                 .when()
                 .post(BASE_PATH + "/{stageSlug}");
+        EntityEvents.created(EntityType.CHAPTER, response, requestBody, stageSlug);
+        return response;
     }
 
     /**
@@ -64,11 +67,15 @@ public class ChapterClient {
      * @return Response
      */
     public Response deleteChapter(String chapterId) {
-        return given()
+        Response response = given()
                 .spec(RequestSpecFactory.getAdminRequestSpec())
                 .pathParam("chapterId", chapterId)
                 .when()
                 .delete(BASE_PATH + "/{chapterId}");
+        if (response.getStatusCode() == 200 || response.getStatusCode() == 204) {
+            EntityEvents.deleted(chapterId);
+        }
+        return response;
     }
 
     /**
@@ -78,11 +85,15 @@ public class ChapterClient {
      * @return Response (204 No Content on success)
      */
     public Response deleteChapterById(String chapterId) {
-        return given()
+        Response response = given()
                 .spec(RequestSpecFactory.getAdminRequestSpec())
                 .pathParam("chapterId", chapterId)
                 .when()
                 .delete(BASE_PATH + "/delete/{chapterId}");
+        if (response.getStatusCode() == 200 || response.getStatusCode() == 204) {
+            EntityEvents.deleted(chapterId);
+        }
+        return response;
     }
 
     /**
@@ -0,0 +1,25 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link ChapterSettingsClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class ChapterSettingsAsyncClient {
+    private static final String BASE_PATH = "/api/v1/chapters/settings";
+
+    /**
+     * Get chapter settings by chapter ID.
+     * GET /api/v1/chapters/settings/{chapterId}
+     * @param chapterId Unique identifier of the chapter
+     * @return Future of the response with chapter settings
+     */
+    public CompletableFuture<ApiResponse> getChapterSettings(String chapterId) {
+        return ApiRequest.get(BASE_PATH + "/{chapterId}")
+                .pathParam("chapterId", chapterId)
+                .send();
+    }
+}
@@ -0,0 +1,35 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link ChecklistClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class ChecklistAsyncClient {
+    private static final String BASE_PATH = "/api/v1/checklists";
+
+    /**
+     * Get user checklist.
+     * GET /api/v1/checklists
+     * @return Future of the response with user checklist
+     */
+    public CompletableFuture<ApiResponse> getChecklist() {
+        return ApiRequest.get(BASE_PATH)
+                .send();
+    }
+
+    /**
+     * Update user checklist.
+     * POST /api/v1/checklists
+     * @param requestBody UpdateChecklistRequest object
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateChecklist(Object requestBody) {
+        return ApiRequest.post(BASE_PATH)
+                .body(requestBody)
+                .send();
+    }
+}
@@ -0,0 +1,92 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link ContentMapClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class ContentMapAsyncClient {
+    private static final String BASE_PATH = "/api/v1/content-maps";
+
+    /**
+     * Search content maps.
+     * GET /api/v1/content-maps
+     * @param searchTerm Search term for courseId, languageCode, or courseName
+     * @param migrated Filter by migration status
+     * @param page Page number
+     * @param size Page size
+     * @return Future of the response with paginated content maps
+     */
+    public CompletableFuture<ApiResponse> searchContentMaps(String searchTerm, Boolean migrated, int page, int size) {
+        return ApiRequest.get(BASE_PATH)
+                .queryParam("searchTerm", searchTerm)
+                .queryParam("migrated", migrated)
+                .queryParam("page", page)
+                .queryParam("size", size)
+                .send();
+    }
+
+    /**
+     * Search content maps with search term only.
+     * @param searchTerm Search term
+     * @return Future of the response with content maps
+     */
+    public CompletableFuture<ApiResponse> searchContentMaps(String searchTerm) {
+        return ApiRequest.get(BASE_PATH)
+                .queryParam("searchTerm", searchTerm)
+                .send();
+    }
+
+    /**
+     * Create content map.
+     * POST /api/v1/content-maps
+     * @param requestBody Content map creation request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> createContentMap(Object requestBody) {
+        return ApiRequest.post(BASE_PATH)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Get content map by ID.
+     * GET /api/v1/content-maps/{id}
+     * @param contentMapId Unique identifier of the content map
+     * @return Future of the response with content map details
+     */
+    public CompletableFuture<ApiResponse> getContentMapById(String contentMapId) {
+        return ApiRequest.get(BASE_PATH + "/{id}")
+                .pathParam("id", contentMapId)
+                .send();
+    }
+
+    /**
+     * Update content map.
+     * PUT /api/v1/content-maps/{id}
+     * @param contentMapId Unique identifier of the content map
+     * @param requestBody Content map update request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateContentMap(String contentMapId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{id}")
+                .pathParam("id", contentMapId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Delete content map.
+     * DELETE /api/v1/content-maps/{id}
+     * @param contentMapId Unique identifier of the content map
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> deleteContentMap(String contentMapId) {
+        return ApiRequest.delete(BASE_PATH + "/{id}")
+                .pathParam("id", contentMapId)
+                .send();
+    }
+}
@@ -2,6 +2,7 @@ package client;
 
 import config.*;
 import io.restassured.response.*;
+import pagination.*;
 
 import static io.restassured.RestAssured.*;
 
@@ -32,6 +33,17 @@ public class ContentMapClient {
                 .get(BASE_PATH);
     }
 
+    /**
+     * Iterate all matching content maps across pages.
+     * @param searchTerm Search term for courseId, languageCode, or courseName
+     * @param migrated Filter by migration status
+     * @param size Page size
+     * @return Lazy view over all elements
+     */
+    public PagedResults searchContentMapsPaged(String searchTerm, Boolean migrated, int size) {
+        return PagedResults.builder(page -> searchContentMaps(searchTerm, migrated, page, size)).build();
+    }
+
     /**
      * Search content maps with search term only.
      * @param searchTerm Search term
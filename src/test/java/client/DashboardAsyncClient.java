@@ -0,0 +1,101 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link DashboardClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class DashboardAsyncClient {
+    private static final String BASE_PATH = "/api/v1/dashboard";
+
+    /**
+     * Get user statistics for dashboard.
+     * GET /api/v1/dashboard/users
+     * @param page Page number
+     * @param size Page size
+     * @return Future of the response with paginated user statistics
+     */
+    public CompletableFuture<ApiResponse> getUserStats(int page, int size) {
+        return ApiRequest.get(BASE_PATH + "/users")
+                .queryParam("page", page)
+                .queryParam("size", size)
+                .send();
+    }
+
+    /**
+     * Get user statistics with default pagination.
+     * @return Future of the response with user statistics
+     */
+    public CompletableFuture<ApiResponse> getUserStats() {
+        return getUserStats(0, 100);
+    }
+
+    /**
+     * Get stage statistics for dashboard.
+     * GET /api/v1/dashboard/stages
+     * @param page Page number
+     * @param size Page size
+     * @return Future of the response with paginated stage statistics
+     */
+    public CompletableFuture<ApiResponse> getStageStats(int page, int size) {
+        return ApiRequest.get(BASE_PATH + "/stages")
+                .queryParam("page", page)
+                .queryParam("size", size)
+                .send();
+    }
+
+    /**
+     * Get stage statistics with default pagination.
+     * @return Future of the response with stage statistics
+     */
+    public CompletableFuture<ApiResponse> getStageStats() {
+        return getStageStats(0, 100);
+    }
+
+    /**
+     * Get journey statistics for dashboard.
+     * GET /api/v1/dashboard/journeys
+     * @param page Page number
+     * @param size Page size
+     * @return Future of the response with paginated journey statistics
+     */
+    public CompletableFuture<ApiResponse> getJourneyStats(int page, int size) {
+        return ApiRequest.get(BASE_PATH + "/journeys")
+                .queryParam("page", page)
+                .queryParam("size", size)
+                .send();
+    }
+
+    /**
+     * Get journey statistics with default pagination.
+     * @return Future of the response with journey statistics
+     */
+    public CompletableFuture<ApiResponse> getJourneyStats() {
+        return getJourneyStats(0, 100);
+    }
+
+    /**
+     * Get journey statistics by journey ID.
+     * GET /api/v1/dashboard/journeys/{journeyId}
+     * @param journeyId Unique identifier of the journey
+     * @return Future of the response with journey statistics
+     */
+    public CompletableFuture<ApiResponse> getJourneyStatsById(String journeyId) {
+        return ApiRequest.get(BASE_PATH + "/journeys/{journeyId}")
+                .pathParam("journeyId", journeyId)
+                .send();
+    }
+
+    /**
+     * Get overall dashboard summary.
+     * GET /api/v1/dashboard/summary
+     * @return Future of the response with dashboard summary
+     */
+    public CompletableFuture<ApiResponse> getDashboardSummary() {
+        return ApiRequest.get(BASE_PATH + "/summary")
+                .send();
+    }
+}
@@ -2,6 +2,7 @@ package client;
 
 import config.*;
 import io.restassured.response.*;
+import pagination.*;
 
 import static io.restassured.RestAssured.*;
 
@@ -28,6 +29,15 @@ public class DashboardClient {
                 .get(BASE_PATH + "/users");
     }
 
+    /**
+     * Iterate all user statistics across pages.
+     * @param size Page size
+     * @return Lazy view over all elements
+     */
+    public PagedResults getUserStatsPaged(int size) {
+        return PagedResults.builder(page -> getUserStats(page, size)).build();
+    }
+
     /**
      * Get user statistics with default pagination.
      * @return Response with user statistics
@@ -52,6 +62,15 @@ public class DashboardClient {
                 .get(BASE_PATH + "/stages");
     }
 
+    /**
+     * Iterate all stage statistics across pages.
+     * @param size Page size
+     * @return Lazy view over all elements
+     */
+    public PagedResults getStageStatsPaged(int size) {
+        return PagedResults.builder(page -> getStageStats(page, size)).build();
+    }
+
     /**
      * Get stage statistics with default pagination.
      * @return Response with stage statistics
@@ -76,6 +95,15 @@ public class DashboardClient {
                 .get(BASE_PATH + "/journeys");
     }
 
+    /**
+     * Iterate all journey statistics across pages.
+     * @param size Page size
+     * @return Lazy view over all elements
+     */
+    public PagedResults getJourneyStatsPaged(int size) {
+        return PagedResults.builder(page -> getJourneyStats(page, size)).build();
+    }
+
     /**
      * Get journey statistics with default pagination.
      * @return Response with journey statistics
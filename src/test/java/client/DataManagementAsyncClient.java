@@ -0,0 +1,85 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link DataManagementClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class DataManagementAsyncClient {
+    private static final String BASE_PATH = "/api/v1/data";
+
+    /**
+     * Create a data record.
+     * POST /api/v1/data
+     * @param requestBody Data creation request object
+     * @return Future of the response with created data record
+     */
+    public CompletableFuture<ApiResponse> createDataRecord(Object requestBody) {
+        return ApiRequest.post(BASE_PATH)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Update a data record.
+     * PUT /api/v1/data/{recordId}
+     * @param recordId Unique identifier of the data record
+     * @param requestBody Data update request object
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateDataRecord(String recordId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{recordId}")
+                .pathParam("recordId", recordId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Delete a data record.
+     * DELETE /api/v1/data/{recordId}
+     * @param recordId Unique identifier of the data record
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> deleteDataRecord(String recordId) {
+        return ApiRequest.delete(BASE_PATH + "/{recordId}")
+                .pathParam("recordId", recordId)
+                .send();
+    }
+
+    /**
+     * Get a data record by ID.
+     * GET /api/v1/data/{recordId}
+     * @param recordId Unique identifier of the data record
+     * @return Future of the response with data record details
+     */
+    public CompletableFuture<ApiResponse> getDataRecordById(String recordId) {
+        return ApiRequest.get(BASE_PATH + "/{recordId}")
+                .pathParam("recordId", recordId)
+                .send();
+    }
+
+    /**
+     * Get all data records with pagination.
+     * GET /api/v1/data
+     * @param page Page number
+     * @param size Page size
+     * @return Future of the response with paginated data records
+     */
+    public CompletableFuture<ApiResponse> getAllDataRecords(int page, int size) {
+        return ApiRequest.get(BASE_PATH)
+                .queryParam("page", page)
+                .queryParam("size", size)
+                .send();
+    }
+
+    /**
+     * Get all data records with default pagination.
+     * @return Future of the response with paginated data records
+     */
+    public CompletableFuture<ApiResponse> getAllDataRecords() {
+        return getAllDataRecords(0, 20);
+    }
+}
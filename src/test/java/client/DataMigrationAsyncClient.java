@@ -0,0 +1,71 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link DataMigrationClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class DataMigrationAsyncClient {
+    private static final String BASE_PATH = "/api/v1/migration";
+
+    /**
+     * Migrate legacy data.
+     * POST /api/v1/migration/legacy
+     * @param requestBody Legacy data migration request
+     * @return Future of the response with migration status
+     */
+    public CompletableFuture<ApiResponse> migrateLegacyData(Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/legacy")
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Migrate course content.
+     * POST /api/v1/migration/courses
+     * @param requestBody Course migration request
+     * @return Future of the response with migration status
+     */
+    public CompletableFuture<ApiResponse> migrateCourseContent(Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/courses")
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Get migration status.
+     * GET /api/v1/migration/status/{migrationId}
+     * @param migrationId Unique identifier of the migration
+     * @return Future of the response with migration status
+     */
+    public CompletableFuture<ApiResponse> getMigrationStatus(String migrationId) {
+        return ApiRequest.get(BASE_PATH + "/status/{migrationId}")
+                .pathParam("migrationId", migrationId)
+                .send();
+    }
+
+    /**
+     * Get content map.
+     * GET /api/v1/migration/content-map
+     * @return Future of the response with content map
+     */
+    public CompletableFuture<ApiResponse> getContentMap() {
+        return ApiRequest.get(BASE_PATH + "/content-map")
+                .send();
+    }
+
+    /**
+     * Get content map by course ID.
+     * GET /api/v1/migration/content-map/{courseId}
+     * @param courseId Course identifier
+     * @return Future of the response with content map for course
+     */
+    public CompletableFuture<ApiResponse> getContentMapByCourse(String courseId) {
+        return ApiRequest.get(BASE_PATH + "/content-map/{courseId}")
+                .pathParam("courseId", courseId)
+                .send();
+    }
+}
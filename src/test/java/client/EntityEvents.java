@@ -0,0 +1,113 @@
+package client;
+
+import async.*;
+import com.fasterxml.jackson.databind.*;
+import io.restassured.response.*;
+import org.slf4j.*;
+import registry.*;
+import utils.*;
+
+/**
+ * Publishes the entities created and deleted through the clients to the {@link EntityRegistry}, and
+ * lets the registry resolve missing ids with the clients' list calls.
+ * Unsuccessful or unparseable create responses are not published.
+ */
+public class EntityEvents {
+    private static final Logger logger = LoggerFactory.getLogger(EntityEvents.class);
+
+    static {
+        install();
+    }
+
+    /**
+     * Set the client-backed lookup on the registry. Creating an entity through a client does this as well.
+     */
+    public static void install() {
+        EntityRegistry.setLookup(EntityEvents::list);
+    }
+
+    /**
+     * Publish an entity created through a synchronous client.
+     * @see EntityRegistry#recordCreated(EntityType, JsonNode, Object, String)
+     */
+    public static EntityRecord created(EntityType type, Response response, Object requestBody, String parentSlug) {
+        if (requestBody instanceof byte[]) {
+            return null;
+        }
+        JsonNode body = createdBody(type, response);
+        return body != null ? EntityRegistry.recordCreated(type, body, requestBody, parentSlug) : null;
+    }
+
+    /**
+     * Publish an entity created through an async client.
+     * @see EntityRegistry#recordCreated(EntityType, JsonNode, Object, String)
+     */
+    public static EntityRecord created(EntityType type, ApiResponse response, Object requestBody, String parentSlug) {
+        if (requestBody instanceof byte[] || !isCreated(response.getStatusCode())) {
+            return null;
+        }
+        try {
+            return EntityRegistry.recordCreated(type, response.tree(), requestBody, parentSlug);
+        } catch (RuntimeException e) {
+            logger.debug("Not recording {}: {}", type, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Publish an entity whose title and parent the caller knows, e.g. one created from a rendered payload.
+     * @see EntityRegistry#recordCreated(EntityType, String, String, JsonNode)
+     */
+    public static EntityRecord created(EntityType type, String title, String parentSlug, Response response) {
+        JsonNode body = createdBody(type, response);
+        return body != null ? EntityRegistry.recordCreated(type, title, parentSlug, body) : null;
+    }
+
+    /**
+     * Publish a deleted entity.
+     */
+    public static void deleted(String id) {
+        EntityRegistry.forget(id);
+    }
+
+    private static JsonNode createdBody(EntityType type, Response response) {
+        if (!isCreated(response.getStatusCode())) {
+            return null;
+        }
+        try {
+            return ParsedResponse.of(response).tree();
+        } catch (RuntimeException e) {
+            logger.debug("Not recording {}: {}", type, e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean isCreated(int status) {
+        return status == 200 || status == 201;
+    }
+
+    private static JsonNode list(EntityType type, String key) {
+        Response response;
+        switch (type) {
+            case JOURNEY:
+                response = new JourneyClient().getAllJourneys(0, 10, "", "", key);
+                break;
+            case STAGE:
+                response = new StageClient().getAllStages(key);
+                break;
+            case CHAPTER:
+                response = new ChapterClient().getChaptersByStage(key);
+                break;
+            case PAGE:
+                response = new PageClient().getAllPagesInChapter(key);
+                break;
+            default:
+                throw new IllegalStateException(type + " ids are only known from the create response");
+        }
+        if (response.getStatusCode() != 200) {
+            logger.warn("Id lookup returned {}", response.getStatusCode());
+            return null;
+        }
+        return ParsedResponse.of(response).tree();
+    }
+}
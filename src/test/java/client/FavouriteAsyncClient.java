@@ -0,0 +1,69 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link FavouriteClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class FavouriteAsyncClient {
+    private static final String BASE_PATH = "/api/v1/favourites";
+
+    /**
+     * Get user's favourite pages.
+     * GET /api/v1/favourites
+     * @return Future of the response with favourite pages list
+     */
+    public CompletableFuture<ApiResponse> getFavourites() {
+        return ApiRequest.get(BASE_PATH)
+                .send();
+    }
+
+    /**
+     * Add page to favourites.
+     * POST /api/v1/favourites/page/{pageId}
+     * @param pageId Unique identifier of the page
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> addToFavourites(String pageId) {
+        return ApiRequest.post(BASE_PATH + "/page/{pageId}")
+                .pathParam("pageId", pageId)
+                .send();
+    }
+
+    /**
+     * Remove page from favourites.
+     * DELETE /api/v1/favourites/page/{pageId}
+     * @param pageId Unique identifier of the page
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> removeFromFavourites(String pageId) {
+        return ApiRequest.delete(BASE_PATH + "/page/{pageId}")
+                .pathParam("pageId", pageId)
+                .send();
+    }
+
+    /**
+     * Check if page is in favourites.
+     * GET /api/v1/favourites/page/{pageId}/status
+     * @param pageId Unique identifier of the page
+     * @return Future of the response with favourite status
+     */
+    public CompletableFuture<ApiResponse> isFavourite(String pageId) {
+        return ApiRequest.get(BASE_PATH + "/page/{pageId}/status")
+                .pathParam("pageId", pageId)
+                .send();
+    }
+
+    /**
+     * Clear all favourites.
+     * DELETE /api/v1/favourites
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> clearAllFavourites() {
+        return ApiRequest.delete(BASE_PATH)
+                .send();
+    }
+}
@@ -0,0 +1,202 @@
+package client;
+
+import async.*;
+import registry.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link JourneyClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class JourneyAsyncClient {
+    private static final String BASE_PATH = "/api/v1";
+
+    /**
+     * Get all journeys.
+     * GET /api/v1/journeys
+     * @return Future of the response with paginated list of journeys
+     */
+    public CompletableFuture<ApiResponse> getAllJourneys() {
+        return ApiRequest.get(BASE_PATH + "/journeys")
+                .send();
+    }
+
+    public CompletableFuture<ApiResponse> getAllJourneys(int page, int size, String search) {
+        return ApiRequest.get(BASE_PATH + "/journeys")
+                .queryParam("page", page)
+                .queryParam("size", size)
+                .queryParam("search", search)
+                .send();
+    }
+
+    /**
+     * Get all journeys with filters.
+     * GET /api/v1/journeys
+     * @param page Page number
+     * @param size Page size
+     * @param search Search term
+     * @param status Status filter
+     * @param slug Slug filter
+     * @return Future of the response with paginated list of journeys
+     */
+    public CompletableFuture<ApiResponse> getAllJourneys(int page, int size, String search, String status, String slug) {
+        return ApiRequest.get(BASE_PATH + "/journeys")
+                .queryParam("page", page)
+                .queryParam("size", size)
+                .queryParam("search", search)
+                .queryParam("status", status)
+                .queryParam("slug", slug)
+                .send();
+    }
+
+    /**
+     * Create a new journey.
+     * POST /api/v1/journeys
+     * @param requestBody Journey creation request
+     * @return Future of the response with generic message containing journey slug
+     */
+    public CompletableFuture<ApiResponse> createJourney(Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/journeys")
+                .body(requestBody)
+                .send()
+                .thenApply(response -> {
+                    EntityEvents.created(EntityType.JOURNEY, response, requestBody, null);
+                    return response;
+                });
+    }
+
+    /**
+     * Get journey by ID.
+     * GET /api/v1/journey/{journeyId}
+     * @param journeyId Unique identifier of the journey
+     * @return Future of the response with journey details
+     */
+    public CompletableFuture<ApiResponse> getJourneyById(String journeyId) {
+        return ApiRequest.get(BASE_PATH + "/journey/{journeyId}")
+                .pathParam("journeyId", journeyId)
+                .send();
+    }
+
+    /**
+     * Update journey.
+     * PUT /api/v1/journey/{journeyId}
+     * @param journeyId Unique identifier of the journey
+     * @param requestBody Journey update request object
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateJourney(String journeyId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/journeys/{journeyId}")
+                .pathParam("journeyId", journeyId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Get journey settings.
+     * GET /api/v1/journey/{journeyId}/settings
+     * @param journeyId Unique identifier of the journey
+     * @return Future of the response with journey settings
+     */
+    public CompletableFuture<ApiResponse> getJourneySettings(String journeyId) {
+        return ApiRequest.get(BASE_PATH + "/journey/{journeyId}/settings")
+                .pathParam("journeyId", journeyId)
+                .send();
+    }
+
+    /**
+     * Generate preview token for journey.
+     * GET /api/v1/preview/{journeyId}
+     * @param journeyId Unique identifier of the journey
+     * @return Future of the response with preview token
+     */
+    public CompletableFuture<ApiResponse> generatePreviewToken(String journeyId) {
+        return ApiRequest.get(BASE_PATH + "/preview/{journeyId}")
+                .pathParam("journeyId", journeyId)
+                .send();
+    }
+
+    /**
+     * Archive a journey.
+     * PATCH /api/v1/journeys/archive
+     * @param requestBody Archive request with journeyId and status
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> archiveJourney(Object requestBody) {
+        return ApiRequest.patch(BASE_PATH + "/journeys/archive")
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Delete a journey by ID.
+     * DELETE /api/v1/journeys/delete/{journeyId}
+     * @param journeyId Unique identifier of the journey to delete
+     * @return Future of the response (204 No Content on success)
+     */
+    public CompletableFuture<ApiResponse> deleteJourney(String journeyId) {
+        return ApiRequest.delete(BASE_PATH + "/journeys/delete/{journeyId}")
+                .pathParam("journeyId", journeyId)
+                .send()
+                .thenApply(response -> {
+                    if (response.getStatusCode() == 200 || response.getStatusCode() == 204) {
+                        EntityEvents.deleted(journeyId);
+                    }
+                    return response;
+                });
+    }
+
+    /**
+     * Create/Add a tag to a journey.
+     * POST /api/v1/journeys/{journeyId}/tags
+     * @param journeyId Unique identifier of the journey
+     * @param requestBody TagRequest with name and categoryId
+     * @return Future of the response with generic message (201 Created)
+     */
+    public CompletableFuture<ApiResponse> createJourneyTag(String journeyId, Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/journeys/{journeyId}/tags")
+                .pathParam("journeyId", journeyId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Get list of tags for a journey.
+     * GET /api/v1/journeys/{journeyId}/tags-list
+     * @param journeyId Unique identifier of the journey
+     * @return Future of the response with tag list
+     */
+    public CompletableFuture<ApiResponse> getJourneyTags(String journeyId) {
+        return ApiRequest.get(BASE_PATH + "/journeys/{journeyId}/tags-list")
+                .pathParam("journeyId", journeyId)
+                .send();
+    }
+
+    /**
+     * Update a journey tag name.
+     * PATCH /api/v1/journeys/{journeyId}/tags
+     * @param journeyId Unique identifier of the journey
+     * @param requestBody TagUpdateRequest with tagId and new name
+     * @return Future of the response with generic message (201 Created)
+     */
+    public CompletableFuture<ApiResponse> updateJourneyTag(String journeyId, Object requestBody) {
+        return ApiRequest.patch(BASE_PATH + "/journeys/{journeyId}/tags")
+                .pathParam("journeyId", journeyId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Remove tag(s) from a journey.
+     * DELETE /api/v1/journeys/{journeyId}/tags
+     * @param journeyId Unique identifier of the journey
+     * @param requestBody StoryTagRequest with tagIds array
+     * @return Future of the response with generic message (200 OK)
+     */
+    public CompletableFuture<ApiResponse> removeJourneyTag(String journeyId, Object requestBody) {
+        return ApiRequest.delete(BASE_PATH + "/journeys/{journeyId}/tags")
+                .pathParam("journeyId", journeyId)
+                .body(requestBody)
+                .send();
+    }
+}
@@ -2,6 +2,8 @@ package client;
 
 import config.*;
 import io.restassured.response.*;
+import pagination.*;
+import registry.*;
 
 import static io.restassured.RestAssured.*;
 
@@ -56,6 +58,18 @@ public class JourneyClient {
                 .get(BASE_PATH + "/journeys");
     }
 
+    /**
+     * Iterate all journeys across pages.
+     * @param size Page size
+     * @param search Search term
+     * @param status Status filter
+     * @param slug Slug filter
+     * @return Lazy view over all elements
+     */
+    public PagedResults getAllJourneysPaged(int size, String search, String status, String slug) {
+        return PagedResults.builder(page -> getAllJourneys(page, size, search, status, slug)).build();
+    }
+
     /**
      * Create a new journey.
      * POST /api/v1/journeys
@@ -63,11 +77,13 @@ public class JourneyClient {
      * @return Response with generic message containing journey slug
      */
     public Response createJourney(Object requestBody) {
-        return given()
+        Response response = given()
                 .spec(RequestSpecFactory.getAdminRequestSpec())
                 .body(requestBody)
                 .when()
                 .post(BASE_PATH + "/journeys");
+        EntityEvents.created(EntityType.JOURNEY, response, requestBody, null);
+        return response;
     }
 
     /**
@@ -149,11 +165,15 @@ public class JourneyClient {
      * @return Response (204 No Content on success)
      */
     public Response deleteJourney(String journeyId) {
-        return given()
+        Response response = given()
                 .spec(RequestSpecFactory.getAdminRequestSpec())
                 .pathParam("journeyId", journeyId)
                 .when()
                 .delete(BASE_PATH + "/journeys/delete/{journeyId}");
+        if (response.getStatusCode() == 200 || response.getStatusCode() == 204) {
+            EntityEvents.deleted(journeyId);
+        }
+        return response;
     }
 
     // ===================== JOURNEY TAGS OPERATIONS =====================
@@ -0,0 +1,61 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link JourneyPreviewClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class JourneyPreviewAsyncClient {
+    private static final String BASE_PATH = "/api/v1/preview";
+
+    /**
+     * Get journey preview token.
+     * GET /api/v1/preview/{journeyId}
+     * @param journeyId Unique identifier of the journey
+     * @return Future of the response with preview token
+     */
+    public CompletableFuture<ApiResponse> getPreviewToken(String journeyId) {
+        return ApiRequest.get(BASE_PATH + "/{journeyId}")
+                .pathParam("journeyId", journeyId)
+                .send();
+    }
+
+    /**
+     * Validate preview token.
+     * POST /api/v1/preview/validate
+     * @param token Preview token to validate
+     * @return Future of the response with validation result
+     */
+    public CompletableFuture<ApiResponse> validatePreviewToken(String token) {
+        return ApiRequest.post(BASE_PATH + "/validate")
+                .queryParam("token", token)
+                .send();
+    }
+
+    /**
+     * Get journey by preview token.
+     * GET /api/v1/preview/journey
+     * @param token Preview token
+     * @return Future of the response with journey details
+     */
+    public CompletableFuture<ApiResponse> getJourneyByPreviewToken(String token) {
+        return ApiRequest.get(BASE_PATH + "/journey")
+                .queryParam("token", token)
+                .send();
+    }
+
+    /**
+     * Revoke preview token.
+     * DELETE /api/v1/preview/{journeyId}
+     * @param journeyId Unique identifier of the journey
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> revokePreviewToken(String journeyId) {
+        return ApiRequest.delete(BASE_PATH + "/{journeyId}")
+                .pathParam("journeyId", journeyId)
+                .send();
+    }
+}
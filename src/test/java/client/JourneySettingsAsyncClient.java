@@ -0,0 +1,68 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link JourneySettingsClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class JourneySettingsAsyncClient {
+    private static final String BASE_PATH = "/api/v1/journey";
+
+    /**
+     * Get journey settings.
+     * GET /api/v1/journey/{journeyId}/settings
+     * @param journeyId Unique identifier of the journey
+     * @return Future of the response with journey settings
+     */
+    public CompletableFuture<ApiResponse> getJourneySettings(String journeyId) {
+        return ApiRequest.get(BASE_PATH + "/{journeyId}/settings")
+                .pathParam("journeyId", journeyId)
+                .send();
+    }
+
+    /**
+     * Update journey settings.
+     * PUT /api/v1/journey/{journeyId}/settings
+     * @param journeyId Unique identifier of the journey
+     * @param requestBody Journey settings update request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateJourneySettings(String journeyId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{journeyId}/settings")
+                .withoutAuth()
+                .pathParam("journeyId", journeyId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Update journey welcome message.
+     * PUT /api/v1/journey/{journeyId}/welcome-message
+     * @param journeyId Unique identifier of the journey
+     * @param requestBody Welcome message request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateWelcomeMessage(String journeyId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{journeyId}/welcome-message")
+                .pathParam("journeyId", journeyId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Update journey language settings.
+     * PUT /api/v1/journey/{journeyId}/language
+     * @param journeyId Unique identifier of the journey
+     * @param requestBody Language settings request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateLanguageSettings(String journeyId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{journeyId}/language")
+                .pathParam("journeyId", journeyId)
+                .body(requestBody)
+                .send();
+    }
+}
@@ -0,0 +1,103 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link KnowledgeItemClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class KnowledgeItemAsyncClient {
+    private static final String BASE_PATH = "/api/v1/journeys";
+
+    /**
+     * Get knowledge items for a journey.
+     * GET /api/v1/journeys/{journeyId}/knowledge-items
+     * @param journeyId Unique identifier of the journey
+     * @return Future of the response with knowledge items list
+     */
+    public CompletableFuture<ApiResponse> getKnowledgeItems(String journeyId) {
+        return ApiRequest.get(BASE_PATH + "/{journeyId}/knowledge-items")
+                .pathParam("journeyId", journeyId)
+                .send();
+    }
+
+    /**
+     * Create knowledge item for a journey.
+     * POST /api/v1/journeys/{journeyId}/knowledge-items
+     * @param journeyId Unique identifier of the journey
+     * @param requestBody Knowledge item creation request
+     * @return Future of the response with created knowledge item
+     */
+    public CompletableFuture<ApiResponse> createKnowledgeItem(String journeyId, Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/{journeyId}/knowledge-items")
+                .pathParam("journeyId", journeyId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Update knowledge item.
+     * PUT /api/v1/journeys/{knowledgeItemId}/knowledge-items
+     * @param knowledgeItemId Unique identifier of the knowledge item
+     * @param requestBody Knowledge item update request
+     * @return Future of the response with updated knowledge item
+     */
+    public CompletableFuture<ApiResponse> updateKnowledgeItem(String knowledgeItemId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{knowledgeItemId}/knowledge-items")
+                .pathParam("knowledgeItemId", knowledgeItemId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Delete knowledge item.
+     * DELETE /api/v1/journeys/{knowledgeItemId}/knowledge-items
+     * @param knowledgeItemId Unique identifier of the knowledge item
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> deleteKnowledgeItem(String knowledgeItemId) {
+        return ApiRequest.delete(BASE_PATH + "/{knowledgeItemId}/knowledge-items")
+                .pathParam("knowledgeItemId", knowledgeItemId)
+                .send();
+    }
+
+    /**
+     * Update knowledge item content.
+     * PUT /api/v1/journeys/knowledge-items/{itemId}
+     * @param itemId Unique identifier of the knowledge item
+     * @param requestBody Knowledge item content request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateKnowledgeItemContent(String itemId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/knowledge-items/{itemId}")
+                .pathParam("itemId", itemId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Delete knowledge item content.
+     * DELETE /api/v1/journeys/knowledge-items/{itemId}
+     * @param itemId Unique identifier of the knowledge item
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> deleteKnowledgeItemContent(String itemId) {
+        return ApiRequest.delete(BASE_PATH + "/knowledge-items/{itemId}")
+                .pathParam("itemId", itemId)
+                .send();
+    }
+
+    /**
+     * Get knowledge item by ID.
+     * GET /api/v1/journeys/knowledge-items/{itemId}
+     * @param itemId Unique identifier of the knowledge item
+     * @return Future of the response with knowledge item details
+     */
+    public CompletableFuture<ApiResponse> getKnowledgeItemById(String itemId) {
+        return ApiRequest.get(BASE_PATH + "/knowledge-items/{itemId}")
+                .pathParam("itemId", itemId)
+                .send();
+    }
+}
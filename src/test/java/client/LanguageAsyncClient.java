@@ -0,0 +1,35 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link LanguageClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class LanguageAsyncClient {
+    private static final String BASE_PATH = "/api/v1/languages";
+
+    /**
+     * Get all supported languages.
+     * GET /api/v1/languages
+     * @return Future of the response with list of languages
+     */
+    public CompletableFuture<ApiResponse> getAllLanguages() {
+        return ApiRequest.get(BASE_PATH)
+                .send();
+    }
+
+    /**
+     * Get language by code.
+     * GET /api/v1/languages/{languageCode}
+     * @param languageCode Language code (e.g., en, de, fr)
+     * @return Future of the response with language details
+     */
+    public CompletableFuture<ApiResponse> getLanguageByCode(String languageCode) {
+        return ApiRequest.get(BASE_PATH + "/{languageCode}")
+                .pathParam("languageCode", languageCode)
+                .send();
+    }
+}
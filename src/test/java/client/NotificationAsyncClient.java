@@ -0,0 +1,35 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link NotificationClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class NotificationAsyncClient {
+    private static final String BASE_PATH = "/api/v1/user/settings";
+
+    /**
+     * Get notification settings for the authenticated user.
+     * GET /api/v1/user/settings/notification
+     * @return Future of the response with user notification settings
+     */
+    public CompletableFuture<ApiResponse> getNotificationSettings() {
+        return ApiRequest.get(BASE_PATH + "/notification")
+                .send();
+    }
+
+    /**
+     * Update notification settings for the authenticated user.
+     * PUT /api/v1/user/settings/notification
+     * @param requestBody UserNotificationSettingsRequest object
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateNotificationSettings(Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/notification")
+                .body(requestBody)
+                .send();
+    }
+}
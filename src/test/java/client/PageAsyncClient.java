@@ -0,0 +1,120 @@
+package client;
+
+import async.*;
+import registry.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link PageClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class PageAsyncClient {
+    private static final String BASE_PATH = "/api/v1/pages";
+
+    /**
+     * Create a new page.
+     * POST /api/v1/pages
+     * @param requestBody Page creation request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> createPage(Object requestBody) {
+        return ApiRequest.post(BASE_PATH)
+                .body(requestBody)
+                .send()
+                .thenApply(response -> {
+                    EntityEvents.created(EntityType.PAGE, response, requestBody, null);
+                    return response;
+                });
+    }
+
+    /**
+     * Get a page by slug.
+     * GET /api/v1/pages/{pageSlug}/view
+     * @param pageSlug Page slug identifier
+     * @param language Language code (optional, defaults to en-gb)
+     * @return Future of the response with page details
+     */
+    public CompletableFuture<ApiResponse> getPageBySlug(String pageSlug, String language) {
+        return ApiRequest.get(BASE_PATH + "/{pageSlug}/view")
+                .pathParam("pageSlug", pageSlug)
+                .queryParam("lang", language)
+                .send();
+    }
+
+    /**
+     * Get a page by slug with default language.
+     * @param pageSlug Page slug identifier
+     * @return Future of the response with page details
+     */
+    public CompletableFuture<ApiResponse> getPageBySlug(String pageSlug) {
+        return getPageBySlug(pageSlug, "en-gb");
+    }
+
+    /**
+     * Get all pages in a chapter.
+     * GET /api/v1/pages/{chapter_slug}
+     * @param chapterSlug Chapter slug identifier
+     * @param language Language code (optional, defaults to en-gb)
+     * @return Future of the response with list of pages
+     */
+    public CompletableFuture<ApiResponse> getAllPagesInChapter(String chapterSlug, String language) {
+        return ApiRequest.get(BASE_PATH + "/{chapter_slug}")
+                .pathParam("chapter_slug", chapterSlug)
+                .queryParam("lang", language)
+                .send();
+    }
+
+    /**
+     * Get all pages in a chapter with default language.
+     * @param chapterSlug Chapter slug identifier
+     * @return Future of the response with list of pages
+     */
+    public CompletableFuture<ApiResponse> getAllPagesInChapter(String chapterSlug) {
+        return getAllPagesInChapter(chapterSlug, "en-gb");
+    }
+
+    /**
+     * Update a page.
+     * PUT /api/v1/pages/{pageId}
+     * @param pageId Unique identifier of the page
+     * @param requestBody Page update request object
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updatePage(String pageId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{pageId}")
+                .pathParam("pageId", pageId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Get page by ID.
+     * GET /api/v1/pages/{pageId}
+     * @param pageId Unique identifier of the page
+     * @return Future of the response with page details
+     */
+    public CompletableFuture<ApiResponse> getPageById(String pageId) {
+        return ApiRequest.get(BASE_PATH + "/{pageId}")
+                .pathParam("pageId", pageId)
+                .send();
+    }
+
+    /**
+     * Delete a page by ID.
+     * DELETE /api/v1/pages/delete/{pageId}
+     * @param pageId Unique identifier of the page to delete
+     * @return Future of the response (204 No Content on success)
+     */
+    public CompletableFuture<ApiResponse> deletePage(String pageId) {
+        return ApiRequest.delete(BASE_PATH + "/delete/{pageId}")
+                .pathParam("pageId", pageId)
+                .send()
+                .thenApply(response -> {
+                    if (response.getStatusCode() == 200 || response.getStatusCode() == 204) {
+                        EntityEvents.deleted(pageId);
+                    }
+                    return response;
+                });
+    }
+}
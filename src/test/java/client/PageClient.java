@@ -2,6 +2,7 @@ package client;
 
 import config.*;
 import io.restassured.response.*;
+import registry.*;
 
 import static io.restassured.RestAssured.*;
 
@@ -19,11 +20,13 @@ public class PageClient {
      * @return Response with generic message
      */
     public Response createPage(Object requestBody) {
-        return given()
+        Response response = given()
                 .spec(RequestSpecFactory.getAdminRequestSpec())
                 .body(requestBody)
                 .when()
                 .post(BASE_PATH);
+        EntityEvents.created(EntityType.PAGE, response, requestBody, null);
+        return response;
     }
 
     /**
@@ -113,10 +116,14 @@ public class PageClient {
      * @return Response (204 No Content on success)
      */
     public Response deletePage(String pageId) {
-        return given()
+        Response response = given()
                 .spec(RequestSpecFactory.getAdminRequestSpec())
                 .pathParam("pageId", pageId)
                 .when()
                 .delete(BASE_PATH + "/delete/{pageId}");
+        if (response.getStatusCode() == 200 || response.getStatusCode() == 204) {
+            EntityEvents.deleted(pageId);
+        }
+        return response;
     }
 }
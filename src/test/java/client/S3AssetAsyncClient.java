@@ -0,0 +1,83 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link S3AssetClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class S3AssetAsyncClient {
+    private static final String BASE_PATH = "/api/v1/s3";
+
+    /**
+     * Get presigned URL for S3 asset.
+     * GET /api/v1/s3/presigned-url
+     * @param objectKey S3 object key
+     * @return Future of the response with presigned URL
+     */
+    public CompletableFuture<ApiResponse> getPresignedUrl(String objectKey) {
+        return ApiRequest.get(BASE_PATH + "/presigned-url")
+                .queryParam("objectKey", objectKey)
+                .send();
+    }
+
+    /**
+     * Get presigned upload URL.
+     * POST /api/v1/s3/presigned-upload
+     * @param requestBody Upload request with object key and metadata
+     * @return Future of the response with presigned upload URL
+     */
+    public CompletableFuture<ApiResponse> getPresignedUploadUrl(Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/presigned-upload")
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Get asset metadata.
+     * GET /api/v1/s3/metadata
+     * @param objectKey S3 object key
+     * @return Future of the response with asset metadata
+     */
+    public CompletableFuture<ApiResponse> getAssetMetadata(String objectKey) {
+        return ApiRequest.get(BASE_PATH + "/metadata")
+                .queryParam("objectKey", objectKey)
+                .send();
+    }
+
+    /**
+     * Delete S3 asset.
+     * DELETE /api/v1/s3/asset
+     * @param objectKey S3 object key
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> deleteS3Asset(String objectKey) {
+        return ApiRequest.delete(BASE_PATH + "/asset")
+                .queryParam("objectKey", objectKey)
+                .send();
+    }
+
+    /**
+     * List S3 assets.
+     * GET /api/v1/s3/assets
+     * @param prefix Object key prefix for filtering
+     * @return Future of the response with list of assets
+     */
+    public CompletableFuture<ApiResponse> listAssets(String prefix) {
+        return ApiRequest.get(BASE_PATH + "/assets")
+                .queryParam("prefix", prefix)
+                .send();
+    }
+
+    /**
+     * List all S3 assets.
+     * GET /api/v1/s3/assets
+     * @return Future of the response with list of assets
+     */
+    public CompletableFuture<ApiResponse> listAllAssets() {
+        return ApiRequest.get(BASE_PATH + "/assets")
+                .send();
+    }
+}
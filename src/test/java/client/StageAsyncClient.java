@@ -0,0 +1,156 @@
+package client;
+
+import async.*;
+import registry.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link StageClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class StageAsyncClient {
+    private static final String BASE_PATH = "/api/v1/stages";
+
+    /**
+     * Get all stages in a journey.
+     * GET /api/v1/stages/{journeySlug}
+     * @param journeySlug Journey slug identifier
+     * @return Future of the response with list of stages
+     */
+    public CompletableFuture<ApiResponse> getAllStages(String journeySlug) {
+        return ApiRequest.get(BASE_PATH + "/{journeySlug}")
+                .pathParam("journeySlug", journeySlug)
+                .send();
+    }
+
+    /**
+     * Get stage by ID.
+     * GET /api/v1/stages/{stageId}
+     * @param stageId Unique identifier of the stage
+     * @return Future of the response with stage details
+     */
+    public CompletableFuture<ApiResponse> getStageById(String stageId) {
+        return ApiRequest.get(BASE_PATH + "/{stageId}")
+                .pathParam("stageId", stageId)
+                .send();
+    }
+
+    /**
+     * Create a new stage.
+     * POST /api/v1/stages/{journeySlug}
+     * @param journeySlug Journey slug identifier
+     * @param requestBody StageChapterRequest object
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> createStage(String journeySlug, Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/{journeySlug}")
+                .pathParam("journeySlug", journeySlug)
+                .body(requestBody)
+                .send()
+                .thenApply(response -> {
+                    EntityEvents.created(EntityType.STAGE, response, requestBody, journeySlug);
+                    return response;
+                });
+    }
+
+    /**
+     * Update a stage.
+     * PUT /api/v1/stages/{stageId}
+     * @param stageId Unique identifier of the stage
+     * @param requestBody StageChapterRequest object
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateStage(String stageId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{stageId}")
+                .pathParam("stageId", stageId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Reorder stages in a journey.
+     * PUT /api/v1/stages/{journeySlug}/reorder
+     * @param journeySlug Journey slug identifier
+     * @param requestBody StoryReOrderRequest with list of stage IDs in desired order
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> reorderStages(String journeySlug, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{journeySlug}/reorder")
+                .pathParam("journeySlug", journeySlug)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Update stage tags.
+     * PUT /api/v1/stages/{stageId}/tags
+     * @param stageId Unique identifier of the stage
+     * @param requestBody StoryTagRequest with tag IDs
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateStageTags(String stageId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{stageId}/tags")
+                .pathParam("stageId", stageId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Create/Add tags to a stage.
+     * POST /api/v1/stages/{stageId}/tags
+     * @param stageId Unique identifier of the stage
+     * @param requestBody TagRequest with name and categoryId
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> createStageTag(String stageId, Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/{stageId}/tags")
+                .pathParam("stageId", stageId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Get list of tags for a stage.
+     * GET /api/v1/stages/{stageId}/tags-list
+     * @param stageId Unique identifier of the stage
+     * @return Future of the response with tag list
+     */
+    public CompletableFuture<ApiResponse> getStageTags(String stageId) {
+        return ApiRequest.get(BASE_PATH + "/{stageId}/tags-list")
+                .pathParam("stageId", stageId)
+                .send();
+    }
+
+    /**
+     * Remove stage tags.
+     * DELETE /api/v1/stages/{stageId}/tags
+     * @param stageId Unique identifier of the stage
+     * @param requestBody StoryTagRequest with tag IDs to remove
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> removeStageTags(String stageId, Object requestBody) {
+        return ApiRequest.delete(BASE_PATH + "/{stageId}/tags")
+                .pathParam("stageId", stageId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Delete a stage.
+     * DELETE /api/v1/stages/delete/{stageId}
+     * @param stageId Unique identifier of the stage
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> deleteStage(String stageId) {
+        return ApiRequest.delete(BASE_PATH + "/delete/{stageId}")
+                .pathParam("stageId", stageId)
+                .send()
+                .thenApply(response -> {
+                    if (response.getStatusCode() == 200 || response.getStatusCode() == 204) {
+                        EntityEvents.deleted(stageId);
+                    }
+                    return response;
+                });
+    }
+}
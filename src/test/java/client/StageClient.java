@@ -2,6 +2,7 @@ package client;
 
 import config.*;
 import io.restassured.response.*;
+import registry.*;
 
 import static io.restassured.RestAssured.*;
 
@@ -48,12 +49,14 @@ public class StageClient {
      * @return Response with generic message
      */
     public Response createStage(String journeySlug, Object requestBody) {
-        return given()
+        Response response = given()
                 .spec(RequestSpecFactory.getAdminRequestSpec())
                 .pathParam("journeySlug", journeySlug)
                 .body(requestBody)
                 .when()
                 .post(BASE_PATH + "/{journeySlug}");
+        EntityEvents.created(EntityType.STAGE, response, requestBody, journeySlug);
+        return response;
     }
 
     /**
@@ -157,10 +160,14 @@ public class StageClient {
      * @return Response
      */
     public Response deleteStage(String stageId) {
-        return given()
+        Response response = given()
                 .spec(RequestSpecFactory.getAdminRequestSpec())
                 .pathParam("stageId", stageId)
                 .when()
                 .delete(BASE_PATH + "/delete/{stageId}");
+        if (response.getStatusCode() == 200 || response.getStatusCode() == 204) {
+            EntityEvents.deleted(stageId);
+        }
+        return response;
     }
 }
@@ -0,0 +1,25 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link StageSettingsClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class StageSettingsAsyncClient {
+    private static final String BASE_PATH = "/api/v1/stages/settings";
+
+    /**
+     * Get stage settings by stage ID.
+     * GET /api/v1/stages/settings/{stageId}
+     * @param stageId Unique identifier of the stage
+     * @return Future of the response with stage settings
+     */
+    public CompletableFuture<ApiResponse> getStageSettings(String stageId) {
+        return ApiRequest.get(BASE_PATH + "/{stageId}")
+                .pathParam("stageId", stageId)
+                .send();
+    }
+}
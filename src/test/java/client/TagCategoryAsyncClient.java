@@ -0,0 +1,73 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link TagCategoryClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class TagCategoryAsyncClient {
+    private static final String BASE_PATH = "/api/v1/tag-categories";
+
+    /**
+     * Get all tag categories.
+     * GET /api/v1/tag-categories
+     * @return Future of the response with list of tag categories
+     */
+    public CompletableFuture<ApiResponse> getAllTagCategories() {
+        return ApiRequest.get(BASE_PATH)
+                .send();
+    }
+
+    /**
+     * Get tag category by ID.
+     * GET /api/v1/tag-categories/{tagCategoryId}
+     * @param tagCategoryId Unique identifier of the tag category
+     * @return Future of the response with tag category details
+     */
+    public CompletableFuture<ApiResponse> getTagCategoryById(String tagCategoryId) {
+        return ApiRequest.get(BASE_PATH + "/{tagCategoryId}")
+                .pathParam("tagCategoryId", tagCategoryId)
+                .send();
+    }
+
+    /**
+     * Create a new tag category.
+     * POST /api/v1/tag-categories
+     * @param requestBody Tag category creation request
+     * @return Future of the response with created tag category
+     */
+    public CompletableFuture<ApiResponse> createTagCategory(Object requestBody) {
+        return ApiRequest.post(BASE_PATH)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Update tag category.
+     * PUT /api/v1/tag-categories/{tagCategoryId}
+     * @param tagCategoryId Unique identifier of the tag category
+     * @param requestBody Tag category update request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateTagCategory(String tagCategoryId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{tagCategoryId}")
+                .pathParam("tagCategoryId", tagCategoryId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Delete tag category.
+     * DELETE /api/v1/tag-categories/{tagCategoryId}
+     * @param tagCategoryId Unique identifier of the tag category
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> deleteTagCategory(String tagCategoryId) {
+        return ApiRequest.delete(BASE_PATH + "/{tagCategoryId}")
+                .pathParam("tagCategoryId", tagCategoryId)
+                .send();
+    }
+}
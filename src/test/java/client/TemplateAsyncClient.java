@@ -0,0 +1,83 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link TemplateClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class TemplateAsyncClient {
+    private static final String BASE_PATH = "/api/v1/templates";
+
+    /**
+     * Get all templates.
+     * GET /api/v1/templates
+     * @return Future of the response with templates list
+     */
+    public CompletableFuture<ApiResponse> getAllTemplates() {
+        return ApiRequest.get(BASE_PATH)
+                .send();
+    }
+
+    /**
+     * Get template by ID.
+     * GET /api/v1/templates/{templateId}
+     * @param templateId Unique identifier of the template
+     * @return Future of the response with template details
+     */
+    public CompletableFuture<ApiResponse> getTemplateById(String templateId) {
+        return ApiRequest.get(BASE_PATH + "/{templateId}")
+                .pathParam("templateId", templateId)
+                .send();
+    }
+
+    /**
+     * Create a new template.
+     * POST /api/v1/templates
+     * @param requestBody Template creation request
+     * @return Future of the response with created template
+     */
+    public CompletableFuture<ApiResponse> createTemplate(Object requestBody) {
+        return ApiRequest.post(BASE_PATH)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Update template.
+     * PUT /api/v1/templates/{templateId}
+     * @param templateId Unique identifier of the template
+     * @param requestBody Template update request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateTemplate(String templateId, Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/{templateId}")
+                .pathParam("templateId", templateId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Delete template.
+     * DELETE /api/v1/templates/{templateId}
+     * @param templateId Unique identifier of the template
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> deleteTemplate(String templateId) {
+        return ApiRequest.delete(BASE_PATH + "/{templateId}")
+                .pathParam("templateId", templateId)
+                .send();
+    }
+
+    /**
+     * Get template types.
+     * GET /api/v1/templates/types
+     * @return Future of the response with template types
+     */
+    public CompletableFuture<ApiResponse> getTemplateTypes() {
+        return ApiRequest.get(BASE_PATH + "/types")
+                .send();
+    }
+}
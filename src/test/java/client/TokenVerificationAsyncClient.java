@@ -0,0 +1,74 @@
+package client;
+
+import async.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link TokenVerificationClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class TokenVerificationAsyncClient {
+    private static final String BASE_PATH = "/api/v1/token";
+
+    /**
+     * Verify JWT token.
+     * POST /api/v1/token/verify
+     * @param token JWT token to verify
+     * @return Future of the response with verification result
+     */
+    public CompletableFuture<ApiResponse> verifyToken(String token) {
+        return ApiRequest.post(BASE_PATH + "/verify")
+                .header("Authorization", "Bearer " + token)
+                .send();
+    }
+
+    /**
+     * Verify token with request body.
+     * POST /api/v1/token/verify
+     * @param requestBody Token verification request
+     * @return Future of the response with verification result
+     */
+    public CompletableFuture<ApiResponse> verifyTokenWithBody(Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/verify")
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Refresh token.
+     * POST /api/v1/token/refresh
+     * @param refreshToken Refresh token
+     * @return Future of the response with new access token
+     */
+    public CompletableFuture<ApiResponse> refreshToken(String refreshToken) {
+        return ApiRequest.post(BASE_PATH + "/refresh")
+                .body(Map.of("refreshToken", refreshToken))
+                .send();
+    }
+
+    /**
+     * Refresh token without sending the current access token.
+     * Used by the token manager so a refresh never depends on the token being replaced.
+     * POST /api/v1/token/refresh
+     * @param refreshToken Refresh token
+     * @return Future of the response with new access token
+     */
+    public CompletableFuture<ApiResponse> refreshTokenWithoutAuth(String refreshToken) {
+        return ApiRequest.post(BASE_PATH + "/refresh")
+                .withoutAuth()
+                .body(Map.of("refreshToken", refreshToken))
+                .send();
+    }
+
+    /**
+     * Validate token expiry.
+     * GET /api/v1/token/validate
+     * @return Future of the response with token validation status
+     */
+    public CompletableFuture<ApiResponse> validateToken() {
+        return ApiRequest.get(BASE_PATH + "/validate")
+                .send();
+    }
+}
@@ -56,6 +56,21 @@ public class TokenVerificationClient {
                 .post(BASE_PATH + "/refresh");
     }
 
+    /**
+     * Refresh token without sending the current access token.
+     * Used by the token manager so a refresh never depends on the token being replaced.
+     * POST /api/v1/token/refresh
+     * @param refreshToken Refresh token
+     * @return Response with new access token
+     */
+    public Response refreshTokenWithoutAuth(String refreshToken) {
+        return given()
+                .spec(RequestSpecFactory.getRequestSpecWithoutAuth())
+                .body(Map.of("refreshToken", refreshToken))
+                .when()
+                .post(BASE_PATH + "/refresh");
+    }
+
     /**
      * Validate token expiry.
      * GET /api/v1/token/validate
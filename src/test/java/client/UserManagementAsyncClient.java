@@ -0,0 +1,332 @@
+package client;
+
+import async.*;
+import config.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link UserManagementClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class UserManagementAsyncClient {
+    private static final String BASE_PATH = "/api/v1";
+
+    /**
+     * Get new hire preferred journey.
+     * GET /api/v1/users/preferred-journey
+     * @return Future of the response with preferred journey details
+     */
+    public CompletableFuture<ApiResponse> getPreferredJourney() {
+        return ApiRequest.get(BASE_PATH + "/users/preferred-journey")
+                .send();
+    }
+
+    /**
+     * Update new hire preferred journey.
+     * PUT /api/v1/users/preferred-journey
+     * @param requestBody PreferredJourneyRequest object
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updatePreferredJourney(Object requestBody) {
+        return ApiRequest.put(BASE_PATH + "/users/preferred-journey")
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Get all new hires (Storyblok integration).
+     * GET /api/v1/storyblok/user/new_hires
+     * @param page Page number (zero-based)
+     * @param size Number of items per page
+     * @return Future of the response with list of new hires
+     */
+    public CompletableFuture<ApiResponse> getAllNewHires(int page, int size) {
+        return ApiRequest.get(BASE_PATH + "/storyblok/user/new_hires")
+                .queryParam("page", page)
+                .queryParam("size", size)
+                .send();
+    }
+
+    /**
+     * Get all new hires with default pagination.
+     * @return Future of the response with list of new hires
+     */
+    public CompletableFuture<ApiResponse> getAllNewHires() {
+        return getAllNewHires(0, 100);
+    }
+
+    /**
+     * Get all users with pagination and filtering.
+     * GET /api/v1/users
+     * @param page Page number
+     * @param size Page size
+     * @param search Search term
+     * @param role Filter by role
+     * @param status Filter by status
+     * @return Future of the response with paginated users list
+     */
+    public CompletableFuture<ApiResponse> getAllUsers(int page, int size, String search, String role, String status) {
+        return ApiRequest.get(BASE_PATH + "/users")
+                .queryParam("page", page)
+                .queryParam("size", size)
+                .queryParam("search", search)
+                .queryParam("role", role)
+                .queryParam("status", status)
+                .send();
+    }
+
+    /**
+     * Get all users with default parameters.
+     * @return Future of the response with users list
+     */
+    public CompletableFuture<ApiResponse> getAllUsers() {
+        return ApiRequest.get(BASE_PATH + "/users")
+                .send();
+    }
+
+    public CompletableFuture<ApiResponse> getAllUsersWithoutToken() {
+        return ApiRequest.get(BASE_PATH + "/users")
+                .withoutAuth()
+                .send();
+    }
+
+    public CompletableFuture<ApiResponse> getUserByEmail(String email) {
+        return ApiRequest.get(BASE_PATH + "/users")
+                .queryParam("search", email)
+                .send();
+    }
+
+    /**
+     * Create a new user.
+     * POST /api/v1/users
+     * @param requestBody User creation request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> createUser(Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/users")
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Verify user email.
+     * POST /api/v1/users/verify-email
+     * @param requestBody Email verification request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> verifyEmail(Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/users/verify-email")
+                .withoutAuth()
+                .body(requestBody)
+                .send();
+    }
+
+    public CompletableFuture<ApiResponse> verifyEmailWithInvalidToken(Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/users/verify-email")
+                .withoutAuth()
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Get user by ID.
+     * GET /api/v1/users/{userId}
+     * @param userId User ID
+     * @return Future of the response with user details
+     */
+    public CompletableFuture<ApiResponse> getUserById(String userId) {
+        return ApiRequest.get(BASE_PATH + "/users/{userId}")
+                .pathParam("userId", userId)
+                .send();
+    }
+
+    /**
+     * Update user information.
+     * PATCH /api/v1/users/{userId}
+     * @param userId User ID
+     * @param requestBody User update request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateUser(String userId, Object requestBody) {
+        return ApiRequest.patch(BASE_PATH + "/users/{userId}")
+                .pathParam("userId", userId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Delete user.
+     * DELETE /api/v1/users/{userId}
+     * @param userId User ID
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> deleteUser(String userId) {
+        return ApiRequest.delete(BASE_PATH + "/users/{userId}")
+                .pathParam("userId", userId)
+                .send();
+    }
+
+    /**
+     * Archive or unarchive a user.
+     * PATCH /api/v1/users/archive
+     * @param requestBody Archive user request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> archiveUser(Object requestBody) {
+        return ApiRequest.patch(BASE_PATH + "/users/archive")
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Get user profile.
+     * GET /api/v1/profile
+     * @return Future of the response with user profile
+     */
+    public CompletableFuture<ApiResponse> getProfile() {
+        return ApiRequest.get(BASE_PATH + "/profile")
+                .send();
+    }
+
+    /**
+     * Update user profile.
+     * PATCH /api/v1/profile
+     * @param requestBody Profile update request
+     * @return Future of the response with updated profile
+     */
+    public CompletableFuture<ApiResponse> updateProfile(Object requestBody) {
+        return ApiRequest.patch(BASE_PATH + "/profile")
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Update user profile with multipart form data.
+     * PATCH /api/v1/profile
+     * @param firstName First name
+     * @param lastName Last name
+     * @param preferredLanguage Preferred language
+     * @return Future of the response with updated profile
+     */
+    public CompletableFuture<ApiResponse> updateProfileMultipart(String firstName, String lastName, String preferredLanguage) {
+        return ApiRequest.patch(BASE_PATH + "/profile")
+                .contentType("multipart/form-data")
+                .multiPart("firstName", firstName)
+                .multiPart("lastName", lastName)
+                .multiPart("preferredLanguage", preferredLanguage)
+                .send();
+    }
+
+    public CompletableFuture<ApiResponse> updateProfileMultipartInvalidData() {
+        return ApiRequest.patch(BASE_PATH + "/profile")
+                .contentType("multipart/form-data")
+                .multiPart("invalidField", "invalidValue")
+                .send();
+    }
+
+    /**
+     * Get all open invites.
+     * GET /api/v1/invitation/open-invite
+     * @param page Page number
+     * @param size Page size
+     * @param search Search term
+     * @return Future of the response with open invites
+     */
+    public CompletableFuture<ApiResponse> getAllOpenInvites(int page, int size, String search) {
+        return ApiRequest.get(BASE_PATH + "/invitation/open-invite")
+                .queryParam("page", page)
+                .queryParam("size", size)
+                .queryParam("search", search)
+                .send();
+    }
+
+    /**
+     * Get all open invites with defaults.
+     * @return Future of the response with open invites
+     */
+    public CompletableFuture<ApiResponse> getAllOpenInvites() {
+        return getAllOpenInvites(0, 10, "");
+    }
+
+    /**
+     * Create open invite.
+     * POST /api/v1/invitation/open-invite
+     * @param requestBody Open invite request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> createOpenInvite(Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/invitation/open-invite")
+                .body(requestBody)
+                .send();
+    }
+
+    public CompletableFuture<ApiResponse> getOpenInviteByCode(String code) {
+        return ApiRequest.get(BASE_PATH + "/invitation/open-invite")
+                .queryParam("search", code)
+                .send();
+    }
+
+    /**
+     * Verify invitation code.
+     * POST /api/v1/invitation/open-invite/verify
+     * @param requestBody Code verification request
+     * @return Future of the response with invitation code details
+     */
+    public CompletableFuture<ApiResponse> verifyInvitationCode(Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/invitation/open-invite/verify")
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Register with open invite for new users.
+     * POST /api/v1/invitation/open-invite/register
+     * @param requestBody Registration request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> registerWithOpenInviteForNewUsers(Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/invitation/open-invite/register")
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Register with open invite for existing users.
+     * POST /api/v1/invitation/open-invite/existing_users
+     * @param requestBody Code request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> registerWithOpenInviteForExistingUsers(Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/invitation/open-invite/existing_users")
+                .userType(UserType.VIEWER)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Delete open invite.
+     * DELETE /api/v1/invitation/open-invite/{codeId}
+     * @param codeId Code ID
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse> deleteOpenInvite(String codeId) {
+        return ApiRequest.delete(BASE_PATH + "/invitation/open-invite/{codeId}")
+                .pathParam("codeId", codeId)
+                .send();
+    }
+
+    /**
+     * Update open invite.
+     * PATCH /api/v1/invitation/open-invite/{codeId}
+     * @param codeId Code ID
+     * @param requestBody Update request
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> updateOpenInvite(String codeId, Object requestBody) {
+        return ApiRequest.patch(BASE_PATH + "/invitation/open-invite/{codeId}")
+                .pathParam("codeId", codeId)
+                .body(requestBody)
+                .send();
+    }
+}
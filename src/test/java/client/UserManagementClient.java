@@ -2,6 +2,7 @@ package client;
 
 import config.*;
 import io.restassured.response.*;
+import pagination.*;
 
 import static io.restassured.RestAssured.*;
 
@@ -84,6 +85,18 @@ public class UserManagementClient {
                 .get(BASE_PATH + "/users");
     }
 
+    /**
+     * Iterate all users across pages.
+     * @param size Page size
+     * @param search Search term
+     * @param role Filter by role
+     * @param status Filter by status
+     * @return Lazy view over all elements
+     */
+    public PagedResults getAllUsersPaged(int size, String search, String role, String status) {
+        return PagedResults.builder(page -> getAllUsers(page, size, search, role, status)).build();
+    }
+
     /**
      * Get all users with default parameters.
      * @return Response with users list
@@ -0,0 +1,63 @@
+package client;
+
+import async.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Non-blocking variant of {@link UserProgressClient}.
+ * Every method sends the same request through {@link AsyncHttp} and returns without waiting for the response.
+ */
+public class UserProgressAsyncClient {
+    private static final String BASE_PATH = "/api/v1/progress";
+
+    /**
+     * Get user progress for a journey.
+     * GET /api/v1/progress/journey/{journeyId}
+     * @param journeyId Unique identifier of the journey
+     * @return Future of the response with user progress
+     */
+    public CompletableFuture<ApiResponse> getUserProgress(String journeyId) {
+        return ApiRequest.get(BASE_PATH + "/journey/{journeyId}")
+                .pathParam("journeyId", journeyId)
+                .send();
+    }
+
+    /**
+     * Get completed pages for a chapter.
+     * GET /api/v1/progress/chapter/{chapterId}
+     * @param chapterId Unique identifier of the chapter
+     * @return Future of the response with completed pages
+     */
+    public CompletableFuture<ApiResponse> getCompletedPages(String chapterId) {
+        return ApiRequest.get(BASE_PATH + "/chapter/{chapterId}")
+                .pathParam("chapterId", chapterId)
+                .send();
+    }
+
+    /**
+     * Mark page as completed.
+     * POST /api/v1/progress/page/{pageId}/complete
+     * @param pageId Unique identifier of the page
+     * @param requestBody Completion request body
+     * @return Future of the response with generic message
+     */
+    public CompletableFuture<ApiResponse> markPageComplete(String pageId, Object requestBody) {
+        return ApiRequest.post(BASE_PATH + "/page/{pageId}/complete")
+                .pathParam("pageId", pageId)
+                .body(requestBody)
+                .send();
+    }
+
+    /**
+     * Get stage chapter progress.
+     * GET /api/v1/progress/stage/{stageId}
+     * @param stageId Unique identifier of the stage
+     * @return Future of the response with stage progress
+     */
+    public CompletableFuture<ApiResponse> getStageProgress(String stageId) {
+        return ApiRequest.get(BASE_PATH + "/stage/{stageId}")
+                .pathParam("stageId", stageId)
+                .send();
+    }
+}
@@ -0,0 +1,203 @@
+package concurrency;
+
+import config.*;
+import org.slf4j.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * AIMD controller for the number of test methods allowed to run at once.
+ * Test threads call {@link #acquire()} / {@link #release()} around each test method (see
+ * {@code listeners.AdaptiveConcurrencyListener}) and every client call reports its latency and status through
+ * {@link #record(long, int)}. At the end of each observation window the limit is:
+ * <ul>
+ *   <li>multiplied by concurrency.backoffRatio when more than concurrency.maxErrorRate of the requests got a
+ *       5xx/429 response or failed, or the median latency exceeds concurrency.latencyTolerance times the
+ *       baseline (the lowest median seen so far, drifting up slowly so it follows the environment);</li>
+ *   <li>raised by one when the window was healthy and the test methods actually used the current limit;</li>
+ *   <li>left unchanged otherwise.</li>
+ * </ul>
+ * Each decision is kept in a timeline that is written as CSV at suite end.
+ * With concurrency.adaptive=false the limit stays at its initial value.
+ *
+ * Configuration keys: concurrency.adaptive, concurrency.initial, concurrency.min, concurrency.max,
+ * concurrency.windowMillis, concurrency.minSamples, concurrency.maxErrorRate, concurrency.latencyTolerance,
+ * concurrency.backoffRatio, concurrency.report.
+ */
+public class AdaptiveConcurrency {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrency.class);
+    private static final int MAX_WINDOW_SAMPLES = 4096;
+    private static final double BASELINE_DRIFT = 1.02;
+
+    private static final boolean adaptive = EnvironmentConfig.getBoolean("concurrency.adaptive", true);
+    private static final int minLimit = Math.max(1, EnvironmentConfig.getInt("concurrency.min", 1));
+    private static final int maxLimit = Math.max(minLimit, EnvironmentConfig.getInt("concurrency.max", 16));
+    private static final long windowMillis = EnvironmentConfig.getInt("concurrency.windowMillis", 2000);
+    private static final int minSamples = EnvironmentConfig.getInt("concurrency.minSamples", 10);
+    private static final double maxErrorRate = Double.parseDouble(EnvironmentConfig.get("concurrency.maxErrorRate", "0.05"));
+    private static final double latencyTolerance = Double.parseDouble(EnvironmentConfig.get("concurrency.latencyTolerance", "2.0"));
+    private static final double backoffRatio = Double.parseDouble(EnvironmentConfig.get("concurrency.backoffRatio", "0.7"));
+
+    private static final Object gate = new Object();
+    private static double limit = Math.min(maxLimit, Math.max(minLimit, EnvironmentConfig.getInt("concurrency.initial", 5)));
+    private static int inFlight;
+    private static int peakInFlight;
+
+    private static final Object window = new Object();
+    private static long windowStart = System.currentTimeMillis();
+    private static long[] latencies = new long[MAX_WINDOW_SAMPLES];
+    private static int samples;
+    private static int requests;
+    private static int errors;
+    private static double baselineMillis = Double.NaN;
+
+    private static final List<LimitSnapshot> timeline = Collections.synchronizedList(new ArrayList<>());
+
+    public static boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Get the current limit on concurrently running test methods.
+     */
+    public static int getLimit() {
+        synchronized (gate) {
+            return (int) limit;
+        }
+    }
+
+    /**
+     * Block until the current limit allows one more test method to run.
+     */
+    public static void acquire() throws InterruptedException {
+        synchronized (gate) {
+            while (inFlight >= (int) limit) {
+                gate.wait();
+            }
+            inFlight++;
+            peakInFlight = Math.max(peakInFlight, inFlight);
+        }
+    }
+
+    /**
+     * Let the next waiting test method run.
+     */
+    public static void release() {
+        synchronized (gate) {
+            inFlight--;
+            gate.notifyAll();
+        }
+    }
+
+    /**
+     * Record the outcome of one client call.
+     * @param latencyMicros Time from sending the request to receiving the response
+     * @param status Response status code, or 0 when the call failed without a response
+     */
+    public static void record(long latencyMicros, int status) {
+        LimitSnapshot snapshot = null;
+        synchronized (window) {
+            requests++;
+            if (status == 0 || status == 429 || status >= 500) {
+                errors++;
+            }
+            if (samples < MAX_WINDOW_SAMPLES) {
+                latencies[samples++] = latencyMicros;
+            }
+            long now = System.currentTimeMillis();
+            if (adaptive && now - windowStart >= windowMillis && requests >= minSamples) {
+                snapshot = closeWindow(now);
+            }
+        }
+        if (snapshot != null) {
+            timeline.add(snapshot);
+            if (!"hold".equals(snapshot.getDecision())) {
+                logger.info("Concurrency limit {} -> {} (p50 {}ms, baseline {}ms, error rate {})", snapshot.getDecision(),
+                        snapshot.getLimit(), Math.round(snapshot.getP50Millis()),
+                        Math.round(snapshot.getBaselineMillis()), String.format("%.3f", snapshot.getErrorRate()));
+            }
+        }
+    }
+
+    private static LimitSnapshot closeWindow(long now) {
+        long[] sorted = Arrays.copyOf(latencies, samples);
+        Arrays.sort(sorted);
+        double p50 = percentile(sorted, 0.5) / 1000.0;
+        double p90 = percentile(sorted, 0.9) / 1000.0;
+        double errorRate = (double) errors / requests;
+        baselineMillis = Double.isNaN(baselineMillis) ? p50 : Math.min(baselineMillis * BASELINE_DRIFT, p50);
+        // Before the first decision the baseline is the current median, so it can never look overloaded by latency
+        boolean overloaded = errorRate > maxErrorRate || p50 > baselineMillis * latencyTolerance;
+
+        String decision;
+        int newLimit;
+        int peak;
+        synchronized (gate) {
+            peak = peakInFlight;
+            double previous = limit;
+            if (overloaded) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (peakInFlight >= (int) limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+            decision = limit < previous ? "decrease" : limit > previous ? "increase" : "hold";
+            peakInFlight = inFlight;
+            newLimit = (int) limit;
+            gate.notifyAll();
+        }
+
+        LimitSnapshot snapshot = new LimitSnapshot(now, newLimit, peak, requests, errorRate, p50, p90,
+                baselineMillis, decision);
+        windowStart = now;
+        samples = 0;
+        requests = 0;
+        errors = 0;
+        return snapshot;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * Get the limit decisions made so far, oldest first.
+     */
+    public static List<LimitSnapshot> getTimeline() {
+        synchronized (timeline) {
+            return new ArrayList<>(timeline);
+        }
+    }
+
+    /**
+     * Write the timeline to concurrency.report as CSV and log a summary.
+     */
+    public static void writeReport() {
+        List<LimitSnapshot> snapshots = getTimeline();
+        if (!adaptive || snapshots.isEmpty()) {
+            return;
+        }
+        IntSummaryStatistics limits = snapshots.stream().mapToInt(LimitSnapshot::getLimit).summaryStatistics();
+        logger.info("Adaptive concurrency: {} windows, limit min {} / avg {} / max {}, final {}",
+                limits.getCount(), limits.getMin(), String.format("%.1f", limits.getAverage()), limits.getMax(), getLimit());
+
+        Path file = Paths.get(EnvironmentConfig.get("concurrency.report", "target/adaptive-concurrency.csv"));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            List<String> lines = new ArrayList<>();
+            lines.add(LimitSnapshot.csvHeader());
+            snapshots.forEach(snapshot -> lines.add(snapshot.toCsv()));
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Failed to write concurrency timeline {}: {}", file, e.getMessage());
+        }
+    }
+}
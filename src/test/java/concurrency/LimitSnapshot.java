@@ -0,0 +1,88 @@
+package concurrency;
+
+import java.util.*;
+
+/**
+ * The concurrency limit chosen at the end of one observation window, with the signals that led to it.
+ */
+public class LimitSnapshot {
+    private final long timestamp;
+    private final int limit;
+    private final int peakInFlight;
+    private final int requests;
+    private final double errorRate;
+    private final double p50Millis;
+    private final double p90Millis;
+    private final double baselineMillis;
+    private final String decision;
+
+    LimitSnapshot(long timestamp, int limit, int peakInFlight, int requests, double errorRate,
+                  double p50Millis, double p90Millis, double baselineMillis, String decision) {
+        this.timestamp = timestamp;
+        this.limit = limit;
+        this.peakInFlight = peakInFlight;
+        this.requests = requests;
+        this.errorRate = errorRate;
+        this.p50Millis = p50Millis;
+        this.p90Millis = p90Millis;
+        this.baselineMillis = baselineMillis;
+        this.decision = decision;
+    }
+
+    static String csvHeader() {
+        return "timestamp,limit,peakInFlight,requests,errorRate,p50Millis,p90Millis,baselineMillis,decision";
+    }
+
+    String toCsv() {
+        return String.format(Locale.ROOT, "%d,%d,%d,%d,%.4f,%.1f,%.1f,%.1f,%s",
+                timestamp, limit, peakInFlight, requests, errorRate, p50Millis, p90Millis, baselineMillis, decision);
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Get the limit in effect for the next window.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Get the highest number of test methods running at once during the window.
+     */
+    public int getPeakInFlight() {
+        return peakInFlight;
+    }
+
+    public int getRequests() {
+        return requests;
+    }
+
+    /**
+     * Get the share of requests that got a 5xx or 429 response or failed without one.
+     */
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP90Millis() {
+        return p90Millis;
+    }
+
+    public double getBaselineMillis() {
+        return baselineMillis;
+    }
+
+    /**
+     * Get what the controller did: increase, decrease or hold.
+     */
+    public String getDecision() {
+        return decision;
+    }
+}
@@ -1,14 +1,19 @@
 package config;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 /**
  * Authentication manager for handling bearer tokens.
  * Supports dynamic token management and injection into API requests.
  * Supports multiple user types (Admin, Editor, Viewer) with their own tokens.
+ * User type tokens are kept fresh by {@link TokenManager}.
  */
 public class AuthManager {
     private static ThreadLocal<String> bearerToken = new ThreadLocal<>();
     private static ThreadLocal<Boolean> isCleared = new ThreadLocal<>();
     private static ThreadLocal<UserType> currentUserType = new ThreadLocal<>();
+    private static final Map<UserType, String> userTokens = new ConcurrentHashMap<>();
 
     static {
         // Initialize with token from config
@@ -31,7 +36,7 @@ public class AuthManager {
      */
     public static void setUserType(UserType userType) {
         currentUserType.set(userType);
-        bearerToken.set(EnvironmentConfig.getBearerToken(userType));
+        bearerToken.set(getBearerToken(userType));
         isCleared.set(false);
     }
 
@@ -62,7 +67,23 @@ public class AuthManager {
      * @return Bearer token for the specified user type
      */
     public static String getBearerToken(UserType userType) {
-        return EnvironmentConfig.getBearerToken(userType);
+        String token = userTokens.get(userType);
+        return TokenManager.ensureValid(userType, token != null ? token : EnvironmentConfig.getBearerToken(userType));
+    }
+
+    /**
+     * Replace the token for a user type for all threads.
+     * Cached request specifications for that user type are invalidated.
+     * @param userType The type of user
+     * @param token New bearer token, or null to fall back to config
+     */
+    public static void updateBearerToken(UserType userType, String token) {
+        if (token == null) {
+            userTokens.remove(userType);
+        } else {
+            userTokens.put(userType, token);
+        }
+        RequestSpecCache.invalidate(userType);
     }
 
     /**
@@ -0,0 +1,207 @@
+package config;
+
+import io.restassured.config.*;
+import org.apache.http.*;
+import org.apache.http.conn.*;
+import org.apache.http.impl.client.*;
+import org.apache.http.impl.conn.*;
+import org.apache.http.pool.*;
+import org.apache.http.protocol.*;
+import org.slf4j.*;
+import utils.*;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Suite-wide pooled keep-alive HTTP connection manager.
+ * All request specifications share one Apache HttpClient backed by a pooling connection manager,
+ * so parallel test classes reuse TCP/TLS connections instead of handshaking per request.
+ *
+ * Configuration keys (system property or config.properties):
+ * http.pool.enabled, http.pool.maxTotal, http.pool.maxPerRoute,
+ * http.pool.idleTimeoutSeconds, http.pool.keepAliveSeconds.
+ */
+@SuppressWarnings("deprecation")
+public class ConnectionPoolManager {
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolManager.class);
+
+    private static final AtomicLong requests = new AtomicLong();
+    private static final AtomicLong newConnections = new AtomicLong();
+
+    private static volatile PoolingClientConnectionManager connectionManager;
+    private static volatile RestAssuredConfig restAssuredConfig;
+    private static volatile ScheduledExecutorService evictor;
+
+    /**
+     * Check whether connection pooling is enabled.
+     */
+    public static boolean isEnabled() {
+        return EnvironmentConfig.getBoolean("http.pool.enabled", true);
+    }
+
+    /**
+     * Get Rest Assured config that routes requests through the shared pool.
+     */
+    public static RestAssuredConfig getRestAssuredConfig() {
+        if (restAssuredConfig == null) {
+            synchronized (ConnectionPoolManager.class) {
+                if (restAssuredConfig == null) {
+                    init();
+                }
+            }
+        }
+        return restAssuredConfig;
+    }
+
+    private static void init() {
+        int maxTotal = EnvironmentConfig.getInt("http.pool.maxTotal", 50);
+        int maxPerRoute = EnvironmentConfig.getInt("http.pool.maxPerRoute", 20);
+        int idleTimeoutSeconds = EnvironmentConfig.getInt("http.pool.idleTimeoutSeconds", 30);
+        int keepAliveSeconds = EnvironmentConfig.getInt("http.pool.keepAliveSeconds", 60);
+
+        PoolingClientConnectionManager manager = new PoolingClientConnectionManager();
+        manager.setMaxTotal(maxTotal);
+        manager.setDefaultMaxPerRoute(maxPerRoute);
+
+        DefaultHttpClient httpClient = new DefaultHttpClient(manager);
+        httpClient.setKeepAliveStrategy((response, context) -> {
+            long serverDuration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            long maxDuration = TimeUnit.SECONDS.toMillis(keepAliveSeconds);
+            return serverDuration > 0 ? Math.min(serverDuration, maxDuration) : maxDuration;
+        });
+        httpClient.addRequestInterceptor((request, context) -> trackConnection(context));
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                DaemonThreads.factory("http-pool-evictor"));
+        scheduler.scheduleWithFixedDelay(() -> {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(idleTimeoutSeconds, TimeUnit.SECONDS);
+        }, idleTimeoutSeconds, idleTimeoutSeconds, TimeUnit.SECONDS);
+
+        connectionManager = manager;
+        evictor = scheduler;
+        restAssuredConfig = RestAssuredConfig.config().httpClient(
+                HttpClientConfig.httpClientConfig()
+                        .reuseHttpClientInstance()
+                        .httpClientFactory(() -> httpClient));
+
+        logger.info("HTTP connection pool initialized - maxTotal: {}, maxPerRoute: {}, idleTimeout: {}s, keepAlive: {}s",
+                maxTotal, maxPerRoute, idleTimeoutSeconds, keepAliveSeconds);
+    }
+
+    /**
+     * A connection that has not sent any request yet was just opened (and handshaked);
+     * anything else is a reused keep-alive connection.
+     */
+    private static void trackConnection(HttpContext context) {
+        requests.incrementAndGet();
+        Object connection = context.getAttribute(HttpCoreContext.HTTP_CONNECTION);
+        if (connection instanceof HttpConnection) {
+            HttpConnectionMetrics metrics = ((HttpConnection) connection).getMetrics();
+            if (metrics == null || metrics.getRequestCount() == 0) {
+                newConnections.incrementAndGet();
+            }
+        } else {
+            newConnections.incrementAndGet();
+        }
+    }
+
+    /**
+     * Get a snapshot of the pool statistics.
+     */
+    public static Stats getStats() {
+        PoolingClientConnectionManager manager = connectionManager;
+        PoolStats poolStats = manager != null ? manager.getTotalStats() : null;
+        long totalRequests = requests.get();
+        long opened = newConnections.get();
+        return new Stats(
+                poolStats != null ? poolStats.getLeased() : 0,
+                poolStats != null ? poolStats.getAvailable() : 0,
+                poolStats != null ? poolStats.getPending() : 0,
+                poolStats != null ? poolStats.getMax() : 0,
+                totalRequests,
+                opened,
+                Math.max(0, totalRequests - opened));
+    }
+
+    /**
+     * Log pool statistics and release all pooled connections.
+     */
+    public static synchronized void shutdown() {
+        if (connectionManager == null) {
+            return;
+        }
+        logger.info("HTTP connection pool stats: {}", getStats());
+        evictor.shutdownNow();
+        connectionManager.shutdown();
+        connectionManager = null;
+        restAssuredConfig = null;
+        RequestSpecCache.invalidate();
+    }
+
+    /**
+     * Immutable snapshot of connection pool statistics.
+     */
+    public static final class Stats {
+        private final int leased;
+        private final int available;
+        private final int pending;
+        private final int max;
+        private final long requests;
+        private final long connectionsOpened;
+        private final long handshakesAvoided;
+
+        Stats(int leased, int available, int pending, int max,
+              long requests, long connectionsOpened, long handshakesAvoided) {
+            this.leased = leased;
+            this.available = available;
+            this.pending = pending;
+            this.max = max;
+            this.requests = requests;
+            this.connectionsOpened = connectionsOpened;
+            this.handshakesAvoided = handshakesAvoided;
+        }
+
+        public int getLeased() {
+            return leased;
+        }
+
+        public int getAvailable() {
+            return available;
+        }
+
+        public int getPending() {
+            return pending;
+        }
+
+        public int getMax() {
+            return max;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public long getConnectionsOpened() {
+            return connectionsOpened;
+        }
+
+        public long getHandshakesAvoided() {
+            return handshakesAvoided;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "leased=" + leased +
+                    ", available=" + available +
+                    ", pending=" + pending +
+                    ", max=" + max +
+                    ", requests=" + requests +
+                    ", connectionsOpened=" + connectionsOpened +
+                    ", handshakesAvoided=" + handshakesAvoided +
+                    '}';
+        }
+    }
+}
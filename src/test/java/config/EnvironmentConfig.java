@@ -1,14 +1,17 @@
 package config;
 
+import stub.*;
+
 import java.io.*;
 import java.util.*;
 
 /**
  * Environment configuration manager.
- * Loads and manages configuration properties for different environments (dev, test, stage).
+ * Loads and manages configuration properties for different environments (dev, test, stage, stub).
  */
 public class EnvironmentConfig {
     private static final String CONFIG_FILE = "src/test/resources/config.properties";
+    private static final String STUB_TOKEN = "stub-token";
     private static Properties properties = new Properties();
 
     static {
@@ -18,7 +21,10 @@ public class EnvironmentConfig {
     private static void loadProperties() {
         try (InputStream input = EnvironmentConfig.class.getClassLoader().getResourceAsStream("config.properties")) {
             if (input == null) {
-                // Fallback to file system
+                // Fallback to file system; the stub environment runs without a config file
+                if (isStub() && !new File(CONFIG_FILE).exists()) {
+                    return;
+                }
                 try (FileInputStream fis = new FileInputStream(CONFIG_FILE)) {
                     properties.load(fis);
                 }
@@ -41,6 +47,37 @@ public class EnvironmentConfig {
         return value;
     }
 
+    /**
+     * Get property value by key, falling back to a default when not set.
+     */
+    public static String get(String key, String defaultValue) {
+        String value = get(key);
+        return value != null && !value.trim().isEmpty() ? value.trim() : defaultValue;
+    }
+
+    /**
+     * Get boolean property value by key.
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = get(key);
+        return value != null && !value.trim().isEmpty() ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+
+    /**
+     * Get integer property value by key.
+     */
+    public static int getInt(String key, int defaultValue) {
+        String value = get(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid integer for property '" + key + "': " + value, e);
+        }
+    }
+
     /**
      * Get base URL for the current environment.
      */
@@ -49,6 +86,10 @@ public class EnvironmentConfig {
         if (env == null) {
             env = "dev";
         }
+        if (isStub()) {
+            String url = get("stub.baseUrl");
+            return url != null ? url : StubServer.start().getBaseUrl();
+        }
         return get(env + ".baseUrl");
     }
 
@@ -56,7 +97,8 @@ public class EnvironmentConfig {
      * Get bearer token for authentication.
      */
     public static String getBearerToken() {
-        return get("bearerToken");
+        String token = get("bearerToken");
+        return token == null && isStub() ? STUB_TOKEN : token;
     }
 
     /**
@@ -77,4 +119,19 @@ public class EnvironmentConfig {
     public static String getEnvironment() {
         return get("environment");
     }
+
+    /**
+     * Check whether the suite runs against the embedded stub server.
+     */
+    public static boolean isStub() {
+        return "stub".equals(get("environment"));
+    }
+
+    /**
+     * Check whether lean request specifications are requested.
+     * Lean specifications skip per-request URI/METHOD console logging for high-volume runs.
+     */
+    public static boolean isLeanLogging() {
+        return getBoolean("spec.lean", false);
+    }
 }
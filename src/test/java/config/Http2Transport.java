@@ -0,0 +1,144 @@
+package config;
+
+import org.slf4j.*;
+import utils.*;
+
+import java.io.*;
+import java.net.http.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Optional HTTP/2 transport, selected with transport=h2 (default http1, the Apache pool of
+ * {@link ConnectionPoolManager}).
+ * Requests are multiplexed over transport.h2.connections JDK HTTP clients; each keeps one HTTP/2 connection
+ * per host, and every request goes to the client with the fewest requests in flight. Servers that do not
+ * negotiate HTTP/2 are still served, over HTTP/1.1, and counted as downgraded.
+ *
+ * Configuration keys: transport, transport.h2.connections, transport.h2.threads,
+ * transport.h2.connectTimeoutMillis, transport.h2.requestTimeoutMillis.
+ */
+public class Http2Transport {
+    private static final Logger logger = LoggerFactory.getLogger(Http2Transport.class);
+
+    private static final AtomicLong requests = new AtomicLong();
+    private static final AtomicLong downgraded = new AtomicLong();
+    private static final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private static volatile HttpClient[] clients;
+    private static volatile AtomicInteger[] inFlight;
+    private static volatile ExecutorService executor;
+    private static volatile Duration requestTimeout;
+
+    /**
+     * Get the configured transport name (transport, default http1).
+     */
+    public static String getName() {
+        return EnvironmentConfig.get("transport", "http1").trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Check whether requests are sent over HTTP/2.
+     */
+    public static boolean isEnabled() {
+        return "h2".equals(getName());
+    }
+
+    /**
+     * Get the timeout applied to each request.
+     */
+    public static Duration getRequestTimeout() {
+        init();
+        return requestTimeout;
+    }
+
+    /**
+     * Send a request and wait for the response.
+     */
+    public static HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        try {
+            return sendAsync(request).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Send a request on the least busy connection without waiting for the response.
+     */
+    public static CompletableFuture<HttpResponse<byte[]>> sendAsync(HttpRequest request) {
+        init();
+        HttpClient[] pool = clients;
+        AtomicInteger[] counters = inFlight;
+        int index = 0;
+        for (int i = 1; i < counters.length; i++) {
+            if (counters[i].get() < counters[index].get()) {
+                index = i;
+            }
+        }
+        AtomicInteger counter = counters[index];
+        peakInFlight.accumulateAndGet(counter.incrementAndGet(), Math::max);
+        requests.incrementAndGet();
+        return pool[index].sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> {
+                    counter.decrementAndGet();
+                    if (response != null && response.version() != HttpClient.Version.HTTP_2) {
+                        downgraded.incrementAndGet();
+                    }
+                });
+    }
+
+    private static void init() {
+        if (clients != null) {
+            return;
+        }
+        synchronized (Http2Transport.class) {
+            if (clients != null) {
+                return;
+            }
+            int connections = Math.max(1, EnvironmentConfig.getInt("transport.h2.connections", 2));
+            int threads = EnvironmentConfig.getInt("transport.h2.threads", 4);
+            Duration connectTimeout = Duration.ofMillis(EnvironmentConfig.getInt("transport.h2.connectTimeoutMillis", 10_000));
+            requestTimeout = Duration.ofMillis(EnvironmentConfig.getInt("transport.h2.requestTimeoutMillis", 30_000));
+
+            executor = Executors.newFixedThreadPool(threads, DaemonThreads.factory("h2-transport"));
+            HttpClient[] created = new HttpClient[connections];
+            AtomicInteger[] counters = new AtomicInteger[connections];
+            for (int i = 0; i < connections; i++) {
+                created[i] = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_2)
+                        .connectTimeout(connectTimeout)
+                        .executor(executor)
+                        .build();
+                counters[i] = new AtomicInteger();
+            }
+            inFlight = counters;
+            clients = created;
+            logger.info("HTTP/2 transport initialized - connections per host: {}, threads: {}", connections, threads);
+        }
+    }
+
+    /**
+     * Log request counts and stop the transport threads.
+     */
+    public static synchronized void shutdown() {
+        if (clients == null) {
+            return;
+        }
+        logger.info("HTTP/2 transport: {} requests, {} downgraded to HTTP/1.1, peak {} streams on one connection",
+                requests.get(), downgraded.get(), peakInFlight.get());
+        executor.shutdownNow();
+        clients = null;
+        inFlight = null;
+        executor = null;
+    }
+}
@@ -0,0 +1,103 @@
+package config;
+
+import io.restassured.specification.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Cache of prebuilt Rest Assured request specifications.
+ * One specification is built per (environment, user type, token, {@link Variant}) and shared by all threads;
+ * {@code given().spec(...)} merges it into a fresh request, so the cached instance is never mutated.
+ * Entries are dropped whenever {@link AuthManager} changes a token.
+ */
+public class RequestSpecCache {
+    private static final ConcurrentMap<Key, RequestSpecification> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Get the cached specification for the given key, building it on first use.
+     * @param userType The type of user, or null for unauthenticated specifications
+     * @param token Bearer token the specification was built with (may be null)
+     * @param variant Which filters and logging the specification was built with
+     * @param builder Builds the specification on a cache miss
+     * @return Shared request specification
+     */
+    public static RequestSpecification get(UserType userType, String token, Variant variant,
+                                           Supplier<RequestSpecification> builder) {
+        Key key = new Key(EnvironmentConfig.getEnvironment(), EnvironmentConfig.getBaseUrl(), userType, token, variant);
+        return cache.computeIfAbsent(key, k -> builder.get());
+    }
+
+    /**
+     * Drop all cached specifications.
+     */
+    public static void invalidate() {
+        cache.clear();
+    }
+
+    /**
+     * Drop cached specifications for a single user type.
+     */
+    public static void invalidate(UserType userType) {
+        cache.keySet().removeIf(key -> key.userType == userType);
+    }
+
+    /**
+     * Get number of cached specifications.
+     */
+    public static int size() {
+        return cache.size();
+    }
+
+    /**
+     * Request specification variants.
+     */
+    public enum Variant {
+        /** All filters plus URI/METHOD console logging */
+        STANDARD,
+        /** All filters, no console logging */
+        LEAN,
+        /** No console logging and no Allure or exchange capture filter, for load-generator traffic */
+        LOAD,
+        /** No console logging; exchanges are kept for an {@code ExchangeHandover} instead of being reported */
+        HANDOVER
+    }
+
+    private static final class Key {
+        private final String environment;
+        private final String baseUrl;
+        private final UserType userType;
+        private final String token;
+        private final Variant variant;
+
+        private Key(String environment, String baseUrl, UserType userType, String token, Variant variant) {
+            this.environment = environment;
+            this.baseUrl = baseUrl;
+            this.userType = userType;
+            this.token = token;
+            this.variant = variant;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return variant == other.variant
+                    && userType == other.userType
+                    && Objects.equals(environment, other.environment)
+                    && Objects.equals(baseUrl, other.baseUrl)
+                    && Objects.equals(token, other.token);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(environment, baseUrl, userType, token, variant);
+        }
+    }
+}
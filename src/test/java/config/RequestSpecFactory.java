@@ -1,7 +1,9 @@
 package config;
 
+import filters.*;
 import io.qameta.allure.restassured.*;
 import io.restassured.builder.*;
+import io.restassured.filter.*;
 import io.restassured.filter.log.*;
 import io.restassured.http.*;
 import io.restassured.specification.*;
@@ -10,8 +12,12 @@ import io.restassured.specification.*;
  * Factory for creating Rest Assured request specifications.
  * Provides reusable request configuration with authentication and common headers.
  * Supports multiple user types (Admin, Editor, Viewer).
+ * Specifications are built once per user type and token and served from {@link RequestSpecCache},
+ * and send their requests through the shared {@link ConnectionPoolManager} pool, or over
+ * {@link Http2Transport} with transport=h2.
  */
 public class RequestSpecFactory {
+    private static final ThreadLocal<Boolean> loadThread = ThreadLocal.withInitial(() -> false);
 
     /**
      * Get base request specification with authentication and Allure reporting.
@@ -29,33 +35,140 @@ public class RequestSpecFactory {
     }
 
     public static RequestSpecification getUserRequestSpec(UserType userType) {
-        RequestSpecBuilder builder = new RequestSpecBuilder()
-                .setBaseUri(EnvironmentConfig.getBaseUrl())
-                .setContentType(ContentType.JSON)
-                .setAccept(ContentType.JSON)
-                .addFilter(new AllureRestAssured()) // Add Allure filter for request/response logging
-                .log(LogDetail.URI)
-                .log(LogDetail.METHOD);
+        return getUserRequestSpec(userType, defaultVariant());
+    }
 
-        // Add authorization header if token is available
+    /**
+     * Get lean request specification without per-request URI/METHOD console logging.
+     * @param userType The type of user (ADMIN, EDITOR, VIEWER)
+     */
+    public static RequestSpecification getLeanUserRequestSpec(UserType userType) {
+        return getUserRequestSpec(userType, RequestSpecCache.Variant.LEAN);
+    }
+
+    /**
+     * Get load request specification: lean, and without the Allure and exchange capture filters,
+     * so high-rate traffic is neither attached to the report nor buffered per thread.
+     * @param userType The type of user (ADMIN, EDITOR, VIEWER)
+     */
+    public static RequestSpecification getLoadUserRequestSpec(UserType userType) {
+        return getUserRequestSpec(userType, RequestSpecCache.Variant.LOAD);
+    }
+
+    /**
+     * Serve load specifications to every client call made on the current thread from now on.
+     * Meant for threads that only generate load, such as the {@code load.LoadGenerator} workers.
+     */
+    public static void useLoadSpecs() {
+        loadThread.set(true);
+    }
+
+    private static RequestSpecification getUserRequestSpec(UserType userType, RequestSpecCache.Variant variant) {
         String token = AuthManager.getBearerToken(userType);
-        if (AuthManager.hasToken(userType)) {
-            builder.addHeader("Authorization", "Bearer " + token);
-        }
-        return builder.build();
+        return RequestSpecCache.get(userType, token, variant, () -> {
+            RequestSpecBuilder builder = baseBuilder(variant);
+
+            // Add authorization header if token is available
+            if (token != null && !token.isEmpty()) {
+                builder.addHeader("Authorization", "Bearer " + token);
+            }
+            return builder.build();
+        });
     }
 
     /**
      * Get request specification without authentication.
      */
     public static RequestSpecification getRequestSpecWithoutAuth() {
-        return new RequestSpecBuilder()
+        RequestSpecCache.Variant variant = defaultVariant();
+        return RequestSpecCache.get(null, null, variant, () -> baseBuilder(variant).build());
+    }
+
+    private static RequestSpecCache.Variant defaultVariant() {
+        if (ExchangeHandover.isCapturing()) {
+            return RequestSpecCache.Variant.HANDOVER;
+        }
+        if (loadThread.get()) {
+            return RequestSpecCache.Variant.LOAD;
+        }
+        return EnvironmentConfig.isLeanLogging() ? RequestSpecCache.Variant.LEAN : RequestSpecCache.Variant.STANDARD;
+    }
+
+    private static RequestSpecBuilder baseBuilder(RequestSpecCache.Variant variant) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
                 .setBaseUri(EnvironmentConfig.getBaseUrl())
                 .setContentType(ContentType.JSON)
-                .setAccept(ContentType.JSON)
-                .addFilter(new AllureRestAssured()) // Add Allure filter
-                .log(LogDetail.URI)
-                .log(LogDetail.METHOD)
-                .build();
+                .setAccept(ContentType.JSON);
+
+        // Add Allure filter for request/response logging; load traffic is not reported per request, and
+        // handover work is reported later on the thread that consumes its result
+        if (variant == RequestSpecCache.Variant.HANDOVER) {
+            builder.addFilter(new ExchangeHandoverFilter());
+        } else if (variant != RequestSpecCache.Variant.LOAD) {
+            builder.addFilter(createAllureFilter());
+        }
+
+        // Validate sampled responses against the OpenAPI contract (contract.sampleRate); ordered first
+        Filter contractFilter = ContractValidationFilter.get();
+        if (contractFilter != null) {
+            builder.addFilter(contractFilter);
+        }
+
+        // Rate limits and bulkheads for expensive endpoint groups (throttle.*)
+        Filter throttleFilter = ThrottleFilter.get();
+        if (throttleFilter != null) {
+            builder.addFilter(throttleFilter);
+        }
+
+        // Record or replay exchanges (exchange.mode); ordered last so reporting filters still run
+        Filter exchangeFilter = RecordReplayFilter.get();
+        if (exchangeFilter != null) {
+            builder.addFilter(exchangeFilter);
+        }
+
+        // Retry transient failures of idempotent reads; same order as the exchange filter but added after it,
+        // so it is innermost and replayed exchanges are never retried
+        Filter retryFilter = RetryFilter.get();
+        if (retryFilter != null) {
+            builder.addFilter(retryFilter);
+        }
+
+        // Feed call latency and 5xx/429 rates to the adaptive test concurrency limit; inside the retry filter,
+        // so each attempt is timed on its own
+        Filter signalFilter = ConcurrencySignalFilter.get();
+        if (signalFilter != null) {
+            builder.addFilter(signalFilter);
+        }
+
+        // Send over multiplexed HTTP/2 connections instead of the Apache pool (transport=h2); innermost
+        Filter transportFilter = Http2TransportFilter.get();
+        if (transportFilter != null) {
+            builder.addFilter(transportFilter);
+        }
+
+        // Share pooled keep-alive connections across all clients
+        if (ConnectionPoolManager.isEnabled()) {
+            builder.setConfig(ConnectionPoolManager.getRestAssuredConfig());
+        }
+
+        if (variant == RequestSpecCache.Variant.STANDARD) {
+            builder.log(LogDetail.URI)
+                    .log(LogDetail.METHOD);
+        }
+        return builder;
+    }
+
+    /**
+     * Allure attachments are written off the test thread unless allure.async.enabled=false.
+     * With capture.mode=failure, exchanges are only buffered and attached when a test fails.
+     */
+    private static Filter createAllureFilter() {
+        if ("failure".equalsIgnoreCase(EnvironmentConfig.get("capture.mode", "all"))) {
+            return new ExchangeCaptureFilter();
+        }
+        if (EnvironmentConfig.getBoolean("allure.async.enabled", true)) {
+            return new AsyncAllureRestAssured();
+        }
+        return new AllureRestAssured();
     }
 }
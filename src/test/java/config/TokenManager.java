@@ -0,0 +1,332 @@
+package config;
+
+import client.*;
+import com.fasterxml.jackson.databind.*;
+import io.restassured.response.*;
+import org.slf4j.*;
+import utils.*;
+
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * JWT lifecycle manager for user type tokens.
+ * Decodes the {@code exp} claim locally, refreshes tokens in the background ahead of expiry
+ * and makes concurrent callers share a single in-flight refresh per user type.
+ *
+ * After a failed refresh, proactive refreshes of that user type back off for an exponentially growing,
+ * jittered interval; a token that has already expired still waits for a refresh.
+ *
+ * A refresh is only possible when a refresh token is configured as {@code <role>.refreshToken}.
+ * Configuration keys: auth.refresh.enabled, auth.refresh.aheadSeconds, auth.refresh.timeoutSeconds,
+ * auth.refresh.backoffMillis, auth.refresh.maxBackoffMillis.
+ */
+public class TokenManager {
+    private static final Logger logger = LoggerFactory.getLogger(TokenManager.class);
+
+    private static final Map<String, Long> expiryByToken = new ConcurrentHashMap<>();
+    private static final Map<UserType, String> refreshTokens = new ConcurrentHashMap<>();
+    private static final Map<UserType, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private static final Map<UserType, String> scheduledFor = new ConcurrentHashMap<>();
+    private static final Map<UserType, RefreshStats> stats = new ConcurrentHashMap<>();
+    private static final Map<UserType, Backoff> backoffs = new ConcurrentHashMap<>();
+
+    // Created on first use and again after shutdown(), so a later suite in the same JVM can still refresh
+    private static ScheduledExecutorService scheduler;
+    private static ExecutorService refreshExecutor;
+
+    private static final long NO_EXPIRY = -1L;
+    // Every refresh adds a token; the cache of decoded expiries is reset when it reaches this size
+    private static final int MAX_CACHED_EXPIRIES = 64;
+
+    /**
+     * Return a token that is valid for the next request.
+     * Tokens close to expiry trigger a background refresh; expired tokens wait for the
+     * in-flight refresh of their user type.
+     * @param userType The type of user
+     * @param token Current token for that user type
+     * @return Current or refreshed token
+     */
+    public static String ensureValid(UserType userType, String token) {
+        if (token == null || token.isEmpty() || !isEnabled()) {
+            return token;
+        }
+
+        long expiresAt = getExpiryMillis(token);
+        if (expiresAt == NO_EXPIRY || getRefreshToken(userType) == null) {
+            return token;
+        }
+
+        long now = System.currentTimeMillis();
+        long refreshAt = expiresAt - getRefreshAheadMillis();
+        if (now >= expiresAt) {
+            return awaitRefresh(userType, token);
+        }
+        if (now >= refreshAt) {
+            if (!isBackingOff(userType, now)) {
+                refreshAsync(userType);
+            }
+        } else {
+            scheduleRefresh(userType, token, refreshAt - now);
+        }
+        return token;
+    }
+
+    /**
+     * Trigger a refresh for a user type, or join the one already in flight.
+     * @param userType The type of user
+     * @return Future completed with the new access token
+     */
+    public static CompletableFuture<String> refreshAsync(UserType userType) {
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(userType, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        refreshExecutor().execute(() -> {
+            try {
+                created.complete(refresh(userType));
+                backoffs.remove(userType);
+            } catch (Throwable t) {
+                backoffs.computeIfAbsent(userType, type -> new Backoff()).recordFailure();
+                created.completeExceptionally(t);
+            } finally {
+                inFlight.remove(userType, created);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Decode the {@code exp} claim of a JWT without verifying its signature.
+     * @param token JWT access token
+     * @return Expiry as epoch millis, or -1 if the token carries no readable expiry
+     */
+    public static long getExpiryMillis(String token) {
+        Long cached = expiryByToken.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        if (expiryByToken.size() >= MAX_CACHED_EXPIRIES) {
+            // Only the current token of each user type is still looked up; the rest are stale
+            expiryByToken.clear();
+        }
+        return expiryByToken.computeIfAbsent(token, TokenManager::decodeExpiry);
+    }
+
+    /**
+     * Get refresh metrics for all user types that were refreshed.
+     */
+    public static Map<UserType, RefreshStats> getMetrics() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Stop background refreshes. The executors are recreated if tokens are used again afterwards.
+     */
+    public static synchronized void shutdown() {
+        if (!stats.isEmpty()) {
+            logger.info("Token refresh metrics: {}", stats);
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+            refreshExecutor = null;
+        }
+        // Cancelled refreshes would never complete; callers must not join them
+        scheduledFor.clear();
+        backoffs.clear();
+        inFlight.values().forEach(refresh -> refresh.completeExceptionally(
+                new CancellationException("Token refresh stopped by shutdown")));
+        inFlight.clear();
+    }
+
+    private static synchronized ScheduledExecutorService scheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(DaemonThreads.factory("token-refresh-scheduler"));
+        }
+        return scheduler;
+    }
+
+    private static synchronized ExecutorService refreshExecutor() {
+        if (refreshExecutor == null) {
+            refreshExecutor = Executors.newCachedThreadPool(DaemonThreads.factory("token-refresh"));
+        }
+        return refreshExecutor;
+    }
+
+    private static String awaitRefresh(UserType userType, String token) {
+        logger.info("Token for {} has expired, waiting for refresh", userType);
+        try {
+            return refreshAsync(userType).get(getTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return token;
+        } catch (ExecutionException | TimeoutException e) {
+            logger.error("Token refresh for {} failed: {}", userType, e.getMessage());
+            return token;
+        }
+    }
+
+    private static boolean isBackingOff(UserType userType, long now) {
+        Backoff backoff = backoffs.get(userType);
+        return backoff != null && now < backoff.retryAt;
+    }
+
+    private static void scheduleRefresh(UserType userType, String token, long delayMillis) {
+        // One scheduled refresh per token; a new token schedules its own refresh
+        if (token.equals(scheduledFor.put(userType, token))) {
+            return;
+        }
+        scheduler().schedule(() -> {
+            if (token.equals(scheduledFor.get(userType)) && !isBackingOff(userType, System.currentTimeMillis())) {
+                refreshAsync(userType);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static String refresh(UserType userType) {
+        String refreshToken = getRefreshToken(userType);
+        long start = System.nanoTime();
+        RefreshStats refreshStats = stats.computeIfAbsent(userType, type -> new RefreshStats());
+        try {
+            Response response = new TokenVerificationClient().refreshTokenWithoutAuth(refreshToken);
+            if (response.getStatusCode() != 200 && response.getStatusCode() != 201) {
+                throw new IllegalStateException("Refresh returned status " + response.getStatusCode());
+            }
+
+            JsonNode body = JsonUtils.getMapper().readTree(response.getBody().asString());
+            String accessToken = firstText(body, "accessToken", "access_token", "token");
+            if (accessToken == null) {
+                throw new IllegalStateException("Refresh response contains no access token");
+            }
+            String rotatedRefreshToken = firstText(body, "refreshToken", "refresh_token");
+            if (rotatedRefreshToken != null) {
+                refreshTokens.put(userType, rotatedRefreshToken);
+            }
+
+            AuthManager.updateBearerToken(userType, accessToken);
+            refreshStats.recordSuccess(System.nanoTime() - start);
+            logger.info("Refreshed token for {} in {}ms", userType,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return accessToken;
+        } catch (Exception e) {
+            refreshStats.recordFailure(System.nanoTime() - start);
+            throw new RuntimeException("Failed to refresh token for " + userType + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static long decodeExpiry(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            return NO_EXPIRY;
+        }
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+            JsonNode claims = JsonUtils.getMapper().readTree(new String(payload, StandardCharsets.UTF_8));
+            JsonNode exp = claims.get("exp");
+            return exp != null && exp.canConvertToLong() ? TimeUnit.SECONDS.toMillis(exp.asLong()) : NO_EXPIRY;
+        } catch (Exception e) {
+            logger.debug("Token is not a decodable JWT: {}", e.getMessage());
+            return NO_EXPIRY;
+        }
+    }
+
+    private static String firstText(JsonNode node, String... fields) {
+        for (String field : fields) {
+            JsonNode value = node.get(field);
+            if (value != null && value.isTextual() && !value.asText().isEmpty()) {
+                return value.asText();
+            }
+        }
+        return null;
+    }
+
+    private static String getRefreshToken(UserType userType) {
+        String token = refreshTokens.get(userType);
+        return token != null ? token : EnvironmentConfig.get(userType.getRole() + ".refreshToken");
+    }
+
+    private static boolean isEnabled() {
+        return EnvironmentConfig.getBoolean("auth.refresh.enabled", true);
+    }
+
+    private static long getRefreshAheadMillis() {
+        return TimeUnit.SECONDS.toMillis(EnvironmentConfig.getInt("auth.refresh.aheadSeconds", 120));
+    }
+
+    private static long getTimeoutSeconds() {
+        return EnvironmentConfig.getInt("auth.refresh.timeoutSeconds", 30);
+    }
+
+    /**
+     * Consecutive refresh failures of one user type and when proactive refreshes may try again.
+     */
+    private static final class Backoff {
+        private int failures;
+        private volatile long retryAt;
+
+        synchronized void recordFailure() {
+            failures++;
+            long baseMillis = Math.max(1, EnvironmentConfig.getInt("auth.refresh.backoffMillis", 5000));
+            long maxMillis = Math.max(baseMillis, EnvironmentConfig.getInt("auth.refresh.maxBackoffMillis", 60000));
+            long cap = Math.min(maxMillis, baseMillis << Math.min(failures - 1, 20));
+            // Half the cap plus jitter, so user types that failed together do not retry together
+            retryAt = System.currentTimeMillis() + cap / 2 + ThreadLocalRandom.current().nextLong(cap / 2 + 1);
+        }
+    }
+
+    /**
+     * Refresh count and latency for one user type.
+     */
+    public static final class RefreshStats {
+        private final AtomicLong refreshes = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void recordSuccess(long nanos) {
+            refreshes.incrementAndGet();
+            record(nanos);
+        }
+
+        void recordFailure(long nanos) {
+            failures.incrementAndGet();
+            record(nanos);
+        }
+
+        private void record(long nanos) {
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        public long getRefreshCount() {
+            return refreshes.get();
+        }
+
+        public long getFailureCount() {
+            return failures.get();
+        }
+
+        public double getAverageLatencyMillis() {
+            long attempts = refreshes.get() + failures.get();
+            return attempts == 0 ? 0 : totalNanos.get() / 1_000_000.0 / attempts;
+        }
+
+        public double getMaxLatencyMillis() {
+            return maxNanos.get() / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("RefreshStats{refreshes=%d, failures=%d, avgMs=%.1f, maxMs=%.1f}",
+                    getRefreshCount(), getFailureCount(), getAverageLatencyMillis(), getMaxLatencyMillis());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package contract;
+
+import openapi.*;
+
+import java.util.*;
+
+/**
+ * Outcome of validating one response against the OpenAPI document.
+ * A response is unchecked when no operation matches or the operation declares no JSON schema for its status.
+ */
+public class ContractResult {
+    private final Operation operation;
+    private final int status;
+    private final String schemaPointer;
+    private final List<String> errors;
+
+    ContractResult(Operation operation, int status, String schemaPointer, List<String> errors) {
+        this.operation = operation;
+        this.status = status;
+        this.schemaPointer = schemaPointer;
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    static ContractResult unchecked(Operation operation, int status) {
+        return new ContractResult(operation, status, null, Collections.emptyList());
+    }
+
+    /**
+     * Get the matched operation, or null when the request matches none.
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Get JSON pointer of the schema the body was validated against, or null when unchecked.
+     */
+    public String getSchemaPointer() {
+        return schemaPointer;
+    }
+
+    public boolean isChecked() {
+        return schemaPointer != null;
+    }
+
+    /**
+     * Check if the body conforms; unchecked responses count as conforming.
+     */
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * Get validation errors, each prefixed with the JSON pointer of the offending value.
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    @Override
+    public String toString() {
+        if (!isChecked()) {
+            return (operation != null ? operation : "no operation") + " " + status + ": no contract";
+        }
+        return operation + " " + status + (isValid() ? ": conforms" : ": " + String.join("; ", errors));
+    }
+}
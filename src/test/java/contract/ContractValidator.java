@@ -0,0 +1,227 @@
+package contract;
+
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.node.*;
+import com.github.fge.jsonschema.core.exceptions.*;
+import com.github.fge.jsonschema.core.report.*;
+import com.github.fge.jsonschema.main.*;
+import openapi.*;
+import org.slf4j.*;
+import stub.*;
+import utils.*;
+
+import java.util.*;
+
+/**
+ * Validates response bodies against the response schemas of the OpenAPI document.
+ * Every operation/status/JSON media type schema is located once when the validator is created and compiled
+ * into a {@link JsonSchema}; schemas that are plain references to {@code #/components/schemas/...} share one
+ * compiled instance. Each compiled schema is then exercised with a generated sample so the validator's
+ * internal caches are warm before the first real response arrives. Compiled schemas are immutable and
+ * thread-safe, so validating a response costs an operation lookup and the validation itself.
+ *
+ * Schemas are compiled from a normalized copy of the document: some operations declare
+ * {@code "type": "array"} next to a {@code $ref} to the item schema, which JSON Schema would read as the
+ * item schema alone, so those are rewritten to {@code {"type": "array", "items": {"$ref": ...}}}.
+ */
+public class ContractValidator {
+    private static final Logger logger = LoggerFactory.getLogger(ContractValidator.class);
+    private static final List<String> JSON_MEDIA_TYPES = Arrays.asList("application/json", "application/problem+json", "*/*");
+    private static final int MAX_ERRORS = 10;
+
+    private static volatile ContractValidator instance;
+
+    private final OpenApiDocument document;
+    private final JsonNode root;
+    private final Map<Operation, Map<String, String>> schemaPointers = new HashMap<>();
+    private final Map<String, JsonSchema> schemas = new HashMap<>();
+
+    private ContractValidator(OpenApiDocument document) {
+        this.document = document;
+        this.root = normalize(document.getRoot().deepCopy());
+        long start = System.currentTimeMillis();
+        JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+        SchemaSampler sampler = new SchemaSampler(document);
+
+        for (Operation operation : document.getOperations()) {
+            Map<String, String> byStatus = new HashMap<>();
+            operation.getNode().path("responses").fieldNames().forEachRemaining(code -> {
+                String pointer = schemaPointer(operation.getPointer() + "/responses/" + escape(code));
+                if (pointer == null) {
+                    return;
+                }
+                byStatus.put(code.toUpperCase(Locale.ROOT), pointer);
+                if (!schemas.containsKey(pointer)) {
+                    try {
+                        JsonSchema schema = factory.getJsonSchema(root, pointer);
+                        schema.validate(sampler.sample(root.at(pointer)));
+                        schemas.put(pointer, schema);
+                    } catch (ProcessingException e) {
+                        logger.warn("Skipping invalid response schema {}: {}", pointer, e.getMessage());
+                    }
+                }
+            });
+            schemaPointers.put(operation, byStatus);
+        }
+        logger.info("Compiled {} response schemas for {} operations in {}ms",
+                schemas.size(), schemaPointers.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Get the shared validator for the configured OpenAPI document, compiling its schemas on first use.
+     */
+    public static ContractValidator get() {
+        ContractValidator result = instance;
+        if (result == null) {
+            synchronized (ContractValidator.class) {
+                result = instance;
+                if (result == null) {
+                    result = new ContractValidator(OpenApiDocument.get());
+                    instance = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get number of distinct compiled schemas.
+     */
+    public int getSchemaCount() {
+        return schemas.size();
+    }
+
+    /**
+     * Validate a raw response body.
+     * @param method HTTP method of the request
+     * @param path Concrete request path or path template
+     * @param status Response status code
+     * @param body Raw response body; non-JSON bodies are validated as a string
+     */
+    public ContractResult validate(String method, String path, int status, String body) {
+        return validate(method, path, status, parse(body));
+    }
+
+    /**
+     * Validate an already parsed response body; a missing node stands for an empty body.
+     */
+    public ContractResult validate(String method, String path, int status, JsonNode body) {
+        Operation operation = document.findOperation(method, path).orElse(null);
+        String pointer = operation != null ? lookup(operation, status) : null;
+        JsonSchema schema = pointer != null ? schemas.get(pointer) : null;
+        if (schema == null) {
+            return ContractResult.unchecked(operation, status);
+        }
+        if (body.isMissingNode()) {
+            return new ContractResult(operation, status, pointer, Collections.singletonList("/: response body is empty"));
+        }
+        return validate(operation, status, pointer, schema, body);
+    }
+
+    private ContractResult validate(Operation operation, int status, String pointer, JsonSchema schema, JsonNode body) {
+        List<String> errors = new ArrayList<>();
+        try {
+            ProcessingReport report = schema.validate(body);
+            if (!report.isSuccess()) {
+                for (ProcessingMessage message : report) {
+                    if (message.getLogLevel().compareTo(LogLevel.ERROR) < 0) {
+                        continue;
+                    }
+                    if (errors.size() == MAX_ERRORS) {
+                        errors.add("...");
+                        break;
+                    }
+                    String at = message.asJson().path("instance").path("pointer").asText("");
+                    errors.add((at.isEmpty() ? "/" : at) + ": " + message.getMessage());
+                }
+            }
+        } catch (ProcessingException e) {
+            errors.add("schema " + pointer + " could not be applied: " + e.getMessage());
+        }
+        return new ContractResult(operation, status, pointer, errors);
+    }
+
+    private String lookup(Operation operation, int status) {
+        Map<String, String> byStatus = schemaPointers.get(operation);
+        if (byStatus == null) {
+            return null;
+        }
+        String pointer = byStatus.get(String.valueOf(status));
+        if (pointer == null) {
+            pointer = byStatus.get((status / 100) + "XX");
+        }
+        return pointer != null ? pointer : byStatus.get("DEFAULT");
+    }
+
+    /**
+     * Find the JSON schema of a response object, following response and schema references.
+     * Returns null when the response declares no JSON content.
+     */
+    private String schemaPointer(String responsePointer) {
+        String pointer = followRefs(responsePointer);
+        JsonNode content = root.at(pointer).path("content");
+
+        String mediaType = null;
+        for (String candidate : JSON_MEDIA_TYPES) {
+            if (content.has(candidate)) {
+                mediaType = candidate;
+                break;
+            }
+        }
+        if (mediaType == null) {
+            Iterator<String> names = content.fieldNames();
+            while (names.hasNext() && mediaType == null) {
+                String name = names.next();
+                mediaType = name.contains("json") ? name : null;
+            }
+        }
+        if (mediaType == null || !content.path(mediaType).has("schema")) {
+            return null;
+        }
+        return followRefs(pointer + "/content/" + escape(mediaType) + "/schema");
+    }
+
+    /**
+     * Resolve a pointer whose node is a bare {@code $ref}, so identical schemas share one compiled instance.
+     */
+    private String followRefs(String pointer) {
+        for (int hops = 0; hops < 16; hops++) {
+            JsonNode node = root.at(pointer);
+            if (node.size() != 1 || !node.has("$ref") || !node.get("$ref").asText().startsWith("#")) {
+                break;
+            }
+            pointer = node.get("$ref").asText().substring(1);
+        }
+        return pointer;
+    }
+
+    private static JsonNode normalize(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode object = (ObjectNode) node;
+            if (object.has("$ref") && "array".equals(object.path("type").asText())) {
+                ObjectNode items = object.objectNode();
+                items.set("$ref", object.remove("$ref"));
+                object.set("items", items);
+            }
+        }
+        for (JsonNode child : node) {
+            normalize(child);
+        }
+        return node;
+    }
+
+    private static JsonNode parse(String body) {
+        if (body == null || body.isEmpty()) {
+            return MissingNode.getInstance();
+        }
+        try {
+            return JsonUtils.getMapper().readTree(body);
+        } catch (Exception e) {
+            return TextNode.valueOf(body);
+        }
+    }
+
+    private static String escape(String token) {
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+}
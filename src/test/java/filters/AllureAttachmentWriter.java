@@ -0,0 +1,135 @@
+package filters;
+
+import config.*;
+import io.qameta.allure.*;
+import org.slf4j.*;
+import utils.*;
+
+import java.io.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * Bounded background writer for Allure attachments.
+ * The attachment link is registered on the calling test thread (so it lands on the right step),
+ * while rendering and disk I/O happen on writer threads. A full queue blocks the caller,
+ * which keeps memory bounded under parallel runs.
+ *
+ * Configuration keys: allure.async.queueCapacity, allure.async.writerThreads.
+ */
+public class AllureAttachmentWriter {
+    private static final Logger logger = LoggerFactory.getLogger(AllureAttachmentWriter.class);
+
+    private static final BlockingQueue<Runnable> queue =
+            new ArrayBlockingQueue<>(EnvironmentConfig.getInt("allure.async.queueCapacity", 1000));
+    private static final Object drainLock = new Object();
+
+    private static final AtomicLong pending = new AtomicLong();
+    private static final AtomicLong written = new AtomicLong();
+    private static final AtomicLong failed = new AtomicLong();
+    private static final AtomicLong callerNanos = new AtomicLong();
+    private static final AtomicLong backgroundNanos = new AtomicLong();
+
+    static {
+        int writerThreads = EnvironmentConfig.getInt("allure.async.writerThreads", 1);
+        ThreadFactory writers = DaemonThreads.factory("allure-attachment-writer");
+        for (int i = 1; i <= writerThreads; i++) {
+            writers.newThread(AllureAttachmentWriter::drain).start();
+        }
+    }
+
+    /**
+     * Register an attachment on the current test and queue its content for writing.
+     * @param name Attachment name shown in the report
+     * @param type MIME type of the attachment
+     * @param fileExtension File extension including the leading dot
+     * @param content Produces the attachment bytes on a writer thread
+     */
+    public static void submit(String name, String type, String fileExtension, Supplier<byte[]> content) {
+        long start = System.nanoTime();
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String source = lifecycle.prepareAttachment(name, type, fileExtension);
+
+        pending.incrementAndGet();
+        try {
+            queue.put(() -> lifecycle.writeAttachment(source, new ByteArrayInputStream(content.get())));
+        } catch (InterruptedException e) {
+            pending.decrementAndGet();
+            Thread.currentThread().interrupt();
+        } finally {
+            callerNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Wait until all queued attachments have been written.
+     * @param timeoutMillis Maximum time to wait
+     * @return true if the queue was fully drained
+     */
+    public static boolean flush(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (drainLock) {
+            while (pending.get() > 0) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    logger.warn("Timed out flushing Allure attachments, {} still pending", pending.get());
+                    return false;
+                }
+                try {
+                    drainLock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        logger.info("Allure attachments flushed - written: {}, failed: {}, caller time: {}ms, " +
+                        "background time: {}ms, removed from test threads: {}ms",
+                written.get(), failed.get(), TimeUnit.NANOSECONDS.toMillis(callerNanos.get()),
+                TimeUnit.NANOSECONDS.toMillis(backgroundNanos.get()), getSavedMillis());
+        return true;
+    }
+
+    /**
+     * Get time spent rendering and writing attachments off the test threads,
+     * minus the time test threads spent registering and queueing them.
+     */
+    public static long getSavedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(Math.max(0, backgroundNanos.get() - callerNanos.get()));
+    }
+
+    /**
+     * Get number of attachments still waiting to be written.
+     */
+    public static long getPending() {
+        return pending.get();
+    }
+
+    private static void drain() {
+        while (true) {
+            Runnable task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            try {
+                task.run();
+                written.incrementAndGet();
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                logger.warn("Failed to write Allure attachment: {}", e.getMessage());
+            } finally {
+                backgroundNanos.addAndGet(System.nanoTime() - start);
+                if (pending.decrementAndGet() == 0) {
+                    synchronized (drainLock) {
+                        drainLock.notifyAll();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package filters;
+
+import io.qameta.allure.attachment.*;
+import io.qameta.allure.attachment.http.*;
+import io.restassured.filter.*;
+import io.restassured.http.*;
+import io.restassured.response.*;
+import io.restassured.specification.*;
+import utils.*;
+
+import java.nio.charset.*;
+import java.util.*;
+
+/**
+ * Allure Rest Assured filter that hands request/response attachments to {@link AllureAttachmentWriter}.
+ * Produces the same HTML attachments as {@code AllureRestAssured}, but pretty-printing, template
+ * rendering and file writes happen on background writer threads instead of the test thread.
+ */
+public class AsyncAllureRestAssured implements Filter {
+    private static final String REQUEST_TEMPLATE = "http-request.ftl";
+    private static final String RESPONSE_TEMPLATE = "http-response.ftl";
+    private static final String HTML_TYPE = "text/html";
+    private static final String HTML_EXTENSION = ".html";
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        attachRequest(requestSpec.getMethod(), requestSpec.getURI(), toMap(requestSpec.getHeaders()),
+                bodyAsString(requestSpec.getBody()));
+
+        Response response = ctx.next(requestSpec, responseSpec);
+
+        attachResponse(response.getStatusLine(), response.getStatusCode(), toMap(response.getHeaders()),
+                response.getBody().asString());
+        return response;
+    }
+
+    /**
+     * Attach a request to the current test.
+     */
+    static void attachRequest(String method, String url, Map<String, String> requestHeaders, String requestBody) {
+        AllureAttachmentWriter.submit("Request", HTML_TYPE, HTML_EXTENSION, () -> {
+            HttpRequestAttachment.Builder builder = HttpRequestAttachment.Builder.create("Request", url)
+                    .setMethod(method)
+                    .setHeaders(requestHeaders);
+            if (requestBody != null) {
+                builder.setBody(prettify(requestBody));
+            }
+            return render(REQUEST_TEMPLATE, builder.build());
+        });
+    }
+
+    /**
+     * Attach a response to the current test.
+     */
+    static void attachResponse(String statusLine, int statusCode, Map<String, String> responseHeaders,
+                               String responseBody) {
+        String responseName = statusLine != null ? statusLine : "Response " + statusCode;
+        AllureAttachmentWriter.submit(responseName, HTML_TYPE, HTML_EXTENSION, () -> render(RESPONSE_TEMPLATE,
+                HttpResponseAttachment.Builder.create(responseName)
+                        .setResponseCode(statusCode)
+                        .setHeaders(responseHeaders)
+                        .setBody(prettify(responseBody))
+                        .build()));
+    }
+
+    private static byte[] render(String template, AttachmentData data) {
+        return new FreemarkerAttachmentRenderer(template).render(data)
+                .getContent()
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    static Map<String, String> toMap(Headers headers) {
+        Map<String, String> map = new LinkedHashMap<>();
+        if (headers != null) {
+            for (Header header : headers) {
+                map.merge(header.getName(), header.getValue(), (a, b) -> a + "; " + b);
+            }
+        }
+        return map;
+    }
+
+    static String bodyAsString(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return new String((byte[]) body, StandardCharsets.UTF_8);
+        }
+        return body.toString();
+    }
+
+    private static String prettify(String body) {
+        String trimmed = body.trim();
+        if (!trimmed.startsWith("{") && !trimmed.startsWith("[")) {
+            return body;
+        }
+        try {
+            return JsonUtils.toPrettyJson(JsonUtils.getMapper().readTree(trimmed));
+        } catch (Exception e) {
+            return body;
+        }
+    }
+}
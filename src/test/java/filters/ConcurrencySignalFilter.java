@@ -0,0 +1,43 @@
+package filters;
+
+import concurrency.*;
+import io.restassured.filter.*;
+import io.restassured.response.*;
+import io.restassured.specification.*;
+
+/**
+ * Reports the latency and status of every client call to {@link AdaptiveConcurrency}.
+ * Added after the retry filter with the same order, so only the transport filter runs inside it: it times
+ * the first attempt's own exchange, without reporting, back-off or Retry-After waits, and replayed exchanges
+ * never reach it. Retries are sent detached and reported by {@link RetryFilter} with their own exchange time.
+ */
+public class ConcurrencySignalFilter implements OrderedFilter {
+    private static final ConcurrencySignalFilter shared = new ConcurrencySignalFilter();
+
+    /**
+     * Get the shared filter, or null when the concurrency limit is not adaptive.
+     */
+    public static Filter get() {
+        return AdaptiveConcurrency.isAdaptive() ? shared : null;
+    }
+
+    @Override
+    public int getOrder() {
+        return OrderedFilter.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            AdaptiveConcurrency.record((System.nanoTime() - start) / 1000, response.getStatusCode());
+            return response;
+        } catch (RuntimeException e) {
+            AdaptiveConcurrency.record((System.nanoTime() - start) / 1000, 0);
+            throw e;
+        }
+    }
+}
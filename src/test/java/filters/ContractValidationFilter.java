@@ -0,0 +1,127 @@
+package filters;
+
+import config.*;
+import contract.*;
+import io.restassured.filter.*;
+import io.restassured.response.*;
+import io.restassured.specification.*;
+import org.slf4j.*;
+import utils.*;
+
+import java.net.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Validates a sample of responses against the OpenAPI contract (see {@link ContractValidator}).
+ * Runs first in the filter chain, so it sees the final response after any retries or replay.
+ * Violations are logged and counted; with {@code contract.enforce=true} they also fail the request.
+ *
+ * Configuration keys: contract.sampleRate (0 = off, 1 = every response), contract.enforce.
+ */
+public class ContractValidationFilter implements OrderedFilter {
+    private static final Logger logger = LoggerFactory.getLogger(ContractValidationFilter.class);
+
+    private static final AtomicLong checked = new AtomicLong();
+    private static final AtomicLong violations = new AtomicLong();
+    private static final AtomicLong unchecked = new AtomicLong();
+
+    private static ContractValidationFilter shared;
+
+    private final double sampleRate;
+    private final boolean enforce;
+    private final ContractValidator validator;
+
+    private ContractValidationFilter(double sampleRate, boolean enforce) {
+        this.sampleRate = sampleRate;
+        this.enforce = enforce;
+        this.validator = ContractValidator.get();
+    }
+
+    /**
+     * Check if contract.sampleRate enables validation.
+     */
+    public static boolean isEnabled() {
+        return sampleRate() > 0;
+    }
+
+    /**
+     * Get the shared filter, or null when validation is off.
+     */
+    public static synchronized Filter get() {
+        if (!isEnabled()) {
+            return null;
+        }
+        if (shared == null) {
+            shared = new ContractValidationFilter(Math.min(1.0, sampleRate()),
+                    EnvironmentConfig.getBoolean("contract.enforce", false));
+        }
+        return shared;
+    }
+
+    /**
+     * Log how many responses were validated and how many violated the contract.
+     */
+    public static void logSummary() {
+        if (checked.get() + unchecked.get() > 0) {
+            logger.info("Contract validation: {} responses checked, {} violations, {} without a contract",
+                    checked.get(), violations.get(), unchecked.get());
+        }
+    }
+
+    public static long getChecked() {
+        return checked.get();
+    }
+
+    public static long getViolations() {
+        return violations.get();
+    }
+
+    @Override
+    public int getOrder() {
+        return OrderedFilter.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return response;
+        }
+
+        // The parsed view is shared with the assertions, so the body is parsed once per response
+        String method = requestSpec.getMethod();
+        String path = URI.create(requestSpec.getURI()).getPath();
+        ParsedResponse parsed = ParsedResponse.of(response);
+        ContractResult result;
+        try {
+            result = validator.validate(method, path, response.getStatusCode(), parsed.tree());
+        } catch (RuntimeException e) {
+            result = validator.validate(method, path, response.getStatusCode(), parsed.getBody());
+        }
+        if (!result.isChecked()) {
+            unchecked.incrementAndGet();
+        } else if (result.isValid()) {
+            checked.incrementAndGet();
+        } else {
+            checked.incrementAndGet();
+            violations.incrementAndGet();
+            logger.warn("Contract violation: {}", result);
+            if (enforce) {
+                throw new AssertionError("Response violates the OpenAPI contract: " + result);
+            }
+        }
+        return response;
+    }
+
+    private static double sampleRate() {
+        String rate = EnvironmentConfig.get("contract.sampleRate", "0");
+        try {
+            return Double.parseDouble(rate.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid contract.sampleRate '" + rate + "'", e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package filters;
+
+import config.*;
+import io.qameta.allure.*;
+import org.slf4j.*;
+
+import java.time.*;
+import java.util.*;
+
+/**
+ * Per-thread ring buffer of the most recent HTTP exchanges.
+ * Recording only stores references to request/response data already held in memory;
+ * the buffer is formatted and dumped to Allure and the log only when a test or assertion fails.
+ *
+ * Configuration keys: capture.bufferSize, capture.maxBodyChars.
+ */
+public class ExchangeBuffer {
+    private static final Logger logger = LoggerFactory.getLogger(ExchangeBuffer.class);
+
+    private static final int BUFFER_SIZE = Math.max(1, EnvironmentConfig.getInt("capture.bufferSize", 20));
+    private static final int MAX_BODY_CHARS = EnvironmentConfig.getInt("capture.maxBodyChars", 10_000);
+
+    private static final ThreadLocal<ExchangeBuffer> buffers = ThreadLocal.withInitial(ExchangeBuffer::new);
+
+    private final Exchange[] exchanges = new Exchange[BUFFER_SIZE];
+    private int next;
+    private int count;
+
+    /**
+     * Record an exchange in the current thread's buffer, overwriting the oldest entry when full.
+     */
+    public static void record(Exchange exchange) {
+        ExchangeBuffer buffer = buffers.get();
+        buffer.exchanges[buffer.next] = exchange;
+        buffer.next = (buffer.next + 1) % BUFFER_SIZE;
+        buffer.count = Math.min(buffer.count + 1, BUFFER_SIZE);
+    }
+
+    /**
+     * Discard recorded exchanges for the current thread.
+     */
+    public static void clear() {
+        ExchangeBuffer buffer = buffers.get();
+        Arrays.fill(buffer.exchanges, null);
+        buffer.next = 0;
+        buffer.count = 0;
+    }
+
+    /**
+     * Dump the current thread's exchanges to the log and Allure, then clear the buffer.
+     * Does nothing if no exchanges were recorded since the last dump.
+     * @param reason Why the buffer is dumped (e.g. failed assertion message)
+     */
+    public static void dump(String reason) {
+        ExchangeBuffer buffer = buffers.get();
+        if (buffer.count == 0) {
+            return;
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append("Last ").append(buffer.count).append(" HTTP exchange(s) before failure");
+        if (reason != null) {
+            report.append(": ").append(reason);
+        }
+        report.append('\n');
+
+        int oldest = (buffer.next - buffer.count + BUFFER_SIZE) % BUFFER_SIZE;
+        for (int i = 0; i < buffer.count; i++) {
+            Exchange exchange = buffer.exchanges[(oldest + i) % BUFFER_SIZE];
+            report.append('\n');
+            exchange.appendTo(report);
+        }
+        clear();
+
+        String text = report.toString();
+        logger.error(text);
+        Allure.addAttachment("Recent HTTP exchanges", "text/plain", text, ".txt");
+    }
+
+    private static String truncate(String body) {
+        if (body == null) {
+            return "";
+        }
+        if (MAX_BODY_CHARS <= 0 || body.length() <= MAX_BODY_CHARS) {
+            return body;
+        }
+        return body.substring(0, MAX_BODY_CHARS) + "... [" + (body.length() - MAX_BODY_CHARS) + " chars truncated]";
+    }
+
+    /**
+     * A single recorded request/response pair.
+     */
+    public static final class Exchange {
+        private final long timestamp;
+        private final String method;
+        private final String uri;
+        private final String requestBody;
+        private final int status;
+        private final String responseBody;
+        private final long durationMs;
+
+        public Exchange(String method, String uri, String requestBody,
+                        int status, String responseBody, long durationMs) {
+            this.timestamp = System.currentTimeMillis();
+            this.method = method;
+            this.uri = uri;
+            this.requestBody = requestBody;
+            this.status = status;
+            this.responseBody = responseBody;
+            this.durationMs = durationMs;
+        }
+
+        void appendTo(StringBuilder report) {
+            report.append(Instant.ofEpochMilli(timestamp)).append(' ')
+                    .append(method).append(' ').append(uri)
+                    .append(" -> ").append(status).append(" (").append(durationMs).append("ms)\n");
+            if (requestBody != null) {
+                report.append("Request Body:\n").append(truncate(requestBody)).append('\n');
+            }
+            report.append("Response Body:\n").append(truncate(responseBody)).append('\n');
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package filters;
+
+import io.restassured.filter.*;
+import io.restassured.response.*;
+import io.restassured.specification.*;
+
+/**
+ * Filter that records every exchange into the per-thread {@link ExchangeBuffer}
+ * instead of attaching it to the report. Used when capture.mode=failure.
+ */
+public class ExchangeCaptureFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+
+        ExchangeBuffer.record(new ExchangeBuffer.Exchange(
+                requestSpec.getMethod(),
+                requestSpec.getURI(),
+                AsyncAllureRestAssured.bodyAsString(requestSpec.getBody()),
+                response.getStatusCode(),
+                response.getBody().asString(),
+                durationMs));
+        return response;
+    }
+}
@@ -0,0 +1,119 @@
+package filters;
+
+import config.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Result of work done on a helper thread together with the HTTP exchanges it made.
+ * While {@link #capture} runs, request specifications from {@code RequestSpecFactory} carry an
+ * {@link ExchangeHandoverFilter} instead of the Allure or capture filter, so the exchanges are kept here
+ * rather than reported on a thread that belongs to no test. {@link #handOver()} reports them on the
+ * thread that consumes the result: as Allure attachments, or into its {@link ExchangeBuffer} with
+ * capture.mode=failure.
+ *
+ * @param <T> Type of the result
+ */
+public class ExchangeHandover<T> {
+    private static final ThreadLocal<ExchangeHandover<?>> active = new ThreadLocal<>();
+
+    private final List<Exchange> exchanges = new ArrayList<>();
+    private T value;
+    private RuntimeException failure;
+    private boolean handedOver;
+
+    private ExchangeHandover() {
+    }
+
+    /**
+     * Run the work on the current thread and keep its exchanges for the consuming thread.
+     * A runtime exception of the work is kept as well and thrown by {@link #handOver()}, after the
+     * exchanges that led to it have been reported.
+     */
+    public static <T> ExchangeHandover<T> capture(Supplier<T> work) {
+        ExchangeHandover<T> handover = new ExchangeHandover<>();
+        active.set(handover);
+        try {
+            handover.value = work.get();
+        } catch (RuntimeException e) {
+            handover.failure = e;
+        } finally {
+            active.remove();
+        }
+        return handover;
+    }
+
+    /**
+     * Whether the current thread is running work for a handover.
+     */
+    public static boolean isCapturing() {
+        return active.get() != null;
+    }
+
+    /**
+     * Report the captured exchanges on the current thread, once, and return the result.
+     * @throws RuntimeException the exception the work failed with
+     */
+    public synchronized T handOver() {
+        if (!handedOver) {
+            handedOver = true;
+            boolean failureOnly = "failure".equalsIgnoreCase(EnvironmentConfig.get("capture.mode", "all"));
+            for (Exchange exchange : exchanges) {
+                exchange.report(failureOnly);
+            }
+            exchanges.clear();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return value;
+    }
+
+    static void record(Exchange exchange) {
+        ExchangeHandover<?> handover = active.get();
+        if (handover != null) {
+            synchronized (handover) {
+                handover.exchanges.add(exchange);
+            }
+        }
+    }
+
+    /**
+     * One request/response pair made during the work.
+     */
+    static final class Exchange {
+        private final String method;
+        private final String uri;
+        private final Map<String, String> requestHeaders;
+        private final String requestBody;
+        private final String statusLine;
+        private final int status;
+        private final Map<String, String> responseHeaders;
+        private final String responseBody;
+        private final long durationMs;
+
+        Exchange(String method, String uri, Map<String, String> requestHeaders, String requestBody,
+                 String statusLine, int status, Map<String, String> responseHeaders, String responseBody,
+                 long durationMs) {
+            this.method = method;
+            this.uri = uri;
+            this.requestHeaders = requestHeaders;
+            this.requestBody = requestBody;
+            this.statusLine = statusLine;
+            this.status = status;
+            this.responseHeaders = responseHeaders;
+            this.responseBody = responseBody;
+            this.durationMs = durationMs;
+        }
+
+        private void report(boolean failureOnly) {
+            if (failureOnly) {
+                ExchangeBuffer.record(new ExchangeBuffer.Exchange(method, uri, requestBody, status, responseBody, durationMs));
+                return;
+            }
+            AsyncAllureRestAssured.attachRequest(method, uri, requestHeaders, requestBody);
+            AsyncAllureRestAssured.attachResponse(statusLine, status, responseHeaders, responseBody);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package filters;
+
+import io.restassured.filter.*;
+import io.restassured.response.*;
+import io.restassured.specification.*;
+
+/**
+ * Filter that keeps every exchange for an {@link ExchangeHandover} instead of reporting it.
+ * Takes the place of the Allure or capture filter in specifications built for handover work.
+ */
+public class ExchangeHandoverFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+
+        ExchangeHandover.record(new ExchangeHandover.Exchange(
+                requestSpec.getMethod(),
+                requestSpec.getURI(),
+                AsyncAllureRestAssured.toMap(requestSpec.getHeaders()),
+                AsyncAllureRestAssured.bodyAsString(requestSpec.getBody()),
+                response.getStatusLine(),
+                response.getStatusCode(),
+                AsyncAllureRestAssured.toMap(response.getHeaders()),
+                response.getBody().asString(),
+                durationMs));
+        return response;
+    }
+}
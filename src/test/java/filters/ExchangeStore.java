@@ -0,0 +1,91 @@
+package filters;
+
+import org.slf4j.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.*;
+
+/**
+ * Append-only, gzip-compressed JSON-lines file of {@link RecordedExchange}s.
+ * Each recording session appends one gzip member; readers see all sessions in order.
+ * A member cut short by a crashed run is read up to the last complete line.
+ */
+public class ExchangeStore implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(ExchangeStore.class);
+
+    private final Path file;
+    private Writer writer;
+    private long appended;
+
+    public ExchangeStore(Path file) {
+        this.file = file;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Read every recorded exchange in recording order.
+     */
+    public List<RecordedExchange> load() {
+        List<RecordedExchange> exchanges = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return exchanges;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file))), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    exchanges.add(RecordedExchange.fromJsonLine(line));
+                }
+            }
+        } catch (EOFException | IllegalArgumentException e) {
+            logger.warn("Recording {} is truncated; using the first {} exchanges", file, exchanges.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read recording " + file, e);
+        }
+        return exchanges;
+    }
+
+    /**
+     * Append an exchange; the file and its gzip member are opened on first use.
+     */
+    public synchronized void append(RecordedExchange exchange) {
+        try {
+            if (writer == null) {
+                if (file.getParent() != null) {
+                    Files.createDirectories(file.getParent());
+                }
+                writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(
+                        Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)),
+                        StandardCharsets.UTF_8));
+            }
+            writer.write(exchange.toJsonLine());
+            writer.write('\n');
+            appended++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to recording " + file, e);
+        }
+    }
+
+    /**
+     * Finish the gzip member of this session.
+     */
+    @Override
+    public synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+                logger.info("Recorded {} exchanges to {}", appended, file);
+            } catch (IOException e) {
+                logger.warn("Failed to close recording {}: {}", file, e.getMessage());
+            }
+            writer = null;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package filters;
+
+import config.*;
+import io.restassured.builder.*;
+import io.restassured.filter.*;
+import io.restassured.http.*;
+import io.restassured.response.*;
+import io.restassured.specification.*;
+
+import java.io.*;
+import java.net.*;
+import java.net.http.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+/**
+ * Sends requests over {@link Http2Transport} instead of the Apache HTTP/1.1 client when transport=h2.
+ * Innermost in the chain (added after the retry filter with the same order), so retries, throttling and
+ * reporting work as before and only the wire protocol changes. Multipart and form requests are not
+ * converted and still go through the Apache client.
+ */
+public class Http2TransportFilter implements OrderedFilter {
+    private static final Http2TransportFilter shared = new Http2TransportFilter();
+    // Set by the JDK client itself; it rejects requests that set them
+    private static final Set<String> RESTRICTED_HEADERS = new HashSet<>(Arrays.asList(
+            "connection", "content-length", "expect", "host", "upgrade"));
+    private static final AtomicLong fallbacks = new AtomicLong();
+
+    /**
+     * Get the shared filter, or null when transport is not h2.
+     */
+    public static Filter get() {
+        return Http2Transport.isEnabled() ? shared : null;
+    }
+
+    /**
+     * Get number of requests that had to use the Apache client.
+     */
+    public static long getFallbacks() {
+        return fallbacks.get();
+    }
+
+    @Override
+    public int getOrder() {
+        return OrderedFilter.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!canSend(requestSpec)) {
+            fallbacks.incrementAndGet();
+            return ctx.next(requestSpec, responseSpec);
+        }
+        return send(requestSpec);
+    }
+
+    /**
+     * Check whether a request can be converted for the HTTP/2 transport.
+     */
+    static boolean canSend(FilterableRequestSpecification requestSpec) {
+        return requestSpec.getMultiPartParams().isEmpty() && requestSpec.getFormParams().isEmpty();
+    }
+
+    /**
+     * Send a request over HTTP/2 and wrap the answer as a Rest Assured response.
+     */
+    static Response send(FilterableRequestSpecification requestSpec) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(requestSpec.getURI()))
+                .timeout(Http2Transport.getRequestTimeout());
+        boolean hasContentType = false;
+        for (Header header : requestSpec.getHeaders()) {
+            String name = header.getName().toLowerCase(Locale.ROOT);
+            if (!RESTRICTED_HEADERS.contains(name)) {
+                request.header(header.getName(), header.getValue());
+                hasContentType |= name.equals("content-type");
+            }
+        }
+        if (!hasContentType && requestSpec.getContentType() != null) {
+            request.header("Content-Type", requestSpec.getContentType());
+        }
+        if (requestSpec.getCookies().exist()) {
+            request.header("Cookie", StreamSupport.stream(requestSpec.getCookies().spliterator(), false)
+                    .map(cookie -> cookie.getName() + "=" + cookie.getValue())
+                    .collect(Collectors.joining("; ")));
+        }
+        request.method(requestSpec.getMethod(), bodyPublisher(requestSpec.getBody()));
+
+        HttpResponse<byte[]> response;
+        try {
+            response = Http2Transport.send(request.build());
+        } catch (IOException e) {
+            throw new UncheckedIOException(requestSpec.getMethod() + " " + requestSpec.getURI() + " failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending " + requestSpec.getMethod() + " " + requestSpec.getURI(), e);
+        }
+        return toResponse(response);
+    }
+
+    private static HttpRequest.BodyPublisher bodyPublisher(Object body) {
+        if (body == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        if (body instanceof byte[]) {
+            return HttpRequest.BodyPublishers.ofByteArray((byte[]) body);
+        }
+        return HttpRequest.BodyPublishers.ofString(body.toString(), StandardCharsets.UTF_8);
+    }
+
+    private static Response toResponse(HttpResponse<byte[]> response) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> {
+            // Skip HTTP/2 pseudo-headers such as :status
+            if (!name.startsWith(":")) {
+                values.forEach(value -> headers.add(new Header(name, value)));
+            }
+        });
+        String protocol = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine(protocol + " " + response.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(response.body());
+        response.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        return builder.build();
+    }
+}
@@ -0,0 +1,232 @@
+package filters;
+
+import com.fasterxml.jackson.databind.*;
+import config.*;
+import io.restassured.builder.*;
+import io.restassured.filter.*;
+import io.restassured.http.*;
+import io.restassured.response.*;
+import io.restassured.specification.*;
+import org.slf4j.*;
+import utils.*;
+
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.security.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.regex.*;
+
+/**
+ * Records exchanges to an {@link ExchangeStore} or replays them without touching the network.
+ * Requests are matched by method, path template and a hash of the normalized body (keys sorted,
+ * run tags such as {@code System.currentTimeMillis()} suffixes masked). Among those, exchanges with the
+ * same normalized path and query parameters are preferred. Repeated identical requests replay the recorded
+ * responses in order and then keep returning the last one.
+ *
+ * Runs last in the filter chain, so reporting filters still see every exchange.
+ * Configuration keys: exchange.mode (off, record, replay), exchange.store, exchange.replay.strict.
+ */
+public class RecordReplayFilter implements OrderedFilter {
+    private static final Logger logger = LoggerFactory.getLogger(RecordReplayFilter.class);
+    private static final Pattern RUN_TAG = Pattern.compile("\\d{13}");
+    private static final String DEFAULT_STORE = "recordings/exchanges.jsonl.gz";
+
+    private static RecordReplayFilter shared;
+
+    private final boolean replay;
+    private final boolean strict;
+    private final ExchangeStore store;
+    private final Map<String, List<RecordedExchange>> byBody = new HashMap<>();
+    private final Map<String, List<RecordedExchange>> byTemplate = new HashMap<>();
+    private final Map<String, AtomicInteger> cursors = new ConcurrentHashMap<>();
+
+    private RecordReplayFilter(boolean replay, ExchangeStore store, boolean strict) {
+        this.replay = replay;
+        this.store = store;
+        this.strict = strict;
+        if (replay) {
+            for (RecordedExchange exchange : store.load()) {
+                String template = exchange.getMethod() + " " + exchange.getTemplate();
+                byTemplate.computeIfAbsent(template, k -> new ArrayList<>()).add(exchange);
+                byBody.computeIfAbsent(template + " " + exchange.getBodyHash(), k -> new ArrayList<>()).add(exchange);
+            }
+            logger.info("Replaying {} recorded exchanges from {}",
+                    byTemplate.values().stream().mapToInt(List::size).sum(), store.getFile());
+        }
+    }
+
+    /**
+     * Get the shared filter for the configured exchange.mode, or null when recording and replay are off.
+     */
+    public static synchronized Filter get() {
+        String mode = EnvironmentConfig.get("exchange.mode", "off").toLowerCase(Locale.ROOT);
+        if ("off".equals(mode)) {
+            return null;
+        }
+        if (!"record".equals(mode) && !"replay".equals(mode)) {
+            throw new IllegalArgumentException("Unknown exchange.mode '" + mode + "', expected off, record or replay");
+        }
+        if (shared == null) {
+            shared = new RecordReplayFilter("replay".equals(mode),
+                    new ExchangeStore(Paths.get(EnvironmentConfig.get("exchange.store", DEFAULT_STORE))),
+                    EnvironmentConfig.getBoolean("exchange.replay.strict", true));
+        }
+        return shared;
+    }
+
+    /**
+     * Check if exchange.mode=replay, i.e. responses come from the store instead of the server.
+     */
+    public static boolean isReplaying() {
+        return "replay".equals(EnvironmentConfig.get("exchange.mode", "off").toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Finish the recording of this run, if any.
+     */
+    public static synchronized void close() {
+        if (shared != null) {
+            shared.store.close();
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return OrderedFilter.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String method = requestSpec.getMethod();
+        String template = requestSpec.getUserDefinedPath();
+        Map<String, String> params = normalizedParams(requestSpec);
+        String bodyHash = hash(normalizeBody(AsyncAllureRestAssured.bodyAsString(requestSpec.getBody())));
+
+        if (!replay) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            Map<String, String> headers = new TreeMap<>();
+            if (response.getContentType() != null && !response.getContentType().isEmpty()) {
+                headers.put("Content-Type", response.getContentType());
+            }
+            store.append(new RecordedExchange(method, template, params, bodyHash,
+                    response.getStatusCode(), headers, response.getBody().asString()));
+            return response;
+        }
+
+        RecordedExchange recorded = find(method + " " + template, bodyHash, params);
+        if (recorded == null) {
+            if (strict) {
+                throw new IllegalStateException("No recorded exchange for " + method + " " + template + " " + params);
+            }
+            return ctx.next(requestSpec, responseSpec);
+        }
+        return toResponse(recorded);
+    }
+
+    private RecordedExchange find(String template, String bodyHash, Map<String, String> params) {
+        List<RecordedExchange> candidates = byBody.get(template + " " + bodyHash);
+        if (candidates == null) {
+            candidates = byTemplate.get(template);
+            if (candidates == null) {
+                return null;
+            }
+        }
+
+        List<RecordedExchange> sameParams = new ArrayList<>();
+        for (RecordedExchange candidate : candidates) {
+            if (candidate.getParams().equals(params)) {
+                sameParams.add(candidate);
+            }
+        }
+        List<RecordedExchange> pool = sameParams.isEmpty() ? candidates : sameParams;
+
+        String cursorKey = template + " " + bodyHash + " " + params;
+        int index = cursors.computeIfAbsent(cursorKey, k -> new AtomicInteger()).getAndIncrement();
+        return pool.get(Math.min(index, pool.size() - 1));
+    }
+
+    private static Response toResponse(RecordedExchange recorded) {
+        List<Header> headers = new ArrayList<>();
+        recorded.getHeaders().forEach((name, value) -> headers.add(new Header(name, value)));
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(recorded.getStatus())
+                .setStatusLine("HTTP/1.1 " + recorded.getStatus())
+                .setHeaders(new Headers(headers))
+                .setBody(recorded.getBody() != null ? recorded.getBody() : "");
+        String contentType = recorded.getHeaders().get("Content-Type");
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+
+    private static Map<String, String> normalizedParams(FilterableRequestSpecification requestSpec) {
+        Map<String, String> params = new TreeMap<>();
+        requestSpec.getPathParams().forEach((name, value) -> params.put("path." + name, mask(String.valueOf(value))));
+        requestSpec.getQueryParams().forEach((name, value) -> params.put("query." + name, mask(String.valueOf(value))));
+        return params;
+    }
+
+    /**
+     * Canonical form of a request body: JSON with sorted keys and masked run tags, or the masked raw text.
+     */
+    static String normalizeBody(String body) {
+        if (body == null || body.trim().isEmpty()) {
+            return "";
+        }
+        try {
+            StringBuilder canonical = new StringBuilder();
+            appendCanonical(JsonUtils.getMapper().readTree(body), canonical);
+            return canonical.toString();
+        } catch (Exception e) {
+            return mask(body.trim());
+        }
+    }
+
+    private static void appendCanonical(JsonNode node, StringBuilder out) {
+        if (node.isObject()) {
+            List<String> names = new ArrayList<>();
+            node.fieldNames().forEachRemaining(names::add);
+            Collections.sort(names);
+            out.append('{');
+            for (String name : names) {
+                out.append(name).append(':');
+                appendCanonical(node.get(name), out);
+                out.append(',');
+            }
+            out.append('}');
+        } else if (node.isArray()) {
+            out.append('[');
+            for (JsonNode element : node) {
+                appendCanonical(element, out);
+                out.append(',');
+            }
+            out.append(']');
+        } else if (node.isTextual()) {
+            out.append('"').append(mask(node.asText())).append('"');
+        } else {
+            out.append(mask(node.toString()));
+        }
+    }
+
+    private static String mask(String value) {
+        return RUN_TAG.matcher(value).replaceAll("#");
+    }
+
+    private static String hash(String normalized) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
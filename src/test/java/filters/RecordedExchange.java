@@ -0,0 +1,103 @@
+package filters;
+
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.node.*;
+import utils.*;
+
+import java.util.*;
+
+/**
+ * One recorded request/response pair as stored by {@link ExchangeStore}.
+ * Serialized as a single JSON line with short keys to keep recordings compact.
+ */
+public class RecordedExchange {
+    private final String method;
+    private final String template;
+    private final Map<String, String> params;
+    private final String bodyHash;
+    private final int status;
+    private final Map<String, String> headers;
+    private final String body;
+
+    public RecordedExchange(String method, String template, Map<String, String> params, String bodyHash,
+                            int status, Map<String, String> headers, String body) {
+        this.method = method;
+        this.template = template;
+        this.params = params;
+        this.bodyHash = bodyHash;
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Get the path template as written in the client, e.g. {@code /api/v1/stages/{stageId}}.
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Get normalized path and query parameters.
+     */
+    public Map<String, String> getParams() {
+        return params;
+    }
+
+    /**
+     * Get hash of the normalized request body.
+     */
+    public String getBodyHash() {
+        return bodyHash;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    String toJsonLine() {
+        ObjectNode node = JsonUtils.getMapper().createObjectNode();
+        node.put("m", method);
+        node.put("t", template);
+        node.set("p", JsonUtils.getMapper().valueToTree(params));
+        node.put("h", bodyHash);
+        node.put("s", status);
+        node.set("hd", JsonUtils.getMapper().valueToTree(headers));
+        node.put("b", body);
+        return node.toString();
+    }
+
+    static RecordedExchange fromJsonLine(String line) {
+        try {
+            JsonNode node = JsonUtils.getMapper().readTree(line);
+            return new RecordedExchange(
+                    node.path("m").asText(),
+                    node.path("t").asText(),
+                    toMap(node.path("p")),
+                    node.path("h").asText(),
+                    node.path("s").asInt(),
+                    toMap(node.path("hd")),
+                    node.path("b").isNull() ? null : node.path("b").asText());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid recorded exchange: " + e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, String> toMap(JsonNode node) {
+        Map<String, String> map = new TreeMap<>();
+        node.fields().forEachRemaining(field -> map.put(field.getKey(), field.getValue().asText()));
+        return map;
+    }
+}
@@ -0,0 +1,355 @@
+package filters;
+
+import concurrency.*;
+import config.*;
+import io.restassured.filter.*;
+import io.restassured.http.*;
+import io.restassured.response.*;
+import io.restassured.specification.*;
+import org.slf4j.*;
+import utils.*;
+
+import java.io.*;
+import java.net.http.*;
+import java.time.*;
+import java.time.format.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static io.restassured.RestAssured.*;
+
+/**
+ * Retries idempotent reads that fail transiently and optionally hedges slow ones.
+ * <ul>
+ *   <li>Responses with a status in retry.statuses (default 429, 502, 503, 504) and connection failures other
+ *       than timeouts are retried up to retry.maxAttempts times in total. The delay is drawn uniformly between
+ *       zero and an exponentially growing cap ("full jitter"), unless the response carries a
+ *       {@code Retry-After} header, which is honoured up to retry.maxRetryAfterMillis; a response asking for a
+ *       longer wait is returned as it is.</li>
+ *   <li>With retry.hedge.enabled=true, a second identical request is sent when the first has not answered
+ *       within the observed p95 latency of its endpoint, and whichever answers first wins.</li>
+ * </ul>
+ * Retries and hedges are counted separately from first attempts, and the p95 is tracked from first attempts
+ * only, so neither hides a latency regression. Every attempt is reported to {@link AdaptiveConcurrency} once,
+ * with its own exchange time: the first by {@link ConcurrencySignalFilter}, retries by this filter.
+ *
+ * The first attempt goes down the rest of the chain. A filter context walks that chain only once, so retries
+ * and hedges are sent detached, through the same transport and connection configuration. Runs innermost (added
+ * after the record/replay filter with the same order), so replayed exchanges are never retried and the filters
+ * outside see a single exchange per call.
+ * Configuration keys: retry.enabled, retry.methods, retry.statuses, retry.maxAttempts, retry.baseDelayMillis,
+ * retry.maxDelayMillis, retry.maxRetryAfterMillis, retry.hedge.enabled, retry.hedge.minSamples.
+ */
+public class RetryFilter implements OrderedFilter {
+    private static final Logger logger = LoggerFactory.getLogger(RetryFilter.class);
+    private static final int LATENCY_WINDOW = 256;
+
+    private static final AtomicLong retries = new AtomicLong();
+    private static final AtomicLong retriedRequests = new AtomicLong();
+    private static final AtomicLong recoveredRequests = new AtomicLong();
+    private static final AtomicLong hedges = new AtomicLong();
+    private static final AtomicLong hedgeWins = new AtomicLong();
+
+    private static RetryFilter shared;
+
+    private final Set<String> methods = new HashSet<>();
+    private final Set<Integer> statuses = new HashSet<>();
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final long maxRetryAfterMillis;
+    private final boolean hedge;
+    private final int hedgeMinSamples;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private final ExecutorService hedgeExecutor;
+
+    private RetryFilter() {
+        for (String method : EnvironmentConfig.get("retry.methods", "GET,HEAD,OPTIONS").split("\\s*,\\s*")) {
+            methods.add(method.toUpperCase(Locale.ROOT));
+        }
+        for (String status : EnvironmentConfig.get("retry.statuses", "429,502,503,504").split("\\s*,\\s*")) {
+            statuses.add(Integer.parseInt(status));
+        }
+        this.maxAttempts = Math.max(1, EnvironmentConfig.getInt("retry.maxAttempts", 3));
+        this.baseDelayMillis = EnvironmentConfig.getInt("retry.baseDelayMillis", 200);
+        this.maxDelayMillis = EnvironmentConfig.getInt("retry.maxDelayMillis", 5000);
+        this.maxRetryAfterMillis = EnvironmentConfig.getInt("retry.maxRetryAfterMillis", 30_000);
+        this.hedge = EnvironmentConfig.getBoolean("retry.hedge.enabled", false);
+        this.hedgeMinSamples = EnvironmentConfig.getInt("retry.hedge.minSamples", 20);
+        this.hedgeExecutor = hedge ? Executors.newCachedThreadPool(DaemonThreads.factory("retry-hedge")) : null;
+    }
+
+    /**
+     * Get the shared filter, or null when retry.enabled=false.
+     */
+    public static synchronized Filter get() {
+        if (!EnvironmentConfig.getBoolean("retry.enabled", true)) {
+            return null;
+        }
+        if (shared == null) {
+            shared = new RetryFilter();
+        }
+        return shared;
+    }
+
+    /**
+     * Log retry and hedge counts.
+     */
+    public static void logSummary() {
+        if (retries.get() + hedges.get() > 0) {
+            logger.info("Retries: {} extra attempts for {} requests, {} recovered; hedges: {} sent, {} won",
+                    retries.get(), retriedRequests.get(), recoveredRequests.get(), hedges.get(), hedgeWins.get());
+        }
+    }
+
+    /**
+     * Get number of extra attempts sent after transient failures.
+     */
+    public static long getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * Get number of hedge requests sent.
+     */
+    public static long getHedges() {
+        return hedges.get();
+    }
+
+    /**
+     * Get number of hedge requests that answered before the original.
+     */
+    public static long getHedgeWins() {
+        return hedgeWins.get();
+    }
+
+    @Override
+    public int getOrder() {
+        return OrderedFilter.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!methods.contains(requestSpec.getMethod().toUpperCase(Locale.ROOT))) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        String endpoint = requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath();
+
+        for (int attempt = 1; ; attempt++) {
+            long start = System.nanoTime();
+            Response response;
+            try {
+                if (attempt == 1) {
+                    response = hedge ? sendHedged(requestSpec, responseSpec, ctx, endpoint) : ctx.next(requestSpec, responseSpec);
+                } else {
+                    // The context has already walked the rest of the chain; calling next() again returns nothing
+                    response = sendDetached(requestSpec);
+                    reportRetry(start, response.getStatusCode());
+                }
+            } catch (Exception e) {
+                if (attempt > 1) {
+                    reportRetry(start, 0);
+                }
+                if (attempt >= maxAttempts || !isTransient(e)) {
+                    throw e;
+                }
+                countRetry(attempt);
+                backOff(attempt, -1, endpoint, e.getClass().getSimpleName());
+                continue;
+            }
+
+            if (attempt == 1) {
+                latencies.computeIfAbsent(endpoint, k -> new LatencyWindow()).add((System.nanoTime() - start) / 1_000_000);
+            }
+            int status = response.getStatusCode();
+            if (!statuses.contains(status) || attempt >= maxAttempts) {
+                if (attempt > 1 && !statuses.contains(status)) {
+                    recoveredRequests.incrementAndGet();
+                }
+                return response;
+            }
+            long retryAfter = retryAfterMillis(response.getHeader("Retry-After"));
+            if (retryAfter > maxRetryAfterMillis) {
+                // Retrying sooner than the server asked for would only add load it has already refused
+                logger.debug("Not retrying {} after {}: Retry-After {}ms exceeds {}ms",
+                        endpoint, status, retryAfter, maxRetryAfterMillis);
+                return response;
+            }
+            countRetry(attempt);
+            backOff(attempt, retryAfter, endpoint, String.valueOf(status));
+        }
+    }
+
+    private static void countRetry(int attempt) {
+        if (attempt == 1) {
+            retriedRequests.incrementAndGet();
+        }
+        retries.incrementAndGet();
+    }
+
+    /**
+     * Report a retry's own exchange to the adaptive limit; the signal filter only sees the first attempt.
+     */
+    private static void reportRetry(long startNanos, int status) {
+        if (AdaptiveConcurrency.isAdaptive()) {
+            AdaptiveConcurrency.record((System.nanoTime() - startNanos) / 1000, status);
+        }
+    }
+
+    private void backOff(int attempt, long retryAfterMillis, String endpoint, String reason) {
+        long delay = retryAfterMillis >= 0
+                ? retryAfterMillis
+                : ThreadLocalRandom.current().nextLong(Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20)) + 1);
+        logger.debug("Retrying {} after {} in {}ms (attempt {} of {})", endpoint, reason, delay, attempt + 1, maxAttempts);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off " + endpoint, e);
+        }
+    }
+
+    /**
+     * Send the request and, if it is slower than the endpoint's p95, a detached copy of it; the first answer wins.
+     */
+    private Response sendHedged(FilterableRequestSpecification requestSpec,
+                                FilterableResponseSpecification responseSpec,
+                                FilterContext ctx, String endpoint) {
+        LatencyWindow window = latencies.get(endpoint);
+        long hedgeAfter = window != null ? window.p95(hedgeMinSamples) : -1;
+        if (hedgeAfter < 0) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        CompletableFuture<Response> primary = CompletableFuture.supplyAsync(() -> ctx.next(requestSpec, responseSpec), hedgeExecutor);
+        try {
+            return primary.get(hedgeAfter, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Slower than usual: hedge below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + endpoint, e);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+
+        hedges.incrementAndGet();
+        CompletableFuture<Response> secondary = CompletableFuture.supplyAsync(() -> sendDetached(requestSpec), hedgeExecutor);
+        CompletableFuture<Response> first = new CompletableFuture<>();
+        primary.thenAccept(first::complete);
+        secondary.thenAccept(response -> {
+            if (first.complete(response)) {
+                hedgeWins.incrementAndGet();
+            }
+        });
+        CompletableFuture.allOf(primary, secondary).whenComplete((ignored, error) -> {
+            // Fail only when both failed, with the original's error
+            if (!primary.isCompletedExceptionally()) {
+                first.complete(primary.join());
+            } else if (!secondary.isCompletedExceptionally()) {
+                first.complete(secondary.join());
+            } else {
+                first.completeExceptionally(error);
+            }
+        });
+        try {
+            return first.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    /**
+     * Send a copy of the request outside the filter chain, through the same transport and connection configuration.
+     */
+    private static Response sendDetached(FilterableRequestSpecification requestSpec) {
+        if (Http2TransportFilter.get() != null && Http2TransportFilter.canSend(requestSpec)) {
+            // A new stream on an open HTTP/2 connection, not another pooled HTTP/1.1 connection
+            return Http2TransportFilter.send(requestSpec);
+        }
+        RequestSpecification copy = given().noFilters().config(requestSpec.getConfig()).urlEncodingEnabled(false);
+        for (Header header : requestSpec.getHeaders()) {
+            copy.header(header.getName(), header.getValue());
+        }
+        copy.cookies(requestSpec.getCookies());
+        Object body = requestSpec.getBody();
+        if (body != null) {
+            copy.body(body);
+        }
+        return copy.request(requestSpec.getMethod(), requestSpec.getURI());
+    }
+
+    private static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedIOException || cause instanceof HttpTimeoutException) {
+                // Timeouts are not retried: another attempt would most likely time out as well
+                return false;
+            }
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parse a Retry-After header (delta seconds or HTTP date) into milliseconds, or -1.
+     */
+    static long retryAfterMillis(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return -1;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value.trim()) * 1000);
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(Instant.now(), date.toInstant()).toMillis());
+            } catch (DateTimeParseException ignored) {
+                return -1;
+            }
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable error) {
+        if (error instanceof RuntimeException) {
+            return (RuntimeException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        return new IllegalStateException(error.getMessage(), error);
+    }
+
+    /**
+     * Latencies of the most recent first attempts of one endpoint, with a p95 recomputed every few samples.
+     */
+    private static class LatencyWindow {
+        private final long[] samples = new long[LATENCY_WINDOW];
+        private int count;
+        private volatile long p95 = -1;
+
+        synchronized void add(long millis) {
+            samples[count % LATENCY_WINDOW] = millis;
+            count++;
+            if (count % 16 == 0) {
+                long[] sorted = Arrays.copyOf(samples, Math.min(count, LATENCY_WINDOW));
+                Arrays.sort(sorted);
+                p95 = sorted[(int) Math.ceil(0.95 * sorted.length) - 1];
+            }
+        }
+
+        long p95(int minSamples) {
+            synchronized (this) {
+                if (count < minSamples) {
+                    return -1;
+                }
+            }
+            return p95;
+        }
+    }
+
+}
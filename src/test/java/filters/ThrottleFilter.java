@@ -0,0 +1,54 @@
+package filters;
+
+import io.restassured.filter.*;
+import io.restassured.response.*;
+import io.restassured.specification.*;
+import throttle.*;
+
+import java.net.*;
+
+/**
+ * Applies the rate limit and bulkhead of the request's {@link EndpointGroup}.
+ * Ordered outside the concurrency signal filter, so time spent waiting here does not count as
+ * server latency; requests to paths outside every group pass straight through.
+ * Not used while exchanges are replayed, since replayed calls never reach the server.
+ */
+public class ThrottleFilter implements OrderedFilter {
+    private static final ThrottleFilter shared = new ThrottleFilter();
+
+    /**
+     * Get the shared filter, or null when throttle.enabled=false, no group is configured or exchange.mode=replay.
+     */
+    public static Filter get() {
+        if (RecordReplayFilter.isReplaying()) {
+            return null;
+        }
+        return EndpointThrottle.isEnabled() && !EndpointThrottle.getGroups().isEmpty() ? shared : null;
+    }
+
+    @Override
+    public int getOrder() {
+        return OrderedFilter.LOWEST_PRECEDENCE - 2;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        EndpointGroup group = EndpointThrottle.forPath(URI.create(requestSpec.getURI()).getPath());
+        if (group == null) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        try {
+            group.enter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for throttle group '" + group.getName() + "'", e);
+        }
+        try {
+            return ctx.next(requestSpec, responseSpec);
+        } finally {
+            group.exit();
+        }
+    }
+}
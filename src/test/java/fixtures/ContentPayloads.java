@@ -0,0 +1,165 @@
+package fixtures;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static fixtures.PayloadTemplate.*;
+
+/**
+ * Request payload builders for journeys, stages, chapters and pages.
+ * Mirrors the payloads used by the CRUD tests so seeded content looks like test-created content.
+ * The {@code ...Body} variants render the same payloads from {@link PayloadTemplate}s serialized once,
+ * for high-rate creation.
+ */
+public class ContentPayloads {
+    public static final String DEFAULT_ASSET_ID = "d0f9b79d-c9d2-48a2-94e5-363787223829";
+    public static final String DEFAULT_LANGUAGE = "en-gb";
+    public static final String DEFAULT_PAGE_LANGUAGE = "en";
+
+    private static final PayloadTemplate JOURNEY_TEMPLATE =
+            withLanguage(journey(slot("title"), slot("description")), "title", "description");
+    private static final PayloadTemplate DRAFT_TEMPLATE =
+            withLanguage(draftContent(slot("title"), slot("description")), "title", "description");
+    private static final Map<String, PayloadTemplate> pageTemplates = new ConcurrentHashMap<>();
+
+    /**
+     * Build a journey creation request.
+     */
+    public static Map<String, Object> journey(String title, String description) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("title", title);
+        request.put("assetId", DEFAULT_ASSET_ID);
+        request.put("assetDescription", description);
+        request.put("language", DEFAULT_LANGUAGE);
+        return request;
+    }
+
+    /**
+     * Build a stage creation request.
+     */
+    public static Map<String, Object> stage(String title, String description) {
+        return draftContent(title, description);
+    }
+
+    /**
+     * Build a chapter creation request.
+     */
+    public static Map<String, Object> chapter(String title, String description) {
+        return draftContent(title, description);
+    }
+
+    /**
+     * Build a page creation request for the given template type.
+     * Image, text-with-image and text templates get their full content; other templates get a title only.
+     */
+    public static Map<String, Object> page(String templateType, String chapterSlug, String title) {
+        Map<String, Object> content = new HashMap<>();
+        content.put("templateType", templateType);
+        content.put("title", title);
+
+        switch (templateType) {
+            case "oba_image_template":
+                content.put("imageId", DEFAULT_ASSET_ID);
+                content.put("information", richText("Image page additional information"));
+                break;
+            case "oba_text_image_template":
+                content.put("text", richText("Text with image page content"));
+                content.put("imageId", DEFAULT_ASSET_ID);
+                content.put("information", richText("Additional information"));
+                break;
+            case "oba_text_template":
+                content.put("text", richText("Text page content"));
+                content.put("description", richText("Page description"));
+                content.put("information", richText("Additional information"));
+                break;
+            default:
+                break;
+        }
+
+        Map<String, Object> request = new HashMap<>();
+        request.put("templateType", templateType);
+        request.put("chapterSlug", chapterSlug);
+        request.put("language", DEFAULT_PAGE_LANGUAGE);
+        request.put("includeInPublishing", true);
+        request.put("content", content);
+        return request;
+    }
+
+    /**
+     * Render a journey creation request.
+     */
+    public static byte[] journeyBody(String title, String description) {
+        return JOURNEY_TEMPLATE.render(title, description, DEFAULT_LANGUAGE);
+    }
+
+    /**
+     * Render a stage creation request.
+     */
+    public static byte[] stageBody(String title, String description) {
+        return DRAFT_TEMPLATE.render(title, description, DEFAULT_LANGUAGE);
+    }
+
+    /**
+     * Render a chapter creation request.
+     */
+    public static byte[] chapterBody(String title, String description) {
+        return DRAFT_TEMPLATE.render(title, description, DEFAULT_LANGUAGE);
+    }
+
+    /**
+     * Render a page creation request for the given template type.
+     */
+    public static byte[] pageBody(String templateType, String chapterSlug, String title) {
+        return pageTemplate(templateType).render(chapterSlug, title, DEFAULT_ASSET_ID, DEFAULT_PAGE_LANGUAGE);
+    }
+
+    /**
+     * Get the page template of a template type, with slots chapterSlug, title, imageId and language.
+     * Template types without an image ignore the imageId value.
+     */
+    public static PayloadTemplate pageTemplate(String templateType) {
+        return pageTemplates.computeIfAbsent(templateType, type -> {
+            Map<String, Object> request = page(type, slot("chapterSlug"), slot("title"));
+            request.put("language", slot("language"));
+            @SuppressWarnings("unchecked")
+            Map<String, Object> content = (Map<String, Object>) request.get("content");
+            content.computeIfPresent("imageId", (key, value) -> slot("imageId"));
+            return PayloadTemplate.of(request, "chapterSlug", "title", "imageId", "language");
+        });
+    }
+
+    /**
+     * Build a rich text document with a single paragraph.
+     */
+    public static Map<String, Object> richText(String text) {
+        Map<String, Object> textNode = new HashMap<>();
+        textNode.put("type", "text");
+        textNode.put("text", text);
+
+        Map<String, Object> paragraph = new HashMap<>();
+        paragraph.put("type", "paragraph");
+        paragraph.put("content", new ArrayList<>(Collections.singletonList(textNode)));
+
+        Map<String, Object> richText = new HashMap<>();
+        richText.put("type", "doc");
+        richText.put("content", new ArrayList<>(Collections.singletonList(paragraph)));
+        return richText;
+    }
+
+    private static PayloadTemplate withLanguage(Map<String, Object> request, String... slots) {
+        request.put("language", slot("language"));
+        String[] names = Arrays.copyOf(slots, slots.length + 1);
+        names[slots.length] = "language";
+        return PayloadTemplate.of(request, names);
+    }
+
+    private static Map<String, Object> draftContent(String title, String description) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("title", title);
+        request.put("assetId", DEFAULT_ASSET_ID);
+        request.put("assetDescription", description);
+        request.put("status", "DRAFT");
+        request.put("language", DEFAULT_LANGUAGE);
+        return request;
+    }
+}
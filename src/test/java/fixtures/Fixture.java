@@ -0,0 +1,45 @@
+package fixtures;
+
+/**
+ * Pooled journey → stage → chapter hierarchy handed out by {@link FixturePool}.
+ * Lease state is guarded by the pool; the entities themselves are immutable handles.
+ */
+public class Fixture {
+    private final SeededHierarchy.Journey journey;
+
+    // Guarded by FixturePool
+    int readers;
+    boolean exclusive;
+
+    Fixture(SeededHierarchy.Journey journey) {
+        this.journey = journey;
+    }
+
+    public SeededHierarchy.Journey getJourney() {
+        return journey;
+    }
+
+    public SeededHierarchy.Stage getStage() {
+        return journey.getStages().get(0);
+    }
+
+    public SeededHierarchy.Chapter getChapter() {
+        return getStage().getChapters().get(0);
+    }
+
+    /**
+     * Check that the journey, stage and chapter were created and their ids resolved.
+     */
+    boolean isUsable() {
+        if (journey.getId() == null || journey.getStages().isEmpty()) {
+            return false;
+        }
+        SeededHierarchy.Stage stage = getStage();
+        return stage.getId() != null && !stage.getChapters().isEmpty() && getChapter().getId() != null;
+    }
+
+    @Override
+    public String toString() {
+        return "Fixture{" + journey.getTitle() + "}";
+    }
+}
@@ -0,0 +1,55 @@
+package fixtures;
+
+/**
+ * Lease on a pooled {@link Fixture}.
+ * Shared leases are read-only and may be held by several test classes at once; an exclusive lease
+ * may modify the fixture, which is reset to its seeded state when the lease is released.
+ */
+public class FixtureLease implements AutoCloseable {
+    private final Fixture fixture;
+    private final boolean exclusive;
+    private volatile boolean discarded;
+    private volatile boolean released;
+
+    FixtureLease(Fixture fixture, boolean exclusive) {
+        this.fixture = fixture;
+        this.exclusive = exclusive;
+    }
+
+    public Fixture getFixture() {
+        return fixture;
+    }
+
+    public boolean isExclusive() {
+        return exclusive;
+    }
+
+    /**
+     * Recycle the fixture on release instead of resetting it.
+     * Use this after changes a reset cannot undo, such as added pages or deleted children.
+     */
+    public void discard() {
+        if (!exclusive) {
+            throw new IllegalStateException("Only an exclusive lease can discard its fixture");
+        }
+        discarded = true;
+    }
+
+    boolean isDiscarded() {
+        return discarded;
+    }
+
+    /**
+     * Return the fixture to the pool. Releasing twice has no effect.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+            released = true;
+        }
+        FixturePool.release(this);
+    }
+}
@@ -0,0 +1,293 @@
+package fixtures;
+
+import client.*;
+import config.*;
+import io.restassured.response.*;
+import org.slf4j.*;
+import registry.*;
+import utils.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Suite-wide pool of pre-seeded journey → stage → chapter hierarchies.
+ * Test classes that only need a valid hierarchy lease one instead of creating and deleting their own:
+ *
+ * <pre>
+ * lease = FixturePool.leaseShared();
+ * String stageId = lease.getFixture().getStage().getId();
+ * ...
+ * lease.close();
+ * </pre>
+ *
+ * Shared leases are read-only and can be held concurrently. An exclusive lease is reset on release by
+ * restoring the seeded journey, stage and chapter payloads; a discarded lease, or one whose reset fails,
+ * is recycled by deleting the fixture and seeding a replacement.
+ * Deletions are queued on the {@link TeardownReaper}.
+ * The pool is seeded on the first lease, or at suite start with fixtures.pool.eager=true.
+ *
+ * Configuration keys: fixtures.pool.eager, fixtures.pool.size, fixtures.pool.pagesPerChapter,
+ * fixtures.pool.leaseTimeoutSeconds.
+ */
+public class FixturePool {
+    private static final Logger logger = LoggerFactory.getLogger(FixturePool.class);
+    private static final String TITLE_PREFIX = "Fixture Pool";
+
+    private static final Object lock = new Object();
+    private static final List<Fixture> fixtures = new ArrayList<>();
+    private static final List<String> failures = new ArrayList<>();
+    private static CompletableFuture<Void> provisioning;
+    private static int pendingReplacements;
+    // Created on first use and again after shutdown(), so a later suite in the same JVM gets a fresh pool
+    private static ExecutorService maintenance;
+
+    private static final AtomicLong sharedLeases = new AtomicLong();
+    private static final AtomicLong exclusiveLeases = new AtomicLong();
+    private static final AtomicLong resets = new AtomicLong();
+    private static final AtomicLong recycles = new AtomicLong();
+
+    /**
+     * Start seeding the pool in the background. Calling it again has no effect.
+     */
+    public static void start() {
+        synchronized (lock) {
+            if (provisioning != null) {
+                return;
+            }
+            int size = Math.max(1, EnvironmentConfig.getInt("fixtures.pool.size", 2));
+            provisioning = CompletableFuture.runAsync(() -> provision(size), maintenance());
+        }
+    }
+
+    /**
+     * Lease a fixture for reading. Blocks while every fixture is leased exclusively.
+     */
+    public static FixtureLease leaseShared() {
+        sharedLeases.incrementAndGet();
+        return acquire(false);
+    }
+
+    /**
+     * Lease a fixture for modification. Blocks until a fixture has no other lease.
+     */
+    public static FixtureLease leaseExclusive() {
+        exclusiveLeases.incrementAndGet();
+        return acquire(true);
+    }
+
+    private static FixtureLease acquire(boolean exclusive) {
+        start();
+        long deadline = System.currentTimeMillis()
+                + EnvironmentConfig.getInt("fixtures.pool.leaseTimeoutSeconds", 120) * 1000L;
+        synchronized (lock) {
+            while (true) {
+                Fixture fixture = exclusive ? findFree() : findReadable();
+                if (fixture != null) {
+                    if (exclusive) {
+                        fixture.exclusive = true;
+                    } else {
+                        fixture.readers++;
+                    }
+                    return new FixtureLease(fixture, exclusive);
+                }
+
+                if (provisioning == null) {
+                    throw new IllegalStateException("Fixture pool was shut down while waiting for a fixture");
+                }
+                if (provisioning.isDone() && fixtures.isEmpty() && pendingReplacements == 0) {
+                    throw new IllegalStateException("Fixture pool has no usable fixtures: " + failures);
+                }
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new IllegalStateException("No " + (exclusive ? "exclusive" : "shared")
+                            + " fixture available within the lease timeout");
+                }
+                try {
+                    lock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for a fixture", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Prefer fixtures that already have readers so that free ones stay available for exclusive leases.
+     */
+    private static Fixture findReadable() {
+        Fixture best = null;
+        for (Fixture fixture : fixtures) {
+            if (!fixture.exclusive && (best == null || fixture.readers > best.readers)) {
+                best = fixture;
+            }
+        }
+        return best;
+    }
+
+    private static Fixture findFree() {
+        for (Fixture fixture : fixtures) {
+            if (!fixture.exclusive && fixture.readers == 0) {
+                return fixture;
+            }
+        }
+        return null;
+    }
+
+    static void release(FixtureLease lease) {
+        Fixture fixture = lease.getFixture();
+        if (!lease.isExclusive()) {
+            synchronized (lock) {
+                fixture.readers--;
+                lock.notifyAll();
+            }
+            return;
+        }
+
+        // The fixture stays exclusively held until it is reset or replaced
+        ExecutorService executor;
+        synchronized (lock) {
+            if (!fixtures.contains(fixture)) {
+                // Released after shutdown() already queued it for deletion
+                return;
+            }
+            executor = maintenance();
+        }
+        executor.execute(() -> {
+            if (!lease.isDiscarded() && reset(fixture)) {
+                resets.incrementAndGet();
+                synchronized (lock) {
+                    fixture.exclusive = false;
+                    lock.notifyAll();
+                }
+            } else {
+                recycle(fixture);
+            }
+        });
+    }
+
+    /**
+     * Restore the seeded payloads of the fixture's journey, stage and chapter.
+     */
+    private static boolean reset(Fixture fixture) {
+        try {
+            SeededHierarchy.Journey journey = fixture.getJourney();
+            SeededHierarchy.Stage stage = fixture.getStage();
+            SeededHierarchy.Chapter chapter = fixture.getChapter();
+            return isSuccess(new JourneyClient().updateJourney(journey.getId(),
+                            ContentPayloads.journey(journey.getTitle(), HierarchySeeder.JOURNEY_DESCRIPTION)))
+                    && isSuccess(new StageClient().updateStage(stage.getId(),
+                            ContentPayloads.stage(stage.getTitle(), HierarchySeeder.STAGE_DESCRIPTION)))
+                    && isSuccess(new ChapterClient().updateChapter(chapter.getId(),
+                            ContentPayloads.chapter(chapter.getTitle(), HierarchySeeder.CHAPTER_DESCRIPTION)));
+        } catch (Exception e) {
+            logger.warn("Failed to reset {}: {}", fixture, e.getMessage());
+            return false;
+        }
+    }
+
+    private static void recycle(Fixture fixture) {
+        recycles.incrementAndGet();
+        synchronized (lock) {
+            fixtures.remove(fixture);
+            pendingReplacements++;
+        }
+        delete(fixture);
+        try {
+            provision(1);
+        } finally {
+            synchronized (lock) {
+                pendingReplacements--;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private static void provision(int count) {
+        SeededHierarchy hierarchy = new HierarchySeeder().seed(HierarchySpec.builder()
+                .titlePrefix(TITLE_PREFIX)
+                .journeys(count)
+                .pagesPerChapter(EnvironmentConfig.getInt("fixtures.pool.pagesPerChapter", 0))
+                .build());
+
+        List<Fixture> usable = new ArrayList<>();
+        for (SeededHierarchy.Journey journey : hierarchy.getJourneys()) {
+            Fixture fixture = new Fixture(journey);
+            if (fixture.isUsable()) {
+                usable.add(fixture);
+            } else {
+                delete(fixture);
+            }
+        }
+        logger.info("Fixture pool seeded {} of {} fixtures in {}ms", usable.size(), count, hierarchy.getDurationMs());
+
+        synchronized (lock) {
+            fixtures.addAll(usable);
+            failures.addAll(hierarchy.getFailures());
+            lock.notifyAll();
+        }
+    }
+
+    private static void delete(Fixture fixture) {
+        String journeyId = fixture.getJourney().getId();
+        if (journeyId == null) {
+            logger.warn("Cannot delete {} without a journey id", fixture);
+            return;
+        }
+        TeardownReaper.enqueue(EntityType.JOURNEY, journeyId);
+    }
+
+    private static ExecutorService maintenance() {
+        synchronized (lock) {
+            if (maintenance == null) {
+                maintenance = Executors.newSingleThreadExecutor(DaemonThreads.factory("fixture-pool"));
+            }
+            return maintenance;
+        }
+    }
+
+    private static boolean isSuccess(Response response) {
+        return response.getStatusCode() >= 200 && response.getStatusCode() < 300;
+    }
+
+    /**
+     * Queue all pooled fixtures for deletion once pending resets and replacements are done, and reset the
+     * pool so that the next lease seeds it again. Leases still held at this point are ignored.
+     */
+    public static void shutdown() {
+        ExecutorService executor;
+        synchronized (lock) {
+            if (provisioning == null) {
+                return;
+            }
+            executor = maintenance;
+            maintenance = null;
+        }
+
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(60, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<Fixture> remaining;
+        synchronized (lock) {
+            remaining = new ArrayList<>(fixtures);
+            fixtures.clear();
+            failures.clear();
+            pendingReplacements = 0;
+            provisioning = null;
+            lock.notifyAll();
+        }
+        remaining.forEach(FixturePool::delete);
+        logger.info("Fixture pool: {} shared leases, {} exclusive leases, {} resets, {} recycles, {} fixtures queued for deletion",
+                sharedLeases.getAndSet(0), exclusiveLeases.getAndSet(0), resets.getAndSet(0), recycles.getAndSet(0),
+                remaining.size());
+    }
+
+}
@@ -0,0 +1,251 @@
+package fixtures;
+
+import client.*;
+import io.restassured.response.*;
+import org.slf4j.*;
+import registry.*;
+import utils.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Seeds journey → stage → chapter → page hierarchies concurrently.
+ * Every entity is created as soon as its parent's slug is known, so independent branches run in
+ * parallel while parent → child order is preserved. Ids are resolved through the {@link EntityRegistry}
+ * once all children of a parent exist, which costs one list call per parent instead of one search per entity.
+ */
+public class HierarchySeeder {
+    private static final Logger logger = LoggerFactory.getLogger(HierarchySeeder.class);
+    static final String JOURNEY_DESCRIPTION = "Seeded journey";
+    static final String STAGE_DESCRIPTION = "Seeded stage";
+    static final String CHAPTER_DESCRIPTION = "Seeded chapter";
+
+    private final JourneyClient journeyClient = new JourneyClient();
+    private final StageClient stageClient = new StageClient();
+    private final ChapterClient chapterClient = new ChapterClient();
+    private final PageClient pageClient = new PageClient();
+
+    /**
+     * Create the hierarchy described by the spec.
+     * Failures of individual branches are recorded on the returned handle; the rest is still seeded.
+     */
+    public SeededHierarchy seed(HierarchySpec spec) {
+        logger.info("Seeding hierarchy: {}", spec);
+        long start = System.currentTimeMillis();
+        String runTag = String.valueOf(start);
+        SeededHierarchy hierarchy = new SeededHierarchy(spec.getJourneys());
+
+        ExecutorService executor = Executors.newFixedThreadPool(spec.getParallelism(), DaemonThreads.factory("hierarchy-seeder"));
+        try {
+            Seeding seeding = new Seeding(spec, hierarchy, executor, runTag);
+            List<CompletableFuture<Void>> journeys = new ArrayList<>();
+            for (int j = 0; j < spec.getJourneys(); j++) {
+                journeys.add(seeding.journey(j));
+            }
+            CompletableFuture.allOf(journeys.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        hierarchy.setDurationMs(System.currentTimeMillis() - start);
+        logger.info("Seeded {} entities in {}ms ({} failures)",
+                spec.getTotalEntities(), hierarchy.getDurationMs(), hierarchy.getFailures().size());
+        return hierarchy;
+    }
+
+    /**
+     * State of one seeding run.
+     */
+    private class Seeding {
+        private final HierarchySpec spec;
+        private final SeededHierarchy hierarchy;
+        private final ExecutorService executor;
+        private final String runTag;
+
+        Seeding(HierarchySpec spec, SeededHierarchy hierarchy, ExecutorService executor, String runTag) {
+            this.spec = spec;
+            this.hierarchy = hierarchy;
+            this.executor = executor;
+            this.runTag = runTag;
+        }
+
+        CompletableFuture<Void> journey(int j) {
+            String label = String.valueOf(j);
+            String title = title("Journey", label);
+            return create("journey " + title, () -> {
+                String slug = createdSlug(EntityType.JOURNEY, title, null, journeyClient.createJourney(
+                        ContentPayloads.journeyBody(title, JOURNEY_DESCRIPTION)));
+                SeededHierarchy.Journey journey = new SeededHierarchy.Journey(slug, title, spec.getStagesPerJourney());
+                hierarchy.setJourney(j, journey);
+                return journey;
+            }).thenCompose(journey -> {
+                CompletableFuture<Void> journeyId = lookup("journey id of " + title,
+                        () -> journey.setId(EntityRegistry.resolveId(EntityType.JOURNEY, journey.getSlug())));
+
+                List<CompletableFuture<SeededHierarchy.Stage>> created = new ArrayList<>();
+                for (int s = 0; s < spec.getStagesPerJourney(); s++) {
+                    created.add(createStage(journey, label, s));
+                }
+
+                // Stage ids come from one list call once every stage of the journey exists
+                CompletableFuture<Void> stageIds = allSettled(created).thenCompose(v -> lookup(
+                        "stage ids of " + title, () -> assignIds(journey.getStages(), EntityType.STAGE)));
+
+                List<CompletableFuture<Void>> branches = new ArrayList<>();
+                branches.add(journeyId);
+                for (int s = 0; s < created.size(); s++) {
+                    String stageLabel = label + "-" + s;
+                    branches.add(created.get(s).thenCompose(stage -> chapters(stage, stageLabel, stageIds)));
+                }
+                return allOf(branches);
+            }).exceptionally(alreadyRecorded -> null);
+        }
+
+        private CompletableFuture<SeededHierarchy.Stage> createStage(SeededHierarchy.Journey journey,
+                                                                     String journeyLabel, int s) {
+            String title = title("Stage", journeyLabel + "-" + s);
+            return create("stage " + title, () -> {
+                String slug = createdSlug(EntityType.STAGE, title, journey.getSlug(), stageClient.createStage(
+                        journey.getSlug(), ContentPayloads.stageBody(title, STAGE_DESCRIPTION)));
+                SeededHierarchy.Stage stage = new SeededHierarchy.Stage(slug, title, spec.getChaptersPerStage());
+                journey.setStage(s, stage);
+                return stage;
+            });
+        }
+
+        private CompletableFuture<Void> chapters(SeededHierarchy.Stage stage, String stageLabel,
+                                                 CompletableFuture<Void> stageIds) {
+            List<CompletableFuture<SeededHierarchy.Chapter>> created = new ArrayList<>();
+            for (int c = 0; c < spec.getChaptersPerStage(); c++) {
+                int index = c;
+                String title = title("Chapter", stageLabel + "-" + c);
+                created.add(create("chapter " + title, () -> {
+                    String slug = createdSlug(EntityType.CHAPTER, title, stage.getSlug(), chapterClient.createChapter(
+                            stage.getSlug(), ContentPayloads.chapterBody(title, CHAPTER_DESCRIPTION)));
+                    SeededHierarchy.Chapter chapter = new SeededHierarchy.Chapter(slug, title, spec.getPagesPerChapter());
+                    stage.setChapter(index, chapter);
+                    return chapter;
+                }));
+            }
+
+            // Chapter ids are listed by stage id, so wait for the stage ids as well
+            CompletableFuture<Void> chapterIds = allSettled(created).thenCombine(stageIds, (a, b) -> b)
+                    .thenCompose(v -> lookup("chapter ids of " + stage.getTitle(), () -> {
+                        if (stage.getId() != null) {
+                            assignIds(stage.getChapters(), EntityType.CHAPTER);
+                        }
+                    }));
+
+            List<CompletableFuture<Void>> branches = new ArrayList<>();
+            branches.add(chapterIds);
+            for (int c = 0; c < created.size(); c++) {
+                String chapterLabel = stageLabel + "-" + c;
+                branches.add(created.get(c).thenCompose(chapter -> pages(chapter, chapterLabel)));
+            }
+            return allOf(branches);
+        }
+
+        private CompletableFuture<Void> pages(SeededHierarchy.Chapter chapter, String chapterLabel) {
+            if (spec.getPagesPerChapter() == 0) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            List<CompletableFuture<SeededHierarchy.Page>> created = new ArrayList<>();
+            for (int p = 0; p < spec.getPagesPerChapter(); p++) {
+                int index = p;
+                String templateType = spec.getTemplateType(p);
+                String title = title("Page", chapterLabel + "-" + p);
+                created.add(create("page " + title, () -> {
+                    String slug = createdSlug(EntityType.PAGE, title, chapter.getSlug(), pageClient.createPage(
+                            ContentPayloads.pageBody(templateType, chapter.getSlug(), title)));
+                    SeededHierarchy.Page page = new SeededHierarchy.Page(slug, title, templateType);
+                    chapter.setPage(index, page);
+                    return page;
+                }));
+            }
+
+            return allSettled(created).thenCompose(v -> lookup("page ids of " + chapter.getTitle(), () ->
+                    assignIds(chapter.getPages(), EntityType.PAGE)));
+        }
+
+        private String title(String type, String label) {
+            return spec.getTitlePrefix() + " " + type + " " + runTag + "-" + label;
+        }
+
+        /**
+         * Run an id lookup; a failed lookup is recorded and leaves the ids unset.
+         */
+        private CompletableFuture<Void> lookup(String what, Runnable lookup) {
+            return CompletableFuture.runAsync(lookup, executor).exceptionally(failure("resolve " + what));
+        }
+
+        /**
+         * Create an entity on the seeding executor; a failed creation is recorded on the handle.
+         */
+        private <T> CompletableFuture<T> create(String what, Supplier<T> task) {
+            CompletableFuture<T> created = CompletableFuture.supplyAsync(task, executor);
+            created.whenComplete((value, throwable) -> {
+                if (throwable != null) {
+                    failure("create " + what).apply(throwable);
+                }
+            });
+            return created;
+        }
+
+        private CompletableFuture<Void> allOf(List<CompletableFuture<Void>> futures) {
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        }
+
+        /**
+         * Completes when all futures are done, whether they succeeded or not.
+         */
+        private <T> CompletableFuture<Void> allSettled(List<CompletableFuture<T>> futures) {
+            List<CompletableFuture<Void>> settled = new ArrayList<>();
+            for (CompletableFuture<T> future : futures) {
+                settled.add(future.thenAccept(value -> { }).exceptionally(alreadyRecorded -> null));
+            }
+            return allOf(settled);
+        }
+
+        private Function<Throwable, Void> failure(String what) {
+            return throwable -> {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable;
+                String message = "Failed to " + what + ": " + cause.getMessage();
+                hierarchy.recordFailure(message);
+                logger.warn(message);
+                return null;
+            };
+        }
+    }
+
+    /**
+     * Assign ids from the entity registry; the first id of a parent's children costs one list call.
+     */
+    private static void assignIds(List<? extends SeededHierarchy.Entity> entities, EntityType type) {
+        for (SeededHierarchy.Entity entity : entities) {
+            entity.setId(EntityRegistry.resolveId(type, entity.getSlug()));
+        }
+    }
+
+    /**
+     * Record a created entity with the title and parent it was rendered with, so the registry never has
+     * to parse the rendered body back, and return its slug.
+     */
+    private static String createdSlug(EntityType type, String title, String parentSlug, Response response) {
+        String what = type.name().toLowerCase(Locale.ROOT) + " " + title;
+        int status = response.getStatusCode();
+        if (status != 200 && status != 201) {
+            throw new IllegalStateException("Creating " + what + " returned " + status + ": "
+                    + response.getBody().asString());
+        }
+        EntityRecord record = EntityEvents.created(type, title, parentSlug, response);
+        if (record == null || record.getSlug() == null) {
+            throw new IllegalStateException("Creating " + what + " returned no slug");
+        }
+        return record.getSlug();
+    }
+
+}
@@ -0,0 +1,144 @@
+package fixtures;
+
+import config.*;
+
+import java.util.*;
+
+/**
+ * Declarative description of a journey → stage → chapter → page hierarchy to seed.
+ *
+ * <pre>
+ * HierarchySpec.builder()
+ *         .journeys(3)
+ *         .stagesPerJourney(5)
+ *         .chaptersPerStage(4)
+ *         .pagesPerChapter(10)
+ *         .templateTypes("oba_text_template", "oba_image_template")
+ *         .build();
+ * </pre>
+ */
+public class HierarchySpec {
+    private final String titlePrefix;
+    private final int journeys;
+    private final int stagesPerJourney;
+    private final int chaptersPerStage;
+    private final int pagesPerChapter;
+    private final List<String> templateTypes;
+    private final int parallelism;
+
+    private HierarchySpec(Builder builder) {
+        this.titlePrefix = builder.titlePrefix;
+        this.journeys = builder.journeys;
+        this.stagesPerJourney = builder.stagesPerJourney;
+        this.chaptersPerStage = builder.chaptersPerStage;
+        this.pagesPerChapter = builder.pagesPerChapter;
+        this.templateTypes = Collections.unmodifiableList(new ArrayList<>(builder.templateTypes));
+        this.parallelism = builder.parallelism;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getTitlePrefix() {
+        return titlePrefix;
+    }
+
+    public int getJourneys() {
+        return journeys;
+    }
+
+    public int getStagesPerJourney() {
+        return stagesPerJourney;
+    }
+
+    public int getChaptersPerStage() {
+        return chaptersPerStage;
+    }
+
+    public int getPagesPerChapter() {
+        return pagesPerChapter;
+    }
+
+    public List<String> getTemplateTypes() {
+        return templateTypes;
+    }
+
+    /**
+     * Get the template type for the n-th page of a chapter (template types are cycled).
+     */
+    public String getTemplateType(int pageIndex) {
+        return templateTypes.get(pageIndex % templateTypes.size());
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Get total number of entities the spec creates.
+     */
+    public int getTotalEntities() {
+        int stages = journeys * stagesPerJourney;
+        int chapters = stages * chaptersPerStage;
+        return journeys + stages + chapters + chapters * pagesPerChapter;
+    }
+
+    @Override
+    public String toString() {
+        return journeys + " journeys x " + stagesPerJourney + " stages x " + chaptersPerStage
+                + " chapters x " + pagesPerChapter + " pages " + templateTypes;
+    }
+
+    public static class Builder {
+        private String titlePrefix = "Seeded";
+        private int journeys = 1;
+        private int stagesPerJourney = 1;
+        private int chaptersPerStage = 1;
+        private int pagesPerChapter = 0;
+        private List<String> templateTypes = Collections.singletonList("oba_text_template");
+        private int parallelism = EnvironmentConfig.getInt("seeder.parallelism", 8);
+
+        public Builder titlePrefix(String titlePrefix) {
+            this.titlePrefix = titlePrefix;
+            return this;
+        }
+
+        public Builder journeys(int journeys) {
+            this.journeys = journeys;
+            return this;
+        }
+
+        public Builder stagesPerJourney(int stagesPerJourney) {
+            this.stagesPerJourney = stagesPerJourney;
+            return this;
+        }
+
+        public Builder chaptersPerStage(int chaptersPerStage) {
+            this.chaptersPerStage = chaptersPerStage;
+            return this;
+        }
+
+        public Builder pagesPerChapter(int pagesPerChapter) {
+            this.pagesPerChapter = pagesPerChapter;
+            return this;
+        }
+
+        public Builder templateTypes(String... templateTypes) {
+            if (templateTypes.length == 0) {
+                throw new IllegalArgumentException("At least one template type is required");
+            }
+            this.templateTypes = Arrays.asList(templateTypes);
+            return this;
+        }
+
+        public Builder parallelism(int parallelism) {
+            this.parallelism = Math.max(1, parallelism);
+            return this;
+        }
+
+        public HierarchySpec build() {
+            return new HierarchySpec(this);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package fixtures;
+
+import client.*;
+import config.*;
+import org.slf4j.*;
+import registry.*;
+
+import java.util.*;
+import java.util.regex.*;
+
+/**
+ * Finds journeys left behind by crashed runs and queues them on the {@link TeardownReaper}.
+ * A journey is an orphan when its title starts with one of the test title prefixes and carries a run tag
+ * (the {@code System.currentTimeMillis()} suffix used by the tests and the seeder) older than the
+ * maximum age. Deleting a journey removes its stages, chapters and pages with it.
+ *
+ * Categories are not swept: there is no endpoint that lists them independently of a journey.
+ * Configuration keys: sweep.prefixes (comma separated), sweep.maxAgeMinutes, sweep.pageSize.
+ */
+public class OrphanSweeper {
+    private static final Logger logger = LoggerFactory.getLogger(OrphanSweeper.class);
+
+    private static final String DEFAULT_PREFIXES = "E2E Test Journey,Page Types Test,Journey CRUD Test,"
+            + "Stage CRUD Test Journey,Chapter CRUD Test Journey,Stage Settings Test Journey,"
+            + "Chapter Settings Test Journey,Fixture Pool,Seeded";
+    private static final Pattern RUN_TAG = Pattern.compile("(?<!\\d)(1\\d{12})(?!\\d)");
+
+    /**
+     * Queue all stale run-tagged journeys for deletion.
+     * @return Number of journeys queued
+     */
+    public static int sweep() {
+        long maxAgeMillis = EnvironmentConfig.getInt("sweep.maxAgeMinutes", 60) * 60_000L;
+        long cutoff = System.currentTimeMillis() - maxAgeMillis;
+        int pageSize = EnvironmentConfig.getInt("sweep.pageSize", 50);
+        JourneyClient journeyClient = new JourneyClient();
+
+        Set<String> orphans = new LinkedHashSet<>();
+        for (String prefix : getPrefixes()) {
+            journeyClient.getAllJourneysPaged(pageSize, prefix, "", "").stream()
+                    .filter(journey -> isOrphan(journey.path("title").asText(""), prefix, cutoff))
+                    .map(journey -> journey.path("id").asText(null))
+                    .filter(Objects::nonNull)
+                    .forEach(orphans::add);
+        }
+
+        orphans.forEach(id -> TeardownReaper.enqueue(EntityType.JOURNEY, id));
+        logger.info("Orphan sweep queued {} journeys older than {} minutes", orphans.size(), maxAgeMillis / 60_000);
+        return orphans.size();
+    }
+
+    static boolean isOrphan(String title, String prefix, long cutoff) {
+        if (!title.startsWith(prefix)) {
+            return false;
+        }
+        Matcher matcher = RUN_TAG.matcher(title);
+        return matcher.find() && Long.parseLong(matcher.group(1)) < cutoff;
+    }
+
+    private static List<String> getPrefixes() {
+        List<String> prefixes = new ArrayList<>();
+        for (String prefix : EnvironmentConfig.get("sweep.prefixes", DEFAULT_PREFIXES).split(",")) {
+            if (!prefix.trim().isEmpty()) {
+                prefixes.add(prefix.trim());
+            }
+        }
+        return prefixes;
+    }
+}
@@ -0,0 +1,185 @@
+package fixtures;
+
+import utils.*;
+
+import java.nio.charset.*;
+import java.util.*;
+
+/**
+ * A JSON request body serialized once, with named slots patched in per request.
+ * The payload is built as usual, with {@link #slot(String)} markers as the values that change; it is
+ * serialized once and split into literal byte segments and slots. {@link #render(Object...)} then only
+ * writes the slot values between the segments into a single byte array, without building a map or
+ * running the Jackson serializer:
+ * <pre>
+ * PayloadTemplate template = PayloadTemplate.of(ContentPayloads.journey(slot("title"), slot("description")),
+ *         "title", "description");
+ * byte[] body = template.render(title, description);
+ * </pre>
+ * A slot replaces a whole JSON value, so the marker must be the entire string. Strings are written as escaped
+ * JSON strings, null as {@code null}, and numbers and booleans as themselves. A slot may occur several times;
+ * a declared slot that does not occur in this payload is allowed and its value is ignored, so related
+ * templates can share one argument order.
+ */
+public class PayloadTemplate {
+    private static final String MARKER_PREFIX = "{{slot:";
+    private static final String MARKER_SUFFIX = "}}";
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final List<String> slots;
+    private final byte[][] segments;
+    private final int[] slotIndexes;
+    private final int literalLength;
+
+    private PayloadTemplate(List<String> slots, byte[][] segments, int[] slotIndexes) {
+        this.slots = slots;
+        this.segments = segments;
+        this.slotIndexes = slotIndexes;
+        int length = 0;
+        for (byte[] segment : segments) {
+            length += segment.length;
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Get the marker to use as the value of a slot in the payload.
+     */
+    public static String slot(String name) {
+        return MARKER_PREFIX + name + MARKER_SUFFIX;
+    }
+
+    /**
+     * Serialize a payload and compile its slots.
+     * @param payload Payload with {@link #slot(String)} markers, serialized like a Rest Assured body
+     * @param slots Slot names in the order {@link #render(Object...)} takes their values
+     * @throws IllegalArgumentException if the payload contains a slot that is not declared
+     */
+    public static PayloadTemplate of(Object payload, String... slots) {
+        String json = JsonUtils.toJson(payload);
+        List<String> names = Collections.unmodifiableList(Arrays.asList(slots.clone()));
+
+        List<byte[]> segments = new ArrayList<>();
+        List<Integer> slotIndexes = new ArrayList<>();
+        String quotedPrefix = "\"" + MARKER_PREFIX;
+        int position = 0;
+        for (int start = json.indexOf(quotedPrefix); start >= 0; start = json.indexOf(quotedPrefix, position)) {
+            int end = json.indexOf(MARKER_SUFFIX + "\"", start);
+            String name = json.substring(start + quotedPrefix.length(), end);
+            int index = names.indexOf(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("Slot '" + name + "' is not declared in " + names);
+            }
+            segments.add(json.substring(position, start).getBytes(StandardCharsets.UTF_8));
+            slotIndexes.add(index);
+            position = end + MARKER_SUFFIX.length() + 1;
+        }
+        segments.add(json.substring(position).getBytes(StandardCharsets.UTF_8));
+
+        return new PayloadTemplate(names, segments.toArray(new byte[0][]),
+                slotIndexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    public List<String> getSlots() {
+        return slots;
+    }
+
+    /**
+     * Render the body with one value per declared slot.
+     * @return UTF-8 JSON, ready to be sent as a request body
+     */
+    public byte[] render(Object... values) {
+        if (values.length != slots.size()) {
+            throw new IllegalArgumentException("Expected values for " + slots + " but got " + values.length);
+        }
+        byte[][] encoded = new byte[values.length][];
+        int length = literalLength;
+        for (int slot : slotIndexes) {
+            if (encoded[slot] == null) {
+                encoded[slot] = encode(values[slot]);
+            }
+            length += encoded[slot].length;
+        }
+
+        byte[] body = new byte[length];
+        int offset = 0;
+        for (int i = 0; i < slotIndexes.length; i++) {
+            System.arraycopy(segments[i], 0, body, offset, segments[i].length);
+            offset += segments[i].length;
+            byte[] value = encoded[slotIndexes[i]];
+            System.arraycopy(value, 0, body, offset, value.length);
+            offset += value.length;
+        }
+        byte[] last = segments[segments.length - 1];
+        System.arraycopy(last, 0, body, offset, last.length);
+        return body;
+    }
+
+    private static byte[] encode(Object value) {
+        if (value == null) {
+            return NULL;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString().getBytes(StandardCharsets.US_ASCII);
+        }
+        String text = value.toString();
+        if (isPlain(text)) {
+            // Common case: printable ASCII without quotes or backslashes needs no escaping
+            byte[] bytes = new byte[text.length() + 2];
+            bytes[0] = '"';
+            for (int i = 0; i < text.length(); i++) {
+                bytes[i + 1] = (byte) text.charAt(i);
+            }
+            bytes[bytes.length - 1] = '"';
+            return bytes;
+        }
+        return escape(text);
+    }
+
+    private static boolean isPlain(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x20 || c > 0x7e || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] escape(String text) {
+        StringBuilder out = new StringBuilder(text.length() + 8).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append("\\u00").append((char) HEX[c >> 4]).append((char) HEX[c & 0xf]);
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        return out.append('"').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "PayloadTemplate" + slots;
+    }
+}
@@ -0,0 +1,186 @@
+package fixtures;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Typed handle to a seeded journey → stage → chapter → page hierarchy.
+ * Children are kept in declaration order. Ids are resolved after creation and may be null
+ * if the id lookup failed; slugs are always set for created entities.
+ */
+public class SeededHierarchy {
+    private final Journey[] journeys;
+    private final List<String> failures = new CopyOnWriteArrayList<>();
+    private volatile long durationMs;
+
+    SeededHierarchy(int journeyCount) {
+        this.journeys = new Journey[journeyCount];
+    }
+
+    public List<Journey> getJourneys() {
+        return present(journeys);
+    }
+
+    /**
+     * Get every seeded stage across all journeys.
+     */
+    public List<Stage> getAllStages() {
+        List<Stage> stages = new ArrayList<>();
+        getJourneys().forEach(journey -> stages.addAll(journey.getStages()));
+        return stages;
+    }
+
+    /**
+     * Get every seeded chapter across all stages.
+     */
+    public List<Chapter> getAllChapters() {
+        List<Chapter> chapters = new ArrayList<>();
+        getAllStages().forEach(stage -> chapters.addAll(stage.getChapters()));
+        return chapters;
+    }
+
+    /**
+     * Get every seeded page across all chapters.
+     */
+    public List<Page> getAllPages() {
+        List<Page> pages = new ArrayList<>();
+        getAllChapters().forEach(chapter -> pages.addAll(chapter.getPages()));
+        return pages;
+    }
+
+    /**
+     * Get error messages of creations or lookups that failed.
+     */
+    public List<String> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    public boolean isComplete() {
+        return failures.isEmpty();
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    void setJourney(int index, Journey journey) {
+        journeys[index] = journey;
+    }
+
+    void recordFailure(String failure) {
+        failures.add(failure);
+    }
+
+    void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    private static <T> List<T> present(T[] items) {
+        List<T> result = new ArrayList<>(items.length);
+        for (T item : items) {
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Common identity of a seeded entity.
+     */
+    public abstract static class Entity {
+        private final String slug;
+        private final String title;
+        private volatile String id;
+
+        Entity(String slug, String title) {
+            this.slug = slug;
+            this.title = title;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getSlug() {
+            return slug;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        void setId(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "{id='" + id + "', slug='" + slug + "', title='" + title + "'}";
+        }
+    }
+
+    public static class Journey extends Entity {
+        private final Stage[] stages;
+
+        Journey(String slug, String title, int stageCount) {
+            super(slug, title);
+            this.stages = new Stage[stageCount];
+        }
+
+        public List<Stage> getStages() {
+            return present(stages);
+        }
+
+        void setStage(int index, Stage stage) {
+            stages[index] = stage;
+        }
+    }
+
+    public static class Stage extends Entity {
+        private final Chapter[] chapters;
+
+        Stage(String slug, String title, int chapterCount) {
+            super(slug, title);
+            this.chapters = new Chapter[chapterCount];
+        }
+
+        public List<Chapter> getChapters() {
+            return present(chapters);
+        }
+
+        void setChapter(int index, Chapter chapter) {
+            chapters[index] = chapter;
+        }
+    }
+
+    public static class Chapter extends Entity {
+        private final Page[] pages;
+
+        Chapter(String slug, String title, int pageCount) {
+            super(slug, title);
+            this.pages = new Page[pageCount];
+        }
+
+        public List<Page> getPages() {
+            return present(pages);
+        }
+
+        void setPage(int index, Page page) {
+            pages[index] = page;
+        }
+    }
+
+    public static class Page extends Entity {
+        private final String templateType;
+
+        Page(String slug, String title, String templateType) {
+            super(slug, title);
+            this.templateType = templateType;
+        }
+
+        public String getTemplateType() {
+            return templateType;
+        }
+    }
+}
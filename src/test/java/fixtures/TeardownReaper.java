@@ -0,0 +1,144 @@
+package fixtures;
+
+import client.*;
+import config.*;
+import io.restassured.response.*;
+import org.slf4j.*;
+import registry.*;
+import utils.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * Deferred, batched deletion of test entities.
+ * Test classes enqueue what they created instead of deleting it on the test thread; the queue is drained
+ * at suite end in reverse dependency order (pages → chapters → stages → journeys → categories). Deletions
+ * of one level run concurrently and are retried with backoff; a 404 counts as deleted, since removing a
+ * parent usually cascades to its children.
+ *
+ * The queue is drained by {@code listeners.SuiteLifecycleListener}, which TestNG loads as a service for every run.
+ * With {@code reaper.deferred=false} entities are deleted as soon as they are enqueued.
+ * Configuration keys: reaper.deferred, reaper.threads, reaper.maxAttempts, reaper.backoffMillis.
+ */
+public class TeardownReaper {
+    private static final Logger logger = LoggerFactory.getLogger(TeardownReaper.class);
+
+    private static final List<EntityType> DELETION_ORDER = Arrays.asList(
+            EntityType.PAGE, EntityType.CHAPTER, EntityType.STAGE, EntityType.JOURNEY, EntityType.CATEGORY);
+
+    private static final Map<EntityType, Set<String>> queued = new ConcurrentHashMap<>();
+    private static final AtomicLong deleted = new AtomicLong();
+    private static final AtomicLong retries = new AtomicLong();
+    private static final AtomicLong failed = new AtomicLong();
+
+    /**
+     * Queue an entity for deletion. Null ids are ignored and duplicates are deleted once.
+     * @param type Type of the entity
+     * @param id Unique identifier of the entity
+     */
+    public static void enqueue(EntityType type, String id) {
+        if (id == null) {
+            return;
+        }
+        if (!EnvironmentConfig.getBoolean("reaper.deferred", true)) {
+            delete(type, id);
+            return;
+        }
+        queued.computeIfAbsent(type, t -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    /**
+     * Get number of entities waiting for deletion.
+     */
+    public static int getQueued() {
+        return queued.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Delete everything queued so far, level by level.
+     * Entities enqueued while draining are picked up in the same call.
+     */
+    public static void drain() {
+        if (getQueued() == 0) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, EnvironmentConfig.getInt("reaper.threads", 8)), DaemonThreads.factory("teardown-reaper"));
+        try {
+            while (getQueued() > 0) {
+                for (EntityType type : DELETION_ORDER) {
+                    drainLevel(type, executor);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        logger.info("Teardown reaper deleted {} entities in {}ms ({} retries, {} failed)",
+                deleted.get(), System.currentTimeMillis() - start, retries.get(), failed.get());
+    }
+
+    private static void drainLevel(EntityType type, ExecutorService executor) {
+        Set<String> ids = queued.getOrDefault(type, Collections.emptySet());
+        List<CompletableFuture<Void>> deletions = new ArrayList<>();
+        for (String id : new ArrayList<>(ids)) {
+            ids.remove(id);
+            deletions.add(CompletableFuture.runAsync(() -> delete(type, id), executor));
+        }
+        CompletableFuture.allOf(deletions.toArray(new CompletableFuture[0])).join();
+    }
+
+    private static void delete(EntityType type, String id) {
+        int maxAttempts = Math.max(1, EnvironmentConfig.getInt("reaper.maxAttempts", 3));
+        long backoffMillis = EnvironmentConfig.getInt("reaper.backoffMillis", 500);
+        String last = null;
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            if (attempt > 1) {
+                retries.incrementAndGet();
+                try {
+                    Thread.sleep(backoffMillis << (attempt - 2));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            try {
+                int status = deleter(type).apply(id).getStatusCode();
+                if ((status >= 200 && status < 300) || status == 404) {
+                    deleted.incrementAndGet();
+                    return;
+                }
+                last = "status " + status;
+                if (status >= 400 && status < 500 && status != 409 && status != 429) {
+                    break;
+                }
+            } catch (Exception e) {
+                last = e.getMessage();
+            }
+        }
+        failed.incrementAndGet();
+        logger.warn("Failed to delete {} {}: {}", type, id, last);
+    }
+
+    private static Function<String, Response> deleter(EntityType type) {
+        switch (type) {
+            case PAGE:
+                return new PageClient()::deletePage;
+            case CHAPTER:
+                return new ChapterClient()::deleteChapterById;
+            case STAGE:
+                return new StageClient()::deleteStage;
+            case JOURNEY:
+                return new JourneyClient()::deleteJourney;
+            case CATEGORY:
+                return new CategoryClient()::deleteCategory;
+            default:
+                throw new IllegalArgumentException("No delete endpoint for " + type);
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package listeners;
+
+import concurrency.*;
+import org.testng.*;
+
+/**
+ * Lets at most {@link AdaptiveConcurrency#getLimit()} test methods run at once.
+ * The suite's thread-count is the ceiling; each test method waits for a slot before it runs, so the
+ * effective parallelism follows the limit the controller derives from observed latency and errors.
+ * Configuration methods are not gated, so fixtures are prepared while the class waits for a slot.
+ */
+public class AdaptiveConcurrencyListener implements IInvokedMethodListener {
+    private static final ThreadLocal<Boolean> holdsSlot = ThreadLocal.withInitial(() -> false);
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        try {
+            AdaptiveConcurrency.acquire();
+            holdsSlot.set(true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod() && holdsSlot.get()) {
+            holdsSlot.set(false);
+            AdaptiveConcurrency.release();
+        }
+    }
+}
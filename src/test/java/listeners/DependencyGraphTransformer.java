@@ -0,0 +1,29 @@
+package listeners;
+
+import org.testng.annotations.*;
+
+import java.lang.reflect.*;
+
+/**
+ * Keeps the test methods of {@link DependencyScheduled} classes a pure dependency graph.
+ * TestNG already schedules {@code dependsOnMethods} as a graph and hands every method whose dependencies
+ * have completed to the thread pool; a {@code priority} on top of that only serializes branches that do not
+ * depend on each other. This transformer fails the run if one of those methods declares a priority, so an
+ * ordering need is written as an edge instead.
+ *
+ * Annotation transformers must be registered in testng.xml (not with {@code @Listeners}).
+ */
+public class DependencyGraphTransformer implements IAnnotationTransformer {
+
+    @Override
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        if (testMethod == null || !testMethod.getDeclaringClass().isAnnotationPresent(DependencyScheduled.class)) {
+            return;
+        }
+        if (annotation.getPriority() != 0) {
+            throw new IllegalStateException(testMethod.getDeclaringClass().getSimpleName() + "." + testMethod.getName()
+                    + " declares priority " + annotation.getPriority() + " in a @DependencyScheduled class;"
+                    + " declare the ordering with dependsOnMethods instead");
+        }
+    }
+}
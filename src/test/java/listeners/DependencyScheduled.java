@@ -0,0 +1,16 @@
+package listeners;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a test class whose methods are ordered by their {@code dependsOnMethods} edges only.
+ * Its test methods declare no {@code priority} ({@link DependencyGraphTransformer} fails the run if one does),
+ * so with {@code parallel="methods"} independent branches run concurrently and ordering is kept only where one
+ * method needs the state another one creates. Every true dependency must therefore be declared, including
+ * "runs before the entity is deleted".
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface DependencyScheduled {
+}
@@ -0,0 +1,26 @@
+package listeners;
+
+import filters.*;
+import org.testng.*;
+
+/**
+ * Dumps the recent HTTP exchanges of a failed test method to Allure and the log.
+ * The buffer is cleared before each test method so a dump only shows the failing test's traffic.
+ */
+public class ExchangeCaptureListener implements IInvokedMethodListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            ExchangeBuffer.clear();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (testResult.getStatus() == ITestResult.FAILURE) {
+            Throwable cause = testResult.getThrowable();
+            ExchangeBuffer.dump(cause != null ? cause.getMessage() : method.getTestMethod().getMethodName());
+        }
+    }
+}
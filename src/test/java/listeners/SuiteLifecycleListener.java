@@ -0,0 +1,56 @@
+package listeners;
+
+import async.*;
+import client.*;
+import concurrency.*;
+import config.*;
+import contract.*;
+import filters.*;
+import fixtures.*;
+import org.testng.*;
+import stub.*;
+import throttle.*;
+
+/**
+ * Suite lifecycle listener for framework-wide resources.
+ * Optionally starts shared fixtures before the suite and releases shared infrastructure once it has finished.
+ * Registered through META-INF/services/org.testng.ITestNGListener rather than in the suite files, so it also
+ * runs for single classes started with -Dtest or from the IDE; otherwise the entities queued in
+ * {@link TeardownReaper} would never be deleted.
+ */
+public class SuiteLifecycleListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        // Lets the registry resolve journeys by slug even before a client has created anything
+        EntityEvents.install();
+        if (EnvironmentConfig.getBoolean("sweep.enabled", false)) {
+            OrphanSweeper.sweep();
+            TeardownReaper.drain();
+        }
+        if (ContractValidationFilter.isEnabled()) {
+            ContractValidator.get();
+        }
+        // The pool otherwise seeds on the first lease, so suites without leasing classes never create fixtures
+        if (EnvironmentConfig.getBoolean("fixtures.pool.eager", false)) {
+            FixturePool.start();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        FixturePool.shutdown();
+        TeardownReaper.drain();
+        RecordReplayFilter.close();
+        ContractValidationFilter.logSummary();
+        RetryFilter.logSummary();
+        AdaptiveConcurrency.writeReport();
+        EndpointThrottle.writeReport();
+        AllureAttachmentWriter.flush(60_000);
+        TokenManager.shutdown();
+        AsyncHttp.shutdown();
+        Http2Transport.shutdown();
+        ConnectionPoolManager.shutdown();
+        StubServer.stop();
+    }
+}
@@ -0,0 +1,314 @@
+package load;
+
+import config.*;
+import io.restassured.response.*;
+import org.slf4j.*;
+import utils.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+import java.util.function.*;
+
+/**
+ * Open-model load generator that drives existing client methods at a target arrival rate.
+ * Requests are started on a fixed schedule derived from the rate stages (constant or linearly ramped
+ * requests per second), whatever the response times are: a slow server does not slow the arrivals down, it
+ * builds a backlog for the fixed pool of workers instead. Each arrival picks an operation at random by weight.
+ *
+ * Latency is measured from the scheduled start, so queueing behind busy workers is part of it; the service
+ * time from the actual start is reported next to it. When more than load.maxBacklog requests are waiting or
+ * in flight, further arrivals are dropped and counted rather than queued without bound.
+ *
+ * Operations are plain client calls, so requests carry the suite's auth and connection pool. Workers use the
+ * load variant of the request specifications, which leaves out the Allure and exchange capture filters, so the
+ * run neither floods the report nor buffers exchanges per thread. Throttling and retries shape the offered
+ * load; turn them off (throttle.enabled, retry.enabled) to measure the server alone. A response with status
+ * 400 or above counts as failed, as does an exception. Requests still outstanding after the drain timeout are
+ * reported as abandoned.
+ * Configuration keys (builder defaults): load.workers, load.maxBacklog, load.drainTimeoutSeconds.
+ *
+ * <pre>
+ * JourneyClient journeys = new JourneyClient();
+ * PageClient pages = new PageClient();
+ * LoadReport report = LoadGenerator.builder()
+ *         .operation("list journeys", 3, journeys::getAllJourneys)
+ *         .operation("get page", 1, () -> pages.getPageById(pageId))
+ *         .rampRps(5, 50, Duration.ofMinutes(1))
+ *         .constantRps(50, Duration.ofMinutes(5))
+ *         .workers(32)
+ *         .build()
+ *         .run();
+ * </pre>
+ */
+public class LoadGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private final List<Operation> operations;
+    private final List<Stage> stages;
+    private final int[] cumulativeWeights;
+    private final int workers;
+    private final int maxBacklog;
+    private final Duration drainTimeout;
+
+    private final AtomicInteger backlog = new AtomicInteger();
+    private final AtomicInteger peakBacklog = new AtomicInteger();
+
+    private LoadGenerator(Builder builder) {
+        if (builder.operations.isEmpty()) {
+            throw new IllegalArgumentException("At least one operation is required");
+        }
+        if (builder.stages.isEmpty()) {
+            throw new IllegalArgumentException("At least one rate stage is required");
+        }
+        this.operations = new ArrayList<>(builder.operations);
+        this.stages = new ArrayList<>(builder.stages);
+        this.cumulativeWeights = new int[operations.size()];
+        int total = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            total += operations.get(i).stats.getWeight();
+            cumulativeWeights[i] = total;
+        }
+        this.workers = builder.workers;
+        this.maxBacklog = builder.maxBacklog;
+        this.drainTimeout = builder.drainTimeout;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Issue requests on schedule until the last stage ends, wait for the outstanding responses and report.
+     * Blocks the calling thread, which does the scheduling.
+     */
+    public LoadReport run() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), workerFactory());
+        long scheduleNanos = 0;
+        for (Stage stage : stages) {
+            scheduleNanos += stage.durationNanos;
+        }
+        logger.info("Load run started - {} operations, {} stages over {} s, {} workers",
+                operations.size(), stages.size(), TimeUnit.NANOSECONDS.toSeconds(scheduleNanos), workers);
+
+        long start = System.nanoTime();
+        try {
+            for (long arrival = 1; ; arrival++) {
+                long offset = arrivalOffsetNanos(arrival);
+                if (offset < 0 || !awaitNanos(start + offset)) {
+                    break;
+                }
+                Operation operation = pick();
+                operation.stats.recordScheduled();
+                if (backlog.get() >= maxBacklog) {
+                    operation.stats.recordDropped();
+                    continue;
+                }
+                peakBacklog.accumulateAndGet(backlog.incrementAndGet(), Math::max);
+                operation.stats.recordQueued();
+                long scheduledAt = start + offset;
+                executor.execute(() -> execute(operation, scheduledAt));
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warn("{} requests still outstanding after {} s, abandoning them",
+                        backlog.get(), drainTimeout.getSeconds());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+            operations.forEach(operation -> operation.stats.abandonOutstanding());
+        }
+
+        List<OperationStats> stats = new ArrayList<>();
+        operations.forEach(operation -> stats.add(operation.stats));
+        LoadReport report = new LoadReport(stats, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                TimeUnit.NANOSECONDS.toMillis(scheduleNanos), workers, peakBacklog.get(), Http2Transport.getName());
+        logger.info("Load run finished:\n{}", report);
+        return report;
+    }
+
+    private void execute(Operation operation, long scheduledAt) {
+        try {
+            long started = System.nanoTime();
+            Response response;
+            try {
+                response = operation.call.get();
+            } catch (RuntimeException e) {
+                if (operation.stats.claim()) {
+                    operation.stats.recordError(e.getClass().getSimpleName() + ": " + e.getMessage());
+                }
+                return;
+            }
+            long finished = System.nanoTime();
+            if (!operation.stats.claim()) {
+                return;
+            }
+            int status = response.getStatusCode();
+            operation.stats.recordResponse(status, (finished - scheduledAt) / 1000, (finished - started) / 1000,
+                    status < 400);
+        } finally {
+            backlog.decrementAndGet();
+        }
+    }
+
+    /**
+     * Get the offset from the start of the run at which the given arrival is due, or -1 after the last stage.
+     * Arrival n is due when the expected number of arrivals, the integral of the rate, reaches n; for a
+     * linear ramp that is the root of a quadratic, so the schedule does not drift over long runs.
+     */
+    private long arrivalOffsetNanos(long arrival) {
+        double before = 0;
+        long stageStart = 0;
+        for (Stage stage : stages) {
+            double seconds = stage.durationNanos / 1e9;
+            double inStage = (stage.fromRps + stage.toRps) / 2 * seconds;
+            double remaining = arrival - before;
+            if (remaining <= inStage) {
+                double slope = (stage.toRps - stage.fromRps) / seconds;
+                // max(0, ...) guards the rounding error at the end of a ramp down to 0 rps
+                double at = slope == 0
+                        ? remaining / stage.fromRps
+                        : (Math.sqrt(Math.max(0, stage.fromRps * stage.fromRps + 2 * slope * remaining)) - stage.fromRps) / slope;
+                return stageStart + Math.min((long) (at * 1e9), stage.durationNanos);
+            }
+            before += inStage;
+            stageStart += stage.durationNanos;
+        }
+        return -1;
+    }
+
+    /**
+     * Wait until the given time; returns false when interrupted.
+     */
+    private static boolean awaitNanos(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Operation pick() {
+        if (operations.size() == 1) {
+            return operations.get(0);
+        }
+        int ticket = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = Arrays.binarySearch(cumulativeWeights, ticket + 1);
+        return operations.get(index >= 0 ? index : -index - 1);
+    }
+
+    /**
+     * Worker threads serve the load request specifications to every client call they make.
+     */
+    private static ThreadFactory workerFactory() {
+        ThreadFactory threads = DaemonThreads.factory("load-worker");
+        return runnable -> threads.newThread(() -> {
+            RequestSpecFactory.useLoadSpecs();
+            runnable.run();
+        });
+    }
+
+
+    private static final class Operation {
+        private final Supplier<Response> call;
+        private final OperationStats stats;
+
+        private Operation(String name, int weight, Supplier<Response> call) {
+            this.call = call;
+            this.stats = new OperationStats(name, weight);
+        }
+    }
+
+    private static final class Stage {
+        private final double fromRps;
+        private final double toRps;
+        private final long durationNanos;
+
+        private Stage(double fromRps, double toRps, Duration duration) {
+            this.fromRps = fromRps;
+            this.toRps = toRps;
+            this.durationNanos = duration.toNanos();
+        }
+    }
+
+    public static class Builder {
+        private final List<Operation> operations = new ArrayList<>();
+        private final List<Stage> stages = new ArrayList<>();
+        private int workers = EnvironmentConfig.getInt("load.workers", 16);
+        private int maxBacklog = EnvironmentConfig.getInt("load.maxBacklog", 10_000);
+        private Duration drainTimeout = Duration.ofSeconds(EnvironmentConfig.getInt("load.drainTimeoutSeconds", 30));
+
+        /**
+         * Add an operation with weight 1.
+         */
+        public Builder operation(String name, Supplier<Response> call) {
+            return operation(name, 1, call);
+        }
+
+        /**
+         * Add an operation, e.g. {@code () -> journeyClient.getJourneyById(journeyId)}.
+         * @param weight Relative share of the arrivals this operation gets
+         */
+        public Builder operation(String name, int weight, Supplier<Response> call) {
+            if (weight < 1) {
+                throw new IllegalArgumentException("Weight of operation '" + name + "' must be at least 1");
+            }
+            operations.add(new Operation(name, weight, call));
+            return this;
+        }
+
+        /**
+         * Append a stage with a constant arrival rate.
+         */
+        public Builder constantRps(double rps, Duration duration) {
+            return rampRps(rps, rps, duration);
+        }
+
+        /**
+         * Append a stage whose arrival rate changes linearly from one rate to another.
+         */
+        public Builder rampRps(double fromRps, double toRps, Duration duration) {
+            if (fromRps < 0 || toRps < 0 || fromRps + toRps == 0) {
+                throw new IllegalArgumentException("Invalid rate stage " + fromRps + " -> " + toRps + " rps");
+            }
+            if (duration.isZero() || duration.isNegative()) {
+                throw new IllegalArgumentException("Stage duration must be positive: " + duration);
+            }
+            stages.add(new Stage(fromRps, toRps, duration));
+            return this;
+        }
+
+        public Builder workers(int workers) {
+            this.workers = Math.max(1, workers);
+            return this;
+        }
+
+        /**
+         * Most requests waiting or in flight at once; arrivals beyond it are dropped.
+         */
+        public Builder maxBacklog(int maxBacklog) {
+            this.maxBacklog = Math.max(1, maxBacklog);
+            return this;
+        }
+
+        /**
+         * How long to wait for outstanding responses after the last arrival.
+         */
+        public Builder drainTimeout(Duration drainTimeout) {
+            this.drainTimeout = drainTimeout;
+            return this;
+        }
+
+        public LoadGenerator build() {
+            return new LoadGenerator(this);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package load;
+
+import java.util.*;
+
+/**
+ * Result of a {@link LoadGenerator} run: per-operation counters and latencies plus achieved throughput
+ * against the target arrival rate.
+ */
+public class LoadReport {
+    private final List<OperationStats> operations;
+    private final long elapsedMillis;
+    private final long scheduleMillis;
+    private final int workers;
+    private final int peakBacklog;
+    private final String transport;
+
+    LoadReport(List<OperationStats> operations, long elapsedMillis, long scheduleMillis, int workers,
+               int peakBacklog, String transport) {
+        this.operations = Collections.unmodifiableList(operations);
+        this.elapsedMillis = elapsedMillis;
+        this.scheduleMillis = scheduleMillis;
+        this.workers = workers;
+        this.peakBacklog = peakBacklog;
+        this.transport = transport;
+    }
+
+    public List<OperationStats> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Get the wall time of the run, including waiting for the last responses.
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Get the largest number of requests that were scheduled but not yet answered at one time.
+     * A backlog well above the worker count means the workers could not keep up with the arrival rate.
+     */
+    public int getPeakBacklog() {
+        return peakBacklog;
+    }
+
+    /**
+     * Get the transport the run used (http1 or h2).
+     */
+    public String getTransport() {
+        return transport;
+    }
+
+    public long getScheduled() {
+        return operations.stream().mapToLong(OperationStats::getScheduled).sum();
+    }
+
+    public long getSent() {
+        return operations.stream().mapToLong(OperationStats::getSent).sum();
+    }
+
+    public long getFailed() {
+        return operations.stream().mapToLong(OperationStats::getFailed).sum();
+    }
+
+    public long getDropped() {
+        return operations.stream().mapToLong(OperationStats::getDropped).sum();
+    }
+
+    /**
+     * Get number of requests still outstanding after the drain timeout, whose outcome is unknown.
+     */
+    public long getAbandoned() {
+        return operations.stream().mapToLong(OperationStats::getAbandoned).sum();
+    }
+
+    /**
+     * Get the arrival rate the schedule asked for, in requests per second.
+     */
+    public double getTargetRate() {
+        return scheduleMillis == 0 ? 0 : getScheduled() * 1000.0 / scheduleMillis;
+    }
+
+    /**
+     * Get responses per second over the whole run.
+     */
+    public double getThroughput() {
+        return elapsedMillis == 0 ? 0 : getSent() * 1000.0 / elapsedMillis;
+    }
+
+    /**
+     * Render a plain-text table with one line per operation.
+     */
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%d of %d scheduled requests sent (%d failed, %d dropped, %d abandoned) by %d workers over %s in %d ms, "
+                        + "%.1f req/s (target %.1f), peak backlog %d%n",
+                getSent(), getScheduled(), getFailed(), getDropped(), getAbandoned(), workers, transport, elapsedMillis,
+                getThroughput(), getTargetRate(), peakBacklog));
+        out.append(String.format("%-40s %7s %6s %7s %9s %9s %9s %9s %11s  %s%n",
+                "operation", "sent", "failed", "dropped", "abandoned", "p50 ms", "p95 ms", "p99 ms", "svc p99 ms", "statuses"));
+        for (OperationStats stats : operations) {
+            String name = stats.getName();
+            out.append(String.format("%-40s %7d %6d %7d %9d %9.1f %9.1f %9.1f %11.1f  %s%n",
+                    name.length() > 40 ? name.substring(0, 37) + "..." : name,
+                    stats.getSent(), stats.getFailed(), stats.getDropped(), stats.getAbandoned(),
+                    stats.getLatencyMillis(50), stats.getLatencyMillis(95), stats.getLatencyMillis(99),
+                    stats.getServiceTimeMillis(99), stats.getStatuses()));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,172 @@
+package load;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Outcome counters and latency samples of one load operation, shared by all workers.
+ * Latency is measured from the time the request was scheduled to start, so time spent waiting for a free
+ * worker counts; service time is measured from the time a worker actually started it.
+ */
+public class OperationStats {
+    private final String name;
+    private final int weight;
+    private final AtomicLong scheduled = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong outstanding = new AtomicLong();
+    private final AtomicLong abandoned = new AtomicLong();
+    private final Map<Integer, AtomicLong> statuses = new ConcurrentSkipListMap<>();
+    private volatile String lastProblem;
+    private long[] latencies = new long[64];
+    private long[] serviceTimes = new long[64];
+    private int samples;
+
+    OperationStats(String name, int weight) {
+        this.name = name;
+        this.weight = weight;
+    }
+
+    void recordScheduled() {
+        scheduled.incrementAndGet();
+    }
+
+    void recordDropped() {
+        dropped.incrementAndGet();
+        lastProblem = "dropped, backlog full";
+    }
+
+    void recordQueued() {
+        outstanding.incrementAndGet();
+    }
+
+    /**
+     * Claim the outcome of a queued request. Returns false when the request was abandoned in the meantime,
+     * in which case its outcome is not counted.
+     */
+    boolean claim() {
+        return outstanding.getAndUpdate(n -> n > 0 ? n - 1 : 0) > 0;
+    }
+
+    /**
+     * Count every request that is still queued or in flight as abandoned.
+     */
+    void abandonOutstanding() {
+        long count = outstanding.getAndSet(0);
+        if (count > 0) {
+            abandoned.addAndGet(count);
+            lastProblem = "abandoned after the drain timeout";
+        }
+    }
+
+    void recordResponse(int status, long latencyMicros, long serviceMicros, boolean ok) {
+        sent.incrementAndGet();
+        statuses.computeIfAbsent(status, s -> new AtomicLong()).incrementAndGet();
+        if (!ok) {
+            failed.incrementAndGet();
+            lastProblem = "unexpected status " + status;
+        }
+        synchronized (this) {
+            if (samples == latencies.length) {
+                latencies = Arrays.copyOf(latencies, samples * 2);
+                serviceTimes = Arrays.copyOf(serviceTimes, samples * 2);
+            }
+            latencies[samples] = latencyMicros;
+            serviceTimes[samples++] = serviceMicros;
+        }
+    }
+
+    void recordError(String message) {
+        sent.incrementAndGet();
+        failed.incrementAndGet();
+        lastProblem = message;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * Get number of requests the schedule issued for this operation, including dropped ones.
+     */
+    public long getScheduled() {
+        return scheduled.get();
+    }
+
+    public long getSent() {
+        return sent.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Get number of scheduled requests that were not sent because the backlog was full.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Get number of requests that were still queued or in flight when the run stopped waiting for them.
+     */
+    public long getAbandoned() {
+        return abandoned.get();
+    }
+
+    /**
+     * Get response counts by status code.
+     */
+    public Map<Integer, Long> getStatuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.get()));
+        return counts;
+    }
+
+    /**
+     * Get the last failure, drop or abandon reason, or null.
+     */
+    public String getLastProblem() {
+        return lastProblem;
+    }
+
+    /**
+     * Get a latency percentile in milliseconds, from scheduled start to response, or 0 when there are none.
+     * @param percentile Percentile between 0 and 100
+     */
+    public double getLatencyMillis(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            sorted = Arrays.copyOf(latencies, samples);
+        }
+        return percentile(sorted, percentile);
+    }
+
+    /**
+     * Get a service time percentile in milliseconds, from actual start to response, or 0 when there are none.
+     * @param percentile Percentile between 0 and 100
+     */
+    public double getServiceTimeMillis(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            sorted = Arrays.copyOf(serviceTimes, samples);
+        }
+        return percentile(sorted, percentile);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1000.0;
+    }
+}
@@ -0,0 +1,117 @@
+package openapi;
+
+import com.fasterxml.jackson.databind.*;
+import config.*;
+import utils.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * The OpenAPI document shipped with the repository, indexed by operation.
+ * Loaded once from {@code openapi.spec} (default {@value #DEFAULT_SPEC}) and shared by all users.
+ */
+public class OpenApiDocument {
+    public static final String DEFAULT_SPEC = "Onboarding-test-automation2.json";
+    private static final List<String> METHODS = Arrays.asList("get", "post", "put", "patch", "delete", "head", "options");
+
+    private static volatile OpenApiDocument instance;
+
+    private final JsonNode root;
+    private final List<Operation> operations;
+    private final Map<String, List<Operation>> operationsByMethod = new HashMap<>();
+
+    private OpenApiDocument(JsonNode root) {
+        this.root = root;
+        List<Operation> all = new ArrayList<>();
+        root.path("paths").fields().forEachRemaining(path -> {
+            PathTemplate template = new PathTemplate(path.getKey());
+            path.getValue().fields().forEachRemaining(entry -> {
+                if (METHODS.contains(entry.getKey())) {
+                    all.add(new Operation(entry.getKey().toUpperCase(Locale.ROOT), template, entry.getValue()));
+                }
+            });
+        });
+        this.operations = Collections.unmodifiableList(all);
+
+        for (Operation operation : all) {
+            operationsByMethod.computeIfAbsent(operation.getMethod(), m -> new ArrayList<>()).add(operation);
+        }
+        // Most specific template first, so /stages/settings/{id} wins over /stages/{id}/{other}
+        for (List<Operation> candidates : operationsByMethod.values()) {
+            candidates.sort(Comparator.comparingInt((Operation o) -> o.getPath().getLiteralCount()).reversed());
+        }
+    }
+
+    /**
+     * Get the shared document, loading it on first use.
+     */
+    public static OpenApiDocument get() {
+        OpenApiDocument result = instance;
+        if (result == null) {
+            synchronized (OpenApiDocument.class) {
+                result = instance;
+                if (result == null) {
+                    result = load(Paths.get(EnvironmentConfig.get("openapi.spec", DEFAULT_SPEC)));
+                    instance = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Load a document from a file.
+     */
+    public static OpenApiDocument load(Path file) {
+        try (InputStream input = Files.newInputStream(file)) {
+            return new OpenApiDocument(JsonUtils.getMapper().readTree(input));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load OpenAPI document " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    public JsonNode getRoot() {
+        return root;
+    }
+
+    public List<Operation> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Find the operation serving a concrete request path.
+     * @param method HTTP method
+     * @param path Request path without query string
+     */
+    public Optional<Operation> findOperation(String method, String path) {
+        List<Operation> candidates = operationsByMethod.get(method.toUpperCase(Locale.ROOT));
+        if (candidates == null) {
+            return Optional.empty();
+        }
+        String[] segments = PathTemplate.split(path);
+        for (Operation operation : candidates) {
+            if (operation.getPath().match(segments) != null) {
+                return Optional.of(operation);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Follow a local {@code $ref} chain ("#/components/schemas/...") to the referenced node.
+     * Nodes without a reference are returned unchanged.
+     */
+    public JsonNode resolve(JsonNode node) {
+        JsonNode current = node;
+        for (int hops = 0; hops < 16 && current.has("$ref"); hops++) {
+            String ref = current.get("$ref").asText();
+            if (!ref.startsWith("#")) {
+                throw new IllegalArgumentException("Only local references are supported: " + ref);
+            }
+            current = root.at(ref.substring(1));
+        }
+        return current;
+    }
+}
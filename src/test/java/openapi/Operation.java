@@ -0,0 +1,85 @@
+package openapi;
+
+import com.fasterxml.jackson.databind.*;
+
+import java.util.*;
+
+/**
+ * One operation (method + path template) of the OpenAPI document.
+ */
+public class Operation {
+    private final String method;
+    private final PathTemplate path;
+    private final JsonNode node;
+
+    Operation(String method, PathTemplate path, JsonNode node) {
+        this.method = method;
+        this.path = path;
+        this.node = node;
+    }
+
+    /**
+     * Get the HTTP method in upper case.
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    public PathTemplate getPath() {
+        return path;
+    }
+
+    /**
+     * Get the operationId, or "METHOD template" if the document does not name the operation.
+     */
+    public String getOperationId() {
+        String id = node.path("operationId").asText("");
+        return id.isEmpty() ? method + " " + path.getTemplate() : id;
+    }
+
+    /**
+     * Get the raw operation object.
+     */
+    public JsonNode getNode() {
+        return node;
+    }
+
+    /**
+     * Get the declared response object for a status code, or a missing node.
+     */
+    public JsonNode getResponse(int status) {
+        return node.path("responses").path(String.valueOf(status));
+    }
+
+    /**
+     * Get the declared status codes in ascending order.
+     */
+    public List<Integer> getStatusCodes() {
+        List<Integer> codes = new ArrayList<>();
+        node.path("responses").fieldNames().forEachRemaining(code -> {
+            try {
+                codes.add(Integer.parseInt(code));
+            } catch (NumberFormatException e) {
+                // "default" and range keys are not concrete status codes
+            }
+        });
+        Collections.sort(codes);
+        return codes;
+    }
+
+    /**
+     * Get JSON pointer of the operation within the document, e.g. {@code /paths/~1api~1v1~1stages/get}.
+     */
+    public String getPointer() {
+        return "/paths/" + escape(path.getTemplate()) + "/" + method.toLowerCase(Locale.ROOT);
+    }
+
+    private static String escape(String token) {
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + path;
+    }
+}
@@ -0,0 +1,93 @@
+package openapi;
+
+import java.util.*;
+
+/**
+ * OpenAPI path template such as {@code /api/v1/stages/{stageId}/tags}.
+ * Matches concrete paths segment by segment; templates with more literal segments are more specific.
+ */
+public class PathTemplate {
+    private final String template;
+    private final String[] segments;
+    private final boolean[] variable;
+    private final int literalCount;
+
+    public PathTemplate(String template) {
+        this.template = template;
+        this.segments = split(template);
+        this.variable = new boolean[segments.length];
+        int literals = 0;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            variable[i] = segment.startsWith("{") && segment.endsWith("}");
+            if (variable[i]) {
+                segments[i] = segment.substring(1, segment.length() - 1);
+            } else {
+                literals++;
+            }
+        }
+        this.literalCount = literals;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Get number of literal (non-variable) segments, used to prefer specific templates.
+     */
+    public int getLiteralCount() {
+        return literalCount;
+    }
+
+    /**
+     * Match a concrete path (without query string).
+     * @return Path variables by name, or null if the path does not match
+     */
+    public Map<String, String> match(String path) {
+        return match(split(path));
+    }
+
+    /**
+     * Match a path that was already split with {@link #split(String)}.
+     */
+    public Map<String, String> match(String[] pathSegments) {
+        if (pathSegments.length != segments.length) {
+            return null;
+        }
+        Map<String, String> variables = null;
+        for (int i = 0; i < segments.length; i++) {
+            if (variable[i]) {
+                if (pathSegments[i].isEmpty()) {
+                    return null;
+                }
+                if (variables == null) {
+                    variables = new LinkedHashMap<>();
+                }
+                variables.put(segments[i], pathSegments[i]);
+            } else if (!segments[i].equals(pathSegments[i])) {
+                return null;
+            }
+        }
+        return variables != null ? variables : Collections.emptyMap();
+    }
+
+    /**
+     * Split a path into segments, ignoring leading and trailing slashes.
+     */
+    public static String[] split(String path) {
+        String trimmed = path;
+        while (trimmed.startsWith("/")) {
+            trimmed = trimmed.substring(1);
+        }
+        while (trimmed.endsWith("/")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("/");
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
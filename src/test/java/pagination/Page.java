@@ -0,0 +1,72 @@
+package pagination;
+
+import com.fasterxml.jackson.databind.*;
+import io.restassured.response.*;
+import utils.*;
+
+import java.util.*;
+
+/**
+ * One page of a paged response envelope ({@code content}, {@code totalPages}, {@code last}).
+ */
+public class Page {
+    private final int number;
+    private final List<JsonNode> content;
+    private final int totalPages;
+    private final boolean last;
+
+    private Page(int number, List<JsonNode> content, int totalPages, boolean last) {
+        this.number = number;
+        this.content = content;
+        this.totalPages = totalPages;
+        this.last = last;
+    }
+
+    /**
+     * Parse a page envelope from a response.
+     * @throws IllegalStateException if the response is not a successful page envelope
+     */
+    public static Page parse(int number, Response response) {
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException(String.format("Fetching page %d failed with status %d: %s",
+                    number, response.getStatusCode(), response.getBody().asString()));
+        }
+
+        JsonNode root;
+        try {
+            root = JsonUtils.getMapper().readTree(response.getBody().asString());
+        } catch (Exception e) {
+            throw new IllegalStateException("Page " + number + " is not valid JSON: " + e.getMessage(), e);
+        }
+
+        JsonNode contentNode = root.isArray() ? root : root.path("content");
+        List<JsonNode> content = new ArrayList<>(contentNode.size());
+        contentNode.forEach(content::add);
+
+        JsonNode totalPagesNode = root.path("totalPages");
+        int totalPages = totalPagesNode.canConvertToInt() ? totalPagesNode.asInt() : -1;
+        boolean last = root.has("last")
+                ? root.path("last").asBoolean()
+                : content.isEmpty() || root.isArray() || (totalPages >= 0 && number >= totalPages - 1);
+        return new Page(number, content, totalPages, last);
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public List<JsonNode> getContent() {
+        return content;
+    }
+
+    /**
+     * Get total number of pages, or -1 if the envelope does not report it.
+     */
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    public boolean isLast() {
+        return last;
+    }
+}
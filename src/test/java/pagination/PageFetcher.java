@@ -0,0 +1,17 @@
+package pagination;
+
+import io.restassured.response.*;
+
+/**
+ * Fetches one page of a paged endpoint.
+ * Typically a method reference or lambda over an existing client, e.g.
+ * {@code page -> journeyClient.getAllJourneys(page, 50, "")}.
+ */
+@FunctionalInterface
+public interface PageFetcher {
+
+    /**
+     * Fetch the given zero-based page.
+     */
+    Response fetch(int page);
+}
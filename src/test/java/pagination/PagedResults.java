@@ -0,0 +1,247 @@
+package pagination;
+
+import com.fasterxml.jackson.databind.*;
+import config.*;
+import filters.*;
+import utils.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * Lazy view over all elements of a paged endpoint.
+ * Iteration prefetches up to {@code prefetchDepth} pages on a background executor while the caller
+ * consumes the current page. Prefetched exchanges are reported when their page is handed to the caller,
+ * on the caller's thread (see {@link ExchangeHandover}), so they land on the caller's Allure test and
+ * exchange buffer. The parallel stream mode splits the page range across fork/join workers.
+ *
+ * <pre>
+ * PagedResults.builder(page -> journeyClient.getAllJourneys(page, 50, ""))
+ *         .prefetchDepth(3)
+ *         .build()
+ *         .stream()
+ *         .forEach(journey -> ...);
+ * </pre>
+ *
+ * Configuration keys: pagination.prefetchDepth, pagination.prefetchThreads.
+ */
+public class PagedResults implements Iterable<JsonNode> {
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newFixedThreadPool(
+            EnvironmentConfig.getInt("pagination.prefetchThreads", 4), DaemonThreads.factory("page-prefetch"));
+
+    private final PageFetcher fetcher;
+    private final int startPage;
+    private final int prefetchDepth;
+    private final ExecutorService executor;
+
+    private PagedResults(Builder builder) {
+        this.fetcher = builder.fetcher;
+        this.startPage = builder.startPage;
+        this.prefetchDepth = builder.prefetchDepth;
+        this.executor = builder.executor;
+    }
+
+    public static Builder builder(PageFetcher fetcher) {
+        return new Builder(fetcher);
+    }
+
+    /**
+     * Iterate all elements with background prefetching of the following pages.
+     */
+    @Override
+    public Iterator<JsonNode> iterator() {
+        return new PrefetchingIterator();
+    }
+
+    /**
+     * Sequential stream over all elements, backed by the prefetching iterator.
+     */
+    public Stream<JsonNode> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Parallel stream over all elements.
+     * The first page is fetched to learn {@code totalPages}; the remaining page range is then
+     * split across workers, each fetching its own pages. Falls back to the prefetching iterator
+     * when the envelope does not report {@code totalPages}.
+     */
+    public Stream<JsonNode> parallelStream() {
+        Page first = Page.parse(startPage, fetcher.fetch(startPage));
+        if (first.getTotalPages() < 0) {
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                    new PrefetchingIterator(first), Spliterator.ORDERED | Spliterator.NONNULL), true);
+        }
+        return StreamSupport.stream(new PageRangeSpliterator(first, startPage + 1, first.getTotalPages()), true);
+    }
+
+    /**
+     * Iterator that keeps up to prefetchDepth page fetches in flight ahead of the consumer.
+     */
+    private class PrefetchingIterator implements Iterator<JsonNode> {
+        private final Deque<Future<ExchangeHandover<Page>>> inFlight = new ArrayDeque<>();
+        private Iterator<JsonNode> current = Collections.emptyIterator();
+        private int nextPageToSubmit;
+        private int totalPages = -1;
+        private boolean exhausted;
+
+        PrefetchingIterator() {
+            nextPageToSubmit = startPage;
+            submitNext();
+        }
+
+        PrefetchingIterator(Page first) {
+            nextPageToSubmit = first.getNumber() + 1;
+            accept(first);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (inFlight.isEmpty()) {
+                    return false;
+                }
+                accept(await(inFlight.removeFirst()).handOver());
+            }
+            return true;
+        }
+
+        @Override
+        public JsonNode next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        private void accept(Page page) {
+            current = page.getContent().iterator();
+            totalPages = page.getTotalPages();
+            if (page.isLast() || page.getContent().isEmpty()) {
+                exhausted = true;
+                cancelInFlight();
+                return;
+            }
+            while (inFlight.size() < Math.max(1, prefetchDepth) && submitNext()) {
+                // keep the prefetch window full
+            }
+        }
+
+        private boolean submitNext() {
+            if (exhausted || (totalPages >= 0 && nextPageToSubmit >= totalPages)) {
+                return false;
+            }
+            int page = nextPageToSubmit++;
+            inFlight.addLast(executor.submit(() ->
+                    ExchangeHandover.capture(() -> Page.parse(page, fetcher.fetch(page)))));
+            return true;
+        }
+
+        private void cancelInFlight() {
+            for (Future<ExchangeHandover<Page>> future : inFlight) {
+                future.cancel(true);
+            }
+            inFlight.clear();
+        }
+    }
+
+    /**
+     * Spliterator over a known page range; splitting hands half of the remaining pages to a new worker.
+     */
+    private class PageRangeSpliterator implements Spliterator<JsonNode> {
+        private Iterator<JsonNode> current;
+        private int fromPage;
+        private final int toPage;
+
+        PageRangeSpliterator(Page first, int fromPage, int toPage) {
+            this.current = first != null ? first.getContent().iterator() : Collections.emptyIterator();
+            this.fromPage = fromPage;
+            this.toPage = toPage;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super JsonNode> action) {
+            while (!current.hasNext()) {
+                if (fromPage >= toPage) {
+                    return false;
+                }
+                current = Page.parse(fromPage, fetcher.fetch(fromPage)).getContent().iterator();
+                fromPage++;
+            }
+            action.accept(current.next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<JsonNode> trySplit() {
+            int remaining = toPage - fromPage;
+            if (remaining < 2) {
+                return null;
+            }
+            int mid = fromPage + remaining / 2;
+            PageRangeSpliterator prefix = new PageRangeSpliterator(null, fromPage, mid);
+            prefix.current = current;
+            current = Collections.emptyIterator();
+            fromPage = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for page", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Failed to fetch page: " + cause.getMessage(), cause);
+        }
+    }
+
+    public static class Builder {
+        private final PageFetcher fetcher;
+        private int startPage = 0;
+        private int prefetchDepth = EnvironmentConfig.getInt("pagination.prefetchDepth", 2);
+        private ExecutorService executor = DEFAULT_EXECUTOR;
+
+        private Builder(PageFetcher fetcher) {
+            this.fetcher = fetcher;
+        }
+
+        public Builder startPage(int startPage) {
+            this.startPage = startPage;
+            return this;
+        }
+
+        public Builder prefetchDepth(int prefetchDepth) {
+            this.prefetchDepth = prefetchDepth;
+            return this;
+        }
+
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public PagedResults build() {
+            return new PagedResults(this);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package registry;
+
+import com.fasterxml.jackson.databind.*;
+
+/**
+ * Lists entities for {@link EntityRegistry} id lookups.
+ * The registry only knows entity types and slugs; the implementation makes the actual list call.
+ */
+@FunctionalInterface
+public interface EntityLookup {
+
+    /**
+     * List the entities of a type.
+     * @param type Type of the entities to list
+     * @param key Slug filter for journeys, journey slug for stages, stage id for chapters, chapter slug for pages
+     * @return The parsed list response, either an array or a page with a {@code content} array,
+     *         or null if the list call failed
+     */
+    JsonNode list(EntityType type, String key);
+}
@@ -0,0 +1,53 @@
+package registry;
+
+/**
+ * Slug, id and title of one entity created during the run.
+ * The id is filled in once it is known, either from the create response or from a lookup.
+ */
+public class EntityRecord {
+    private final EntityType type;
+    private final String slug;
+    private final String title;
+    private final String parentSlug;
+    private volatile String id;
+
+    EntityRecord(EntityType type, String slug, String title, String parentSlug, String id) {
+        this.type = type;
+        this.slug = slug;
+        this.title = title;
+        this.parentSlug = parentSlug;
+        this.id = id;
+    }
+
+    public EntityType getType() {
+        return type;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Get the slug of the parent entity (journey of a stage, stage of a chapter, chapter of a page).
+     */
+    public String getParentSlug() {
+        return parentSlug;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    void setId(String id) {
+        this.id = id;
+    }
+
+    @Override
+    public String toString() {
+        return type + "{id='" + id + "', slug='" + slug + "', title='" + title + "'}";
+    }
+}
@@ -0,0 +1,353 @@
+package registry;
+
+import com.fasterxml.jackson.databind.*;
+import config.*;
+import utils.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Client-side index of entities created during the run.
+ * The clients publish every journey, stage, chapter, page and category they create with its slug, title
+ * and (when the response carries it) id, and every entity they delete. Missing ids are resolved with one
+ * targeted lookup through the {@link EntityLookup} set with {@link #setLookup} the first time they are asked
+ * for, and served from memory afterwards:
+ * <ul>
+ *   <li>journeys are looked up by slug filter</li>
+ *   <li>stages, chapters and pages are looked up by listing their parent once, which also resolves
+ *   every registered sibling</li>
+ * </ul>
+ * Lookups are retried a few times with a short backoff, since a freshly created entity may not be
+ * visible in list results yet.
+ *
+ * Configuration keys: registry.lookupAttempts, registry.lookupBackoffMillis.
+ */
+public class EntityRegistry {
+
+    private static final Map<EntityType, Map<String, EntityRecord>> bySlug = new ConcurrentHashMap<>();
+    private static final Map<EntityType, Map<String, EntityRecord>> byTitle = new ConcurrentHashMap<>();
+    private static final Map<String, EntityRecord> byId = new ConcurrentHashMap<>();
+    private static final Map<String, Object> lookupLocks = new ConcurrentHashMap<>();
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong lookups = new AtomicLong();
+
+    private static volatile EntityLookup lookup;
+
+    /**
+     * Set the lookup used to resolve ids that were not in the create response.
+     */
+    public static void setLookup(EntityLookup entityLookup) {
+        lookup = entityLookup;
+    }
+
+    /**
+     * Record an entity from the body of its create response.
+     * Rendered {@code byte[]} request bodies are not parsed back to recover the title; whoever rendered them
+     * records the entity with {@link #recordCreated(EntityType, String, String, JsonNode)} instead.
+     * @param type Type of the created entity
+     * @param responseBody Parsed create response; its {@code message} holds the slug
+     * @param requestBody Create request, used for the title (and the chapter slug of pages)
+     * @param parentSlug Slug of the parent entity, or null if there is none
+     * @return The record, or null if nothing was recorded
+     */
+    public static EntityRecord recordCreated(EntityType type, JsonNode responseBody, Object requestBody, String parentSlug) {
+        if (requestBody instanceof byte[]) {
+            return null;
+        }
+        return recordFromRequest(type, responseBody, requestBody, parentSlug);
+    }
+
+    /**
+     * Record an entity whose title and parent are known to the caller, without looking at the request body.
+     * @param type Type of the created entity
+     * @param title Title the entity was created with
+     * @param parentSlug Slug of the parent entity, or null if there is none
+     * @param responseBody Parsed create response; its {@code message} holds the slug
+     * @return The record
+     */
+    public static EntityRecord recordCreated(EntityType type, String title, String parentSlug, JsonNode responseBody) {
+        return record(type, responseBody, title, parentSlug);
+    }
+
+    private static EntityRecord recordFromRequest(EntityType type, JsonNode body, Object requestBody, String parentSlug) {
+        JsonNode request = toTree(requestBody);
+
+        String title = firstText(request, "title", "name", "categoryName");
+        if (title == null) {
+            title = text(request.path("content"), "title");
+        }
+        if (parentSlug == null && type == EntityType.PAGE) {
+            parentSlug = text(request, "chapterSlug");
+        }
+        return record(type, body, title, parentSlug);
+    }
+
+    private static EntityRecord record(EntityType type, JsonNode body, String title, String parentSlug) {
+        String slug = type == EntityType.CATEGORY ? null : text(body, "message");
+        String id = firstText(body, "id", "categoryId");
+        if (id == null) {
+            id = text(body.path("data"), "id");
+        }
+
+        EntityRecord record = new EntityRecord(type, slug, title, parentSlug, id);
+        register(record);
+        return record;
+    }
+
+    /**
+     * Find a recorded entity by slug.
+     */
+    public static EntityRecord findBySlug(EntityType type, String slug) {
+        return slug != null ? index(bySlug, type).get(slug) : null;
+    }
+
+    /**
+     * Find a recorded entity by title. If a title was used twice, the latest entity wins.
+     */
+    public static EntityRecord findByTitle(EntityType type, String title) {
+        return title != null ? index(byTitle, type).get(title) : null;
+    }
+
+    /**
+     * Find a recorded entity by id.
+     */
+    public static EntityRecord findById(String id) {
+        return id != null ? byId.get(id) : null;
+    }
+
+    /**
+     * Get the id of an entity by slug, looking it up on first use.
+     * Journeys that were not created through the clients can still be resolved by slug.
+     * @throws IllegalArgumentException if a stage, chapter, page or category was not recorded
+     * @throws IllegalStateException if the lookup did not find the entity
+     */
+    public static String resolveId(EntityType type, String slug) {
+        EntityRecord record = findBySlug(type, slug);
+        if (record != null && record.getId() != null) {
+            hits.incrementAndGet();
+            return record.getId();
+        }
+        if (record == null && type != EntityType.JOURNEY) {
+            throw new IllegalArgumentException(type + " '" + slug + "' was not created through the clients");
+        }
+
+        // One lookup per parent at a time: siblings waiting here are resolved by the same list call
+        String lockKey = type + ":" + (type == EntityType.JOURNEY ? slug : record.getParentSlug());
+        synchronized (lookupLocks.computeIfAbsent(lockKey, key -> new Object())) {
+            int attempts = Math.max(1, EnvironmentConfig.getInt("registry.lookupAttempts", 3));
+            long backoffMillis = EnvironmentConfig.getInt("registry.lookupBackoffMillis", 250);
+            for (int attempt = 1; attempt <= attempts; attempt++) {
+                EntityRecord current = findBySlug(type, slug);
+                if (current != null && current.getId() != null) {
+                    return current.getId();
+                }
+                if (attempt > 1) {
+                    sleep(backoffMillis * (attempt - 1));
+                }
+                lookups.incrementAndGet();
+                lookup(type, slug, current);
+            }
+            EntityRecord resolved = findBySlug(type, slug);
+            if (resolved != null && resolved.getId() != null) {
+                return resolved.getId();
+            }
+        }
+        throw new IllegalStateException("Could not resolve id of " + type + " '" + slug + "' after lookup");
+    }
+
+    /**
+     * Get the id of a recorded entity by title, looking it up on first use.
+     * @throws IllegalArgumentException if no entity with that title was recorded
+     */
+    public static String resolveIdByTitle(EntityType type, String title) {
+        EntityRecord record = findByTitle(type, title);
+        if (record == null) {
+            throw new IllegalArgumentException(type + " titled '" + title + "' was not created through the clients");
+        }
+        if (record.getId() != null) {
+            hits.incrementAndGet();
+            return record.getId();
+        }
+        if (record.getSlug() == null) {
+            throw new IllegalStateException(type + " titled '" + title + "' has neither id nor slug");
+        }
+        return resolveId(type, record.getSlug());
+    }
+
+    /**
+     * Forget a deleted entity.
+     */
+    public static void forget(String id) {
+        EntityRecord record = id != null ? byId.remove(id) : null;
+        if (record != null) {
+            if (record.getSlug() != null) {
+                index(bySlug, record.getType()).remove(record.getSlug(), record);
+            }
+            if (record.getTitle() != null) {
+                index(byTitle, record.getType()).remove(record.getTitle(), record);
+            }
+        }
+    }
+
+    /**
+     * Get number of ids served from memory.
+     */
+    public static long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Get number of lookup requests made to resolve ids.
+     */
+    public static long getLookups() {
+        return lookups.get();
+    }
+
+    public static void clear() {
+        bySlug.clear();
+        byTitle.clear();
+        byId.clear();
+    }
+
+    private static void lookup(EntityType type, String slug, EntityRecord record) {
+        EntityLookup entityLookup = lookup;
+        if (entityLookup == null) {
+            throw new IllegalStateException("No entity lookup set, cannot resolve id of " + type + " '" + slug + "'");
+        }
+        switch (type) {
+            case JOURNEY:
+                lookupJourney(slug, entityLookup.list(type, slug));
+                break;
+            case STAGE:
+            case PAGE:
+                indexChildren(type, record.getParentSlug(), entityLookup.list(type, record.getParentSlug()));
+                break;
+            case CHAPTER:
+                String stageId = resolveId(EntityType.STAGE, record.getParentSlug());
+                indexChildren(type, record.getParentSlug(), entityLookup.list(type, stageId));
+                break;
+            default:
+                throw new IllegalStateException(type + " ids are only known from the create response");
+        }
+    }
+
+    private static void lookupJourney(String slug, JsonNode list) {
+        for (JsonNode item : items(list)) {
+            if (!slug.equals(text(item, "slug"))) {
+                continue;
+            }
+            EntityRecord record = findBySlug(EntityType.JOURNEY, slug);
+            if (record == null) {
+                record = new EntityRecord(EntityType.JOURNEY, slug, title(item), null, null);
+            }
+            record.setId(text(item, "id"));
+            register(record);
+            return;
+        }
+    }
+
+    /**
+     * Assign ids from a parent's child list to every recorded child of that parent.
+     * Children are matched by slug when the list carries one, otherwise by title.
+     */
+    private static void indexChildren(EntityType type, String parentSlug, JsonNode list) {
+        Map<String, EntityRecord> slugs = new HashMap<>();
+        Map<String, EntityRecord> titles = new HashMap<>();
+        for (EntityRecord record : index(bySlug, type).values()) {
+            if (parentSlug.equals(record.getParentSlug()) && record.getId() == null) {
+                slugs.put(record.getSlug(), record);
+                if (record.getTitle() != null) {
+                    titles.put(record.getTitle(), record);
+                }
+            }
+        }
+
+        for (JsonNode item : items(list)) {
+            String itemSlug = firstText(item, "slug");
+            if (itemSlug == null) {
+                itemSlug = firstText(item.path("content"), "slug");
+            }
+            EntityRecord record = itemSlug != null ? slugs.get(itemSlug) : titles.get(title(item));
+            if (record != null) {
+                record.setId(text(item, "id"));
+                register(record);
+            }
+        }
+    }
+
+    private static Iterable<JsonNode> items(JsonNode list) {
+        if (list == null) {
+            return Collections.emptyList();
+        }
+        return list.isArray() ? list : list.path("content");
+    }
+
+    /**
+     * Title of a list item, which is either top-level or nested under {@code content} or {@code data}.
+     */
+    private static String title(JsonNode item) {
+        String title = text(item, "title");
+        if (title == null) {
+            title = text(item.path("content"), "title");
+        }
+        if (title == null) {
+            title = text(item.path("data"), "title");
+        }
+        return title;
+    }
+
+    private static void register(EntityRecord record) {
+        if (record.getSlug() != null) {
+            index(bySlug, record.getType()).put(record.getSlug(), record);
+        }
+        if (record.getTitle() != null) {
+            index(byTitle, record.getType()).put(record.getTitle(), record);
+        }
+        if (record.getId() != null) {
+            byId.put(record.getId(), record);
+        }
+    }
+
+    private static Map<String, EntityRecord> index(Map<EntityType, Map<String, EntityRecord>> indexes, EntityType type) {
+        return indexes.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+    }
+
+    private static JsonNode toTree(Object requestBody) {
+        try {
+            if (requestBody instanceof String) {
+                return JsonUtils.getMapper().readTree((String) requestBody);
+            }
+            JsonNode tree = JsonUtils.getMapper().valueToTree(requestBody);
+            return tree != null ? tree : JsonUtils.getMapper().createObjectNode();
+        } catch (Exception e) {
+            return JsonUtils.getMapper().createObjectNode();
+        }
+    }
+
+    private static String firstText(JsonNode node, String... fields) {
+        for (String field : fields) {
+            String value = text(node, field);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        return value.isValueNode() && !value.isNull() && !value.asText().isEmpty() ? value.asText() : null;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry id lookup", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package registry;
+
+/**
+ * Content entity types tracked by the {@link EntityRegistry}.
+ */
+public enum EntityType {
+    JOURNEY,
+    STAGE,
+    CHAPTER,
+    PAGE,
+    CATEGORY
+}
@@ -0,0 +1,69 @@
+package scenario;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.*;
+
+/**
+ * Resolution of Postman {@code {{variable}}} placeholders.
+ * Supports the dynamic variables {@code $guid}, {@code $timestamp} and {@code $randomInt}.
+ */
+public class Bindings {
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\s*([^{}]+?)\\s*}}");
+
+    /**
+     * Get the names of the variables referenced by a text, excluding dynamic variables.
+     */
+    public static Set<String> variables(String text) {
+        Set<String> names = new LinkedHashSet<>();
+        if (text == null) {
+            return names;
+        }
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        while (matcher.find()) {
+            if (!matcher.group(1).startsWith("$")) {
+                names.add(matcher.group(1));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Replace placeholders with their values; unknown variables are left as they are.
+     */
+    public static String resolve(String text, Map<String, String> values) {
+        if (text == null || text.indexOf("{{") < 0) {
+            return text;
+        }
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        StringBuilder resolved = new StringBuilder();
+        while (matcher.find()) {
+            String value = value(matcher.group(1), values);
+            matcher.appendReplacement(resolved, Matcher.quoteReplacement(value != null ? value : matcher.group()));
+        }
+        matcher.appendTail(resolved);
+        return resolved.toString();
+    }
+
+    /**
+     * Check if the text is exactly one placeholder, such as {@code {{baseUrl}}}.
+     */
+    static String placeholderName(String text) {
+        Matcher matcher = PLACEHOLDER.matcher(text != null ? text.trim() : "");
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private static String value(String name, Map<String, String> values) {
+        switch (name) {
+            case "$guid":
+            case "$randomUUID":
+                return UUID.randomUUID().toString();
+            case "$timestamp":
+                return String.valueOf(System.currentTimeMillis() / 1000);
+            case "$randomInt":
+                return String.valueOf(ThreadLocalRandom.current().nextInt(1000));
+            default:
+                return values.get(name);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package scenario;
+
+import com.fasterxml.jackson.databind.*;
+import config.*;
+import org.slf4j.*;
+import utils.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.*;
+
+/**
+ * Imports a Postman v2.1 collection into a {@link ScenarioModel}.
+ * <ul>
+ *   <li>Every folder with requests becomes a {@link ScenarioGroup}; nested folders become their own groups.</li>
+ *   <li>{@code :name} path segments and {@code {{variables}}} become bindings resolved at run time.</li>
+ *   <li>{@code pm.collectionVariables.set("x", data.a.b)} style statements in test scripts become JSON-path
+ *       captures ({@code a.b}), where {@code data} was assigned {@code pm.response.json()}.</li>
+ *   <li>{@code pm.response.to.have.status(n)} becomes the expected status; folder scripts apply to all
+ *       requests below them.</li>
+ * </ul>
+ * The host is replaced by the suite's base URL and request-level auth by the runner's request spec.
+ * Requests to other hosts and multipart uploads are imported but marked as not executable.
+ *
+ * Configuration keys: postman.collection, postman.hostVariables.
+ */
+public class PostmanImporter {
+    private static final Logger logger = LoggerFactory.getLogger(PostmanImporter.class);
+    private static final String DEFAULT_COLLECTION = "Onboarding Backend API.postman_collection3";
+    private static final Set<String> SPEC_HEADERS = new HashSet<>(Arrays.asList("authorization", "content-type", "accept"));
+
+    private static final Pattern RESPONSE_ALIAS = Pattern.compile(
+            "(?:let|var|const)\\s+(\\w+)\\s*=\\s*pm\\.response\\.json\\(\\)");
+    private static final Pattern VARIABLE_SET = Pattern.compile(
+            "pm\\.(?:collectionVariables|environment|globals|variables)\\.set\\(\\s*[\"']([^\"']+)[\"']\\s*,\\s*([^;\\n]+?)\\s*\\)\\s*;?\\s*(?:\\n|$)");
+    private static final Pattern EXPECTED_STATUS = Pattern.compile(
+            "pm\\.response\\.to\\.have\\.status\\(\\s*(\\d{3})\\s*\\)");
+    private static final Pattern BRACKET_KEY = Pattern.compile("\\[\\s*[\"']([^\"']+)[\"']\\s*]");
+
+    private final Set<String> hostVariables;
+
+    private PostmanImporter(Set<String> hostVariables) {
+        this.hostVariables = hostVariables;
+    }
+
+    /**
+     * Import the collection configured by postman.collection.
+     */
+    public static ScenarioModel load() {
+        return load(Paths.get(EnvironmentConfig.get("postman.collection", DEFAULT_COLLECTION)));
+    }
+
+    /**
+     * Import a collection file.
+     */
+    public static ScenarioModel load(Path file) {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            ScenarioModel model = importCollection(JsonUtils.getMapper().readTree(in));
+            logger.info("Imported {} steps in {} groups from {}", model.getStepCount(), model.getGroups().size(), file);
+            return model;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read Postman collection " + file, e);
+        }
+    }
+
+    /**
+     * Import a parsed collection.
+     */
+    public static ScenarioModel importCollection(JsonNode collection) {
+        Set<String> hostVariables = new HashSet<>(Arrays.asList(
+                EnvironmentConfig.get("postman.hostVariables", "baseUrl,localhost").split("\\s*,\\s*")));
+        PostmanImporter importer = new PostmanImporter(hostVariables);
+
+        Map<String, String> variables = new LinkedHashMap<>();
+        for (JsonNode variable : collection.path("variable")) {
+            variables.put(variable.path("key").asText(), variable.path("value").asText(""));
+        }
+
+        String name = collection.path("info").path("name").asText("collection");
+        List<ScenarioGroup> groups = new ArrayList<>();
+        importer.walk(collection, name, "", new Scripts(null, null), groups);
+        return new ScenarioModel(name, variables, groups);
+    }
+
+    private void walk(JsonNode folder, String rootName, String path, Scripts inherited, List<ScenarioGroup> groups) {
+        Scripts scripts = inherited.with(folder.path("event"));
+        List<ScenarioStep> steps = new ArrayList<>();
+        for (JsonNode item : folder.path("item")) {
+            if (item.has("item")) {
+                String child = item.path("name").asText();
+                walk(item, rootName, path.isEmpty() ? child : path + "/" + child, scripts, groups);
+            } else if (item.has("request")) {
+                steps.add(step(item, scripts.with(item.path("event"))));
+            }
+        }
+        if (!steps.isEmpty()) {
+            // Requests of a folder precede those of its subfolders in the collection UI; keep that order
+            String prefix = path.isEmpty() ? "" : path + "/";
+            int position = groups.size();
+            for (int i = 0; i < groups.size(); i++) {
+                if (groups.get(i).getName().startsWith(prefix)) {
+                    position = i;
+                    break;
+                }
+            }
+            groups.add(position, new ScenarioGroup(path.isEmpty() ? rootName : path, steps));
+        }
+    }
+
+    private ScenarioStep step(JsonNode item, Scripts scripts) {
+        JsonNode request = item.path("request");
+        JsonNode url = request.path("url");
+        String skipReason = null;
+
+        Map<String, String> pathDefaults = new HashMap<>();
+        for (JsonNode variable : url.path("variable")) {
+            pathDefaults.put(variable.path("key").asText(), variable.path("value").asText(""));
+        }
+
+        List<String> segments = new ArrayList<>();
+        JsonNode host = url.path("host");
+        String hostVariable = host.size() == 1 ? Bindings.placeholderName(host.get(0).asText()) : null;
+        if (url.isTextual() || !url.has("path")) {
+            skipReason = "URL is not in structured form";
+        } else if (hostVariable == null || !hostVariables.contains(hostVariable)) {
+            skipReason = "targets another host";
+        }
+        for (JsonNode segment : url.path("path")) {
+            segments.add(segment.asText());
+        }
+
+        Map<String, String> pathParams = new LinkedHashMap<>();
+        StringBuilder path = new StringBuilder();
+        for (String segment : segments) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            path.append('/');
+            String placeholder = Bindings.placeholderName(segment);
+            if (segment.startsWith(":")) {
+                String name = segment.substring(1);
+                path.append('{').append(name).append('}');
+                pathParams.put(name, pathDefaults.getOrDefault(name, ""));
+            } else if (placeholder != null) {
+                path.append('{').append(placeholder).append('}');
+                pathParams.put(placeholder, "");
+            } else if (segment.startsWith("{") && segment.endsWith("}")) {
+                path.append(segment);
+                pathParams.put(segment.substring(1, segment.length() - 1), "");
+            } else {
+                path.append(segment);
+            }
+        }
+
+        Map<String, String> queryParams = new LinkedHashMap<>();
+        for (JsonNode query : url.path("query")) {
+            if (!query.path("disabled").asBoolean(false) && !query.path("key").asText().isEmpty()) {
+                queryParams.put(query.path("key").asText(), query.path("value").asText(""));
+            }
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (JsonNode header : request.path("header")) {
+            String key = header.path("key").asText();
+            if (!header.path("disabled").asBoolean(false) && !SPEC_HEADERS.contains(key.toLowerCase(Locale.ROOT))) {
+                headers.put(key, header.path("value").asText(""));
+            }
+        }
+
+        String body = null;
+        JsonNode bodyNode = request.path("body");
+        String mode = bodyNode.path("mode").asText("");
+        if ("raw".equals(mode)) {
+            String raw = bodyNode.path("raw").asText("");
+            body = raw.trim().isEmpty() ? null : raw;
+        } else if (!mode.isEmpty() && bodyNode.path(mode).size() > 0 && skipReason == null) {
+            skipReason = mode + " body is not supported";
+        }
+
+        return new ScenarioStep(item.path("name").asText(), request.path("method").asText("GET").toUpperCase(Locale.ROOT),
+                path.length() == 0 ? "/" : path.toString(), pathParams, queryParams, headers, body,
+                scripts.captures(), scripts.expectedStatus, skipReason);
+    }
+
+    /**
+     * Test-script effects accumulated from the enclosing folders down to an item.
+     */
+    private static class Scripts {
+        final Scripts parent;
+        final Map<String, String> captures = new LinkedHashMap<>();
+        Integer expectedStatus;
+
+        Scripts(Scripts parent, Integer expectedStatus) {
+            this.parent = parent;
+            this.expectedStatus = expectedStatus;
+        }
+
+        Scripts with(JsonNode events) {
+            Scripts scripts = new Scripts(this, expectedStatus);
+            for (JsonNode event : events) {
+                if (!"test".equals(event.path("listen").asText())) {
+                    continue;
+                }
+                StringBuilder source = new StringBuilder();
+                for (JsonNode line : event.path("script").path("exec")) {
+                    source.append(line.asText()).append('\n');
+                }
+                scripts.parse(source.toString());
+            }
+            return scripts;
+        }
+
+        Map<String, String> captures() {
+            Map<String, String> all = parent != null ? parent.captures() : new LinkedHashMap<>();
+            all.putAll(captures);
+            return all;
+        }
+
+        private void parse(String source) {
+            Matcher status = EXPECTED_STATUS.matcher(source);
+            if (status.find()) {
+                expectedStatus = Integer.parseInt(status.group(1));
+            }
+
+            Set<String> aliases = new HashSet<>();
+            Matcher alias = RESPONSE_ALIAS.matcher(source);
+            while (alias.find()) {
+                aliases.add(alias.group(1));
+            }
+            Matcher set = VARIABLE_SET.matcher(source);
+            while (set.find()) {
+                String jsonPath = toJsonPath(set.group(2).trim(), aliases);
+                if (jsonPath != null) {
+                    captures.put(set.group(1), jsonPath);
+                } else {
+                    logger.debug("Ignoring non-JSON capture of {}: {}", set.group(1), set.group(2));
+                }
+            }
+        }
+
+        /**
+         * Translate {@code data.content[0].id} or {@code pm.response.json()["id"]} to a Rest Assured JSON path.
+         */
+        private static String toJsonPath(String expression, Set<String> aliases) {
+            String rest = null;
+            if (expression.startsWith("pm.response.json()")) {
+                rest = expression.substring("pm.response.json()".length());
+            } else {
+                for (String alias : aliases) {
+                    if (expression.equals(alias) || expression.startsWith(alias + ".") || expression.startsWith(alias + "[")) {
+                        rest = expression.substring(alias.length());
+                        break;
+                    }
+                }
+            }
+            if (rest == null || !rest.matches("[\\w.\\[\\]\"' -]*")) {
+                return null;
+            }
+            rest = BRACKET_KEY.matcher(rest).replaceAll(".$1");
+            if (rest.startsWith(".")) {
+                rest = rest.substring(1);
+            }
+            return rest.isEmpty() ? "$" : rest;
+        }
+    }
+}
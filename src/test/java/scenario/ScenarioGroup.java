@@ -0,0 +1,30 @@
+package scenario;
+
+import java.util.*;
+
+/**
+ * Requests of one collection folder, in collection order.
+ * Named by the folder path, e.g. {@code api/v1/Admin Web/journeys}.
+ */
+public class ScenarioGroup {
+    private final String name;
+    private final List<ScenarioStep> steps;
+
+    ScenarioGroup(String name, List<ScenarioStep> steps) {
+        this.name = name;
+        this.steps = Collections.unmodifiableList(steps);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<ScenarioStep> getSteps() {
+        return steps;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + steps.size() + " steps)";
+    }
+}
@@ -0,0 +1,57 @@
+package scenario;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * In-memory form of a Postman collection: scenario groups plus the collection's variable defaults.
+ */
+public class ScenarioModel {
+    private final String name;
+    private final Map<String, String> variables;
+    private final List<ScenarioGroup> groups;
+
+    ScenarioModel(String name, Map<String, String> variables, List<ScenarioGroup> groups) {
+        this.name = name;
+        this.variables = Collections.unmodifiableMap(variables);
+        this.groups = Collections.unmodifiableList(groups);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get collection variables and their default values.
+     */
+    public Map<String, String> getVariables() {
+        return variables;
+    }
+
+    public List<ScenarioGroup> getGroups() {
+        return groups;
+    }
+
+    /**
+     * Find a group by its folder path.
+     */
+    public Optional<ScenarioGroup> getGroup(String name) {
+        return groups.stream().filter(group -> group.getName().equals(name)).findFirst();
+    }
+
+    /**
+     * Get the groups whose folder path starts with the given prefix, e.g. {@code api/v1/Admin Web}.
+     */
+    public List<ScenarioGroup> findGroups(String prefix) {
+        return groups.stream()
+                .filter(group -> group.getName().equals(prefix) || group.getName().startsWith(prefix + "/"))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get number of steps over all groups.
+     */
+    public int getStepCount() {
+        return groups.stream().mapToInt(group -> group.getSteps().size()).sum();
+    }
+}
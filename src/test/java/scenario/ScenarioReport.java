@@ -0,0 +1,79 @@
+package scenario;
+
+import java.util.*;
+
+/**
+ * Result of a {@link ScenarioRunner} run: per-step counters and latencies plus overall throughput.
+ */
+public class ScenarioReport {
+    private final List<StepStats> steps;
+    private final long elapsedMillis;
+    private final int virtualUsers;
+    private final String transport;
+
+    ScenarioReport(List<StepStats> steps, long elapsedMillis, int virtualUsers, String transport) {
+        this.steps = Collections.unmodifiableList(steps);
+        this.elapsedMillis = elapsedMillis;
+        this.virtualUsers = virtualUsers;
+        this.transport = transport;
+    }
+
+    public List<StepStats> getSteps() {
+        return steps;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public int getVirtualUsers() {
+        return virtualUsers;
+    }
+
+    /**
+     * Get the transport the run used (http1 or h2), so runs over both can be compared.
+     */
+    public String getTransport() {
+        return transport;
+    }
+
+    public long getSent() {
+        return steps.stream().mapToLong(StepStats::getSent).sum();
+    }
+
+    public long getFailed() {
+        return steps.stream().mapToLong(StepStats::getFailed).sum();
+    }
+
+    public long getSkipped() {
+        return steps.stream().mapToLong(StepStats::getSkipped).sum();
+    }
+
+    /**
+     * Get requests sent per second over the whole run.
+     */
+    public double getThroughput() {
+        return elapsedMillis == 0 ? 0 : getSent() * 1000.0 / elapsedMillis;
+    }
+
+    /**
+     * Render a plain-text table with one line per step.
+     */
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%d requests (%d failed, %d skipped) by %d virtual users over %s in %d ms, %.1f req/s%n",
+                getSent(), getFailed(), getSkipped(), virtualUsers, transport, elapsedMillis, getThroughput()));
+        out.append(String.format("%-70s %7s %6s %6s %9s %9s %9s  %s%n",
+                "step", "sent", "failed", "skip", "p50 ms", "p95 ms", "p99 ms", "statuses"));
+        for (StepStats stats : steps) {
+            String name = stats.getGroup() + " / " + stats.getStep().getName();
+            out.append(String.format("%-70s %7d %6d %6d %9.1f %9.1f %9.1f  %s%n",
+                    name.length() > 70 ? name.substring(0, 67) + "..." : name,
+                    stats.getSent(), stats.getFailed(), stats.getSkipped(),
+                    stats.getLatencyMillis(50), stats.getLatencyMillis(95), stats.getLatencyMillis(99),
+                    stats.getStatuses()));
+        }
+        return out.toString();
+    }
+}
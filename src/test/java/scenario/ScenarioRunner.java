@@ -0,0 +1,275 @@
+package scenario;
+
+import config.*;
+import io.restassured.response.*;
+import io.restassured.specification.*;
+import org.slf4j.*;
+import utils.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static io.restassured.RestAssured.*;
+
+/**
+ * Executes imported scenario groups with concurrent virtual users.
+ * Each virtual user runs the selected groups' steps in order, with its own variable context seeded from the
+ * collection variables and the runner's overrides; JSON-path captures of successful responses are stored in
+ * that context for later steps. Requests go through {@link RequestSpecFactory}, so they carry the suite's
+ * auth, base URL, connection pool and filters.
+ *
+ * Steps that are not executable, or whose bindings have no value, are counted as skipped.
+ * Configuration keys (builder defaults): scenario.virtualUsers, scenario.iterations, scenario.thinkTimeMillis.
+ *
+ * <pre>
+ * ScenarioReport report = ScenarioRunner.builder()
+ *         .model(PostmanImporter.load())
+ *         .groups("api/v1/Admin Web/journeys")
+ *         .virtualUsers(16)
+ *         .duration(Duration.ofMinutes(2))
+ *         .variable("journeyId", journeyId)
+ *         .build()
+ *         .run();
+ * </pre>
+ */
+public class ScenarioRunner {
+    private static final Logger logger = LoggerFactory.getLogger(ScenarioRunner.class);
+
+    private final List<ScenarioGroup> groups;
+    private final Map<String, String> variables;
+    private final int virtualUsers;
+    private final int iterations;
+    private final Duration duration;
+    private final long thinkTimeMillis;
+    private final UserType userType;
+
+    private ScenarioRunner(Builder builder) {
+        if (builder.model == null) {
+            throw new IllegalArgumentException("A scenario model is required");
+        }
+        this.groups = builder.groups.isEmpty() ? builder.model.getGroups() : new ArrayList<>(builder.groups);
+        this.variables = new HashMap<>(builder.model.getVariables());
+        this.variables.putAll(builder.variables);
+        this.virtualUsers = builder.virtualUsers;
+        this.iterations = builder.iterations > 0 || builder.duration != null ? builder.iterations : 1;
+        this.duration = builder.duration;
+        this.thinkTimeMillis = builder.thinkTimeMillis;
+        this.userType = builder.userType;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Run all virtual users to completion and report the outcome.
+     * Stops after the configured iterations or when the duration has passed, whichever comes first.
+     */
+    public ScenarioReport run() {
+        List<List<StepStats>> stats = new ArrayList<>();
+        List<StepStats> all = new ArrayList<>();
+        for (ScenarioGroup group : groups) {
+            List<StepStats> groupStats = new ArrayList<>();
+            for (ScenarioStep step : group.getSteps()) {
+                StepStats stepStats = new StepStats(group.getName(), step);
+                groupStats.add(stepStats);
+                all.add(stepStats);
+            }
+            stats.add(groupStats);
+        }
+
+        RequestSpecification spec = RequestSpecFactory.getLeanUserRequestSpec(userType);
+        long start = System.currentTimeMillis();
+        long deadline = duration != null ? start + duration.toMillis() : Long.MAX_VALUE;
+        ExecutorService executor = Executors.newFixedThreadPool(virtualUsers, DaemonThreads.factory("scenario-vu"));
+        try {
+            List<Future<?>> users = new ArrayList<>();
+            for (int i = 0; i < virtualUsers; i++) {
+                users.add(executor.submit(() -> runVirtualUser(spec, stats, deadline)));
+            }
+            for (Future<?> user : users) {
+                user.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running scenarios", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Virtual user failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ScenarioReport report = new ScenarioReport(all, System.currentTimeMillis() - start, virtualUsers,
+                Http2Transport.getName());
+        logger.info("Scenario run finished:\n{}", report);
+        return report;
+    }
+
+    private void runVirtualUser(RequestSpecification spec, List<List<StepStats>> stats, long deadline) {
+        Map<String, String> context = new HashMap<>(variables);
+        for (int iteration = 0; iterations <= 0 || iteration < iterations; iteration++) {
+            for (int g = 0; g < groups.size(); g++) {
+                List<ScenarioStep> steps = groups.get(g).getSteps();
+                for (int s = 0; s < steps.size(); s++) {
+                    if (System.currentTimeMillis() >= deadline || Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    execute(spec, steps.get(s), stats.get(g).get(s), context);
+                    if (thinkTimeMillis > 0) {
+                        try {
+                            Thread.sleep(thinkTimeMillis);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void execute(RequestSpecification spec, ScenarioStep step, StepStats stats,
+                                Map<String, String> context) {
+        if (!step.isExecutable()) {
+            stats.recordSkipped(step.getSkipReason());
+            return;
+        }
+
+        Map<String, String> pathParams = new HashMap<>();
+        for (Map.Entry<String, String> param : step.getPathParams().entrySet()) {
+            String value = context.get(param.getKey());
+            if (value == null || value.isEmpty()) {
+                value = param.getValue();
+            }
+            if (value.isEmpty()) {
+                stats.recordSkipped("unbound path parameter " + param.getKey());
+                return;
+            }
+            pathParams.put(param.getKey(), value);
+        }
+        for (String binding : step.getBindings()) {
+            if (!pathParams.containsKey(binding) && !context.containsKey(binding)) {
+                stats.recordSkipped("unbound variable " + binding);
+                return;
+            }
+        }
+
+        RequestSpecification request = given().spec(spec).pathParams(pathParams);
+        step.getQueryParams().forEach((name, value) -> request.queryParam(name, Bindings.resolve(value, context)));
+        step.getHeaders().forEach((name, value) -> request.header(name, Bindings.resolve(value, context)));
+        if (step.getBody() != null) {
+            request.body(Bindings.resolve(step.getBody(), context));
+        }
+
+        Response response;
+        long started = System.nanoTime();
+        try {
+            response = request.request(step.getMethod(), step.getPath());
+        } catch (RuntimeException e) {
+            stats.recordError(e.getClass().getSimpleName() + ": " + e.getMessage());
+            return;
+        }
+        long latencyMicros = (System.nanoTime() - started) / 1000;
+
+        int status = response.getStatusCode();
+        boolean ok = step.getExpectedStatus() != null ? status == step.getExpectedStatus() : status < 400;
+        stats.recordResponse(status, latencyMicros, ok);
+
+        if (status >= 200 && status < 300 && !step.getCaptures().isEmpty()) {
+            capture(step, response, context);
+        }
+    }
+
+    private static void capture(ScenarioStep step, Response response, Map<String, String> context) {
+        for (Map.Entry<String, String> capture : step.getCaptures().entrySet()) {
+            try {
+                String value = "$".equals(capture.getValue())
+                        ? response.getBody().asString()
+                        : response.jsonPath().getString(capture.getValue());
+                if (value != null) {
+                    context.put(capture.getKey(), value);
+                }
+            } catch (RuntimeException e) {
+                logger.debug("Could not capture {} from {}: {}", capture.getKey(), step, e.getMessage());
+            }
+        }
+    }
+
+
+    public static class Builder {
+        private ScenarioModel model;
+        private final List<ScenarioGroup> groups = new ArrayList<>();
+        private final Map<String, String> variables = new HashMap<>();
+        private int virtualUsers = EnvironmentConfig.getInt("scenario.virtualUsers", 4);
+        private int iterations = EnvironmentConfig.getInt("scenario.iterations", 0);
+        private Duration duration;
+        private long thinkTimeMillis = EnvironmentConfig.getInt("scenario.thinkTimeMillis", 0);
+        private UserType userType = UserType.ADMIN;
+
+        public Builder model(ScenarioModel model) {
+            this.model = model;
+            return this;
+        }
+
+        /**
+         * Run only the groups under the given folder paths; all groups run when none are selected.
+         */
+        public Builder groups(String... prefixes) {
+            if (model == null) {
+                throw new IllegalStateException("Set the model before selecting groups");
+            }
+            for (String prefix : prefixes) {
+                List<ScenarioGroup> matches = model.findGroups(prefix);
+                if (matches.isEmpty()) {
+                    throw new IllegalArgumentException("No scenario group under '" + prefix + "'");
+                }
+                groups.addAll(matches);
+            }
+            return this;
+        }
+
+        /**
+         * Bind a variable for every virtual user, overriding the collection default.
+         */
+        public Builder variable(String name, String value) {
+            variables.put(name, value);
+            return this;
+        }
+
+        public Builder virtualUsers(int virtualUsers) {
+            this.virtualUsers = Math.max(1, virtualUsers);
+            return this;
+        }
+
+        /**
+         * Number of passes over the selected groups per virtual user; 0 runs until the duration has passed.
+         */
+        public Builder iterations(int iterations) {
+            this.iterations = Math.max(0, iterations);
+            return this;
+        }
+
+        public Builder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public Builder thinkTimeMillis(long thinkTimeMillis) {
+            this.thinkTimeMillis = Math.max(0, thinkTimeMillis);
+            return this;
+        }
+
+        /**
+         * Send requests with the request spec of this user type instead of the admin one.
+         */
+        public Builder userType(UserType userType) {
+            this.userType = userType;
+            return this;
+        }
+
+        public ScenarioRunner build() {
+            return new ScenarioRunner(this);
+        }
+    }
+}
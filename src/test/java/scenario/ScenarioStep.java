@@ -0,0 +1,118 @@
+package scenario;
+
+import java.util.*;
+
+/**
+ * One request of a scenario group, imported from a Postman collection item.
+ * Text fields keep their {@code {{variable}}} placeholders; path segments use Rest Assured's
+ * {@code {name}} syntax so the path stays a template in reports and recordings.
+ */
+public class ScenarioStep {
+    private final String name;
+    private final String method;
+    private final String path;
+    private final Map<String, String> pathParams;
+    private final Map<String, String> queryParams;
+    private final Map<String, String> headers;
+    private final String body;
+    private final Map<String, String> captures;
+    private final Integer expectedStatus;
+    private final String skipReason;
+
+    ScenarioStep(String name, String method, String path, Map<String, String> pathParams,
+                 Map<String, String> queryParams, Map<String, String> headers, String body,
+                 Map<String, String> captures, Integer expectedStatus, String skipReason) {
+        this.name = name;
+        this.method = method;
+        this.path = path;
+        this.pathParams = Collections.unmodifiableMap(pathParams);
+        this.queryParams = Collections.unmodifiableMap(queryParams);
+        this.headers = Collections.unmodifiableMap(headers);
+        this.body = body;
+        this.captures = Collections.unmodifiableMap(captures);
+        this.expectedStatus = expectedStatus;
+        this.skipReason = skipReason;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Get the path template, e.g. {@code /api/v1/journeys/{journeyId}/tags}.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Get path parameters with their default values from the collection (possibly empty).
+     */
+    public Map<String, String> getPathParams() {
+        return pathParams;
+    }
+
+    public Map<String, String> getQueryParams() {
+        return queryParams;
+    }
+
+    /**
+     * Get request headers other than Authorization, Content-Type and Accept, which come from the request spec.
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get the raw request body, or null when the request has none.
+     */
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Get JSON paths of the response to store in variables, keyed by variable name.
+     */
+    public Map<String, String> getCaptures() {
+        return captures;
+    }
+
+    /**
+     * Get the status asserted by the item's (or an enclosing folder's) test script, or null.
+     */
+    public Integer getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    /**
+     * Check if the step can be sent by the runner. File uploads and requests to other hosts cannot.
+     */
+    public boolean isExecutable() {
+        return skipReason == null;
+    }
+
+    public String getSkipReason() {
+        return skipReason;
+    }
+
+    /**
+     * Get every variable the step needs: path parameters plus {@code {{variables}}} in query, headers and body.
+     * Postman's dynamic variables such as {@code $guid} are not included.
+     */
+    public Set<String> getBindings() {
+        Set<String> bindings = new LinkedHashSet<>(pathParams.keySet());
+        queryParams.values().forEach(value -> bindings.addAll(Bindings.variables(value)));
+        headers.values().forEach(value -> bindings.addAll(Bindings.variables(value)));
+        bindings.addAll(Bindings.variables(body));
+        return bindings;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + path + " (" + name + ")";
+    }
+}
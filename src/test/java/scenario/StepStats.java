@@ -0,0 +1,104 @@
+package scenario;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Outcome counters and latency samples of one scenario step, shared by all virtual users.
+ */
+public class StepStats {
+    private final String group;
+    private final ScenarioStep step;
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final Map<Integer, AtomicLong> statuses = new ConcurrentSkipListMap<>();
+    private volatile String lastProblem;
+    private long[] latencies = new long[64];
+    private int samples;
+
+    StepStats(String group, ScenarioStep step) {
+        this.group = group;
+        this.step = step;
+    }
+
+    void recordResponse(int status, long latencyMicros, boolean ok) {
+        sent.incrementAndGet();
+        statuses.computeIfAbsent(status, s -> new AtomicLong()).incrementAndGet();
+        if (!ok) {
+            failed.incrementAndGet();
+            lastProblem = "unexpected status " + status;
+        }
+        synchronized (this) {
+            if (samples == latencies.length) {
+                latencies = Arrays.copyOf(latencies, samples * 2);
+            }
+            latencies[samples++] = latencyMicros;
+        }
+    }
+
+    void recordError(String message) {
+        sent.incrementAndGet();
+        failed.incrementAndGet();
+        lastProblem = message;
+    }
+
+    void recordSkipped(String reason) {
+        skipped.incrementAndGet();
+        lastProblem = reason;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public ScenarioStep getStep() {
+        return step;
+    }
+
+    public long getSent() {
+        return sent.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public long getSkipped() {
+        return skipped.get();
+    }
+
+    /**
+     * Get response counts by status code.
+     */
+    public Map<Integer, Long> getStatuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.get()));
+        return counts;
+    }
+
+    /**
+     * Get the last failure or skip reason, or null.
+     */
+    public String getLastProblem() {
+        return lastProblem;
+    }
+
+    /**
+     * Get a latency percentile in milliseconds over all responses, or 0 when there are none.
+     * @param percentile Percentile between 0 and 100
+     */
+    public double getLatencyMillis(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            sorted = Arrays.copyOf(latencies, samples);
+        }
+        if (sorted.length == 0) {
+            return 0;
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1000.0;
+    }
+}
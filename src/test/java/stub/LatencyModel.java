@@ -0,0 +1,86 @@
+package stub;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Response delay distribution of the stub server.
+ * Parsed from a compact spec:
+ * <ul>
+ *   <li>{@code none} — respond immediately</li>
+ *   <li>{@code fixed:20} — always 20 ms</li>
+ *   <li>{@code uniform:10-50} — uniformly between 10 and 50 ms</li>
+ *   <li>{@code normal:30,10} — mean 30 ms, standard deviation 10 ms (never negative)</li>
+ *   <li>{@code lognormal:30,0.5} — median 30 ms, shape 0.5, for realistic long tails</li>
+ * </ul>
+ */
+public abstract class LatencyModel {
+    public static final LatencyModel NONE = new LatencyModel() {
+        @Override
+        public long nextDelayMillis() {
+            return 0;
+        }
+    };
+
+    /**
+     * Draw the delay for the next response.
+     */
+    public abstract long nextDelayMillis();
+
+    public static LatencyModel parse(String spec) {
+        if (spec == null || spec.trim().isEmpty() || "none".equalsIgnoreCase(spec.trim())) {
+            return NONE;
+        }
+        String[] parts = spec.trim().split(":", 2);
+        String kind = parts[0].toLowerCase(Locale.ROOT);
+        String args = parts.length > 1 ? parts[1] : "";
+        try {
+            switch (kind) {
+                case "fixed":
+                    long fixed = Long.parseLong(args.trim());
+                    return fixed <= 0 ? NONE : new LatencyModel() {
+                        @Override
+                        public long nextDelayMillis() {
+                            return fixed;
+                        }
+                    };
+                case "uniform":
+                    String[] range = args.split("-");
+                    long min = Long.parseLong(range[0].trim());
+                    long max = Long.parseLong(range[1].trim());
+                    return new LatencyModel() {
+                        @Override
+                        public long nextDelayMillis() {
+                            return min + (long) (ThreadLocalRandom.current().nextDouble() * (max - min));
+                        }
+                    };
+                case "normal":
+                    double[] normal = pair(args);
+                    return new LatencyModel() {
+                        @Override
+                        public long nextDelayMillis() {
+                            return Math.max(0, Math.round(normal[0] + normal[1] * ThreadLocalRandom.current().nextGaussian()));
+                        }
+                    };
+                case "lognormal":
+                    double[] lognormal = pair(args);
+                    double mu = Math.log(lognormal[0]);
+                    return new LatencyModel() {
+                        @Override
+                        public long nextDelayMillis() {
+                            return Math.round(Math.exp(mu + lognormal[1] * ThreadLocalRandom.current().nextGaussian()));
+                        }
+                    };
+                default:
+                    throw new IllegalArgumentException("Unknown latency distribution '" + kind + "'");
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid latency spec '" + spec + "': " + e.getMessage(), e);
+        }
+    }
+
+    private static double[] pair(String args) {
+        String[] values = args.split(",");
+        return new double[] {Double.parseDouble(values[0].trim()), Double.parseDouble(values[1].trim())};
+    }
+}
@@ -0,0 +1,178 @@
+package stub;
+
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.node.*;
+import openapi.*;
+
+import java.util.*;
+
+/**
+ * Generates a sample JSON value that satisfies an OpenAPI schema.
+ * Explicit {@code example}, {@code examples}, {@code const}, {@code default} and {@code enum} values win;
+ * otherwise a minimal value of the declared type is generated, honouring required lengths and item counts.
+ */
+public class SchemaSampler {
+    private static final int MAX_DEPTH = 8;
+
+    private final OpenApiDocument document;
+    private final JsonNodeFactory factory = JsonNodeFactory.instance;
+
+    public SchemaSampler(OpenApiDocument document) {
+        this.document = document;
+    }
+
+    /**
+     * Generate a sample for the schema of a media type object, preferring its own examples.
+     */
+    public JsonNode sampleMediaType(JsonNode mediaType) {
+        if (mediaType.has("example")) {
+            return mediaType.get("example");
+        }
+        Iterator<JsonNode> examples = mediaType.path("examples").elements();
+        while (examples.hasNext()) {
+            JsonNode example = document.resolve(examples.next());
+            if (example.has("value")) {
+                return example.get("value");
+            }
+        }
+        return mediaType.has("schema") ? sample(mediaType.get("schema")) : NullNode.getInstance();
+    }
+
+    public JsonNode sample(JsonNode schema) {
+        return sample(schema, 0);
+    }
+
+    private JsonNode sample(JsonNode schema, int depth) {
+        if (schema == null || schema.isMissingNode() || schema.isBoolean()) {
+            return NullNode.getInstance();
+        }
+        if (schema.has("$ref")) {
+            JsonNode resolved = sample(document.resolve(schema), depth + 1);
+            // Some operations declare "type": "array" next to a $ref to the item schema
+            return "array".equals(schema.path("type").asText()) && !resolved.isArray()
+                    ? factory.arrayNode().add(resolved) : resolved;
+        }
+
+        JsonNode explicit = explicitValue(schema);
+        if (explicit != null) {
+            return explicit;
+        }
+        if (depth > MAX_DEPTH) {
+            return NullNode.getInstance();
+        }
+        if (schema.has("allOf")) {
+            ObjectNode merged = factory.objectNode();
+            for (JsonNode part : schema.get("allOf")) {
+                JsonNode sample = sample(part, depth + 1);
+                if (sample.isObject()) {
+                    merged.setAll((ObjectNode) sample);
+                }
+            }
+            return merged;
+        }
+        for (String keyword : new String[] {"oneOf", "anyOf"}) {
+            if (schema.has(keyword) && schema.get(keyword).size() > 0) {
+                return sample(schema.get(keyword).get(0), depth + 1);
+            }
+        }
+
+        switch (typeOf(schema)) {
+            case "object":
+                return sampleObject(schema, depth);
+            case "array":
+                ArrayNode array = factory.arrayNode();
+                int count = Math.max(1, schema.path("minItems").asInt(1));
+                for (int i = 0; i < count; i++) {
+                    array.add(sample(schema.path("items"), depth + 1));
+                }
+                return array;
+            case "string":
+                return TextNode.valueOf(sampleString(schema));
+            case "integer":
+                return LongNode.valueOf(schema.path("minimum").asLong(0));
+            case "number":
+                return DoubleNode.valueOf(schema.path("minimum").asDouble(0));
+            case "boolean":
+                return BooleanNode.TRUE;
+            default:
+                return NullNode.getInstance();
+        }
+    }
+
+    private JsonNode sampleObject(JsonNode schema, int depth) {
+        ObjectNode object = factory.objectNode();
+        schema.path("properties").fields().forEachRemaining(property ->
+                object.set(property.getKey(), sample(property.getValue(), depth + 1)));
+        return object;
+    }
+
+    private static JsonNode explicitValue(JsonNode schema) {
+        if (schema.has("const")) {
+            return schema.get("const");
+        }
+        if (schema.has("example")) {
+            return schema.get("example");
+        }
+        if (schema.path("examples").isArray() && schema.get("examples").size() > 0) {
+            return schema.get("examples").get(0);
+        }
+        if (schema.has("default") && !schema.get("default").isNull()) {
+            return schema.get("default");
+        }
+        if (schema.path("enum").isArray() && schema.get("enum").size() > 0) {
+            return schema.get("enum").get(0);
+        }
+        return null;
+    }
+
+    /**
+     * Get the declared type; OpenAPI 3.1 allows a list such as ["string", "null"].
+     */
+    private static String typeOf(JsonNode schema) {
+        JsonNode type = schema.path("type");
+        if (type.isArray()) {
+            for (JsonNode candidate : type) {
+                if (!"null".equals(candidate.asText())) {
+                    return candidate.asText();
+                }
+            }
+            return "null";
+        }
+        if (type.isTextual()) {
+            return type.asText();
+        }
+        return schema.has("properties") ? "object" : schema.has("items") ? "array" : "";
+    }
+
+    private static String sampleString(JsonNode schema) {
+        String value;
+        switch (schema.path("format").asText("")) {
+            case "uuid":
+                value = "3fa85f64-5717-4562-b3fc-2c963f66afa6";
+                break;
+            case "date-time":
+                value = "2024-01-01T00:00:00Z";
+                break;
+            case "date":
+                value = "2024-01-01";
+                break;
+            case "email":
+                value = "user@example.com";
+                break;
+            case "uri":
+            case "url":
+                value = "https://example.com";
+                break;
+            default:
+                value = "string";
+                break;
+        }
+        int minLength = schema.path("minLength").asInt(0);
+        StringBuilder padded = new StringBuilder(value);
+        while (padded.length() < minLength) {
+            padded.append('x');
+        }
+        int maxLength = schema.path("maxLength").asInt(Integer.MAX_VALUE);
+        return padded.length() > maxLength ? padded.substring(0, maxLength) : padded.toString();
+    }
+}
@@ -0,0 +1,376 @@
+package stub;
+
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.node.*;
+import com.sun.net.httpserver.*;
+import config.*;
+import openapi.*;
+import org.slf4j.*;
+import utils.*;
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Embedded HTTP server that answers every operation of the OpenAPI document with a schema-valid response.
+ * Response bodies are rendered once at start-up from the document's examples (or generated from the
+ * schemas when an operation has none), so serving a request costs a path match and a write.
+ *
+ * Requests without an Authorization header get a 401 response and paths containing the nil UUID get a 404
+ * response (the operation's declared one when available), mirroring the negative cases of the suite.
+ * Create operations listed in {@code stub.slugOperations} answer like the real service: the {@code message}
+ * carries a slug generated from the request's title, and a generated {@code id} is added, so the
+ * {@code EntityRegistry} can address the created entity without looking it up. List endpoints still return
+ * their examples, so tests that expect a created entity to show up in a list do not pass against the stub.
+ * Delays are drawn from {@code stub.latency} or {@code stub.latency.<operationId>} (see {@link LatencyModel})
+ * and applied without holding a worker thread.
+ *
+ * Configuration keys: stub.port (0 = ephemeral), stub.threads, stub.latency, stub.latency.&lt;operationId&gt;,
+ * stub.requireAuth, stub.slugOperations, openapi.spec.
+ */
+public class StubServer {
+    private static final Logger logger = LoggerFactory.getLogger(StubServer.class);
+    private static final String NIL_ID = "00000000-0000-0000-0000-000000000000";
+    private static final List<String> PREFERRED_MEDIA_TYPES =
+            Arrays.asList("application/json", "application/problem+json", "*/*");
+    private static final String DEFAULT_SLUG_OPERATIONS = "createJourney,createStage,createChapter,createPage";
+
+    private static StubServer instance;
+
+    private final OpenApiDocument document;
+    private final SchemaSampler sampler;
+    private final Map<Operation, Plan> plans = new HashMap<>();
+    private final LatencyModel defaultLatency;
+    private final boolean requireAuth;
+    private final Set<String> slugOperations = new HashSet<>();
+    private final AtomicLong slugs = new AtomicLong();
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicLong requests = new AtomicLong();
+    private final Map<Operation, Fault> faults = new ConcurrentHashMap<>();
+
+    private StubServer(OpenApiDocument document, int port, int threads) throws IOException {
+        this.document = document;
+        this.sampler = new SchemaSampler(document);
+        this.defaultLatency = LatencyModel.parse(EnvironmentConfig.get("stub.latency", "none"));
+        this.requireAuth = EnvironmentConfig.getBoolean("stub.requireAuth", true);
+        for (String operationId : EnvironmentConfig.get("stub.slugOperations", DEFAULT_SLUG_OPERATIONS).split(",")) {
+            if (!operationId.trim().isEmpty()) {
+                slugOperations.add(operationId.trim());
+            }
+        }
+        for (Operation operation : document.getOperations()) {
+            plans.put(operation, plan(operation));
+        }
+
+        this.workers = Executors.newFixedThreadPool(threads, DaemonThreads.factory("stub-worker"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(DaemonThreads.factory("stub-delay"));
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(workers);
+        this.server.start();
+    }
+
+    /**
+     * Start the shared stub server, or return it if it is already running.
+     */
+    public static synchronized StubServer start() {
+        if (instance == null) {
+            // Headers and body are written separately; without TCP_NODELAY every response waits for a delayed ACK
+            if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+                System.setProperty("sun.net.httpserver.nodelay", "true");
+            }
+            try {
+                instance = new StubServer(OpenApiDocument.get(),
+                        EnvironmentConfig.getInt("stub.port", 0),
+                        Math.max(1, EnvironmentConfig.getInt("stub.threads", 32)));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to start stub server: " + e.getMessage(), e);
+            }
+            logger.info("Stub server serving {} operations at {}", instance.plans.size(), instance.getBaseUrl());
+        }
+        return instance;
+    }
+
+    /**
+     * Stop the shared stub server if it was started.
+     */
+    public static synchronized void stop() {
+        if (instance != null) {
+            instance.server.stop(0);
+            instance.scheduler.shutdownNow();
+            instance.workers.shutdownNow();
+            logger.info("Stub server stopped after {} requests", instance.requests.get());
+            instance = null;
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Answer the next requests of an operation with an error status instead of its success response,
+     * e.g. to check how the filters handle a transient failure.
+     * @param method HTTP method of the operation
+     * @param path Path as the client sends it
+     * @param status Error status to return
+     * @param times Number of requests to fail before the operation answers normally again
+     */
+    public void failNext(String method, String path, int status, int times) {
+        Operation operation = document.findOperation(method, path)
+                .orElseThrow(() -> new IllegalArgumentException("No operation matches " + method + " " + path));
+        faults.put(operation, new Fault(StubResponse.error(status, "Injected failure"), times));
+    }
+
+    private void handle(HttpExchange exchange) {
+        requests.incrementAndGet();
+        // Read the request fully so the connection can be kept alive
+        byte[] requestBody;
+        try (InputStream body = exchange.getRequestBody()) {
+            requestBody = body.readAllBytes();
+        } catch (IOException e) {
+            exchange.close();
+            return;
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        Optional<Operation> operation = document.findOperation(exchange.getRequestMethod(), path);
+        Plan plan = operation.map(plans::get).orElse(null);
+
+        StubResponse response;
+        if (plan == null) {
+            response = StubResponse.error(404, "No operation matches " + exchange.getRequestMethod() + " " + path);
+        } else if (requireAuth && exchange.getRequestHeaders().getFirst("Authorization") == null) {
+            response = plan.unauthorized;
+        } else if (path.contains(NIL_ID)) {
+            response = plan.notFound;
+        } else {
+            StubResponse fault = nextFault(operation.get());
+            if (fault != null) {
+                response = fault;
+            } else {
+                response = plan.created != null ? created(plan, requestBody) : plan.success;
+            }
+        }
+
+        long delay = (plan != null ? plan.latency : defaultLatency).nextDelayMillis();
+        if (delay <= 0) {
+            send(exchange, response);
+        } else {
+            scheduler.schedule(() -> workers.execute(() -> send(exchange, response)), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private StubResponse nextFault(Operation operation) {
+        Fault fault = faults.get(operation);
+        if (fault == null) {
+            return null;
+        }
+        if (fault.remaining.getAndDecrement() > 0) {
+            return fault.response;
+        }
+        faults.remove(operation, fault);
+        return null;
+    }
+
+    private static void send(HttpExchange exchange, StubResponse response) {
+        try {
+            if (response.body.length == 0) {
+                exchange.sendResponseHeaders(response.status, -1);
+            } else {
+                exchange.getResponseHeaders().set("Content-Type", response.contentType);
+                exchange.sendResponseHeaders(response.status, response.body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(response.body);
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to write stub response: {}", e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Plan plan(Operation operation) {
+        int successStatus = 200;
+        for (int status : operation.getStatusCodes()) {
+            if (status >= 200 && status < 300) {
+                successStatus = status;
+                break;
+            }
+        }
+
+        Plan plan = new Plan();
+        plan.success = render(operation, successStatus);
+        if (slugOperations.contains(operation.getOperationId())) {
+            plan.created = createdTemplate(plan.success);
+        }
+        plan.unauthorized = operation.getResponse(401).isMissingNode()
+                ? StubResponse.error(401, "Full authentication is required to access this resource")
+                : render(operation, 401);
+        plan.notFound = operation.getResponse(404).isMissingNode()
+                ? StubResponse.error(404, "Resource not found")
+                : render(operation, 404);
+        String latency = EnvironmentConfig.get("stub.latency." + operation.getOperationId());
+        plan.latency = latency != null ? LatencyModel.parse(latency) : defaultLatency;
+        return plan;
+    }
+
+    private StubResponse render(Operation operation, int status) {
+        JsonNode content = document.resolve(operation.getResponse(status)).path("content");
+        if (status == 204 || content.size() == 0) {
+            return new StubResponse(status, "application/json", new byte[0]);
+        }
+
+        String mediaType = null;
+        for (String preferred : PREFERRED_MEDIA_TYPES) {
+            if (content.has(preferred)) {
+                mediaType = preferred;
+                break;
+            }
+        }
+        if (mediaType == null) {
+            mediaType = content.fieldNames().next();
+        }
+
+        JsonNode sample = sampler.sampleMediaType(content.get(mediaType));
+        try {
+            byte[] body = sample.isTextual() && mediaType.startsWith("text/")
+                    ? sample.asText().getBytes(StandardCharsets.UTF_8)
+                    : JsonUtils.getMapper().writeValueAsBytes(sample);
+            return new StubResponse(status, "*/*".equals(mediaType) ? "application/json" : mediaType, body);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to render stub response for " + operation + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parse a create operation's success response for {@link #created}, or return null if it is not a JSON object.
+     */
+    private static ObjectNode createdTemplate(StubResponse success) {
+        try {
+            JsonNode body = JsonUtils.getMapper().readTree(success.body);
+            return body instanceof ObjectNode ? (ObjectNode) body : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Render a create response whose message is a fresh slug and whose id is a fresh UUID.
+     */
+    private StubResponse created(Plan plan, byte[] requestBody) {
+        ObjectNode body = plan.created.deepCopy();
+        body.put("message", slug(requestBody));
+        body.put("id", UUID.randomUUID().toString());
+        try {
+            return new StubResponse(plan.success.status, plan.success.contentType,
+                    JsonUtils.getMapper().writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Slug from the title (or name) of the request, made unique with a counter.
+     */
+    private String slug(byte[] requestBody) {
+        String title = null;
+        try {
+            JsonNode request = JsonUtils.getMapper().readTree(requestBody);
+            for (JsonNode candidate : Arrays.asList(request.path("title"), request.path("name"),
+                    request.path("content").path("title"))) {
+                if (candidate.isTextual() && !candidate.asText().isEmpty()) {
+                    title = candidate.asText();
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Create request is not JSON: {}", e.getMessage());
+        }
+        String base = title == null ? ""
+                : title.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+        return (base.isEmpty() ? "stub-entity" : base) + "-" + slugs.incrementAndGet();
+    }
+
+    /**
+     * Pre-rendered responses and latency of one operation.
+     */
+    private static class Plan {
+        StubResponse success;
+        // Success body of a create operation in stub.slugOperations, completed per request; otherwise null
+        ObjectNode created;
+        StubResponse unauthorized;
+        StubResponse notFound;
+        LatencyModel latency;
+    }
+
+    /**
+     * Error response injected for the next requests of an operation.
+     */
+    private static class Fault {
+        final StubResponse response;
+        final AtomicInteger remaining;
+
+        Fault(StubResponse response, int times) {
+            this.response = response;
+            this.remaining = new AtomicInteger(times);
+        }
+    }
+
+    private static class StubResponse {
+        final int status;
+        final String contentType;
+        final byte[] body;
+
+        StubResponse(int status, String contentType, byte[] body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        static StubResponse error(int status, String message) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("httpStatusCode", status);
+            String reason = reason(status);
+            body.put("httpStatus", status + " " + reason.toUpperCase(Locale.ROOT).replace(' ', '_'));
+            body.put("reason", reason);
+            body.put("message", message);
+            try {
+                return new StubResponse(status, "application/json", JsonUtils.getMapper().writeValueAsBytes(body));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static String reason(int status) {
+            switch (status) {
+                case 401:
+                    return "unauthorized";
+                case 404:
+                    return "not found";
+                case 429:
+                    return "too many requests";
+                case 502:
+                    return "bad gateway";
+                case 503:
+                    return "service unavailable";
+                case 504:
+                    return "gateway timeout";
+                default:
+                    return status >= 500 ? "internal server error" : "bad request";
+            }
+        }
+    }
+
+}
@@ -5,6 +5,7 @@ import client.*;
 import config.*;
 import io.qameta.allure.*;
 import io.restassured.response.*;
+import listeners.*;
 import org.testng.annotations.*;
 
 import java.util.*;
@@ -14,7 +15,10 @@ import java.util.*;
  * Tests category CRUD operations for journey groupings.
  *
  * Categories are used to group and organize content within journeys.
+ * Methods are scheduled by their dependencies: the checks against the created category run concurrently
+ * once it exists, and the delete waits for all of them.
  */
+@DependencyScheduled
 @Epic("Content Management")
 @Feature("Categories")
 public class CategoryTest {
@@ -32,7 +36,7 @@ public class CategoryTest {
 
     // ========== CREATE CATEGORY TESTS ==========
 
-    @Test(description = "Create category - Success (201)", priority = 1)
+    @Test(description = "Create category - Success (201)")
     @Story("Create Category")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that a new category can be created successfully with valid data")
@@ -145,7 +149,7 @@ public class CategoryTest {
 
     // ========== GET CATEGORY BY ID TESTS ==========
 
-    @Test(description = "Get category by ID - Success (200)", priority = 2, dependsOnMethods = "testCreateCategory_Success")
+    @Test(description = "Get category by ID - Success (200)", dependsOnMethods = "testCreateCategory_Success")
     @Story("Get Category by ID")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that a category can be retrieved by its ID")
@@ -286,7 +290,7 @@ public class CategoryTest {
 
     // ========== UPDATE CATEGORY TESTS ==========
 
-    @Test(description = "Update category - Success (200)", priority = 3, dependsOnMethods = "testGetCategoryById_Success")
+    @Test(description = "Update category - Success (200)", dependsOnMethods = "testCreateCategory_Success")
     @Story("Update Category")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that a category can be updated successfully")
@@ -338,7 +342,7 @@ public class CategoryTest {
         ResponseAssertions.assertStatusCodeIn(response, 404);
     }
 
-    @Test(description = "Update category - Empty name (400)")
+    @Test(description = "Update category - Empty name (400)", dependsOnMethods = "testCreateCategory_Success", alwaysRun = true)
     @Story("Update Category")
     @Severity(SeverityLevel.NORMAL)
     @Description("Verify that updating a category with empty name returns 400 error")
@@ -390,7 +394,8 @@ public class CategoryTest {
 
     // ========== DELETE CATEGORY TESTS ==========
 
-    @Test(description = "Delete category - Success (204)", priority = 4, dependsOnMethods = "testUpdateCategory_Success")
+    @Test(description = "Delete category - Success (204)", alwaysRun = true,
+            dependsOnMethods = {"testGetCategoryById_Success", "testUpdateCategory_Success", "testUpdateCategory_EmptyName"})
     @Story("Delete Category")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that a category can be deleted successfully")
@@ -461,7 +466,7 @@ public class CategoryTest {
         }
     }
 
-    @Test(description = "Verify deleted category cannot be retrieved (404)", priority = 5, dependsOnMethods = "testDeleteCategory_Success")
+    @Test(description = "Verify deleted category cannot be retrieved (404)", dependsOnMethods = "testDeleteCategory_Success")
     @Story("Delete Category")
     @Severity(SeverityLevel.NORMAL)
     @Description("Verify that a deleted category cannot be retrieved anymore")
@@ -3,9 +3,12 @@ package tests.chapter;
 import assertions.*;
 import client.*;
 import com.fasterxml.jackson.databind.*;
+import fixtures.*;
 import io.qameta.allure.*;
 import io.restassured.response.*;
+import listeners.*;
 import org.testng.annotations.*;
+import registry.*;
 
 import java.util.*;
 
@@ -13,13 +16,14 @@ import java.util.*;
  * Test class for validating CRUD operations on Chapter endpoints.
  * Tests Read, Update, Tags, and Delete operations.
  * Note: Create operations are tested separately in required field validation tests.
+ * Methods are scheduled by their dependencies: reads, updates and the tag round trip run concurrently, and
+ * the delete waits for every method that uses the chapter.
  */
+@DependencyScheduled
 @Epic("Chapter Management")
 @Feature("Chapter CRUD Operations")
 public class ChapterCRUDTest {
     private ChapterClient chapterClient;
-    private StageClient stageClient;
-    private JourneyClient journeyClient;
     private CategoryClient categoryClient;
     private ObjectMapper objectMapper;
 
@@ -37,8 +41,6 @@ public class ChapterCRUDTest {
     @BeforeClass
     public void setup() {
         chapterClient = new ChapterClient();
-        stageClient = new StageClient();
-        journeyClient = new JourneyClient();
         categoryClient = new CategoryClient();
         objectMapper = new ObjectMapper();
 
@@ -51,114 +53,29 @@ public class ChapterCRUDTest {
      */
     private void setupTestData() {
         Allure.step("Setup: Create test journey, stage, chapter, and category", () -> {
-            // 1. Create test journey
-            String testJourneyTitle = "Chapter CRUD Test Journey " + System.currentTimeMillis();
-
-            Map<String, Object> journeyRequest = new HashMap<>();
-            journeyRequest.put("title", testJourneyTitle);
-            journeyRequest.put("assetId", TEST_ASSET_ID);
-            journeyRequest.put("assetDescription", "Journey for chapter CRUD testing");
-            journeyRequest.put("language", "en-gb");
-
-            Response createJourneyResponse = journeyClient.createJourney(journeyRequest);
-
-            if (createJourneyResponse.getStatusCode() == 200 || createJourneyResponse.getStatusCode() == 201) {
-                System.out.println("✓ Test journey created: " + testJourneyTitle);
-
-                // Get the journey details
-                Response getAllResponse = journeyClient.getAllJourneys(0, 10, testJourneyTitle);
-                if (getAllResponse.getStatusCode() == 200) {
-                    try {
-                        JsonNode rootNode = objectMapper.readTree(getAllResponse.getBody().asString());
-                        JsonNode content = rootNode.get("content");
-                        if (content != null && content.isArray() && content.size() > 0) {
-                            testJourneyId = content.get(0).get("id").asText();
-                            testJourneySlug = content.get(0).get("slug").asText();
-                            System.out.println("✓ Retrieved journey slug: " + testJourneySlug);
-                        }
-                    } catch (Exception e) {
-                        System.err.println("✗ Failed to extract journey details: " + e.getMessage());
-                    }
-                }
+            // 1-3. Seed test journey, stage and chapter
+            SeededHierarchy hierarchy = new HierarchySeeder().seed(HierarchySpec.builder()
+                    .titlePrefix("Chapter CRUD Test")
+                    .build());
+            hierarchy.getFailures().forEach(failure -> System.err.println("✗ " + failure));
+
+            if (!hierarchy.getJourneys().isEmpty()) {
+                SeededHierarchy.Journey journey = hierarchy.getJourneys().get(0);
+                testJourneyId = journey.getId();
+                testJourneySlug = journey.getSlug();
+                System.out.println("✓ Test journey created: " + journey.getTitle());
             }
-
-            // 2. Create test stage
-            if (testJourneySlug != null) {
-                String testStageTitle = "Test Stage " + System.currentTimeMillis();
-
-                Map<String, Object> stageRequest = new HashMap<>();
-                stageRequest.put("title", testStageTitle);
-                stageRequest.put("assetId", TEST_ASSET_ID);
-                stageRequest.put("assetDescription", "Stage for chapter CRUD testing");
-                stageRequest.put("status", "DRAFT");
-                stageRequest.put("language", "en-gb");
-
-                Response createStageResponse = stageClient.createStage(testJourneySlug, stageRequest);
-
-                if (createStageResponse.getStatusCode() == 200 || createStageResponse.getStatusCode() == 201) {
-                    System.out.println("✓ Test stage created: " + testStageTitle);
-
-                    // Get the stage details
-                    Response getStagesResponse = stageClient.getAllStages(testJourneySlug);
-                    if (getStagesResponse.getStatusCode() == 200) {
-                        try {
-                            JsonNode stagesNode = objectMapper.readTree(getStagesResponse.getBody().asString());
-                            if (stagesNode.isArray() && stagesNode.size() > 0) {
-                                for (JsonNode stageNode : stagesNode) {
-                                    String stageTitle = stageNode.get("content").get("title").asText();
-                                    if (stageTitle.equals(testStageTitle)) {
-                                        testStageId = stageNode.get("id").asText();
-                                        testStageSlug = stageNode.get("slug").asText();
-                                        System.out.println("✓ Retrieved stage slug: " + testStageSlug);
-                                        break;
-                                    }
-                                }
-                            }
-                        } catch (Exception e) {
-                            System.err.println("✗ Failed to extract stage details: " + e.getMessage());
-                        }
-                    }
-                }
+            if (!hierarchy.getAllStages().isEmpty()) {
+                SeededHierarchy.Stage stage = hierarchy.getAllStages().get(0);
+                testStageId = stage.getId();
+                testStageSlug = stage.getSlug();
+                System.out.println("✓ Retrieved stage slug: " + testStageSlug);
             }
-
-            // 3. Create test chapter
-            if (testStageSlug != null) {
-                createdChapterTitle = "Test Chapter " + System.currentTimeMillis();
-
-                Map<String, Object> chapterRequest = new HashMap<>();
-                chapterRequest.put("title", createdChapterTitle);
-                chapterRequest.put("assetId", TEST_ASSET_ID);
-                chapterRequest.put("assetDescription", "Chapter for CRUD testing");
-                chapterRequest.put("status", "DRAFT");
-                chapterRequest.put("language", "en-gb");
-
-                Response createChapterResponse = chapterClient.createChapter(testStageSlug, chapterRequest);
-
-                if (createChapterResponse.getStatusCode() == 200 || createChapterResponse.getStatusCode() == 201) {
-                    System.out.println("✓ Test chapter created: " + createdChapterTitle);
-
-                    // Get the chapter ID
-                    if (testStageId != null) {
-                        Response getChaptersResponse = chapterClient.getChaptersByStage(testStageId);
-                        if (getChaptersResponse.getStatusCode() == 200) {
-                            try {
-                                JsonNode chaptersNode = objectMapper.readTree(getChaptersResponse.getBody().asString());
-                                if (chaptersNode.isArray() && chaptersNode.size() > 0) {
-                                    for (JsonNode chapterNode : chaptersNode) {
-                                        String chapterTitle = chapterNode.get("content").get("title").asText();
-                                        if (chapterTitle.equals(createdChapterTitle)) {
-                                            createdChapterId = chapterNode.get("id").asText();
-                                            System.out.println("✓ Retrieved chapter ID: " + createdChapterId);
-                                            break;
-                                        }
-                                    }
-                                }
-                            } catch (Exception e) {
-                                System.err.println("✗ Failed to extract chapter ID: " + e.getMessage());
-                            }
-                        }
-                    }
-                }
+            if (!hierarchy.getAllChapters().isEmpty()) {
+                SeededHierarchy.Chapter chapter = hierarchy.getAllChapters().get(0);
+                createdChapterId = chapter.getId();
+                createdChapterTitle = chapter.getTitle();
+                System.out.println("✓ Retrieved chapter ID: " + createdChapterId);
             }
 
             // 4. Create test category (for tags)
@@ -189,7 +106,7 @@ public class ChapterCRUDTest {
 
     // ===================== READ OPERATIONS =====================
 
-    @Test(description = "Get chapters by stage - should return 200", priority = 1)
+    @Test(description = "Get chapters by stage - should return 200")
     @Story("Read Operations")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Validates that retrieving all chapters in a stage returns 200 OK")
@@ -221,7 +138,7 @@ public class ChapterCRUDTest {
         });
     }
 
-    @Test(description = "Get chapter by ID - should return 200", priority = 2)
+    @Test(description = "Get chapter by ID - should return 200")
     @Story("Read Operations")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Validates that retrieving a specific chapter by ID returns 200 OK")
@@ -255,7 +172,7 @@ public class ChapterCRUDTest {
         });
     }
 
-    @Test(description = "Get chapter by invalid ID - should return 404", priority = 3)
+    @Test(description = "Get chapter by invalid ID - should return 404")
     @Story("Read Operations")
     @Severity(SeverityLevel.NORMAL)
     @Description("Validates that retrieving a chapter with invalid ID returns 404 Not Found")
@@ -277,7 +194,7 @@ public class ChapterCRUDTest {
 
     // ===================== UPDATE OPERATIONS =====================
 
-    @Test(description = "Update chapter - should return 200", priority = 4, dependsOnMethods = {"testGetChapterById_Success"})
+    @Test(description = "Update chapter - should return 200")
     @Story("Update Operations")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Validates that updating a chapter returns 200 OK")
@@ -308,7 +225,7 @@ public class ChapterCRUDTest {
         });
     }
 
-    @Test(description = "Update chapter with invalid ID - should return 404", priority = 5)
+    @Test(description = "Update chapter with invalid ID - should return 404")
     @Story("Update Operations")
     @Severity(SeverityLevel.NORMAL)
     @Description("Validates that updating a chapter with invalid ID returns 404 Not Found")
@@ -335,7 +252,7 @@ public class ChapterCRUDTest {
         });
     }
 
-    @Test(description = "Update chapter with missing required fields - should return 400", priority = 6)
+    @Test(description = "Update chapter with missing required fields - should return 400")
     @Story("Update Operations")
     @Severity(SeverityLevel.NORMAL)
     @Description("Validates that updating a chapter with missing required fields returns 400 Bad Request")
@@ -364,7 +281,7 @@ public class ChapterCRUDTest {
 
     // ===================== CHAPTER TAGS OPERATIONS =====================
 
-    @Test(description = "Create chapter tag - should return 201", priority = 7, dependsOnMethods = {"testUpdateChapter_Success"})
+    @Test(description = "Create chapter tag - should return 201")
     @Story("Chapter Tags Operations")
     @Severity(SeverityLevel.NORMAL)
     @Description("Validates that creating a chapter tag returns 201 Created")
@@ -421,7 +338,7 @@ public class ChapterCRUDTest {
         });
     }
 
-    @Test(description = "Get chapter tags - should return 200", priority = 8, dependsOnMethods = {"testCreateChapterTag_Success"})
+    @Test(description = "Get chapter tags - should return 200", dependsOnMethods = {"testCreateChapterTag_Success"})
     @Story("Chapter Tags Operations")
     @Severity(SeverityLevel.NORMAL)
     @Description("Validates that retrieving chapter tags returns 200 OK")
@@ -453,7 +370,7 @@ public class ChapterCRUDTest {
         });
     }
 
-    @Test(description = "Remove chapter tag - should return 200", priority = 9, dependsOnMethods = {"testGetChapterTags_Success"})
+    @Test(description = "Remove chapter tag - should return 200", dependsOnMethods = {"testCreateChapterTag_Success"})
     @Story("Chapter Tags Operations")
     @Severity(SeverityLevel.NORMAL)
     @Description("Validates that removing a chapter tag returns 200 OK")
@@ -485,7 +402,9 @@ public class ChapterCRUDTest {
 
     // ===================== DELETE OPERATIONS =====================
 
-    @Test(description = "Delete chapter - should return 204", priority = 10, dependsOnMethods = {"testRemoveChapterTag_Success"})
+    @Test(description = "Delete chapter - should return 204", alwaysRun = true,
+            dependsOnMethods = {"testGetChapterById_Success", "testUpdateChapter_Success",
+                    "testUpdateChapter_MissingRequiredFields_Returns400", "testGetChapterTags_Success", "testRemoveChapterTag_Success"})
     @Story("Delete Operations")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Validates that deleting a chapter returns 204 No Content")
@@ -508,7 +427,7 @@ public class ChapterCRUDTest {
         });
     }
 
-    @Test(description = "Verify chapter is deleted - should return 404", priority = 11, dependsOnMethods = {"testDeleteChapter_Success"})
+    @Test(description = "Verify chapter is deleted - should return 404", dependsOnMethods = {"testDeleteChapter_Success"})
     @Story("Delete Operations")
     @Severity(SeverityLevel.NORMAL)
     @Description("Validates that the deleted chapter cannot be retrieved")
@@ -532,7 +451,7 @@ public class ChapterCRUDTest {
         });
     }
 
-    @Test(description = "Delete chapter with invalid ID - should return 404", priority = 12)
+    @Test(description = "Delete chapter with invalid ID - should return 404")
     @Story("Delete Operations")
     @Severity(SeverityLevel.NORMAL)
     @Description("Validates that deleting with invalid ID returns 404 Not Found")
@@ -554,30 +473,11 @@ public class ChapterCRUDTest {
 
     @AfterClass
     public void cleanup() {
-        Allure.step("Cleanup: Delete test journey, stage, and category", () -> {
-            // Delete test journey (will cascade delete stage)
-            if (testJourneyId != null) {
-                try {
-                    Response deleteJourneyResponse = journeyClient.deleteJourney(testJourneyId);
-                    if (deleteJourneyResponse.getStatusCode() == 204) {
-                        System.out.println("✓ Cleanup: Test journey deleted");
-                    }
-                } catch (Exception e) {
-                    System.err.println("⚠ Cleanup: Failed to delete test journey: " + e.getMessage());
-                }
-            }
-
-            // Delete test category
-            if (testCategoryId != null) {
-                try {
-                    Response deleteCategoryResponse = categoryClient.deleteCategory(testCategoryId);
-                    if (deleteCategoryResponse.getStatusCode() == 204 || deleteCategoryResponse.getStatusCode() == 200) {
-                        System.out.println("✓ Cleanup: Test category deleted");
-                    }
-                } catch (Exception e) {
-                    System.err.println("⚠ Cleanup: Failed to delete test category: " + e.getMessage());
-                }
-            }
+        Allure.step("Cleanup: Queue test journey, stage, and category for deletion", () -> {
+            // Deleted by the teardown reaper at suite end; the journey deletion cascades to its children
+            TeardownReaper.enqueue(EntityType.JOURNEY, testJourneyId);
+            TeardownReaper.enqueue(EntityType.CATEGORY, testCategoryId);
+            System.out.println("✓ Cleanup: Test journey and category queued for deletion");
         });
     }
 }
@@ -0,0 +1,54 @@
+package tests.framework;
+
+import assertions.*;
+import filters.*;
+import io.qameta.allure.*;
+import io.restassured.filter.*;
+import io.restassured.response.*;
+import org.testng.*;
+import org.testng.annotations.*;
+import stub.*;
+
+import static io.restassured.RestAssured.*;
+
+/**
+ * Test class for the retry filter.
+ * Runs against the embedded stub server with only the retry filter in the chain, whatever the environment.
+ */
+@Epic("Framework")
+@Feature("Retry Filter")
+public class RetryFilterTest {
+    private static final String PATH = "/api/v1/languages";
+    private StubServer stub;
+    private Filter retryFilter;
+
+    @BeforeClass
+    public void setup() {
+        retryFilter = RetryFilter.get();
+        if (retryFilter == null) {
+            throw new SkipException("Retries are disabled (retry.enabled=false)");
+        }
+        stub = StubServer.start();
+    }
+
+    @Test(description = "Transient 503 is retried once and the call passes (200)")
+    public void testTransientFailure_RetriedOnce() {
+        // Arrange
+        stub.failNext("GET", PATH, 503, 1);
+        long retriesBefore = RetryFilter.getRetries();
+        long requestsBefore = stub.getRequestCount();
+
+        // Act
+        Response response = given()
+                .baseUri(stub.getBaseUrl())
+                .header("Authorization", "Bearer stub-token")
+                .filter(retryFilter)
+                .when()
+                .get(PATH);
+
+        // Assert
+        ResponseAssertions.assertStatusCode(response, 200);
+        Assert.assertEquals(RetryFilter.getRetries() - retriesBefore, 1, "Expected exactly one retry");
+        Assert.assertEquals(stub.getRequestCount() - requestsBefore, 2, "Expected the failed and the retried request");
+    }
+}
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.*;
 import io.qameta.allure.*;
 import io.restassured.response.*;
 import org.testng.annotations.*;
+import registry.*;
 
 import java.util.*;
 
@@ -52,19 +53,12 @@ public class JourneyCRUDTest {
             if (createResponse.getStatusCode() == 200 || createResponse.getStatusCode() == 201) {
                 System.out.println("✓ Test journey created successfully: " + createdJourneyTitle);
 
-                // Get the journey ID by searching
-                Response getAllResponse = journeyClient.getAllJourneys(0, 10, createdJourneyTitle);
-                if (getAllResponse.getStatusCode() == 200) {
-                    try {
-                        JsonNode rootNode = objectMapper.readTree(getAllResponse.getBody().asString());
-                        JsonNode content = rootNode.get("content");
-                        if (content != null && content.isArray() && content.size() > 0) {
-                            createdJourneyId = content.get(0).get("id").asText();
-                            System.out.println("✓ Retrieved journey ID: " + createdJourneyId);
-                        }
-                    } catch (Exception e) {
-                        System.err.println("✗ Failed to extract journey ID: " + e.getMessage());
-                    }
+                // Resolve the journey ID from the entity registry
+                try {
+                    createdJourneyId = EntityRegistry.resolveIdByTitle(EntityType.JOURNEY, createdJourneyTitle);
+                    System.out.println("✓ Retrieved journey ID: " + createdJourneyId);
+                } catch (Exception e) {
+                    System.err.println("✗ Failed to extract journey ID: " + e.getMessage());
                 }
             } else {
                 System.err.println("✗ Failed to create test journey: " + createResponse.getStatusCode());
@@ -90,14 +84,8 @@ public class JourneyCRUDTest {
             ResponseAssertions.assertStatusCode(response, 200);
 
             // Verify response structure
-            try {
-                JsonNode rootNode = objectMapper.readTree(response.getBody().asString());
-                assert rootNode.has("content") : "Response should contain 'content' field";
-                assert rootNode.get("content").isArray() : "'content' should be an array";
-                System.out.println("✓ Successfully retrieved journeys");
-            } catch (Exception e) {
-                System.err.println("✗ Failed to parse response: " + e.getMessage());
-            }
+            ResponseAssertions.assertMatchesContract(response, "GET", "/api/v1/journeys");
+            System.out.println("✓ Successfully retrieved journeys");
         });
     }
 
@@ -174,13 +162,8 @@ public class JourneyCRUDTest {
             ResponseAssertions.assertStatusCode(response, 200);
 
             // Verify pagination
-            try {
-                JsonNode rootNode = objectMapper.readTree(response.getBody().asString());
-                assert rootNode.has("pageable") : "Response should contain pagination info";
-                System.out.println("✓ Successfully retrieved paginated journeys");
-            } catch (Exception e) {
-                System.err.println("✗ Failed to verify pagination: " + e.getMessage());
-            }
+            ResponseAssertions.assertMatchesContract(response, "GET", "/api/v1/journeys");
+            System.out.println("✓ Successfully retrieved paginated journeys");
         });
     }
 
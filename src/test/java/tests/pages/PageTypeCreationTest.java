@@ -1,7 +1,7 @@
 package tests.pages;
 
 import client.*;
-import com.fasterxml.jackson.databind.*;
+import fixtures.*;
 import io.qameta.allure.*;
 import io.restassured.response.*;
 import org.testng.annotations.*;
@@ -17,9 +17,6 @@ import java.util.*;
 public class PageTypeCreationTest {
     private PageClient pageClient;
     private JourneyClient journeyClient;
-    private StageClient stageClient;
-    private ChapterClient chapterClient;
-    private ObjectMapper objectMapper;
 
     // Test data
     private static final String TEST_ASSET_ID = "d0f9b79d-c9d2-48a2-94e5-363787223829";
@@ -31,9 +28,6 @@ public class PageTypeCreationTest {
     public void setup() {
         pageClient = new PageClient();
         journeyClient = new JourneyClient();
-        stageClient = new StageClient();
-        chapterClient = new ChapterClient();
-        objectMapper = new ObjectMapper();
 
         setupTestData();
     }
@@ -43,104 +37,20 @@ public class PageTypeCreationTest {
      */
     private void setupTestData() {
         Allure.step("Setup: Create test journey, stage, and chapter for pages", () -> {
-            // 1. Create test journey
-            String testJourneyTitle = "Page Types Test Journey " + System.currentTimeMillis();
-
-            Map<String, Object> journeyRequest = new HashMap<>();
-            journeyRequest.put("title", testJourneyTitle);
-            journeyRequest.put("assetId", TEST_ASSET_ID);
-            journeyRequest.put("assetDescription", "Journey for page type testing");
-            journeyRequest.put("language", "en-gb");
-
-            Response createJourneyResponse = journeyClient.createJourney(journeyRequest);
-
-            if (createJourneyResponse.getStatusCode() == 200 || createJourneyResponse.getStatusCode() == 201) {
-                System.out.println("✓ Test journey created: " + testJourneyTitle);
-
-                Response getAllResponse = journeyClient.getAllJourneys(0, 10, testJourneyTitle, "", "");
-                if (getAllResponse.getStatusCode() == 200) {
-                    try {
-                        JsonNode rootNode = objectMapper.readTree(getAllResponse.getBody().asString());
-                        JsonNode content = rootNode.get("content");
-                        if (content != null && content.isArray() && content.size() > 0) {
-                            testJourneyId = content.get(0).get("id").asText();
-                            testJourneySlug = content.get(0).get("slug").asText();
-                            System.out.println("✓ Retrieved journey slug: " + testJourneySlug);
-                        }
-                    } catch (Exception e) {
-                        System.err.println("✗ Failed to extract journey details: " + e.getMessage());
-                    }
-                }
+            SeededHierarchy hierarchy = new HierarchySeeder().seed(HierarchySpec.builder()
+                    .titlePrefix("Page Types Test")
+                    .build());
+            hierarchy.getFailures().forEach(failure -> System.err.println("✗ " + failure));
+
+            if (!hierarchy.getJourneys().isEmpty()) {
+                SeededHierarchy.Journey journey = hierarchy.getJourneys().get(0);
+                testJourneyId = journey.getId();
+                testJourneySlug = journey.getSlug();
+                System.out.println("✓ Test journey created: " + journey.getTitle());
             }
-
-            // 2. Create test stage
-            if (testJourneySlug != null) {
-                String testStageTitle = "Page Types Stage " + System.currentTimeMillis();
-
-                Map<String, Object> stageRequest = new HashMap<>();
-                stageRequest.put("title", testStageTitle);
-                stageRequest.put("assetId", TEST_ASSET_ID);
-                stageRequest.put("assetDescription", "Stage for page type testing");
-                stageRequest.put("status", "DRAFT");
-                stageRequest.put("language", "en-gb");
-
-                Response createStageResponse = stageClient.createStage(testJourneySlug, stageRequest);
-
-                if (createStageResponse.getStatusCode() == 200 || createStageResponse.getStatusCode() == 201) {
-                    System.out.println("✓ Test stage created");
-
-                    // Extract stage slug directly from the create response
-                    String stageSlug = null;
-                    try {
-                        JsonNode stageResponseNode = objectMapper.readTree(createStageResponse.getBody().asString());
-                        if (stageResponseNode.has("message")) {
-                            stageSlug = stageResponseNode.get("message").asText();
-                            System.out.println("✓ Retrieved stage slug: " + stageSlug);
-                        } else {
-                            System.err.println("⚠ Stage created but 'message' field not found in response");
-                            System.err.println("Response body: " + createStageResponse.getBody().asString());
-                        }
-                    } catch (Exception e) {
-                        System.err.println("✗ Failed to extract stage slug: " + e.getMessage());
-                        e.printStackTrace();
-                    }
-
-                    // 3. Create test chapter
-                    if (stageSlug != null) {
-                        String testChapterTitle = "Page Types Chapter " + System.currentTimeMillis();
-
-                        Map<String, Object> chapterRequest = new HashMap<>();
-                        chapterRequest.put("title", testChapterTitle);
-                        chapterRequest.put("assetId", TEST_ASSET_ID);
-                        chapterRequest.put("assetDescription", "Chapter for page type testing");
-                        chapterRequest.put("status", "DRAFT");
-                        chapterRequest.put("language", "en-gb");
-
-                        Response createChapterResponse = chapterClient.createChapter(stageSlug, chapterRequest);
-
-                        if (createChapterResponse.getStatusCode() == 200 || createChapterResponse.getStatusCode() == 201) {
-                            System.out.println("✓ Test chapter created");
-
-                            // Extract chapter slug directly from the create response
-                            try {
-                                JsonNode chapterResponseNode = objectMapper.readTree(createChapterResponse.getBody().asString());
-                                if (chapterResponseNode.has("message")) {
-                                    testChapterSlug = chapterResponseNode.get("message").asText();
-                                    System.out.println("✓ Retrieved chapter slug: " + testChapterSlug);
-                                } else {
-                                    System.err.println("⚠ Chapter created but 'slug' field not found in response");
-                                    System.err.println("Response body: " + createChapterResponse.getBody().asString());
-                                }
-                            } catch (Exception e) {
-                                System.err.println("✗ Failed to extract chapter slug: " + e.getMessage());
-                                e.printStackTrace();
-                            }
-                        } else {
-                            System.err.println("✗ Chapter creation failed with status: " + createChapterResponse.getStatusCode());
-                            System.err.println("Response body: " + createChapterResponse.getBody().asString());
-                        }
-                    }
-                }
+            if (!hierarchy.getAllChapters().isEmpty()) {
+                testChapterSlug = hierarchy.getAllChapters().get(0).getSlug();
+                System.out.println("✓ Retrieved chapter slug: " + testChapterSlug);
             }
         });
     }
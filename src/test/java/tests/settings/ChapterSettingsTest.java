@@ -2,13 +2,11 @@ package tests.settings;
 
 import assertions.*;
 import client.*;
-import com.fasterxml.jackson.databind.*;
+import fixtures.*;
 import io.qameta.allure.*;
 import io.restassured.response.*;
 import org.testng.annotations.*;
 
-import java.util.*;
-
 /**
  * Test class for Chapter Settings endpoints.
  * Tests retrieving chapter settings by chapter ID.
@@ -17,132 +15,27 @@ import java.util.*;
 @Feature("Chapter Settings")
 public class ChapterSettingsTest {
     private ChapterSettingsClient chapterSettingsClient;
-    private ChapterClient chapterClient;
-    private StageClient stageClient;
-    private JourneyClient journeyClient;
-    private ObjectMapper objectMapper;
 
     // Test data
-    private static final String TEST_ASSET_ID = "d0f9b79d-c9d2-48a2-94e5-363787223829";
-    private String testJourneyId;
-    private String testJourneySlug;
-    private String testStageSlug;
+    private FixtureLease fixtureLease;
     private String testChapterId;
 
     @BeforeClass
     public void setup() {
         chapterSettingsClient = new ChapterSettingsClient();
-        chapterClient = new ChapterClient();
-        stageClient = new StageClient();
-        journeyClient = new JourneyClient();
-        objectMapper = new ObjectMapper();
 
-        // Create test journey, stage, and chapter for settings retrieval
+        // Settings are only read, so a shared pooled hierarchy is enough
         setupTestData();
     }
 
     /**
-     * Helper method to create test journey, stage, and chapter
+     * Helper method to lease a pooled hierarchy with a chapter
      */
     private void setupTestData() {
-        Allure.step("Setup: Create test journey, stage, and chapter", () -> {
-            // 1. Create test journey
-            String testJourneyTitle = "Chapter Settings Test Journey " + System.currentTimeMillis();
-
-            Map<String, Object> journeyRequest = new HashMap<>();
-            journeyRequest.put("title", testJourneyTitle);
-            journeyRequest.put("assetId", TEST_ASSET_ID);
-            journeyRequest.put("assetDescription", "Journey for chapter settings testing");
-            journeyRequest.put("language", "en-gb");
-
-            Response createJourneyResponse = journeyClient.createJourney(journeyRequest);
-
-            if (createJourneyResponse.getStatusCode() == 200 || createJourneyResponse.getStatusCode() == 201) {
-                System.out.println("✓ Test journey created: " + testJourneyTitle);
-
-                // Get the journey ID and slug
-                Response getAllResponse = journeyClient.getAllJourneys(0, 10, testJourneyTitle, "", "");
-                if (getAllResponse.getStatusCode() == 200) {
-                    try {
-                        JsonNode rootNode = objectMapper.readTree(getAllResponse.getBody().asString());
-                        JsonNode content = rootNode.get("content");
-                        if (content != null && content.isArray() && content.size() > 0) {
-                            testJourneyId = content.get(0).get("id").asText();
-                            testJourneySlug = content.get(0).get("slug").asText();
-                            System.out.println("✓ Retrieved journey slug: " + testJourneySlug);
-                        }
-                    } catch (Exception e) {
-                        System.err.println("✗ Failed to extract journey details: " + e.getMessage());
-                    }
-                }
-            }
-
-            // 2. Create test stage
-            if (testJourneySlug != null) {
-                String testStageTitle = "Settings Test Stage " + System.currentTimeMillis();
-
-                Map<String, Object> stageRequest = new HashMap<>();
-                stageRequest.put("title", testStageTitle);
-                stageRequest.put("assetId", TEST_ASSET_ID);
-                stageRequest.put("assetDescription", "Stage for chapter settings testing");
-                stageRequest.put("status", "DRAFT");
-                stageRequest.put("language", "en-gb");
-
-                Response createStageResponse = stageClient.createStage(testJourneySlug, stageRequest);
-
-                if (createStageResponse.getStatusCode() == 200 || createStageResponse.getStatusCode() == 201) {
-                    System.out.println("✓ Test stage created");
-
-                    // Get the stage slug
-                    Response getStagesResponse = stageClient.getAllStages(testJourneySlug);
-                    if (getStagesResponse.getStatusCode() == 200) {
-                        try {
-                            JsonNode stagesNode = objectMapper.readTree(getStagesResponse.getBody().asString());
-                            if (stagesNode.isArray() && stagesNode.size() > 0) {
-                                for (JsonNode stageNode : stagesNode) {
-                                    String stageTitle = stageNode.get("content").get("title").asText();
-                                    if (stageTitle.equals(testStageTitle)) {
-                                        testStageSlug = stageNode.get("slug").asText();
-                                        System.out.println("✓ Retrieved stage slug: " + testStageSlug);
-                                        break;
-                                    }
-                                }
-                            }
-                        } catch (Exception e) {
-                            System.err.println("✗ Failed to extract stage slug: " + e.getMessage());
-                        }
-                    }
-                }
-            }
-
-            // 3. Create test chapter
-            if (testStageSlug != null) {
-                String testChapterTitle = "Settings Test Chapter " + System.currentTimeMillis();
-
-                Map<String, Object> chapterRequest = new HashMap<>();
-                chapterRequest.put("title", testChapterTitle);
-                chapterRequest.put("assetId", TEST_ASSET_ID);
-                chapterRequest.put("assetDescription", "Chapter for settings testing");
-                chapterRequest.put("status", "DRAFT");
-                chapterRequest.put("language", "en-gb");
-
-                Response createChapterResponse = chapterClient.createChapter(testStageSlug, chapterRequest);
-
-                if (createChapterResponse.getStatusCode() == 200 || createChapterResponse.getStatusCode() == 201) {
-                    System.out.println("✓ Test chapter created");
-
-                    // Extract chapter ID from response
-                    try {
-                        JsonNode responseNode = objectMapper.readTree(createChapterResponse.getBody().asString());
-                        if (responseNode.has("id")) {
-                            testChapterId = responseNode.get("id").asText();
-                            System.out.println("✓ Retrieved chapter ID: " + testChapterId);
-                        }
-                    } catch (Exception e) {
-                        System.err.println("✗ Failed to extract chapter ID: " + e.getMessage());
-                    }
-                }
-            }
+        Allure.step("Setup: Lease test journey with a chapter", () -> {
+            fixtureLease = FixturePool.leaseShared();
+            testChapterId = fixtureLease.getFixture().getChapter().getId();
+            System.out.println("✓ Leased chapter ID: " + testChapterId);
         });
     }
 
@@ -227,16 +120,10 @@ public class ChapterSettingsTest {
 
     @AfterClass
     public void cleanup() {
-        Allure.step("Cleanup: Delete test journey", () -> {
-            if (testJourneyId != null) {
-                try {
-                    Response deleteResponse = journeyClient.deleteJourney(testJourneyId);
-                    if (deleteResponse.getStatusCode() == 204) {
-                        System.out.println("✓ Cleanup: Test journey deleted");
-                    }
-                } catch (Exception e) {
-                    System.err.println("⚠ Cleanup: Failed to delete test journey: " + e.getMessage());
-                }
+        Allure.step("Cleanup: Release test journey", () -> {
+            if (fixtureLease != null) {
+                fixtureLease.close();
+                System.out.println("✓ Cleanup: Test journey returned to the fixture pool");
             }
         });
     }
@@ -3,9 +3,12 @@ package tests.stages;
 import assertions.*;
 import client.*;
 import com.fasterxml.jackson.databind.*;
+import fixtures.*;
 import io.qameta.allure.*;
 import io.restassured.response.*;
+import listeners.*;
 import org.testng.annotations.*;
+import registry.*;
 
 import java.util.*;
 
@@ -13,12 +16,14 @@ import java.util.*;
  * Test class for validating CRUD operations on Stage endpoints.
  * Tests Read, Update, Tags, and Delete operations.
  * Note: Create operations are tested separately in required field validation tests.
+ * Methods are scheduled by their dependencies: the update and the tag round trip run concurrently, and
+ * the delete waits for both.
  */
+@DependencyScheduled
 @Epic("Stage Management")
 @Feature("Stage CRUD Operations")
 public class StageCRUDTest {
     private StageClient stageClient;
-    private JourneyClient journeyClient;
     private CategoryClient categoryClient;
     private ObjectMapper objectMapper;
 
@@ -26,7 +31,6 @@ public class StageCRUDTest {
     private static final String TEST_ASSET_ID = "d0f9b79d-c9d2-48a2-94e5-363787223829";
     private String testJourneyId;
     private String testJourneySlug;
-    private String testJourneyTitle;
     private String createdStageId;
     private String createdStageTitle;
     private String testCategoryId;
@@ -35,7 +39,6 @@ public class StageCRUDTest {
     @BeforeClass
     public void setup() {
         stageClient = new StageClient();
-        journeyClient = new JourneyClient();
         categoryClient = new CategoryClient();
         objectMapper = new ObjectMapper();
 
@@ -48,79 +51,25 @@ public class StageCRUDTest {
      */
     private void setupTestData() {
         Allure.step("Setup: Create test journey, stage, and category", () -> {
-            // 1. Create test journey
-            testJourneyTitle = "Stage CRUD Test Journey " + System.currentTimeMillis();
-
-            Map<String, Object> journeyRequest = new HashMap<>();
-            journeyRequest.put("title", testJourneyTitle);
-            journeyRequest.put("assetId", TEST_ASSET_ID);
-            journeyRequest.put("assetDescription", "Journey for stage CRUD testing");
-            journeyRequest.put("language", "en-gb");
-
-            Response createJourneyResponse = journeyClient.createJourney(journeyRequest);
-
-            if (createJourneyResponse.getStatusCode() == 200 || createJourneyResponse.getStatusCode() == 201) {
-                System.out.println("✓ Test journey created: " + testJourneyTitle);
-
-                // Get the journey ID and slug
-                Response getAllResponse = journeyClient.getAllJourneys(0, 10, testJourneyTitle, "", "");
-                if (getAllResponse.getStatusCode() == 200) {
-                    try {
-                        JsonNode rootNode = objectMapper.readTree(getAllResponse.getBody().asString());
-                        JsonNode content = rootNode.get("content");
-                        if (content != null && content.isArray() && content.size() > 0) {
-                            testJourneyId = content.get(0).get("id").asText();
-                            testJourneySlug = content.get(0).get("slug").asText();
-                            System.out.println("✓ Retrieved journey ID: " + testJourneyId);
-                            System.out.println("✓ Retrieved journey slug: " + testJourneySlug);
-                        }
-                    } catch (Exception e) {
-                        System.err.println("✗ Failed to extract journey details: " + e.getMessage());
-                    }
-                }
+            // 1-2. Seed test journey and stage
+            SeededHierarchy hierarchy = new HierarchySeeder().seed(HierarchySpec.builder()
+                    .titlePrefix("Stage CRUD Test")
+                    .chaptersPerStage(0)
+                    .build());
+            hierarchy.getFailures().forEach(failure -> System.err.println("✗ " + failure));
+
+            if (!hierarchy.getJourneys().isEmpty()) {
+                SeededHierarchy.Journey journey = hierarchy.getJourneys().get(0);
+                testJourneyId = journey.getId();
+                testJourneySlug = journey.getSlug();
+                System.out.println("✓ Retrieved journey ID: " + testJourneyId);
+                System.out.println("✓ Retrieved journey slug: " + testJourneySlug);
             }
-
-            // 2. Create test stage
-            if (testJourneySlug != null) {
-                createdStageTitle = "Test Stage " + System.currentTimeMillis();
-
-                Map<String, Object> stageRequest = new HashMap<>();
-                stageRequest.put("title", createdStageTitle);
-                stageRequest.put("assetId", TEST_ASSET_ID);
-                stageRequest.put("assetDescription", "Stage for CRUD testing");
-                stageRequest.put("status", "DRAFT");
-                stageRequest.put("language", "en-gb");
-
-                Response createStageResponse = stageClient.createStage(testJourneySlug, stageRequest);
-
-                if (createStageResponse.getStatusCode() == 200 || createStageResponse.getStatusCode() == 201) {
-                    System.out.println("✓ Test stage created: " + createdStageTitle);
-
-                    // Get the stage ID by fetching all stages
-                    Response getStagesResponse = stageClient.getAllStages(testJourneySlug);
-                    if (getStagesResponse.getStatusCode() == 200) {
-                        System.out.println("Response from get request to retrieve stages: "+getStagesResponse.getBody().asString());
-                        try {
-                            JsonNode rootNode = objectMapper.readTree(getStagesResponse.getBody().asString());
-                            JsonNode content = rootNode.get("content");
-
-                            if (content != null && content.isArray() && content.size() > 0) {
-                                // Find our created stage by matching the title
-                                for (JsonNode stageNode : content) {
-                                    String stageTitle = stageNode.get("data").get("title").asText();
-                                    if (stageTitle.equals(createdStageTitle)) {
-                                        createdStageId = stageNode.get("id").asText();
-                                        System.out.println("✓ Retrieved stage ID: " + createdStageId);
-                                        break;
-                                    }
-                                }
-                            }
-                        } catch (Exception e) {
-                            System.err.println("✗ Failed to extract stage ID: " + e.getMessage());
-                            e.printStackTrace();
-                        }
-                    }
-                }
+            if (!hierarchy.getAllStages().isEmpty()) {
+                SeededHierarchy.Stage stage = hierarchy.getAllStages().get(0);
+                createdStageId = stage.getId();
+                createdStageTitle = stage.getTitle();
+                System.out.println("✓ Retrieved stage ID: " + createdStageId);
             }
 
             // 3. Create test category (for tags)
@@ -151,7 +100,7 @@ public class StageCRUDTest {
 
     // ===================== READ OPERATIONS =====================
 
-    @Test(description = "Get all stages in journey - should return 200", priority = 1)
+    @Test(description = "Get all stages in journey - should return 200")
     @Story("Read Operations")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Validates that retrieving all stages in a journey returns 200 OK")
@@ -173,21 +122,15 @@ public class StageCRUDTest {
             ResponseAssertions.assertStatusCode(response, 200);
 
             // Verify response structure
-            try {
-                JsonNode rootNode = objectMapper.readTree(response.getBody().asString());
-                JsonNode content = rootNode.get("content");
-                assert content.isArray() : "Response should be an array";
-                System.out.println("✓ Successfully retrieved stages, count: " + content.size());
-            } catch (Exception e) {
-                System.err.println("✗ Failed to parse response: " + e.getMessage());
-            }
+            ResponseAssertions.assertMatchesContract(response, "GET", "/api/v1/stages/{journeySlug}");
+            System.out.println("✓ Successfully retrieved stages");
         });
     }
 
 
     // ===================== UPDATE OPERATIONS =====================
 
-    @Test(description = "Update stage - should return 200", priority = 4)
+    @Test(description = "Update stage - should return 200")
     @Story("Update Operations")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Validates that updating a stage returns 200 OK")
@@ -218,7 +161,7 @@ public class StageCRUDTest {
         });
     }
 
-    @Test(description = "Update stage with invalid ID - should return 404", priority = 5)
+    @Test(description = "Update stage with invalid ID - should return 404")
     @Story("Update Operations")
     @Severity(SeverityLevel.NORMAL)
     @Description("Validates that updating a stage with invalid ID returns 404 Not Found")
@@ -247,7 +190,7 @@ public class StageCRUDTest {
 
     // ===================== STAGE TAGS OPERATIONS =====================
 
-    @Test(description = "Create stage tag - should return 201", priority = 7, dependsOnMethods = {"testUpdateStage_Success"})
+    @Test(description = "Create stage tag - should return 201")
     @Story("Stage Tags Operations")
     @Severity(SeverityLevel.NORMAL)
     @Description("Validates that creating a stage tag returns 201 Created")
@@ -304,7 +247,7 @@ public class StageCRUDTest {
         });
     }
 
-    @Test(description = "Remove stage tag - should return 200", priority = 9)
+    @Test(description = "Remove stage tag - should return 200", dependsOnMethods = {"testCreateStageTag_Success"})
     @Story("Stage Tags Operations")
     @Severity(SeverityLevel.NORMAL)
     @Description("Validates that removing a stage tag returns 200 OK")
@@ -336,7 +279,8 @@ public class StageCRUDTest {
 
     // ===================== DELETE OPERATIONS =====================
 
-    @Test(description = "Delete stage - should return 204", priority = 10)
+    @Test(description = "Delete stage - should return 204", alwaysRun = true,
+            dependsOnMethods = {"testUpdateStage_Success", "testRemoveStageTag_Success"})
     @Story("Delete Operations")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Validates that deleting a stage returns 204 No Content")
@@ -359,7 +303,7 @@ public class StageCRUDTest {
         });
     }
 
-    @Test(description = "Verify stage is deleted - should return 404", priority = 11, dependsOnMethods = {"testDeleteStage_Success"})
+    @Test(description = "Verify stage is deleted - should return 404", dependsOnMethods = {"testDeleteStage_Success"})
     @Story("Delete Operations")
     @Severity(SeverityLevel.NORMAL)
     @Description("Validates that the deleted stage cannot be retrieved")
@@ -393,7 +337,7 @@ public class StageCRUDTest {
         });
     }
 
-    @Test(description = "Delete stage with invalid ID - should return 204", priority = 12)
+    @Test(description = "Delete stage with invalid ID - should return 204")
     @Story("Delete Operations")
     @Severity(SeverityLevel.NORMAL)
     @Description("Validates that deleting with invalid ID returns 204 Not Found")
@@ -415,30 +359,11 @@ public class StageCRUDTest {
 
     @AfterClass
     public void cleanup() {
-        Allure.step("Cleanup: Delete test journey and category", () -> {
-            // Delete test journey
-            if (testJourneyId != null) {
-                try {
-                    Response deleteJourneyResponse = journeyClient.deleteJourney(testJourneyId);
-                    if (deleteJourneyResponse.getStatusCode() == 204) {
-                        System.out.println("✓ Cleanup: Test journey deleted");
-                    }
-                } catch (Exception e) {
-                    System.err.println("⚠ Cleanup: Failed to delete test journey: " + e.getMessage());
-                }
-            }
-
-            // Delete test category
-            if (testCategoryId != null) {
-                try {
-                    Response deleteCategoryResponse = categoryClient.deleteCategory(testCategoryId);
-                    if (deleteCategoryResponse.getStatusCode() == 204 || deleteCategoryResponse.getStatusCode() == 200) {
-                        System.out.println("✓ Cleanup: Test category deleted");
-                    }
-                } catch (Exception e) {
-                    System.err.println("⚠ Cleanup: Failed to delete test category: " + e.getMessage());
-                }
-            }
+        Allure.step("Cleanup: Queue test journey and category for deletion", () -> {
+            // Deleted by the teardown reaper at suite end; the journey deletion cascades to its children
+            TeardownReaper.enqueue(EntityType.JOURNEY, testJourneyId);
+            TeardownReaper.enqueue(EntityType.CATEGORY, testCategoryId);
+            System.out.println("✓ Cleanup: Test journey and category queued for deletion");
         });
     }
 }
@@ -5,12 +5,18 @@ import client.*;
 import config.*;
 import io.qameta.allure.*;
 import io.restassured.response.*;
+import listeners.*;
 import org.testng.annotations.*;
 
+import java.util.*;
+
 /**
  * Comprehensive test class for ALL User Management endpoints.
  * Tests user CRUD, profile management, and open invitation operations.
+ * Methods are scheduled by their dependencies: the user update/archive chain and the open invite chain are
+ * independent and run concurrently with each other and with the stand-alone checks.
  */
+@DependencyScheduled
 @Epic("User Management")
 @Feature("User Operations")
 public class UserManagementTest {
@@ -25,6 +31,14 @@ public class UserManagementTest {
         client = new UserManagementClient();
     }
 
+    /**
+     * Email address that no other test in the run uses. The create tests run concurrently,
+     * so a timestamp alone can repeat and the second create fails with 409.
+     */
+    private static String uniqueEmail(String prefix) {
+        return prefix + UUID.randomUUID() + "@example.com";
+    }
+
 //    //========== GET ALL USERS TESTS ==========
 
     @Test(description = "Get all users - Success (200)")
@@ -84,14 +98,14 @@ public class UserManagementTest {
     // Need new Journey Id
     // ========== CREATE USER TESTS ==========
 
-    @Test(description = "Create user with viewer role- Success (201)", priority = 1)
+    @Test(description = "Create user with viewer role- Success (201)")
     public void testCreateUserViewer_Success() {
         // Arrange
         String request = "{\n" +
                 "    \"firstName\": \"Some\",\n" +
                 "    \"lastName\": \"User\",\n" +
                 "    \"roles\": \"VIEWER\",\n" +
-                "    \"email\": \"newuser" + System.currentTimeMillis() + "@example.com\",\n" +
+                "    \"email\": \"" + uniqueEmail("newuser") + "\",\n" +
                 "    \"data\": {\n" +
                 "        \"roles\": \"VIEWER\",\n" +
                 "        \"startDate\": \"30.06.2026\",\n" +
@@ -113,14 +127,14 @@ public class UserManagementTest {
         }
     }
 
-    @Test(description = "Create user with ADMIN role- Success (201)", priority = 1)
+    @Test(description = "Create user with ADMIN role- Success (201)")
     public void testCreateUserAdmin_Success() {
         // Arrange
         String request = "{\n" +
                 "    \"firstName\": \"Some\",\n" +
                 "    \"lastName\": \"User\",\n" +
                 "    \"roles\": \"ADMIN\",\n" +
-                "    \"email\": \"newuser" + System.currentTimeMillis() + "@example.com\"\n" +
+                "    \"email\": \"" + uniqueEmail("newuser") + "\"\n" +
                 "}";
 
         // Act
@@ -134,14 +148,14 @@ public class UserManagementTest {
         }
     }
 
-    @Test(description = "Create user with editor role- Success (201)", priority = 1)
+    @Test(description = "Create user with editor role- Success (201)")
     public void testCreateUserEditor_Success() {
         // Arrange
         String request = "{\n" +
                 "    \"firstName\": \"Some\",\n" +
                 "    \"lastName\": \"User\",\n" +
                 "    \"roles\": \"EDITOR\",\n" +
-                "    \"email\": \"newuser" + System.currentTimeMillis() + "@example.com\",\n" +
+                "    \"email\": \"" + uniqueEmail("newuser") + "\",\n" +
                 "    \"data\": {\n" +
                 "        \"journeyIds\": [\n" +
                 "            \"3e888b3d-d390-4b39-ad52-a670394f8b3c\"\n" +
@@ -164,13 +178,13 @@ public class UserManagementTest {
 
     @Test(description = "Create user - Invalid role (400)")
     public void testCreateUser_InvalidRole() {
-        userEmail = "newuser" + System.currentTimeMillis() + "@example.com";
+        String email = uniqueEmail("newuser");
         // Arrange
         String request = "{\n" +
                 "    \"firstName\": \"Some\",\n" +
                 "    \"lastName\": \"User\",\n" +
                 "    \"roles\": \"INVALID_ROLE\",\n" +
-                "    \"email\": \"" + userEmail + "\",\n" +
+                "    \"email\": \"" + email + "\",\n" +
                 "    \"data\": {\n" +
                 "        \"journeyIds\": [\n" +
                 "            \"3e888b3d-d390-4b39-ad52-a670394f8b3c\"\n" +
@@ -205,14 +219,14 @@ public class UserManagementTest {
 
     @Test(description = "Create user - Duplicate email (409)")
     public void testCreateUser_DuplicateEmail() {
-        // Arrange - Generate a unique email for this test
-        userEmail = userEmail != null ? userEmail : "abc@example.com";
+        // Arrange - A fixed address: the first create succeeds at most once, the second always conflicts
+        String email = "abc@example.com";
 
         String request = "{\n" +
                 "    \"firstName\": \"Some\",\n" +
                 "    \"lastName\": \"User\",\n" +
                 "    \"roles\": \"ADMIN\",\n" +
-                "    \"email\": \"" + userEmail + "\"\n" +
+                "    \"email\": \"" + email + "\"\n" +
                 "}";
 
         // Act - Try to create twice
@@ -225,7 +239,7 @@ public class UserManagementTest {
 //
     // ========== GET USER BY ID TESTS ==========
 
-    @Test(description = "Get user by ID - Success (200)", priority = 2)
+    @Test(description = "Get user by ID - Success (200)")
     @Story("Get User by ID")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that a specific user can be retrieved by their ID")
@@ -260,10 +274,10 @@ public class UserManagementTest {
 
     // ========== UPDATE USER TESTS ==========
 
-    @Test(description = "Setup: Create test user for update/archive operations", priority = 2)
+    @Test(description = "Setup: Create test user for update/archive operations")
     public void setupTestUserForUpdateAndArchive() {
         // Arrange - Create a unique test user
-        userEmail = "testuser.update." + System.currentTimeMillis() + "@example.com";
+        userEmail = uniqueEmail("testuser.update.");
         String request = "{\n" +
                 "    \"firstName\": \"Test\",\n" +
                 "    \"lastName\": \"User\",\n" +
@@ -321,7 +335,7 @@ public class UserManagementTest {
         }
     }
 
-    @Test(description = "Update user - Success (200)", priority = 3, dependsOnMethods = "setupTestUserForUpdateAndArchive")
+    @Test(description = "Update user - Success (200)", dependsOnMethods = "setupTestUserForUpdateAndArchive")
     public void testUpdateUser_Success() {
         // Arrange
         String userId = createdUserId != null ? createdUserId : "b384b822-3081-701b-ea14-c492696ccc6f";
@@ -348,7 +362,7 @@ public class UserManagementTest {
         }
     }
 
-    @Test(description = "Update user - Invalid role (400)")
+    @Test(description = "Update user - Invalid role (400)", dependsOnMethods = "setupTestUserForUpdateAndArchive", alwaysRun = true)
     public void testUpdateUser_InvalidRole() {
         // Arrange - Use a known existing user ID or the created one
         String userId = createdUserId != null ? createdUserId : "b384b822-3081-701b-ea14-c492696ccc6f";
@@ -366,7 +380,8 @@ public class UserManagementTest {
 
     //========== DELETE USER TESTS ==========
 
-    @Test(description = "Delete user - Success (204)", priority = 7, dependsOnMethods = "testUnarchiveUser_Success")
+    @Test(description = "Delete user - Success (204)",
+            dependsOnMethods = {"testUnarchiveUser_Success", "testUpdateUser_InvalidRole"})
     public void testDeleteUser_Success() {
         // Arrange - Use the created test user ID
         String userId = createdUserId != null ? createdUserId : "b384b822-3081-701b-ea14-c492696ccc6f";
@@ -405,7 +420,7 @@ public class UserManagementTest {
 
      //========== ARCHIVE USER TESTS ==========
 
-    @Test(description = "Archive user - Success (200)", priority = 5, dependsOnMethods = "testUpdateUser_Success")
+    @Test(description = "Archive user - Success (200)", dependsOnMethods = "testUpdateUser_Success")
     public void testArchiveUser_Success() {
         // Arrange - Use the created test user ID
         String userId = createdUserId != null ? createdUserId : "b384b822-3081-701b-ea14-c492696ccc6f";
@@ -432,7 +447,7 @@ public class UserManagementTest {
         }
     }
 
-    @Test(description = "Unarchive user - Success (200)", priority = 6, dependsOnMethods = "testArchiveUser_Success")
+    @Test(description = "Unarchive user - Success (200)", dependsOnMethods = "testArchiveUser_Success")
     public void testUnarchiveUser_Success() {
         // Arrange - Use the same user that was archived
         String userId = createdUserId != null ? createdUserId : "b384b822-3081-701b-ea14-c492696ccc6f";
@@ -513,11 +528,11 @@ public class UserManagementTest {
    //Failed because, returns 404 for re-verification of already verified email
     @Test(description = "Verify email - Valid token (400)")
     public void testVerifyEmail_Success() {
-        userEmail = userEmail != null ? userEmail : "abc@example.com";
+        // Arrange - Not the update/archive user: that one is created and deleted concurrently
+        String email = "abc@example.com";
 
-        // Arrange
         String request = "{\n" +
-                "    \"email\": \"" + userEmail + "\"\n" +
+                "    \"email\": \"" + email + "\"\n" +
                 "}";
 
         // Act
@@ -561,7 +576,7 @@ public class UserManagementTest {
     }
 
      //Need valid journey ID to create open invite
-    @Test(description = "Create open invite - Success (201)", priority = 5)
+    @Test(description = "Create open invite - Success (201)")
     public void testCreateOpenInvite_Success() {
         // Arrange
         String request = "{\n" +
@@ -628,7 +643,7 @@ public class UserManagementTest {
                 "    \"code\": \"" + code + "\",\n" +
                 "    \"firstName\": \"New\",\n" +
                 "    \"lastName\": \"User\",\n" +
-                "    \"email\": \"newuser" + System.currentTimeMillis() + "@example.com\"\n" +
+                "    \"email\": \"" + uniqueEmail("newuser") + "\"\n" +
                 "}";
 
         System.out.println("Using invite code: " + code);
@@ -661,7 +676,7 @@ public class UserManagementTest {
         ResponseAssertions.assertStatusCodeIn(response, 200);
     }
 
-    @Test(description = "Update open invite - Success (200)", priority = 6, dependsOnMethods = "testCreateOpenInvite_Success")
+    @Test(description = "Update open invite - Success (200)", dependsOnMethods = "testCreateOpenInvite_Success")
     public void testUpdateOpenInvite_Success() {
         // Arrange - Get the invite by code to extract its ID
         String code = createdInviteCodeId != null ? createdInviteCodeId : "sample-code-id";
@@ -703,7 +718,8 @@ public class UserManagementTest {
         }
     }
 
-    @Test(description = "Delete open invite - Success (204)", priority = 7, dependsOnMethods = "testUpdateOpenInvite_Success")
+    @Test(description = "Delete open invite - Success (204)",
+            dependsOnMethods = {"testUpdateOpenInvite_Success", "testRegisterWithOpenInvite_ExistingUser"})
     public void testDeleteOpenInvite_Success() {
         // Arrange - Use the openInviteId that was extracted in the update test
         String inviteId = openInviteId != null ? openInviteId : "sample-invite-id";
@@ -0,0 +1,122 @@
+package throttle;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Paths sharing one rate limit and one in-flight bulkhead, with the time callers spent waiting for them.
+ */
+public class EndpointGroup {
+    private final String name;
+    private final List<String> prefixes;
+    private final TokenBucket bucket;
+    private final Semaphore bulkhead;
+    private final int maxInFlight;
+    private final long maxWaitMillis;
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong delayed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    EndpointGroup(String name, List<String> prefixes, TokenBucket bucket, int maxInFlight, long maxWaitMillis) {
+        this.name = name;
+        this.prefixes = Collections.unmodifiableList(prefixes);
+        this.bucket = bucket;
+        this.maxInFlight = maxInFlight;
+        this.bulkhead = maxInFlight > 0 ? new Semaphore(maxInFlight, true) : null;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getPrefixes() {
+        return prefixes;
+    }
+
+    /**
+     * Wait for a bulkhead slot, then for a token.
+     * The caller must {@link #exit()} after the call completes, also when it failed.
+     * @throws IllegalStateException if no slot frees up within throttle.maxWaitMillis
+     */
+    public void enter() throws InterruptedException {
+        long start = System.nanoTime();
+        if (bulkhead != null && !bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+            rejected.incrementAndGet();
+            throw new IllegalStateException("Bulkhead '" + name + "' still full after " + maxWaitMillis
+                    + "ms (" + maxInFlight + " calls in flight)");
+        }
+        try {
+            if (bucket != null) {
+                bucket.acquire();
+            }
+        } catch (InterruptedException e) {
+            exit();
+            throw e;
+        }
+
+        long waited = System.nanoTime() - start;
+        calls.incrementAndGet();
+        // Below 1ms the caller did not really wait; only the lock and clock reads were measured
+        if (waited >= 1_000_000) {
+            delayed.incrementAndGet();
+            waitNanos.addAndGet(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+        }
+    }
+
+    /**
+     * Release the bulkhead slot taken by {@link #enter()}.
+     */
+    public void exit() {
+        if (bulkhead != null) {
+            bulkhead.release();
+        }
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+
+    /**
+     * Get number of calls that had to wait for a slot or a token.
+     */
+    public long getDelayed() {
+        return delayed.get();
+    }
+
+    /**
+     * Get number of calls that gave up waiting for a bulkhead slot.
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * Get total time callers spent waiting, in milliseconds.
+     */
+    public double getWaitMillis() {
+        return waitNanos.get() / 1e6;
+    }
+
+    public double getMaxWaitMillis() {
+        return maxWaitNanos.get() / 1e6;
+    }
+
+    /**
+     * Get number of calls currently holding a bulkhead slot.
+     */
+    public int getInFlight() {
+        return bulkhead != null ? maxInFlight - bulkhead.availablePermits() : 0;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + prefixes + " (" + (bucket != null ? bucket.getPermitsPerSecond() + "/s" : "unlimited rate")
+                + ", " + (maxInFlight > 0 ? maxInFlight + " in flight" : "no bulkhead") + ")";
+    }
+}
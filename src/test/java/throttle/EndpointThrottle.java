@@ -0,0 +1,145 @@
+package throttle;
+
+import config.*;
+import org.slf4j.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Registry of throttled endpoint groups, configured per group name:
+ * <pre>
+ * throttle.groups=upload,migration,newHires
+ * throttle.upload.prefixes=/api/v1/upload
+ * throttle.upload.rate=5            # tokens per second, 0 = no rate limit
+ * throttle.upload.burst=5
+ * throttle.upload.maxInFlight=2     # 0 = no bulkhead
+ * </pre>
+ * A request belongs to the group with the longest matching path prefix (a trailing {@code *} is ignored);
+ * paths matching no prefix are not throttled at all. Built-in defaults cap uploads, migrations and the
+ * Storyblok new-hires listing, which are the first to be throttled by the backend.
+ *
+ * Configuration keys: throttle.enabled, throttle.groups, throttle.&lt;group&gt;.prefixes, throttle.&lt;group&gt;.rate,
+ * throttle.&lt;group&gt;.burst, throttle.&lt;group&gt;.maxInFlight, throttle.maxWaitMillis, throttle.report.
+ */
+public class EndpointThrottle {
+    private static final Logger logger = LoggerFactory.getLogger(EndpointThrottle.class);
+
+    private static final Map<String, String[]> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        // prefixes, rate, burst, maxInFlight
+        DEFAULTS.put("upload", new String[] {"/api/v1/upload", "5", "5", "2"});
+        DEFAULTS.put("migration", new String[] {"/api/v1/migration", "2", "2", "1"});
+        DEFAULTS.put("newHires", new String[] {"/api/v1/storyblok/user/new_hires", "2", "4", "2"});
+    }
+
+    private static volatile List<EndpointGroup> groups;
+    private static volatile Map<String, EndpointGroup> byPrefix;
+
+    /**
+     * Check if throttling is enabled (throttle.enabled, default true).
+     */
+    public static boolean isEnabled() {
+        return EnvironmentConfig.getBoolean("throttle.enabled", true);
+    }
+
+    /**
+     * Get all configured groups.
+     */
+    public static List<EndpointGroup> getGroups() {
+        init();
+        return groups;
+    }
+
+    /**
+     * Find the group a request path belongs to.
+     * @return The group with the longest matching prefix, or null if the path is not throttled
+     */
+    public static EndpointGroup forPath(String path) {
+        init();
+        EndpointGroup match = null;
+        int matchLength = -1;
+        for (Map.Entry<String, EndpointGroup> entry : byPrefix.entrySet()) {
+            String prefix = entry.getKey();
+            if (prefix.length() > matchLength && path.startsWith(prefix)
+                    && (path.length() == prefix.length() || prefix.endsWith("/") || path.charAt(prefix.length()) == '/')) {
+                match = entry.getValue();
+                matchLength = prefix.length();
+            }
+        }
+        return match;
+    }
+
+    private static void init() {
+        if (groups != null) {
+            return;
+        }
+        synchronized (EndpointThrottle.class) {
+            if (groups != null) {
+                return;
+            }
+            long maxWaitMillis = EnvironmentConfig.getInt("throttle.maxWaitMillis", 120_000);
+            List<EndpointGroup> configured = new ArrayList<>();
+            Map<String, EndpointGroup> prefixes = new HashMap<>();
+            String names = EnvironmentConfig.get("throttle.groups", String.join(",", DEFAULTS.keySet()));
+            for (String name : names.split("\\s*,\\s*")) {
+                if (name.isEmpty()) {
+                    continue;
+                }
+                String[] defaults = DEFAULTS.getOrDefault(name, new String[] {"", "0", "1", "0"});
+                List<String> groupPrefixes = new ArrayList<>();
+                for (String prefix : EnvironmentConfig.get("throttle." + name + ".prefixes", defaults[0]).split("\\s*,\\s*")) {
+                    String trimmed = prefix.endsWith("*") ? prefix.substring(0, prefix.length() - 1) : prefix;
+                    if (!trimmed.isEmpty()) {
+                        groupPrefixes.add(trimmed);
+                    }
+                }
+                if (groupPrefixes.isEmpty()) {
+                    throw new IllegalArgumentException("Throttle group '" + name + "' has no throttle." + name + ".prefixes");
+                }
+
+                double rate = Double.parseDouble(EnvironmentConfig.get("throttle." + name + ".rate", defaults[1]));
+                double burst = Double.parseDouble(EnvironmentConfig.get("throttle." + name + ".burst", defaults[2]));
+                int maxInFlight = EnvironmentConfig.getInt("throttle." + name + ".maxInFlight", Integer.parseInt(defaults[3]));
+                EndpointGroup group = new EndpointGroup(name, groupPrefixes,
+                        rate > 0 ? new TokenBucket(rate, burst) : null, maxInFlight, maxWaitMillis);
+                configured.add(group);
+                groupPrefixes.forEach(prefix -> prefixes.put(prefix, group));
+                logger.info("Throttling {}", group);
+            }
+            byPrefix = prefixes;
+            groups = Collections.unmodifiableList(configured);
+        }
+    }
+
+    /**
+     * Log the wait time per group and write it to throttle.report as CSV.
+     */
+    public static void writeReport() {
+        if (groups == null || groups.stream().mapToLong(EndpointGroup::getCalls).sum() == 0) {
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add("group,calls,delayed,rejected,waitMillis,maxWaitMillis");
+        for (EndpointGroup group : groups) {
+            logger.info("Throttle group {}: {} calls, {} delayed, {} rejected, waited {}ms in total (max {}ms)",
+                    group.getName(), group.getCalls(), group.getDelayed(), group.getRejected(),
+                    Math.round(group.getWaitMillis()), Math.round(group.getMaxWaitMillis()));
+            lines.add(String.format(Locale.ROOT, "%s,%d,%d,%d,%.1f,%.1f", group.getName(), group.getCalls(),
+                    group.getDelayed(), group.getRejected(), group.getWaitMillis(), group.getMaxWaitMillis()));
+        }
+
+        Path file = Paths.get(EnvironmentConfig.get("throttle.report", "target/throttle-wait.csv"));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Failed to write throttle report {}: {}", file, e.getMessage());
+        }
+    }
+}
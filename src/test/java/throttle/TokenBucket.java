@@ -0,0 +1,52 @@
+package throttle;
+
+import java.util.concurrent.*;
+
+/**
+ * Token bucket that refills continuously at a fixed rate up to its burst size.
+ * A caller that finds the bucket empty reserves the next token (the balance goes negative) and sleeps until
+ * it is due outside the lock, so waiting callers are served in arrival order without polling.
+ */
+public class TokenBucket {
+    private final double permitsPerSecond;
+    private final double burst;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double permitsPerSecond, double burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be positive: " + permitsPerSecond);
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(1, burst);
+        this.tokens = this.burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Take one token, sleeping until it is available.
+     * @return Nanoseconds spent waiting
+     */
+    public long acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - lastRefillNanos) / 1e9 * permitsPerSecond);
+            lastRefillNanos = now;
+            tokens -= 1;
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens / permitsPerSecond * 1e9);
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return waitNanos;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public double getBurst() {
+        return burst;
+    }
+}
@@ -0,0 +1,23 @@
+package utils;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Thread factory for the framework's background executors.
+ * Threads are daemons, so a pool that is not shut down never keeps the JVM alive after the suite.
+ */
+public class DaemonThreads {
+
+    /**
+     * Create a factory of daemon threads named {@code prefix-1}, {@code prefix-2}, ...
+     */
+    public static ThreadFactory factory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package utils;
+
+import com.fasterxml.jackson.databind.*;
+import com.jayway.jsonpath.*;
+import com.jayway.jsonpath.spi.json.*;
+import com.jayway.jsonpath.spi.mapper.*;
+import io.restassured.response.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Parse-once view of a response body shared by all assertion methods.
+ * The body is parsed once, lazily, into a Jackson tree; JsonPath reads walk that tree directly
+ * instead of parsing the body a second time. The view is cached per {@link Response} instance
+ * (weakly, so responses can still be garbage collected); the body is read outside the cache lock.
+ * Compiled JsonPath expressions are cached globally.
+ */
+public class ParsedResponse {
+    private static final Map<Response, ParsedResponse> views = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, JsonPath> compiledPaths = new ConcurrentHashMap<>();
+    private static final Configuration treePaths = Configuration.builder()
+            .jsonProvider(new JacksonJsonNodeJsonProvider(JsonUtils.getMapper()))
+            .mappingProvider(new JacksonMappingProvider(JsonUtils.getMapper()))
+            .build();
+
+    private final String body;
+    private volatile DocumentContext document;
+    private volatile JsonNode tree;
+
+    private ParsedResponse(String body) {
+        this.body = body;
+    }
+
+    /**
+     * Get the shared view for a response.
+     */
+    public static ParsedResponse of(Response response) {
+        ParsedResponse view = views.get(response);
+        if (view == null) {
+            ParsedResponse created = new ParsedResponse(response.getBody().asString());
+            view = views.putIfAbsent(response, created);
+            if (view == null) {
+                view = created;
+            }
+        }
+        return view;
+    }
+
+    /**
+     * Get a compiled JsonPath expression, compiling it on first use.
+     */
+    public static JsonPath compile(String jsonPath) {
+        return compiledPaths.computeIfAbsent(jsonPath, path -> JsonPath.compile(path));
+    }
+
+    /**
+     * Get the raw response body.
+     */
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Read a JSON path from the parsed document.
+     * Objects and arrays are returned as maps and lists, scalars as their Java values.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(String jsonPath) {
+        Object value = document().read(compile(jsonPath));
+        return (T) (value instanceof JsonNode ? JsonUtils.getMapper().convertValue(value, Object.class) : value);
+    }
+
+    /**
+     * Map the parsed body onto a model class.
+     */
+    public <T> T as(Class<T> clazz) {
+        try {
+            return JsonUtils.getMapper().treeToValue(tree(), clazz);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to deserialize JSON to " + clazz.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get the body as a Jackson tree.
+     */
+    public JsonNode tree() {
+        JsonNode result = tree;
+        if (result == null) {
+            try {
+                result = JsonUtils.getMapper().readTree(body);
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to parse response body as JSON: " + e.getMessage(), e);
+            }
+            tree = result;
+        }
+        return result;
+    }
+
+    private DocumentContext document() {
+        DocumentContext result = document;
+        if (result == null) {
+            result = JsonPath.using(treePaths).parse(tree());
+            document = result;
+        }
+        return result;
+    }
+}